@@ -0,0 +1,80 @@
+package com.example.paycheck.benchmark;
+
+import com.example.paycheck.domain.contract.entity.WorkerContract;
+import com.example.paycheck.domain.salary.util.DeductionCalculator;
+import com.example.paycheck.domain.workrecord.entity.WorkRecord;
+import com.example.paycheck.domain.workrecord.enums.WorkRecordStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용 합성 입력 생성 (DB/스프링 컨텍스트 없이 엔티티만 구성)
+ * JMH 생성 코드(jmh_generated 패키지)가 @Param 타입에 접근하므로 public으로 둔다.
+ */
+public final class BenchmarkFixtures {
+
+    static final BigDecimal HOURLY_WAGE = new BigDecimal("10030");
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * 근무 형태별 시작/종료/휴게 시간
+     */
+    public enum Shift {
+        DAY(LocalTime.of(9, 0), LocalTime.of(18, 0), 60),
+        OVERNIGHT(LocalTime.of(20, 0), LocalTime.of(6, 30), 30);
+
+        final LocalTime startTime;
+        final LocalTime endTime;
+        final int breakMinutes;
+
+        Shift(LocalTime startTime, LocalTime endTime, int breakMinutes) {
+            this.startTime = startTime;
+            this.endTime = endTime;
+            this.breakMinutes = breakMinutes;
+        }
+    }
+
+    static WorkerContract contract() {
+        return WorkerContract.builder()
+                .hourlyWage(HOURLY_WAGE)
+                .paymentDay(10)
+                .contractStartDate(LocalDate.of(2024, 1, 1))
+                .workSchedules("[]")
+                .payrollDeductionType(DeductionCalculator.PayrollDeductionType.PART_TIME_TAX_AND_INSURANCE)
+                .build();
+    }
+
+    static WorkRecord workRecord(WorkerContract contract, LocalDate workDate, Shift shift) {
+        return WorkRecord.builder()
+                .contract(contract)
+                .workDate(workDate)
+                .startTime(shift.startTime)
+                .endTime(shift.endTime)
+                .breakMinutes(shift.breakMinutes)
+                .status(WorkRecordStatus.COMPLETED)
+                .build();
+    }
+
+    /**
+     * 계산이 끝난 완료 근무 기록 목록 (주간/야간 근무 번갈아, 주말은 휴일로 계산)
+     */
+    static List<WorkRecord> calculatedWorkRecords(WorkerContract contract, LocalDate startDate, int count,
+                                                  boolean isSmallWorkplace) {
+        List<WorkRecord> records = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDate workDate = startDate.plusDays(i);
+            Shift shift = i % 3 == 2 ? Shift.OVERNIGHT : Shift.DAY;
+            WorkRecord record = workRecord(contract, workDate, shift);
+            boolean isHoliday = workDate.getDayOfWeek().getValue() >= 6;
+            record.calculatePayWithHolidayInfo(isHoliday, isSmallWorkplace);
+            records.add(record);
+        }
+        return records;
+    }
+}
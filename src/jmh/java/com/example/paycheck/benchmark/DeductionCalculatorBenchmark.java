@@ -0,0 +1,53 @@
+package com.example.paycheck.benchmark;
+
+import com.example.paycheck.domain.salary.util.DeductionCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DeductionCalculator.calculate 벤치마크
+ * 공제 유형 전체 × 간이세액표 구간(최저 미만 / 표 중간 / 표 상단 / 1천만원 초과 공식 구간)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeductionCalculatorBenchmark {
+
+    private static final int PAYMENT_YEAR = 2024;
+
+    // 값을 지정하지 않으면 JMH가 enum 전체를 파라미터로 사용
+    @Param
+    public DeductionCalculator.PayrollDeductionType deductionType;
+
+    @Param({"650000", "2150000", "8995000", "12500000"})
+    public String grossPay;
+
+    private BigDecimal grossPayAmount;
+
+    @Setup
+    public void setUp() {
+        grossPayAmount = new BigDecimal(grossPay);
+        // 세액표 지연 로딩을 측정 구간에서 제외
+        DeductionCalculator.calculate(grossPayAmount, deductionType, PAYMENT_YEAR);
+    }
+
+    @Benchmark
+    public DeductionCalculator.TaxResult calculate() {
+        return DeductionCalculator.calculate(grossPayAmount, deductionType, PAYMENT_YEAR);
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.paycheck.benchmark;
+
+import com.example.paycheck.domain.allowance.entity.WeeklyAllowance;
+import com.example.paycheck.domain.contract.entity.WorkerContract;
+import com.example.paycheck.domain.salary.util.MonthlySalaryCalculator;
+import com.example.paycheck.domain.salary.util.WorkRecordPayTotals;
+import com.example.paycheck.domain.workrecord.dto.WorkRecordPaySummary;
+import com.example.paycheck.domain.workrecord.entity.WorkRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SalaryService.calculateSalaryByWorkRecords의 DB 조회 이후 CPU 경로 벤치마크
+ * 근무 기록 합산은 DB 집계 쿼리(sumPayByContractAndDateRange)가 하므로, 집계 결과를 입력으로 둔다.
+ * - calculate: 집계 결과 → 합계(WorkRecordPayTotals.from) → 주휴/연장 수당 이월 반영 → 공제 계산
+ *   (MonthlySalaryCalculator.calculate, 저장 직전까지)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MonthlySalaryCalculationBenchmark {
+
+    // 급여 기간(전월 10일 ~ 당월 9일) 근무 기록 수 (주 2~3회, 주 5회, 매일 + 연장/다중 근무)
+    @Param({"10", "22", "62"})
+    public int recordCount;
+
+    @Param({"false", "true"})
+    public boolean smallWorkplace;
+
+    private WorkerContract contract;
+    private WorkRecordPaySummary summary;
+    private List<WeeklyAllowance> currentMonthAllowances;
+    private List<WeeklyAllowance> previousMonthAllowances;
+
+    @Setup
+    public void setUp() {
+        contract = BenchmarkFixtures.contract();
+        List<WorkRecord> workRecords = BenchmarkFixtures.calculatedWorkRecords(
+                contract, LocalDate.of(2024, 1, 10), recordCount, smallWorkplace);
+        summary = paySummary(workRecords);
+        currentMonthAllowances = weeklyAllowances(workRecords);
+        previousMonthAllowances = List.of();
+    }
+
+    @Benchmark
+    public MonthlySalaryCalculator.Result calculate() {
+        return MonthlySalaryCalculator.calculate(contract, 2024, 2, WorkRecordPayTotals.from(summary),
+                currentMonthAllowances, previousMonthAllowances);
+    }
+
+    /**
+     * 근무 기록 목록을 DB 집계 쿼리 결과 형태로 합산
+     */
+    private static WorkRecordPaySummary paySummary(List<WorkRecord> workRecords) {
+        BigDecimal totalHours = BigDecimal.ZERO;
+        BigDecimal baseSalary = BigDecimal.ZERO;
+        BigDecimal nightSalary = BigDecimal.ZERO;
+        BigDecimal holidaySalary = BigDecimal.ZERO;
+        BigDecimal overtimeSalary = BigDecimal.ZERO;
+        for (WorkRecord record : workRecords) {
+            totalHours = totalHours.add(record.getTotalHours());
+            baseSalary = baseSalary.add(record.getBaseSalary());
+            nightSalary = nightSalary.add(record.getNightSalary());
+            holidaySalary = holidaySalary.add(record.getHolidaySalary());
+            overtimeSalary = overtimeSalary.add(record.getOvertimeSalary());
+        }
+        return new WorkRecordPaySummary(null, (long) workRecords.size(),
+                totalHours, baseSalary, nightSalary, holidaySalary, overtimeSalary);
+    }
+
+    /**
+     * 근무 기록을 7일 단위 주간 수당으로 묶어 주휴/연장 수당 계산
+     */
+    private List<WeeklyAllowance> weeklyAllowances(List<WorkRecord> workRecords) {
+        List<WeeklyAllowance> allowances = new ArrayList<>();
+        for (int from = 0; from < workRecords.size(); from += 7) {
+            List<WorkRecord> week = new ArrayList<>(workRecords.subList(from, Math.min(from + 7, workRecords.size())));
+            LocalDate weekStart = week.get(0).getWorkDate();
+            WeeklyAllowance allowance = WeeklyAllowance.builder()
+                    .contract(contract)
+                    .weekStartDate(weekStart)
+                    .weekEndDate(weekStart.plusDays(6))
+                    .workRecords(week)
+                    .build();
+            allowance.calculateTotalWorkHours();
+            allowance.calculateWeeklyPaidLeave(true);
+            allowance.calculateOvertime(smallWorkplace);
+            allowances.add(allowance);
+        }
+        return allowances;
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.paycheck.benchmark;
+
+import com.example.paycheck.domain.allowance.entity.WeeklyAllowance;
+import com.example.paycheck.domain.contract.entity.WorkerContract;
+import com.example.paycheck.domain.workrecord.entity.WorkRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WeeklyAllowance 주간 합계/연장수당 계산 벤치마크
+ * 근무 일수 5일(40시간 미만)과 7일(40시간 초과, 연장수당 발생)을 비교
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WeeklyAllowanceBenchmark {
+
+    @Param({"5", "7"})
+    public int workDays;
+
+    @Param({"false", "true"})
+    public boolean smallWorkplace;
+
+    private WeeklyAllowance allowance;
+
+    @Setup
+    public void setUp() {
+        WorkerContract contract = BenchmarkFixtures.contract();
+        LocalDate weekStart = LocalDate.of(2024, 1, 15);
+        List<WorkRecord> records = BenchmarkFixtures.calculatedWorkRecords(contract, weekStart, workDays, smallWorkplace);
+
+        allowance = WeeklyAllowance.builder()
+                .contract(contract)
+                .weekStartDate(weekStart)
+                .weekEndDate(weekStart.plusDays(6))
+                .workRecords(records)
+                .build();
+    }
+
+    @Benchmark
+    public BigDecimal calculateOvertime() {
+        allowance.calculateTotalWorkHours();
+        allowance.calculateOvertime(smallWorkplace);
+        return allowance.getOvertimeAmount();
+    }
+
+    @Benchmark
+    public BigDecimal calculateAll() {
+        allowance.calculateTotalWorkHours();
+        allowance.calculateWeeklyPaidLeave(true);
+        allowance.calculateOvertime(smallWorkplace);
+        return allowance.getOvertimeAmount().add(allowance.getWeeklyPaidLeaveAmount());
+    }
+}
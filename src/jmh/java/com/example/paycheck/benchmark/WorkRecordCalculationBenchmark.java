@@ -0,0 +1,72 @@
+package com.example.paycheck.benchmark;
+
+import com.example.paycheck.domain.workrecord.entity.WorkRecord;
+import com.example.paycheck.domain.workrecord.util.WorkPayEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WorkRecord 근무 시간 분류 및 급여 계산 벤치마크
+ * - 단건 경로: calculateHoursWithHolidayInfo + calculateSalaryWithAllowanceRules
+ * - 결합 경로: calculatePayWithHolidayInfo (일괄 계산처럼 결과 버퍼 재사용)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorkRecordCalculationBenchmark {
+
+    @Param({"DAY", "OVERNIGHT"})
+    public BenchmarkFixtures.Shift shift;
+
+    @Param({"false", "true"})
+    public boolean holiday;
+
+    @Param({"false", "true"})
+    public boolean smallWorkplace;
+
+    private WorkRecord workRecord;
+    private WorkPayEngine.PayResult buffer;
+
+    @Setup
+    public void setUp() {
+        workRecord = BenchmarkFixtures.workRecord(BenchmarkFixtures.contract(), LocalDate.of(2024, 1, 15), shift);
+        buffer = new WorkPayEngine.PayResult();
+    }
+
+    @Benchmark
+    public BigDecimal hoursThenSalary() {
+        workRecord.calculateHoursWithHolidayInfo(holiday, smallWorkplace);
+        workRecord.calculateSalaryWithAllowanceRules(smallWorkplace);
+        return workRecord.getTotalSalary();
+    }
+
+    @Benchmark
+    public BigDecimal combinedWithReusedBuffer() {
+        workRecord.calculatePayWithHolidayInfo(holiday, smallWorkplace, buffer);
+        return workRecord.getTotalSalary();
+    }
+
+    @Benchmark
+    public long engineOnly() {
+        WorkPayEngine.classifyHours(shift.startTime.toNanoOfDay(), shift.endTime.toNanoOfDay(),
+                shift.breakMinutes, holiday, buffer);
+        WorkPayEngine.calculatePay(1_003_000L, smallWorkplace, buffer);
+        return buffer.totalPay;
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.paycheck.api.admin;
+
+import com.example.paycheck.common.dto.ApiResponse;
+import com.example.paycheck.common.exception.ErrorCode;
+import com.example.paycheck.common.exception.NotFoundException;
+import com.example.paycheck.global.cache.BoundedCache;
+import com.example.paycheck.global.cache.BoundedCacheManager;
+import com.example.paycheck.global.cache.CacheStats;
+import com.example.paycheck.global.cache.CacheSpec;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Tag(name = "관리자 캐시", description = "캐시 상태 조회 및 비우기 API (X-Admin-Key 헤더 필요)")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/caches")
+public class AdminCacheController {
+
+    private final BoundedCacheManager cacheManager;
+
+    @Operation(summary = "캐시 목록 조회", description = "캐시별 설정(최대 항목 수, TTL, 제거 정책)과 통계를 조회합니다.")
+    @GetMapping
+    public ApiResponse<List<CacheResponse>> getCaches() {
+        List<CacheResponse> caches = cacheManager.getBoundedCaches().stream()
+                .map(CacheResponse::from)
+                .toList();
+        return ApiResponse.success(caches);
+    }
+
+    @Operation(summary = "캐시 비우기", description = "지정한 캐시의 모든 항목을 제거합니다.")
+    @DeleteMapping("/{name}")
+    public ApiResponse<Void> clearCache(
+            @Parameter(description = "캐시 이름", required = true) @PathVariable String name) {
+        // getCache는 없는 캐시를 새로 만들므로 등록된 이름인지 먼저 확인
+        if (!cacheManager.getCacheNames().contains(name)) {
+            throw new NotFoundException(ErrorCode.CACHE_NOT_FOUND, "캐시를 찾을 수 없습니다: " + name);
+        }
+        cacheManager.getCache(name).clear();
+        return ApiResponse.success(null);
+    }
+
+    @Operation(summary = "전체 캐시 비우기", description = "모든 캐시의 항목을 제거합니다.")
+    @DeleteMapping
+    public ApiResponse<Void> clearAllCaches() {
+        cacheManager.getBoundedCaches().forEach(BoundedCache::clear);
+        return ApiResponse.success(null);
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class CacheResponse {
+        private String name;
+        private int maxSize;
+        private long ttlSeconds;
+        private CacheSpec.EvictionPolicy eviction;
+        private int size;
+        private long hits;
+        private long misses;
+        private double hitRatio;
+        private long evictions;
+        private long expirations;
+
+        public static CacheResponse from(BoundedCache cache) {
+            CacheSpec spec = cache.getSpec();
+            CacheStats stats = cache.getStats();
+            return CacheResponse.builder()
+                    .name(cache.getName())
+                    .maxSize(spec.maxSize())
+                    .ttlSeconds(spec.ttlMillis() / 1000)
+                    .eviction(spec.eviction())
+                    .size(stats.size())
+                    .hits(stats.hits())
+                    .misses(stats.misses())
+                    .hitRatio(stats.hitRatio())
+                    .evictions(stats.evictions())
+                    .expirations(stats.expirations())
+                    .build();
+        }
+    }
+}
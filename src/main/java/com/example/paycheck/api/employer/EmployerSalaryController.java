@@ -1,12 +1,19 @@
 package com.example.paycheck.api.employer;
 
 import com.example.paycheck.common.dto.ApiResponse;
+import com.example.paycheck.domain.salary.dto.PayrollRunDto;
 import com.example.paycheck.domain.salary.dto.SalaryDto;
+import com.example.paycheck.domain.salary.dto.SalaryRecalculationDto;
+import com.example.paycheck.domain.salary.service.PayrollRunService;
+import com.example.paycheck.domain.salary.service.SalaryRecalculationQueue;
 import com.example.paycheck.domain.salary.service.SalaryService;
+import com.example.paycheck.global.web.ConditionalGetHandler;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
@@ -20,31 +27,46 @@ import java.util.List;
 public class EmployerSalaryController {
 
     private final SalaryService salaryService;
+    private final SalaryRecalculationQueue salaryRecalculationQueue;
+    private final PayrollRunService payrollRunService;
+    private final ConditionalGetHandler conditionalGetHandler;
 
-    @Operation(summary = "급여 목록 조회", description = "특정 사업장의 전체 급여 목록을 조회합니다.")
+    @Operation(summary = "급여 목록 조회", description = "특정 사업장의 전체 급여 목록을 조회합니다. 변경이 없으면 304 Not Modified를 반환합니다. (If-None-Match / If-Modified-Since)")
     @PreAuthorize("@permissionEvaluator.canAccessWorkplaceSalaries(#workplaceId)")
     @GetMapping
-    public ApiResponse<List<SalaryDto.ListResponse>> getSalariesByWorkplace(
-            @Parameter(description = "사업장 ID", required = true) @RequestParam Long workplaceId) {
-        return ApiResponse.success(salaryService.getSalariesByWorkplace(workplaceId));
+    public ResponseEntity<ApiResponse<List<SalaryDto.ListResponse>>> getSalariesByWorkplace(
+            @Parameter(description = "사업장 ID", required = true) @RequestParam Long workplaceId,
+            HttpServletRequest request) {
+        return conditionalGetHandler.handle(request,
+                () -> salaryService.getSalaryListVersionByWorkplace(workplaceId),
+                () -> ApiResponse.success(salaryService.getSalariesByWorkplace(workplaceId)));
     }
 
-    @Operation(summary = "급여 목록 조회 (연월)", description = "특정 사업장의 특정 연월 급여 목록을 조회합니다.")
+    @Operation(summary = "급여 목록 조회 (연월)", description = "특정 사업장의 특정 연월 급여 목록을 조회합니다. 변경이 없으면 304 Not Modified를 반환합니다. (If-None-Match / If-Modified-Since)")
     @PreAuthorize("@permissionEvaluator.canAccessWorkplaceSalaries(#workplaceId)")
     @GetMapping("/year-month")
-    public ApiResponse<List<SalaryDto.ListResponse>> getSalariesByYearMonth(
+    public ResponseEntity<ApiResponse<List<SalaryDto.ListResponse>>> getSalariesByYearMonth(
             @Parameter(description = "사업장 ID", required = true) @RequestParam Long workplaceId,
             @Parameter(description = "연도", required = true) @RequestParam Integer year,
-            @Parameter(description = "월", required = true) @RequestParam Integer month) {
-        return ApiResponse.success(salaryService.getSalariesByWorkplaceAndYearMonth(workplaceId, year, month));
+            @Parameter(description = "월", required = true) @RequestParam Integer month,
+            HttpServletRequest request) {
+        return conditionalGetHandler.handle(request,
+                () -> salaryService.getSalaryListVersionByWorkplaceAndYearMonth(workplaceId, year, month),
+                () -> ApiResponse.success(salaryService.getSalariesByWorkplaceAndYearMonth(workplaceId, year, month)));
     }
 
-    @Operation(summary = "급여 상세 조회", description = "특정 급여의 상세 정보를 조회합니다.")
+    @Operation(summary = "급여 상세 조회", description = "특정 급여의 상세 정보를 조회합니다. waitForRecalculation=true이면 대기 중인 급여 재계산이 끝난 뒤 조회합니다.")
     @PreAuthorize("@permissionEvaluator.canAccessSalary(#id)")
     @GetMapping("/{id}")
     public ApiResponse<SalaryDto.Response> getSalaryById(
-            @Parameter(description = "급여 ID", required = true) @PathVariable Long id) {
-        return ApiResponse.success(salaryService.getSalaryById(id));
+            @Parameter(description = "급여 ID", required = true) @PathVariable Long id,
+            @Parameter(description = "대기 중인 재계산 완료 후 조회 여부") @RequestParam(defaultValue = "false") boolean waitForRecalculation) {
+        SalaryDto.Response salary = salaryService.getSalaryById(id);
+        if (waitForRecalculation && salaryRecalculationQueue.awaitPending(
+                salary.getContractId(), salary.getYear(), salary.getMonth())) {
+            salary = salaryService.getSalaryById(id);
+        }
+        return ApiResponse.success(salary);
     }
 
     @Operation(summary = "급여 자동 계산", description = "근무 기록을 기반으로 급여를 자동 계산합니다. (세금/보험료 포함)")
@@ -56,4 +78,24 @@ public class EmployerSalaryController {
             @Parameter(description = "월", required = true) @RequestParam Integer month) {
         return ApiResponse.success(salaryService.calculateSalaryByWorkRecords(contractId, year, month));
     }
+
+    @Operation(summary = "급여 재계산 상태 조회", description = "근무 기록 변경으로 등록된 급여 비동기 재계산의 상태를 조회합니다.")
+    @PreAuthorize("@permissionEvaluator.canCalculateSalaryForContract(#contractId)")
+    @GetMapping("/contracts/{contractId}/recalculation-status")
+    public ApiResponse<SalaryRecalculationDto.StatusResponse> getRecalculationStatus(
+            @Parameter(description = "계약 ID", required = true) @PathVariable Long contractId,
+            @Parameter(description = "연도", required = true) @RequestParam Integer year,
+            @Parameter(description = "월", required = true) @RequestParam Integer month) {
+        return ApiResponse.success(salaryRecalculationQueue.getStatus(contractId, year, month));
+    }
+
+    @Operation(summary = "사업장 급여 일괄 계산", description = "사업장의 모든 계약에 대해 해당 연월 급여를 한 번에 계산합니다. 급여 기간 내 근무 기록이 없는 계약은 건너뜁니다.")
+    @PreAuthorize("@permissionEvaluator.canAccessWorkplaceSalaries(#workplaceId)")
+    @PostMapping("/workplaces/{workplaceId}/payroll-run")
+    public ApiResponse<PayrollRunDto.Response> runMonthlyPayroll(
+            @Parameter(description = "사업장 ID", required = true) @PathVariable Long workplaceId,
+            @Parameter(description = "연도", required = true) @RequestParam Integer year,
+            @Parameter(description = "월", required = true) @RequestParam Integer month) {
+        return ApiResponse.success(payrollRunService.runMonthlyPayroll(workplaceId, year, month));
+    }
 }
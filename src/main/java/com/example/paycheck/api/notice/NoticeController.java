@@ -4,9 +4,11 @@ import com.example.paycheck.common.dto.ApiResponse;
 import com.example.paycheck.domain.notice.dto.NoticeDto;
 import com.example.paycheck.domain.notice.service.NoticeService;
 import com.example.paycheck.domain.user.entity.User;
+import com.example.paycheck.global.web.ConditionalGetHandler;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -24,6 +26,7 @@ import java.util.List;
 public class NoticeController {
 
     private final NoticeService noticeService;
+    private final ConditionalGetHandler conditionalGetHandler;
 
     @Operation(summary = "공지사항 작성", description = "사업장에 새로운 공지사항을 작성합니다.")
     @PreAuthorize("@permissionEvaluator.canAccessWorkplaceAsMember(#workplaceId)")
@@ -36,12 +39,15 @@ public class NoticeController {
         return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(response));
     }
 
-    @Operation(summary = "공지사항 목록 조회", description = "사업장의 공지사항 목록을 조회합니다. 만료된 공지사항은 제외됩니다.")
+    @Operation(summary = "공지사항 목록 조회", description = "사업장의 공지사항 목록을 조회합니다. 만료된 공지사항은 제외됩니다. 변경이 없으면 304 Not Modified를 반환합니다. (If-None-Match / If-Modified-Since)")
     @PreAuthorize("@permissionEvaluator.canAccessWorkplaceAsMember(#workplaceId)")
     @GetMapping("/workplaces/{workplaceId}/notices")
-    public ApiResponse<List<NoticeDto.ListResponse>> getNotices(
-            @Parameter(description = "사업장 ID", required = true) @PathVariable Long workplaceId) {
-        return ApiResponse.success(noticeService.getNotices(workplaceId));
+    public ResponseEntity<ApiResponse<List<NoticeDto.ListResponse>>> getNotices(
+            @Parameter(description = "사업장 ID", required = true) @PathVariable Long workplaceId,
+            HttpServletRequest request) {
+        return conditionalGetHandler.handle(request,
+                () -> noticeService.getNoticesVersion(workplaceId),
+                () -> ApiResponse.success(noticeService.getNotices(workplaceId)));
     }
 
     @Operation(summary = "공지사항 단건 조회", description = "특정 공지사항의 상세 정보를 조회합니다.")
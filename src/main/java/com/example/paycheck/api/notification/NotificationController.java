@@ -1,19 +1,23 @@
 package com.example.paycheck.api.notification;
 
 import com.example.paycheck.common.dto.ApiResponse;
+import com.example.paycheck.common.dto.ResourceVersion;
 import com.example.paycheck.domain.notification.dto.NotificationPageResponse;
 import com.example.paycheck.domain.notification.dto.UnreadCountResponse;
 import com.example.paycheck.domain.notification.service.NotificationService;
 import com.example.paycheck.domain.notification.service.SseEmitterService;
 import com.example.paycheck.domain.user.entity.User;
+import com.example.paycheck.global.web.ConditionalGetHandler;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -31,6 +35,7 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 public class NotificationController {
     private final NotificationService notificationService;
     private final SseEmitterService sseEmitterService;
+    private final ConditionalGetHandler conditionalGetHandler;
 
     @Operation(summary = "내 알림 목록 조회", description = "로그인한 사용자의 알림 목록을 페이징하여 조회합니다.")
     @GetMapping
@@ -49,11 +54,16 @@ public class NotificationController {
         return sseEmitterService.createEmitter(user.getId());
     }
 
-    @Operation(summary = "읽지 않은 알림 개수 조회", description = "로그인한 사용자의 읽지 않은 알림 개수를 조회합니다.")
+    @Operation(summary = "읽지 않은 알림 개수 조회", description = "로그인한 사용자의 읽지 않은 알림 개수를 조회합니다. 변경이 없으면 304 Not Modified를 반환합니다. (If-None-Match)")
     @GetMapping("/unread-count")
-    public ApiResponse<UnreadCountResponse> getUnreadCount(@AuthenticationPrincipal User user) {
+    public ResponseEntity<ApiResponse<UnreadCountResponse>> getUnreadCount(
+            @AuthenticationPrincipal User user,
+            HttpServletRequest request) {
+        // 응답 값이 개수 자체이므로 개수를 버전으로 사용 (변경이 없으면 직렬화 없이 304)
         long count = notificationService.getUnreadCount(user);
-        return ApiResponse.success(new UnreadCountResponse(count));
+        return conditionalGetHandler.handle(request,
+                () -> ResourceVersion.ofCount(count),
+                () -> ApiResponse.success(new UnreadCountResponse(count)));
     }
 
     @Operation(summary = "알림 읽음 처리", description = "특정 알림을 읽음 상태로 변경합니다.")
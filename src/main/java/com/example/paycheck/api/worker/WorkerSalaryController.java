@@ -2,16 +2,20 @@ package com.example.paycheck.api.worker;
 
 import com.example.paycheck.common.dto.ApiResponse;
 import com.example.paycheck.domain.salary.dto.SalaryDto;
+import com.example.paycheck.domain.salary.service.SalaryRecalculationQueue;
 import com.example.paycheck.domain.salary.service.SalaryService;
 import com.example.paycheck.domain.user.entity.User;
 import com.example.paycheck.domain.worker.entity.Worker;
 import com.example.paycheck.domain.worker.repository.WorkerRepository;
 import com.example.paycheck.common.exception.NotFoundException;
 import com.example.paycheck.common.exception.ErrorCode;
+import com.example.paycheck.global.web.ConditionalGetHandler;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -26,23 +30,34 @@ import java.util.List;
 public class WorkerSalaryController {
 
     private final SalaryService salaryService;
+    private final SalaryRecalculationQueue salaryRecalculationQueue;
     private final WorkerRepository workerRepository;
+    private final ConditionalGetHandler conditionalGetHandler;
 
-    @Operation(summary = "내 급여 목록 조회", description = "로그인한 근로자의 모든 급여 목록을 조회합니다.")
+    @Operation(summary = "내 급여 목록 조회", description = "로그인한 근로자의 모든 급여 목록을 조회합니다. 변경이 없으면 304 Not Modified를 반환합니다. (If-None-Match / If-Modified-Since)")
     @GetMapping
-    public ApiResponse<List<SalaryDto.ListResponse>> getMySalaries(
-            @AuthenticationPrincipal User user) {
+    public ResponseEntity<ApiResponse<List<SalaryDto.ListResponse>>> getMySalaries(
+            @AuthenticationPrincipal User user,
+            HttpServletRequest request) {
         Worker worker = workerRepository.findByUserId(user.getId())
                 .orElseThrow(() -> new NotFoundException(ErrorCode.WORKER_NOT_FOUND, "근로자 정보를 찾을 수 없습니다."));
-        return ApiResponse.success(salaryService.getSalariesByWorker(worker.getId()));
+        return conditionalGetHandler.handle(request,
+                () -> salaryService.getSalaryListVersionByWorker(worker.getId()),
+                () -> ApiResponse.success(salaryService.getSalariesByWorker(worker.getId())));
     }
 
-    @Operation(summary = "급여 상세 조회", description = "특정 급여의 상세 정보를 조회합니다.")
+    @Operation(summary = "급여 상세 조회", description = "특정 급여의 상세 정보를 조회합니다. waitForRecalculation=true이면 대기 중인 급여 재계산이 끝난 뒤 조회합니다.")
     @PreAuthorize("@permissionEvaluator.canAccessSalaryAsWorker(#id)")
     @GetMapping("/{id}")
     public ApiResponse<SalaryDto.Response> getSalaryById(
-            @Parameter(description = "급여 ID", required = true) @PathVariable Long id) {
-        return ApiResponse.success(salaryService.getSalaryById(id));
+            @Parameter(description = "급여 ID", required = true) @PathVariable Long id,
+            @Parameter(description = "대기 중인 재계산 완료 후 조회 여부") @RequestParam(defaultValue = "false") boolean waitForRecalculation) {
+        SalaryDto.Response salary = salaryService.getSalaryById(id);
+        if (waitForRecalculation && salaryRecalculationQueue.awaitPending(
+                salary.getContractId(), salary.getYear(), salary.getMonth())) {
+            salary = salaryService.getSalaryById(id);
+        }
+        return ApiResponse.success(salary);
     }
 
     @Operation(summary = "급여 자동 계산", description = "근무 기록을 기반으로 급여를 자동 계산합니다. (세금/보험료 포함)")
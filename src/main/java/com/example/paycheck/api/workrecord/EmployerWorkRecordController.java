@@ -4,17 +4,27 @@ import com.example.paycheck.common.dto.ApiResponse;
 import com.example.paycheck.domain.workrecord.dto.WorkRecordDto;
 import com.example.paycheck.domain.workrecord.service.WorkRecordCommandService;
 import com.example.paycheck.domain.workrecord.service.WorkRecordQueryService;
+import com.example.paycheck.global.web.ConditionalGetHandler;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
-import java.util.List;
 
 @Tag(name = "고용주 근무 기록", description = "고용주용 근무 일정 및 기록 관리 API")
 @RestController
@@ -22,8 +32,13 @@ import java.util.List;
 @RequiredArgsConstructor
 public class EmployerWorkRecordController {
 
+    // 캘린더 응답을 커밋하기 전에 모아 두는 크기 (이 크기 이내의 응답은 조회 실패 시 오류 응답으로 대체 가능)
+    private static final int CALENDAR_BUFFER_BYTES = 64 * 1024;
+
     private final WorkRecordQueryService workRecordQueryService;
     private final WorkRecordCommandService workRecordCommandService;
+    private final ObjectMapper objectMapper;
+    private final ConditionalGetHandler conditionalGetHandler;
 
     @Operation(summary = "근무 일정 등록", description = "고용주가 단일 근무 일정을 생성합니다. 생성 시 근로자에게 알람이 전송됩니다.")
     @PreAuthorize("@permissionEvaluator.canAccessContractAsEmployer(#request.contractId)")
@@ -41,15 +56,17 @@ public class EmployerWorkRecordController {
         return ApiResponse.success(workRecordCommandService.createWorkRecordsBatch(request));
     }
 
-    @Operation(summary = "근무 기록 조회 (캘린더)", description = "특정 사업장의 기간별 근무 기록을 캘린더 형식으로 조회합니다.")
+    @Operation(summary = "근무 기록 조회 (캘린더)", description = "특정 사업장의 기간별 근무 기록을 캘린더 형식으로 조회합니다. 응답은 근무일/시작 시각 순으로 스트리밍되며, 변경이 없으면 304 Not Modified를 반환합니다. (If-None-Match / If-Modified-Since)")
     @PreAuthorize("@permissionEvaluator.canAccessWorkplaceRecords(#workplaceId)")
     @GetMapping
-    public ApiResponse<List<WorkRecordDto.CalendarResponse>> getWorkRecords(
+    public ResponseEntity<StreamingResponseBody> getWorkRecords(
             @Parameter(description = "사업장 ID", required = true) @RequestParam Long workplaceId,
             @Parameter(description = "조회 시작일 (yyyy-MM-dd)", required = true) @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @Parameter(description = "조회 종료일 (yyyy-MM-dd)", required = true) @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
-        return ApiResponse.success(
-                workRecordQueryService.getWorkRecordsByWorkplaceAndDateRange(workplaceId, startDate, endDate));
+            @Parameter(description = "조회 종료일 (yyyy-MM-dd)", required = true) @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            HttpServletRequest request) {
+        return conditionalGetHandler.handle(request,
+                () -> workRecordQueryService.getCalendarVersionByWorkplaceAndDateRange(workplaceId, startDate, endDate),
+                () -> streamCalendar(workplaceId, startDate, endDate));
     }
 
     @Operation(summary = "근무 기록 상세 조회", description = "특정 근무 기록의 상세 정보를 조회합니다.")
@@ -87,4 +104,39 @@ public class EmployerWorkRecordController {
         return ApiResponse.success(null);
     }
 
+    private StreamingResponseBody streamCalendar(Long workplaceId, LocalDate startDate, LocalDate endDate) {
+        // ApiResponse 형식({"success":true,"data":[...],"error":null})을 유지하면서 data 배열을 항목 단위로 출력
+        // - 처음 CALENDAR_BUFFER_BYTES까지는 버퍼에만 쓰므로 그 안에서 조회가 실패하면 응답이 커밋되지 않아 오류 응답(500)을 반환한다.
+        // - 이후 실패하면 열린 배열/객체를 닫지 않고 예외를 전파하여 끊긴 응답이 올바른 JSON으로 보이지 않게 한다.
+        // - 항목마다 flush하면 첫 항목에서 응답이 커밋되므로, 항목 직렬화 후 flush와 generator의 flush 전달을 모두 끈다.
+        return outputStream -> {
+            BufferedOutputStream bufferedOutputStream = new BufferedOutputStream(outputStream, CALENDAR_BUFFER_BYTES);
+            JsonGenerator generator = objectMapper.createGenerator(bufferedOutputStream);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+            generator.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+            ObjectWriter rowWriter = objectMapper.writerFor(WorkRecordDto.CalendarResponse.class)
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            generator.writeStartObject();
+            generator.writeBooleanField("success", true);
+            generator.writeArrayFieldStart("data");
+            workRecordQueryService.forEachWorkRecordByWorkplaceAndDateRange(workplaceId, startDate, endDate,
+                    response -> writeCalendarResponse(rowWriter, generator, response));
+            generator.writeEndArray();
+            generator.writeNullField("error");
+            generator.writeEndObject();
+            // 성공한 경우에만 버퍼를 내보낸다 (close는 generator 버퍼만 비우므로 출력 버퍼는 직접 flush)
+            generator.close();
+            bufferedOutputStream.flush();
+        };
+    }
+
+    private void writeCalendarResponse(ObjectWriter rowWriter, JsonGenerator generator,
+                                       WorkRecordDto.CalendarResponse response) {
+        try {
+            rowWriter.writeValue(generator, response);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -37,6 +37,16 @@ public class WorkerWorkRecordController {
                 workRecordQueryService.getWorkRecordsByWorkerAndDateRange(user.getId(), startDate, endDate));
     }
 
+    @Operation(summary = "내 근무 기록 타임라인 조회",
+            description = "로그인한 근로자의 전체 근무 기록을 최신순으로 페이지 단위 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달하여 조회합니다.")
+    @GetMapping("/timeline")
+    public ApiResponse<WorkRecordDto.TimelineResponse> getMyWorkRecordTimeline(
+            @AuthenticationPrincipal User user,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (1~100)") @RequestParam(defaultValue = "20") int size) {
+        return ApiResponse.success(workRecordQueryService.getWorkRecordTimeline(user.getId(), cursor, size));
+    }
+
     @Operation(summary = "근무 기록 상세 조회", description = "특정 근무 기록의 상세 정보를 조회합니다.")
     @PreAuthorize("@permissionEvaluator.canAccessWorkRecordAsWorker(#id)")
     @GetMapping("/{id}")
@@ -0,0 +1,24 @@
+package com.example.paycheck.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 리소스의 소유자 (사업장 고용주와 근로자의 사용자 ID)
+ * 권한 검사에서 엔티티 그래프를 불러오지 않고 조회 한 번으로 소유 관계를 판단할 때 사용한다.
+ */
+@Getter
+@AllArgsConstructor
+public class ResourceOwner {
+
+    private Long employerUserId;
+    private Long workerUserId;   // 정정요청은 요청자 ID
+
+    public boolean isEmployer(Long userId) {
+        return employerUserId != null && employerUserId.equals(userId);
+    }
+
+    public boolean isWorker(Long userId) {
+        return workerUserId != null && workerUserId.equals(userId);
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.paycheck.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 조회 범위의 버전 (범위 내 행의 최종 수정 시각과 행 수)
+ * 조건부 GET(ETag/Last-Modified)에서 엔티티를 불러오지 않고 변경 여부를 판단할 때 사용한다.
+ * 수정/추가는 최종 수정 시각으로, 삭제(조회 조건에서 빠지는 경우 포함)는 행 수로 감지한다.
+ */
+@Getter
+@AllArgsConstructor
+public class ResourceVersion {
+
+    private LocalDateTime lastModified;   // 범위가 비어 있으면 null
+    private Long count;
+
+    /**
+     * 응답 값 자체가 개수인 경우 (예: 읽지 않은 알림 개수)
+     */
+    public static ResourceVersion ofCount(long count) {
+        return new ResourceVersion(null, count);
+    }
+}
@@ -74,11 +74,13 @@ public class ErrorCode {
     public static final String CONTRACT_ID_REQUIRED = "CONTRACT_ID_REQUIRED";
     public static final String WORK_RECORD_ID_REQUIRED = "WORK_RECORD_ID_REQUIRED";
     public static final String SALARY_NOT_CALCULATED = "SALARY_NOT_CALCULATED";
+    public static final String INCOME_TAX_TABLE_NOT_FOUND = "INCOME_TAX_TABLE_NOT_FOUND";
     public static final String PAYMENT_ALREADY_COMPLETED = "PAYMENT_ALREADY_COMPLETED";
     public static final String KAKAO_USER_INFO_FAILED = "KAKAO_USER_INFO_FAILED";
     public static final String KAKAO_SERVER_ERROR = "KAKAO_SERVER_ERROR";
     public static final String KAKAO_UNLINK_FAILED = "KAKAO_UNLINK_FAILED";
     public static final String INVALID_INPUT_VALUE = "INVALID_INPUT_VALUE";
+    public static final String INVALID_CURSOR = "INVALID_CURSOR";
 
     // Database Integrity
     public static final String DATA_INTEGRITY_VIOLATION = "DATA_INTEGRITY_VIOLATION";
@@ -95,6 +97,9 @@ public class ErrorCode {
     public static final String SALARY_LOCK_TIMEOUT = "SALARY_LOCK_TIMEOUT";
     public static final String SALARY_CONCURRENT_MODIFICATION = "SALARY_CONCURRENT_MODIFICATION";
 
+    // Admin
+    public static final String CACHE_NOT_FOUND = "CACHE_NOT_FOUND";
+
     private ErrorCode() {
         // 인스턴스화 방지
     }
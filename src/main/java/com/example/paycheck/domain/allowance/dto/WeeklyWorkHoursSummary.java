@@ -0,0 +1,18 @@
+package com.example.paycheck.domain.allowance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * 주간 수당별 COMPLETED 근무 시간 집계 (DB 집계 쿼리 결과)
+ * 주간 수당 일괄 재계산에서 근무 기록 컬렉션을 로딩하지 않고 합계만 조회할 때 사용한다.
+ */
+@Getter
+@AllArgsConstructor
+public class WeeklyWorkHoursSummary {
+    private Long weeklyAllowanceId;
+    private BigDecimal totalHours;
+    private BigDecimal dailyOvertimeHours;
+}
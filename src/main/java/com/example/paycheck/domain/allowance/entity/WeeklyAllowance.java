@@ -11,6 +11,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 
 @Entity
 @Table(name = "weekly_allowance",
@@ -130,6 +131,28 @@ public class WeeklyAllowance extends BaseEntity {
 
     // 사업장 규모를 고려한 연장수당 계산
     public void calculateOvertime(boolean isSmallWorkplace) {
+        applyOvertime(isSmallWorkplace, () -> this.workRecords.stream()
+                .filter(wr -> wr.getStatus() == WorkRecordStatus.COMPLETED)
+                .map(WorkRecord::getOvertimeHours)
+                .reduce(BigDecimal.ZERO, BigDecimal::add));
+    }
+
+    /**
+     * 집계 쿼리 결과로 수당 재계산 (근무 기록 컬렉션을 로딩하지 않음)
+     *
+     * @param completedHours      COMPLETED 근무 기록의 총 근무 시간 합계
+     * @param dailyOvertimeHours  COMPLETED 근무 기록의 일일 연장 시간 합계
+     * @param hasNextWeekRecords  다음 주에 유효한 근무 기록이 있는지 여부
+     * @param isSmallWorkplace    5인 미만 사업장 여부
+     */
+    public void recalculate(BigDecimal completedHours, BigDecimal dailyOvertimeHours,
+                            boolean hasNextWeekRecords, boolean isSmallWorkplace) {
+        this.totalWorkHours = completedHours;
+        calculateWeeklyPaidLeave(hasNextWeekRecords);
+        applyOvertime(isSmallWorkplace, () -> dailyOvertimeHours);
+    }
+
+    private void applyOvertime(boolean isSmallWorkplace, Supplier<BigDecimal> totalDailyOvertimeHours) {
         // 5인 미만 사업장: 연장수당 미적용 (근로기준법 제11조)
         if (isSmallWorkplace) {
             this.overtimeHours = BigDecimal.ZERO;
@@ -144,12 +167,7 @@ public class WeeklyAllowance extends BaseEntity {
 
             // 주간 연장 시간 중 일일 연장 시간을 제외한 "순수 주간 연장 가산 대상" 계산
             // (일일 연장분은 WorkRecord.overtimeSalary에서 이미 0.5배 가산됨)
-            BigDecimal totalDailyOvertimeHours = this.workRecords.stream()
-                    .filter(wr -> wr.getStatus() == WorkRecordStatus.COMPLETED)
-                    .map(WorkRecord::getOvertimeHours)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-            BigDecimal pureWeeklyOvertimeHours = weeklyOvertimeHours.subtract(totalDailyOvertimeHours).max(BigDecimal.ZERO);
+            BigDecimal pureWeeklyOvertimeHours = weeklyOvertimeHours.subtract(totalDailyOvertimeHours.get()).max(BigDecimal.ZERO);
 
             // 연장수당 = 순수 주간 연장 시간 × 기본시급 × 0.5배율
             BigDecimal hourlyWage = this.contract.getHourlyWage();
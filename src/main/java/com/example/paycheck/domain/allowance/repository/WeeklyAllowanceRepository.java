@@ -1,6 +1,8 @@
 package com.example.paycheck.domain.allowance.repository;
 
+import com.example.paycheck.domain.allowance.dto.WeeklyWorkHoursSummary;
 import com.example.paycheck.domain.allowance.entity.WeeklyAllowance;
+import com.example.paycheck.domain.workrecord.enums.WorkRecordStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -8,6 +10,8 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,6 +38,23 @@ public interface WeeklyAllowanceRepository extends JpaRepository<WeeklyAllowance
             @Param("month") Integer month
     );
 
+    /**
+     * 사업장 전체 계약의 WeeklyAllowance를 생성 시각 구간으로 일괄 조회 (사업장 급여 일괄 계산용)
+     * findByContractIdAndYearMonth와 같은 createdAt 기준으로, 호출 측에서 계약/연월별로 분류한다.
+     */
+    @Query("""
+            SELECT wa FROM WeeklyAllowance wa
+            JOIN FETCH wa.contract c
+            WHERE c.workplace.id = :workplaceId
+            AND wa.createdAt >= :from
+            AND wa.createdAt < :to
+            """)
+    List<WeeklyAllowance> findByWorkplaceIdAndCreatedAtRange(
+            @Param("workplaceId") Long workplaceId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
     /**
      * 특정 날짜가 속한 주(월요일~일요일)의 WeeklyAllowance 조회
      * 같은 주에 이미 생성된 WeeklyAllowance가 있으면 반환
@@ -66,6 +87,28 @@ public interface WeeklyAllowanceRepository extends JpaRepository<WeeklyAllowance
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate);
 
+    /**
+     * 여러 WeeklyAllowance를 계약/사업장과 함께 일괄 조회 (일괄 재계산용)
+     */
+    @Query("SELECT wa FROM WeeklyAllowance wa " +
+            "JOIN FETCH wa.contract c " +
+            "JOIN FETCH c.workplace " +
+            "WHERE wa.id IN :ids")
+    List<WeeklyAllowance> findAllWithContractByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 주간 수당별 근무 시간/일일 연장 시간 합계 (엔티티 로딩 없이 DB에서 합산, 해당 상태 근무 기록이 없는 수당은 결과에서 빠짐)
+     */
+    @Query("SELECT new com.example.paycheck.domain.allowance.dto.WeeklyWorkHoursSummary(" +
+            "wr.weeklyAllowance.id, COALESCE(SUM(wr.totalHours), 0), COALESCE(SUM(wr.overtimeHours), 0)) " +
+            "FROM WorkRecord wr " +
+            "WHERE wr.weeklyAllowance.id IN :ids " +
+            "AND wr.status = :status " +
+            "GROUP BY wr.weeklyAllowance.id")
+    List<WeeklyWorkHoursSummary> sumWorkHoursByIdInAndStatus(
+            @Param("ids") Collection<Long> ids,
+            @Param("status") WorkRecordStatus status);
+
     /**
      * 영구 삭제용: 여러 계약의 모든 WeeklyAllowance 일괄 삭제
      */
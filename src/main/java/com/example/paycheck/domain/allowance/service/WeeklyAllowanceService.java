@@ -2,17 +2,19 @@ package com.example.paycheck.domain.allowance.service;
 
 import com.example.paycheck.common.exception.ErrorCode;
 import com.example.paycheck.common.exception.NotFoundException;
+import com.example.paycheck.domain.allowance.dto.WeeklyWorkHoursSummary;
 import com.example.paycheck.domain.allowance.entity.WeeklyAllowance;
 import com.example.paycheck.domain.allowance.repository.WeeklyAllowanceRepository;
 import com.example.paycheck.domain.contract.entity.WorkerContract;
 import com.example.paycheck.domain.contract.repository.WorkerContractRepository;
 import com.example.paycheck.domain.workrecord.enums.WorkRecordStatus;
-import com.example.paycheck.domain.workrecord.repository.WorkRecordRepository;
+import com.example.paycheck.domain.workrecord.service.WorkedDayIndex;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.temporal.TemporalAdjusters;
@@ -32,7 +34,7 @@ public class WeeklyAllowanceService {
 
     private final WeeklyAllowanceRepository weeklyAllowanceRepository;
     private final WorkerContractRepository workerContractRepository;
-    private final WorkRecordRepository workRecordRepository;
+    private final WorkedDayIndex workedDayIndex;
 
     public List<WeeklyAllowance> getWeeklyAllowancesByContract(Long contractId) {
         return weeklyAllowanceRepository.findByContractId(contractId);
@@ -82,10 +84,7 @@ public class WeeklyAllowanceService {
         boolean isSmallWorkplace = allowance.getContract().getWorkplace().getIsLessThanFiveEmployees();
 
         // 다음 주 근무 기록 존재 여부 확인 (주휴수당 지급 조건)
-        LocalDate nextWeekStart = allowance.getWeekEndDate().plusDays(1);
-        LocalDate nextWeekEnd = nextWeekStart.plusDays(6);
-        boolean hasNextWeekRecords = workRecordRepository.existsByContractIdAndWorkDateBetweenAndStatusNot(
-                allowance.getContract().getId(), nextWeekStart, nextWeekEnd, WorkRecordStatus.DELETED);
+        boolean hasNextWeekRecords = hasNextWeekRecords(allowance);
 
         // 수당 재계산 (사업장 규모, 다음 주 근무 여부 고려)
         allowance.calculateTotalWorkHours();
@@ -158,6 +157,8 @@ public class WeeklyAllowanceService {
 
     /**
      * 여러 WeeklyAllowance의 수당을 일괄 재계산 (배치 처리용)
+     * 근무 기록 컬렉션을 로딩하지 않고 집계 쿼리로 계산하여, 수당 개수와 무관하게 조회 쿼리 2회로 처리한다.
+     * (수당/계약/사업장 조회, 수당별 근무 시간 합계, 다음 주 근무 여부는 근무일 인덱스로 판단)
      */
     @Transactional
     public void recalculateAllowancesBatch(Set<Long> weeklyAllowanceIds) {
@@ -165,21 +166,32 @@ public class WeeklyAllowanceService {
             return;
         }
 
-        List<WeeklyAllowance> allowances = weeklyAllowanceRepository.findAllById(weeklyAllowanceIds);
+        List<WeeklyAllowance> allowances = weeklyAllowanceRepository.findAllWithContractByIdIn(weeklyAllowanceIds);
+
+        Map<Long, WeeklyWorkHoursSummary> workHoursByAllowanceId = weeklyAllowanceRepository
+                .sumWorkHoursByIdInAndStatus(weeklyAllowanceIds, WorkRecordStatus.COMPLETED).stream()
+                .collect(Collectors.toMap(WeeklyWorkHoursSummary::getWeeklyAllowanceId, Function.identity()));
 
         for (WeeklyAllowance allowance : allowances) {
             boolean isSmallWorkplace = allowance.getContract().getWorkplace().getIsLessThanFiveEmployees();
+            WeeklyWorkHoursSummary workHours = workHoursByAllowanceId.get(allowance.getId());
 
-            LocalDate nextWeekStart = allowance.getWeekEndDate().plusDays(1);
-            LocalDate nextWeekEnd = nextWeekStart.plusDays(6);
-            boolean hasNextWeekRecords = workRecordRepository.existsByContractIdAndWorkDateBetweenAndStatusNot(
-                    allowance.getContract().getId(), nextWeekStart, nextWeekEnd, WorkRecordStatus.DELETED);
-
-            allowance.calculateTotalWorkHours();
-            allowance.calculateWeeklyPaidLeave(hasNextWeekRecords);
-            allowance.calculateOvertime(isSmallWorkplace);
+            allowance.recalculate(
+                    workHours != null ? workHours.getTotalHours() : BigDecimal.ZERO,
+                    workHours != null ? workHours.getDailyOvertimeHours() : BigDecimal.ZERO,
+                    hasNextWeekRecords(allowance),
+                    isSmallWorkplace);
         }
 
         weeklyAllowanceRepository.saveAll(allowances);
     }
+
+    /**
+     * 다음 주(주 종료일 다음 날부터 7일)에 유효한 근무 기록이 있는지 여부 (근무일 인덱스 조회)
+     */
+    private boolean hasNextWeekRecords(WeeklyAllowance allowance) {
+        LocalDate nextWeekStart = allowance.getWeekEndDate().plusDays(1);
+        LocalDate nextWeekEnd = nextWeekStart.plusDays(6);
+        return workedDayIndex.hasWorkedDayBetween(allowance.getContract().getId(), nextWeekStart, nextWeekEnd);
+    }
 }
@@ -1,6 +1,7 @@
 package com.example.paycheck.domain.auth.scheduler;
 
 import com.example.paycheck.domain.auth.repository.RefreshTokenRepository;
+import com.example.paycheck.global.scheduling.SchedulerLock;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -18,6 +19,7 @@ import java.time.LocalDateTime;
 public class RefreshTokenCleanupScheduler {
 
     private final RefreshTokenRepository refreshTokenRepository;
+    private final SchedulerLock schedulerLock;
 
     /**
      * 매일 새벽 3시에 만료된 Refresh Token 삭제
@@ -26,6 +28,10 @@ public class RefreshTokenCleanupScheduler {
     @Scheduled(cron = "0 0 0 * * *")
     @Transactional
     public void cleanupExpiredTokens() {
+        schedulerLock.runExclusively("refresh-token-cleanup", this::doCleanupExpiredTokens);
+    }
+
+    private void doCleanupExpiredTokens() {
         log.info("만료된 Refresh Token 정리 작업 시작");
 
         try {
@@ -17,6 +17,7 @@ import com.example.paycheck.domain.user.service.UserWithdrawService;
 import com.example.paycheck.domain.worker.entity.Worker;
 import com.example.paycheck.domain.worker.repository.WorkerRepository;
 import com.example.paycheck.global.oauth.kakao.dto.KakaoUserInfo;
+import com.example.paycheck.global.security.UserSnapshotCache;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -47,6 +48,7 @@ public class AuthService {
     private final UserHardDeleteService userHardDeleteService;
     private final EmployerRepository employerRepository;
     private final WorkerRepository workerRepository;
+    private final UserSnapshotCache userSnapshotCache;
 
     /**
      * 로그인 결과 (응답 DTO + Refresh Token)
@@ -166,6 +168,7 @@ public class AuthService {
 
         user.restore();
         userWithdrawService.restoreEmployerWorkplaces(user);
+        userSnapshotCache.invalidate(user.getId());
 
         return buildLoginResponse(user);
     }
@@ -222,11 +225,17 @@ public class AuthService {
      * @param user 탈퇴할 사용자
      */
     public void withdraw(User user) {
+        // 인증 주체에는 ID/유형만 있으므로 카카오 ID는 DB에서 조회
+        User withdrawingUser = userRepository.findById(user.getId())
+                .orElseThrow(() -> new NotFoundException(ErrorCode.USER_NOT_FOUND, "사용자를 찾을 수 없습니다."));
+
         // 카카오 연결 해제 (best-effort, 트랜잭션 밖, 어드민 키 방식)
-        oAuthService.unlinkKakaoAccount(user.getKakaoId());
+        oAuthService.unlinkKakaoAccount(withdrawingUser.getKakaoId());
 
         // 탈퇴 처리 (트랜잭션)
-        userWithdrawService.withdraw(user);
+        userWithdrawService.withdraw(withdrawingUser);
+        userSnapshotCache.invalidate(withdrawingUser.getId());
+        tokenService.revokeAccessTokens(withdrawingUser.getId());
     }
 
     /**
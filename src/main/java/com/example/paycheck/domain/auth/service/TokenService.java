@@ -5,6 +5,9 @@ import com.example.paycheck.common.exception.NotFoundException;
 import com.example.paycheck.common.exception.UnauthorizedException;
 import com.example.paycheck.domain.auth.entity.RefreshToken;
 import com.example.paycheck.domain.auth.repository.RefreshTokenRepository;
+import com.example.paycheck.domain.user.entity.User;
+import com.example.paycheck.domain.user.repository.UserRepository;
+import com.example.paycheck.global.security.AccessTokenRevocationList;
 import com.example.paycheck.global.security.JwtTokenProvider;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -25,6 +28,8 @@ public class TokenService {
     private final JwtTokenProvider jwtTokenProvider;
     private final RefreshTokenRepository refreshTokenRepository;
     private final RefreshTokenCleanupService refreshTokenCleanupService;
+    private final UserRepository userRepository;
+    private final AccessTokenRevocationList accessTokenRevocationList;
 
     /**
      * 토큰 쌍 (Access Token + Refresh Token)
@@ -38,13 +43,16 @@ public class TokenService {
     }
 
     /**
-     * Access Token 생성
+     * Access Token 생성 (사용자 유형과 버전을 클레임으로 포함)
      *
      * @param userId 사용자 ID
      * @return JWT Access Token
+     * @throws NotFoundException 사용자를 찾을 수 없는 경우
      */
     public String generateAccessToken(Long userId) {
-        return jwtTokenProvider.generateToken(userId);
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new NotFoundException(ErrorCode.USER_NOT_FOUND, "사용자를 찾을 수 없습니다."));
+        return jwtTokenProvider.generateToken(user.getId(), user.getUserType(), user.getVersion());
     }
 
     /**
@@ -132,4 +140,13 @@ public class TokenService {
         refreshTokenRepository.deleteByUserId(userId);
     }
 
+    /**
+     * 사용자에게 지금까지 발급된 Access Token 무효화 (회원 탈퇴 시 사용)
+     *
+     * @param userId 사용자 ID
+     */
+    public void revokeAccessTokens(Long userId) {
+        accessTokenRevocationList.revokeAll(userId);
+    }
+
 }
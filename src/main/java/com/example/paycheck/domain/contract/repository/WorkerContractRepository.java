@@ -1,6 +1,8 @@
 package com.example.paycheck.domain.contract.repository;
 
+import com.example.paycheck.common.dto.ResourceOwner;
 import com.example.paycheck.domain.contract.entity.WorkerContract;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -88,4 +90,48 @@ public interface WorkerContractRepository extends JpaRepository<WorkerContract,
     @org.springframework.data.jpa.repository.Modifying(clearAutomatically = true)
     @Query("DELETE FROM WorkerContract c WHERE c.worker.id = :workerId")
     void deleteAllByWorkerId(@Param("workerId") Long workerId);
+
+    /**
+     * 근무 기록 생성 작업용: 활성 계약 최대 ID (계약 ID 구간 파티션 수 계산)
+     */
+    @Query("SELECT MAX(c.id) FROM WorkerContract c WHERE c.isActive = true")
+    Long findMaxActiveId();
+
+    /**
+     * 근무 기록 생성 작업용: 구간 내 활성 계약 ID 키셋 페이지 조회 (afterId 초과 toId 이하, ID 오름차순)
+     */
+    @Query("SELECT c.id FROM WorkerContract c " +
+            "WHERE c.isActive = true AND c.id > :afterId AND c.id <= :toId " +
+            "ORDER BY c.id ASC")
+    List<Long> findActiveIdsInRange(@Param("afterId") Long afterId, @Param("toId") Long toId, Pageable pageable);
+
+    /**
+     * 근무 기록 생성 작업용: 청크 단위 계약 조회 (근무 기록 계산에 필요한 사업장 함께 조회)
+     */
+    @Query("SELECT c FROM WorkerContract c " +
+            "JOIN FETCH c.worker w " +
+            "JOIN FETCH c.workplace wp " +
+            "WHERE c.id IN :ids " +
+            "ORDER BY c.id ASC")
+    List<WorkerContract> findAllWithWorkplaceByIdIn(@Param("ids") List<Long> ids);
+
+    /**
+     * 권한 검사용: 계약의 고용주/근로자 사용자 ID
+     */
+    @Query("SELECT new com.example.paycheck.common.dto.ResourceOwner(e.user.id, w.user.id) " +
+            "FROM WorkerContract c " +
+            "JOIN c.workplace wp " +
+            "JOIN wp.employer e " +
+            "JOIN c.worker w " +
+            "WHERE c.id = :contractId")
+    Optional<ResourceOwner> findOwnerById(@Param("contractId") Long contractId);
+
+    /**
+     * 권한 검사용: 사용자가 사업장과 활성 계약을 맺은 근로자인지 여부
+     */
+    @Query("SELECT COUNT(c) > 0 FROM WorkerContract c " +
+            "WHERE c.worker.user.id = :userId " +
+            "AND c.workplace.id = :workplaceId " +
+            "AND c.isActive = true")
+    boolean existsActiveByWorkerUserIdAndWorkplaceId(@Param("userId") Long userId, @Param("workplaceId") Long workplaceId);
 }
@@ -1,8 +1,10 @@
 package com.example.paycheck.domain.correction.repository;
 
+import com.example.paycheck.common.dto.ResourceOwner;
 import com.example.paycheck.domain.correction.entity.CorrectionRequest;
 import com.example.paycheck.domain.correction.enums.CorrectionStatus;
 import com.example.paycheck.domain.correction.enums.RequestType;
+import com.example.paycheck.domain.workrecord.dto.WorkShift;
 import com.example.paycheck.domain.workrecord.enums.WorkRecordStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -13,7 +15,6 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
-import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -124,18 +125,18 @@ public interface CorrectionRequestRepository extends JpaRepository<CorrectionReq
                         @Param("workRecordId") Long workRecordId,
                         @Param("status") CorrectionStatus status);
 
-        // CREATE 타입의 대기중인 정정요청 존재 여부 확인 - 동일한 시간대에 요청이 있는지 확인
-        @Query("SELECT COUNT(cr) > 0 FROM CorrectionRequest cr " +
+        // 기간 내 특정 타입/상태 정정요청의 요청 시간대 조회 (대기중인 CREATE 요청과의 근무 시간 겹침 검사용)
+        @Query("SELECT new com.example.paycheck.domain.workrecord.dto.WorkShift(" +
+                        "cr.id, cr.requestedWorkDate, cr.requestedStartTime, cr.requestedEndTime) " +
+                        "FROM CorrectionRequest cr " +
                         "WHERE cr.contract.id = :contractId " +
                         "AND cr.type = :type " +
-                        "AND cr.requestedWorkDate = :workDate " +
                         "AND cr.status = :status " +
-                        "AND (cr.requestedStartTime < :endTime AND cr.requestedEndTime > :startTime)")
-        boolean existsPendingCreateRequestWithTimeOverlap(
+                        "AND cr.requestedWorkDate BETWEEN :startDate AND :endDate")
+        List<WorkShift> findRequestedShiftsByContractIdAndWorkDateBetween(
                         @Param("contractId") Long contractId,
-                        @Param("workDate") LocalDate workDate,
-                        @Param("startTime") LocalTime startTime,
-                        @Param("endTime") LocalTime endTime,
+                        @Param("startDate") LocalDate startDate,
+                        @Param("endDate") LocalDate endDate,
                         @Param("type") RequestType type,
                         @Param("status") CorrectionStatus status);
 
@@ -161,4 +162,18 @@ public interface CorrectionRequestRepository extends JpaRepository<CorrectionReq
                         "WHERE cr.contract.id IN :contractIds " +
                         "OR cr.workRecord.id IN (SELECT wr.id FROM WorkRecord wr WHERE wr.contract.id IN :contractIds)")
         void deleteAllByContractIdIn(@Param("contractIds") List<Long> contractIds);
+
+        // 권한 검사용: 정정요청 계약의 고용주 사용자 ID와 요청자 ID
+        // CREATE 타입은 workRecord가 null이므로 직접 참조한 contract의 고용주를 사용
+        @Query("SELECT new com.example.paycheck.common.dto.ResourceOwner(COALESCE(we.user.id, ce.user.id), cr.requester.id) " +
+                        "FROM CorrectionRequest cr " +
+                        "LEFT JOIN cr.workRecord wr " +
+                        "LEFT JOIN wr.contract wc " +
+                        "LEFT JOIN wc.workplace wwp " +
+                        "LEFT JOIN wwp.employer we " +
+                        "LEFT JOIN cr.contract c " +
+                        "LEFT JOIN c.workplace cwp " +
+                        "LEFT JOIN cwp.employer ce " +
+                        "WHERE cr.id = :correctionRequestId")
+        Optional<ResourceOwner> findOwnerById(@Param("correctionRequestId") Long correctionRequestId);
 }
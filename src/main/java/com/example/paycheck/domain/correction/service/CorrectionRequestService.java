@@ -15,13 +15,18 @@ import com.example.paycheck.domain.correction.repository.CorrectionRequestReposi
 import com.example.paycheck.domain.notification.enums.NotificationActionType;
 import com.example.paycheck.domain.notification.enums.NotificationType;
 import com.example.paycheck.domain.notification.event.NotificationEvent;
+import com.example.paycheck.domain.salary.util.WorkRecordPayTotals;
 import com.example.paycheck.domain.user.entity.User;
+import com.example.paycheck.domain.workrecord.dto.ShiftConflict;
 import com.example.paycheck.domain.workrecord.dto.WorkRecordDto;
+import com.example.paycheck.domain.workrecord.dto.WorkShift;
 import com.example.paycheck.domain.workrecord.entity.WorkRecord;
 import com.example.paycheck.domain.workrecord.repository.WorkRecordRepository;
 import com.example.paycheck.domain.workrecord.service.WorkRecordCommandService;
 import com.example.paycheck.domain.workrecord.service.WorkRecordCalculationService;
 import com.example.paycheck.domain.workrecord.service.WorkRecordCoordinatorService;
+import com.example.paycheck.domain.workrecord.service.WorkShiftOverlapService;
+import com.example.paycheck.domain.workrecord.enums.ShiftConflictSource;
 import com.example.paycheck.domain.workrecord.enums.WorkRecordStatus;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
@@ -53,6 +58,7 @@ public class CorrectionRequestService {
     private final WorkRecordCommandService workRecordCommandService;
     private final WorkRecordCalculationService calculationService;
     private final WorkRecordCoordinatorService coordinatorService;
+    private final WorkShiftOverlapService workShiftOverlapService;
     private final ApplicationEventPublisher eventPublisher;
 
     // ===== 근로자용 API =====
@@ -88,24 +94,21 @@ public class CorrectionRequestService {
             throw new UnauthorizedException(ErrorCode.UNAUTHORIZED_ACCESS, "본인의 계약에 대해서만 요청할 수 있습니다.");
         }
 
-        // 중복 CREATE 요청 확인 - 동일한 시간대에 요청이 있는지 확인
-        if (correctionRequestRepository.existsPendingCreateRequestWithTimeOverlap(
+        // 근무 시간 겹침 확인 (대기중인 CREATE 요청, 유효한 근무 기록, 자정을 넘는 근무 포함)
+        List<ShiftConflict> conflicts = workShiftOverlapService.findConflicts(
                 request.getContractId(),
-                request.getRequestedWorkDate(),
-                request.getRequestedStartTime(),
-                request.getRequestedEndTime(),
-                RequestType.CREATE,
-                CorrectionStatus.PENDING)) {
+                List.of(WorkShift.of(
+                        request.getRequestedWorkDate(),
+                        request.getRequestedStartTime(),
+                        request.getRequestedEndTime())));
+
+        // 중복 CREATE 요청 확인 - 동일한 시간대에 요청이 있는지 확인
+        if (conflicts.stream().anyMatch(conflict -> conflict.getSource() == ShiftConflictSource.PENDING_CREATE_REQUEST)) {
             throw new BadRequestException(ErrorCode.DUPLICATE_CORRECTION_REQUEST, "해당 시간대에 이미 생성 요청이 있습니다.");
         }
 
         // 중복 근무 기록 확인 - 이미 등록된 근무 기록이 있는지 확인
-        if (workRecordRepository.existsOverlappingWorkRecord(
-                request.getContractId(),
-                request.getRequestedWorkDate(),
-                request.getRequestedStartTime(),
-                request.getRequestedEndTime(),
-                WorkRecordStatus.DELETED)) {
+        if (conflicts.stream().anyMatch(conflict -> conflict.getSource() == ShiftConflictSource.WORK_RECORD)) {
             throw new BadRequestException(ErrorCode.DUPLICATE_WORK_RECORD, "해당 시간대에 이미 등록된 근무 기록이 있습니다.");
         }
 
@@ -347,6 +350,8 @@ public class CorrectionRequestService {
         // 기존 WeeklyAllowance 저장 (재계산용)
         WeeklyAllowance oldWeeklyAllowance = workRecord.getWeeklyAllowance();
         LocalDate originalWorkDate = workRecord.getWorkDate();
+        // 수정 전 급여 기여분 저장 (급여 증분 반영용)
+        WorkRecordPayTotals previousContribution = WorkRecordPayTotals.of(workRecord);
         LocalDate requestedWorkDate = correctionRequest.getRequestedWorkDate() != null
                 ? correctionRequest.getRequestedWorkDate()
                 : originalWorkDate;
@@ -396,22 +401,23 @@ public class CorrectionRequestService {
         }
 
         // WeeklyAllowance 및 Salary 재계산
-        coordinatorService.handleWorkRecordUpdate(workRecord, oldWeeklyAllowance, newWeeklyAllowance, originalWorkDate);
+        coordinatorService.handleWorkRecordUpdate(
+                workRecord, oldWeeklyAllowance, newWeeklyAllowance, originalWorkDate, previousContribution);
     }
 
     private void approveDeleteRequest(CorrectionRequest correctionRequest) {
         WorkRecord workRecord = correctionRequest.getWorkRecord();
+        // 삭제 전 상태 저장 (급여에서 기여분을 차감할지 판단)
+        WorkRecordStatus previousStatus = workRecord.getStatus();
 
         // 소프트 삭제
         workRecord.markAsDeleted();
 
-        // WeeklyAllowance 및 Salary 재계산 처리
-        if (workRecord.getWeeklyAllowance() != null) {
-            coordinatorService.handleWorkRecordDeletion(
-                    workRecord.getWeeklyAllowance(),
-                    workRecord,
-                    workRecord.getStatus());
-        }
+        // WeeklyAllowance 및 Salary 재계산 처리 (WeeklyAllowance가 없어도 급여 차감은 수행)
+        coordinatorService.handleWorkRecordDeletion(
+                workRecord.getWeeklyAllowance(),
+                workRecord,
+                previousStatus);
     }
 
     /**
@@ -50,6 +50,12 @@ public interface HolidayRepository extends JpaRepository<Holiday, Long> {
     @Query("SELECT h.holidayDate FROM Holiday h WHERE h.year = :year")
     List<LocalDate> findAllHolidayDatesByYear(@Param("year") Integer year);
 
+    /**
+     * 특정 연도의 공공기관 휴일 날짜만 조회 (휴일 달력용, isPublicHoliday = true인 경우만)
+     */
+    @Query("SELECT h.holidayDate FROM Holiday h WHERE h.year = :year AND h.isPublicHoliday = true")
+    List<LocalDate> findPublicHolidayDatesByYear(@Param("year") Integer year);
+
     /**
      * 특정 연도의 공휴일 존재 여부 확인
      */
@@ -1,6 +1,7 @@
 package com.example.paycheck.domain.holiday.scheduler;
 
 import com.example.paycheck.domain.holiday.service.HolidayService;
+import com.example.paycheck.global.scheduling.SchedulerLock;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
@@ -19,6 +20,7 @@ import java.time.LocalDate;
 public class HolidayUpdateScheduler {
 
     private final HolidayService holidayService;
+    private final SchedulerLock schedulerLock;
 
     /**
      * 애플리케이션 시작 시 공휴일 정보 초기화
@@ -26,6 +28,10 @@ public class HolidayUpdateScheduler {
      */
     @EventListener(ApplicationReadyEvent.class)
     public void initializeHolidays() {
+        schedulerLock.runExclusively("holiday-initialize", this::doInitializeHolidays);
+    }
+
+    private void doInitializeHolidays() {
         log.info("공휴일 정보 초기화 시작");
 
         int currentYear = LocalDate.now().getYear();
@@ -59,6 +65,10 @@ public class HolidayUpdateScheduler {
      */
     @Scheduled(cron = "0 0 0 1 1 *") // 매년 1월 1일 00:00:00
     public void updateYearlyHolidays() {
+        schedulerLock.runExclusively("holiday-yearly-update", this::doUpdateYearlyHolidays);
+    }
+
+    private void doUpdateYearlyHolidays() {
         log.info("연간 공휴일 업데이트 스케줄러 실행");
 
         try {
@@ -76,6 +86,10 @@ public class HolidayUpdateScheduler {
      */
     @Scheduled(cron = "0 0 1 1 * *") // 매월 1일 01:00:00
     public void checkMonthlyHolidays() {
+        schedulerLock.runExclusively("holiday-monthly-check", this::doCheckMonthlyHolidays);
+    }
+
+    private void doCheckMonthlyHolidays() {
         log.info("월간 공휴일 체크 스케줄러 실행");
 
         int currentYear = LocalDate.now().getYear();
@@ -0,0 +1,105 @@
+package com.example.paycheck.domain.holiday.service;
+
+import com.example.paycheck.domain.holiday.repository.HolidayRepository;
+import com.example.paycheck.global.cache.InvalidationTracker;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 휴일 달력 (휴일근로 수당 적용 대상 판단용)
+ *
+ * 연도별로 휴일(토/일 + 공공기관 휴일)을 연중 일자(dayOfYear - 1) 비트로 표시한 BitSet을 보관한다.
+ * 연도를 처음 조회할 때 DB에서 불러오고, ttl-seconds 동안은 비트 확인만 한다.
+ * - 게시한 BitSet은 수정하지 않고, 연도별 맵은 통째로 교체하므로 조회는 잠금 없이 수행한다.
+ * - 공휴일을 변경하는 코드는 반드시 invalidate로 알려야 한다.
+ *   (트랜잭션 종료 후 재제거와 불러오는 중 무효화 처리는 InvalidationTracker)
+ * - 다른 인스턴스의 달력은 무효화되지 않으므로 TTL이 지나면 DB에서 다시 불러온다.
+ *   (다른 노드에서 변경한 공휴일은 최대 TTL만큼 늦게 반영)
+ */
+@Component
+public class HolidayCalendar {
+
+    private final HolidayRepository holidayRepository;
+    private final Clock clock;
+    private final long ttlMillis;
+
+    // 연도별 휴일 비트 (불변 맵, 변경 시 새 맵으로 교체)
+    private volatile Map<Integer, YearHolidays> holidaysByYear = Map.of();
+
+    private final InvalidationTracker<Integer> invalidationTracker = new InvalidationTracker<>(this::remove);
+
+    public HolidayCalendar(
+            HolidayRepository holidayRepository,
+            Clock clock,
+            @Value("${holiday.calendar.ttl-seconds:3600}") long ttlSeconds) {
+        this.holidayRepository = holidayRepository;
+        this.clock = clock;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    /**
+     * 휴일 여부 (토/일 또는 공공기관 휴일)
+     */
+    public boolean isHoliday(LocalDate date) {
+        YearHolidays cached = holidaysByYear.get(date.getYear());
+        BitSet holidays = cached != null && clock.millis() < cached.expiresAt()
+                ? cached.holidays()
+                : load(date.getYear());
+        return holidays.get(date.getDayOfYear() - 1);
+    }
+
+    /**
+     * 연도의 휴일 정보 무효화 (트랜잭션 안이면 트랜잭션 종료 후에도 한 번 더 제거)
+     */
+    public void invalidate(int year) {
+        invalidationTracker.invalidate(year);
+    }
+
+    private BitSet load(int year) {
+        long sequence = invalidationTracker.sequence();
+        long expiresAt = clock.millis() + ttlMillis;
+
+        BitSet holidays = new BitSet(Year.of(year).length());
+        LocalDate date = LocalDate.of(year, 1, 1);
+        while (date.getYear() == year) {
+            DayOfWeek dayOfWeek = date.getDayOfWeek();
+            if (dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY) {
+                holidays.set(date.getDayOfYear() - 1);
+            }
+            date = date.plusDays(1);
+        }
+        List<LocalDate> publicHolidays = holidayRepository.findPublicHolidayDatesByYear(year);
+        for (LocalDate publicHoliday : publicHolidays) {
+            holidays.set(publicHoliday.getDayOfYear() - 1);
+        }
+
+        synchronized (this) {
+            if (invalidationTracker.isUnchangedSince(sequence)) {
+                Map<Integer, YearHolidays> next = new HashMap<>(holidaysByYear);
+                next.put(year, new YearHolidays(holidays, expiresAt));
+                holidaysByYear = Map.copyOf(next);
+            }
+        }
+        return holidays;
+    }
+
+    private synchronized void remove(int year) {
+        if (holidaysByYear.containsKey(year)) {
+            Map<Integer, YearHolidays> next = new HashMap<>(holidaysByYear);
+            next.remove(year);
+            holidaysByYear = Map.copyOf(next);
+        }
+    }
+
+    private record YearHolidays(BitSet holidays, long expiresAt) {
+    }
+}
@@ -25,9 +25,10 @@ public class HolidayService {
 
     private final HolidayRepository holidayRepository;
     private final HolidayApiClient holidayApiClient;
+    private final HolidayCalendar holidayCalendar;
 
     /**
-     * 특정 날짜가 공공기관 휴일인지 확인 (캐싱)
+     * 특정 날짜가 공공기관 휴일인지 확인 (HolidayCalendar 비트 조회)
      * 휴일근로 수당 적용 대상 판단에 사용
      * - 주말(토/일)
      * - 공공기관 휴일 (isPublicHoliday = true)
@@ -35,15 +36,8 @@ public class HolidayService {
      * @param date 확인할 날짜
      * @return 공공기관 휴일 여부
      */
-    @Cacheable(value = "holiday-check", key = "#date")
     public boolean isPublicHoliday(LocalDate date) {
-        // 1. 토요일/일요일 체크
-        if (date.getDayOfWeek().getValue() >= 6) {
-            return true;
-        }
-
-        // 2. DB에서 공공기관 휴일 확인 (isPublicHoliday = true인 경우만)
-        return holidayRepository.existsByHolidayDateAndIsPublicHolidayTrue(date);
+        return holidayCalendar.isHoliday(date);
     }
 
     /**
@@ -97,7 +91,7 @@ public class HolidayService {
      * @return 저장된 공휴일 개수
      */
     @Transactional
-    @CacheEvict(value = {"holiday-check", "holidays-by-year"}, allEntries = true)
+    @CacheEvict(value = "holidays-by-year", allEntries = true)
     public int updateHolidays(int year) {
         log.info("{}년 공휴일 정보 업데이트 시작", year);
 
@@ -126,6 +120,9 @@ public class HolidayService {
             List<Holiday> savedHolidays = holidayRepository.saveAll(holidays);
             log.info("{}년 공휴일 {}개 저장 완료", year, savedHolidays.size());
 
+            // 4. 휴일 달력 무효화 (커밋 후 다음 조회 시 새 공휴일로 다시 불러옴)
+            holidayCalendar.invalidate(year);
+
             return savedHolidays.size();
 
         } catch (Exception e) {
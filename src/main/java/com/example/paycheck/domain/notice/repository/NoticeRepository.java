@@ -1,5 +1,6 @@
 package com.example.paycheck.domain.notice.repository;
 
+import com.example.paycheck.common.dto.ResourceVersion;
 import com.example.paycheck.domain.notice.entity.Notice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -25,6 +26,18 @@ public interface NoticeRepository extends JpaRepository<Notice, Long> {
             @Param("workplaceId") Long workplaceId,
             @Param("now") LocalDateTime now);
 
+    // 공지사항 목록 조회 범위의 버전 (조건부 GET용, 만료되어 목록에서 빠지는 공지는 개수로 감지)
+    @Query("SELECT new com.example.paycheck.common.dto.ResourceVersion(" +
+           "MAX(GREATEST(n.updatedAt, a.updatedAt)), COUNT(n)) " +
+           "FROM Notice n " +
+           "JOIN n.author a " +
+           "WHERE n.workplace.id = :workplaceId " +
+           "AND n.isDeleted = false " +
+           "AND n.expiresAt > :now")
+    ResourceVersion findActiveNoticesVersionByWorkplaceId(
+            @Param("workplaceId") Long workplaceId,
+            @Param("now") LocalDateTime now);
+
     @Query("SELECT n FROM Notice n " +
            "JOIN FETCH n.workplace " +
            "JOIN FETCH n.author " +
@@ -45,4 +58,10 @@ public interface NoticeRepository extends JpaRepository<Notice, Long> {
     @Modifying(clearAutomatically = true)
     @Query("DELETE FROM Notice n WHERE n.workplace.id IN :workplaceIds")
     void deleteAllByWorkplaceIdIn(@Param("workplaceIds") List<Long> workplaceIds);
+
+    /**
+     * 권한 검사용: 삭제되지 않은 공지의 사업장 ID
+     */
+    @Query("SELECT n.workplace.id FROM Notice n WHERE n.id = :noticeId AND n.isDeleted = false")
+    Optional<Long> findWorkplaceIdByIdAndIsDeletedFalse(@Param("noticeId") Long noticeId);
 }
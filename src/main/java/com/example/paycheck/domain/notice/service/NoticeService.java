@@ -1,5 +1,6 @@
 package com.example.paycheck.domain.notice.service;
 
+import com.example.paycheck.common.dto.ResourceVersion;
 import com.example.paycheck.common.exception.BadRequestException;
 import com.example.paycheck.common.exception.ErrorCode;
 import com.example.paycheck.common.exception.NotFoundException;
@@ -13,6 +14,7 @@ import com.example.paycheck.domain.notice.dto.NoticeDto;
 import com.example.paycheck.domain.notice.entity.Notice;
 import com.example.paycheck.domain.notice.repository.NoticeRepository;
 import com.example.paycheck.domain.user.entity.User;
+import com.example.paycheck.domain.user.repository.UserRepository;
 import com.example.paycheck.domain.workplace.entity.Workplace;
 import com.example.paycheck.domain.workplace.repository.WorkplaceRepository;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -39,6 +41,7 @@ public class NoticeService {
     private final NoticeRepository noticeRepository;
     private final WorkplaceRepository workplaceRepository;
     private final WorkerContractRepository contractRepository;
+    private final UserRepository userRepository;
     private final ApplicationEventPublisher eventPublisher;
     private final ObjectMapper objectMapper;
 
@@ -51,9 +54,10 @@ public class NoticeService {
         Workplace workplace = workplaceRepository.findById(workplaceId)
                 .orElseThrow(() -> new NotFoundException(ErrorCode.WORKPLACE_NOT_FOUND, "사업장을 찾을 수 없습니다."));
 
+        // 인증 주체에는 ID/유형만 있으므로 응답의 작성자 이름은 영속성 컨텍스트의 사용자에서 읽는다
         Notice notice = Notice.builder()
                 .workplace(workplace)
-                .author(author)
+                .author(userRepository.getReferenceById(author.getId()))
                 .category(request.getCategory())
                 .title(request.getTitle())
                 .content(request.getContent())
@@ -80,6 +84,13 @@ public class NoticeService {
                 .toList();
     }
 
+    /**
+     * 공지사항 목록의 버전 (조건부 GET용)
+     */
+    public ResourceVersion getNoticesVersion(Long workplaceId) {
+        return noticeRepository.findActiveNoticesVersionByWorkplaceId(workplaceId, LocalDateTime.now());
+    }
+
     public NoticeDto.Response getNotice(Long noticeId) {
         Notice notice = noticeRepository.findByIdAndIsDeletedFalse(noticeId)
                 .orElseThrow(() -> new NotFoundException(ErrorCode.NOTICE_NOT_FOUND, "공지사항을 찾을 수 없습니다."));
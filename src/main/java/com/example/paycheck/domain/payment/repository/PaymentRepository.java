@@ -1,5 +1,6 @@
 package com.example.paycheck.domain.payment.repository;
 
+import com.example.paycheck.common.dto.ResourceOwner;
 import com.example.paycheck.domain.payment.entity.Payment;
 import com.example.paycheck.domain.payment.enums.PaymentStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -106,4 +107,17 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
     @Modifying(clearAutomatically = true)
     @Query("DELETE FROM Payment p WHERE p.salary.id IN :salaryIds")
     void deleteAllBySalaryIdIn(@Param("salaryIds") List<Long> salaryIds);
+
+    /**
+     * 권한 검사용: 송금 대상 급여 계약의 고용주/근로자 사용자 ID
+     */
+    @Query("SELECT new com.example.paycheck.common.dto.ResourceOwner(e.user.id, w.user.id) " +
+           "FROM Payment p " +
+           "JOIN p.salary s " +
+           "JOIN s.contract c " +
+           "JOIN c.workplace wp " +
+           "JOIN wp.employer e " +
+           "JOIN c.worker w " +
+           "WHERE p.id = :paymentId")
+    Optional<ResourceOwner> findOwnerById(@Param("paymentId") Long paymentId);
 }
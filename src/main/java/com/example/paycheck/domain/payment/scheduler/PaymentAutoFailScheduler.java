@@ -1,6 +1,7 @@
 package com.example.paycheck.domain.payment.scheduler;
 
 import com.example.paycheck.domain.payment.service.PaymentService;
+import com.example.paycheck.global.scheduling.SchedulerLock;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -15,6 +16,7 @@ import org.springframework.stereotype.Component;
 public class PaymentAutoFailScheduler {
 
     private final PaymentService paymentService;
+    private final SchedulerLock schedulerLock;
 
     /**
      * 매일 자정에 지급 예정일이 지난 PENDING 상태의 결제를 자동으로 FAILED 처리
@@ -22,6 +24,10 @@ public class PaymentAutoFailScheduler {
      */
     @Scheduled(cron = "0 0 0 * * *")
     public void autoFailExpiredPayments() {
+        schedulerLock.runExclusively("payment-auto-fail", this::doAutoFailExpiredPayments);
+    }
+
+    private void doAutoFailExpiredPayments() {
         log.info("만료된 결제 건 자동 실패 처리 작업 시작");
 
         try {
@@ -0,0 +1,65 @@
+package com.example.paycheck.domain.salary.dto;
+
+import com.example.paycheck.domain.salary.entity.Salary;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public class PayrollRunDto {
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(name = "PayrollRunResponse")
+    public static class Response {
+        private Long workplaceId;
+        private Integer year;
+        private Integer month;
+        @Schema(description = "계산된 급여 수")
+        private Integer calculatedCount;
+        @Schema(description = "새로 생성된 급여 수")
+        private Integer createdCount;
+        @Schema(description = "기존 급여를 갱신한 수")
+        private Integer updatedCount;
+        @Schema(description = "급여 기간 내 근무 기록이 없어 건너뛴 계약 ID")
+        private List<Long> skippedContractIds;
+        private BigDecimal totalGrossPay;
+        private BigDecimal totalNetPay;
+        private List<Item> salaries;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(name = "PayrollRunItem")
+    public static class Item {
+        private Long salaryId;
+        private Long contractId;
+        private String workerName;
+        private BigDecimal totalWorkHours;
+        private BigDecimal totalGrossPay;
+        private BigDecimal totalDeduction;
+        private BigDecimal netPay;
+        private String paymentDueDate;
+
+        public static Item from(Salary salary, String workerName) {
+            return Item.builder()
+                    .salaryId(salary.getId())
+                    .contractId(salary.getContract().getId())
+                    .workerName(workerName)
+                    .totalWorkHours(salary.getTotalWorkHours())
+                    .totalGrossPay(salary.getTotalGrossPay())
+                    .totalDeduction(salary.getTotalDeduction())
+                    .netPay(salary.getNetPay())
+                    .paymentDueDate(salary.getPaymentDueDate() != null ? salary.getPaymentDueDate().toString() : null)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.paycheck.domain.salary.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+public class SalaryRecalculationDto {
+
+    /**
+     * 급여 재계산 상태
+     */
+    public enum Status {
+        IDLE,       // 대기 중인 재계산 없음
+        PENDING,    // 병합 대기 중 (짧은 시간 동안 같은 급여의 요청을 모아 1회만 계산)
+        RUNNING,    // 계산 중
+        COMPLETED,  // 마지막 재계산 완료
+        FAILED      // 마지막 재계산 실패 (다음 변경 시 다시 시도)
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(name = "SalaryRecalculationStatusResponse")
+    public static class StatusResponse {
+        private Long contractId;
+        private Integer year;
+        private Integer month;
+        private Status status;
+        @Schema(description = "마지막 재계산에 병합된 요청 수")
+        private Integer requestCount;
+        private LocalDateTime requestedAt;
+        private LocalDateTime completedAt;
+        @Schema(description = "마지막 재계산 실패 사유 (실패 시에만)")
+        private String errorMessage;
+    }
+}
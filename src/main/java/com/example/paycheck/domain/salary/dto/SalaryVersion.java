@@ -0,0 +1,14 @@
+package com.example.paycheck.domain.salary.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 계약별 급여 version (UPSERT 전 동시 갱신 여부 비교용)
+ */
+@Getter
+@AllArgsConstructor
+public class SalaryVersion {
+    private Long contractId;
+    private Long version;
+}
@@ -16,7 +16,8 @@ import java.time.LocalDate;
                 columnNames = {"contract_id", "salary_year", "salary_month"}
         ),
         indexes = {
-                @Index(name = "idx_contract_year_month", columnList = "contract_id,salary_year,salary_month")
+                @Index(name = "idx_contract_year_month", columnList = "contract_id,salary_year,salary_month"),
+                @Index(name = "idx_salary_incrementally_updated", columnList = "incrementally_updated")
         })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -59,6 +60,11 @@ public class Salary extends BaseEntity {
     @Column(name = "weekly_paid_leave_amount", precision = 12, scale = 2)
     private BigDecimal weeklyPaidLeaveAmount;
 
+    // overtimePay 중 주간 연장 가산분 (나머지는 근무 기록의 일일 연장 가산분 합계)
+    // 증분 반영 시 근무 기록 합계를 역산하는 데 사용하며, 도입 이전 행은 null
+    @Column(name = "weekly_overtime_pay", precision = 12, scale = 2)
+    private BigDecimal weeklyOvertimePay;
+
     @Column(name = "total_gross_pay", precision = 12, scale = 2)
     private BigDecimal totalGrossPay;
 
@@ -92,6 +98,11 @@ public class Salary extends BaseEntity {
     @Column(name = "payment_due_date")
     private LocalDate paymentDueDate;
 
+    // 근무 기록 변경분(delta)으로 증분 반영된 뒤 아직 전체 재계산으로 검증되지 않은 상태
+    @Builder.Default
+    @Column(name = "incrementally_updated", nullable = false)
+    private Boolean incrementallyUpdated = false;
+
     @OneToOne(mappedBy = "salary", fetch = FetchType.LAZY)
     private Payment payment;
 
@@ -102,6 +113,7 @@ public class Salary extends BaseEntity {
             BigDecimal nightPay,
             BigDecimal holidayPay,
             BigDecimal weeklyPaidLeaveAmount,
+            BigDecimal weeklyOvertimePay,
             BigDecimal totalGrossPay,
             BigDecimal fourMajorInsurance,
             BigDecimal nationalPension,
@@ -119,6 +131,7 @@ public class Salary extends BaseEntity {
         this.nightPay = nightPay;
         this.holidayPay = holidayPay;
         this.weeklyPaidLeaveAmount = weeklyPaidLeaveAmount;
+        this.weeklyOvertimePay = weeklyOvertimePay;
         this.totalGrossPay = totalGrossPay;
         this.fourMajorInsurance = fourMajorInsurance;
         this.nationalPension = nationalPension;
@@ -130,4 +143,18 @@ public class Salary extends BaseEntity {
         this.totalDeduction = totalDeduction;
         this.netPay = netPay;
     }
+
+    /**
+     * 근무 기록 변경분으로 증분 반영되었음을 표시 (정합성 검증 대상)
+     */
+    public void markIncrementallyUpdated() {
+        this.incrementallyUpdated = true;
+    }
+
+    /**
+     * 전체 재계산으로 검증 완료
+     */
+    public void markReconciled() {
+        this.incrementallyUpdated = false;
+    }
 }
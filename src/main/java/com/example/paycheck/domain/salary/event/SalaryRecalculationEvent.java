@@ -0,0 +1,17 @@
+package com.example.paycheck.domain.salary.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 급여 재계산 필요 이벤트 (근무 기록 변경 트랜잭션 커밋 후 재계산 큐에 등록)
+ */
+@Getter
+@AllArgsConstructor
+public class SalaryRecalculationEvent {
+    private final Long contractId;
+    private final Integer year;
+    private final Integer month;
+    // 급여가 아직 없을 때 새로 생성할지 여부 (COMPLETED 근무 기록 반영 시)
+    private final boolean createIfMissing;
+}
@@ -1,8 +1,12 @@
 package com.example.paycheck.domain.salary.repository;
 
+import com.example.paycheck.common.dto.ResourceOwner;
+import com.example.paycheck.common.dto.ResourceVersion;
+import com.example.paycheck.domain.salary.dto.SalaryVersion;
 import com.example.paycheck.domain.salary.entity.Salary;
 import jakarta.persistence.LockModeType;
 import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
@@ -15,7 +19,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface SalaryRepository extends JpaRepository<Salary, Long> {
+public interface SalaryRepository extends JpaRepository<Salary, Long>, SalaryUpsertRepository {
     @Query("SELECT DISTINCT s FROM Salary s " +
             "JOIN FETCH s.contract c " +
             "JOIN FETCH c.worker w " +
@@ -50,6 +54,42 @@ public interface SalaryRepository extends JpaRepository<Salary, Long> {
             @Param("year") Integer year,
             @Param("month") Integer month);
 
+    // 급여 목록 조회 범위의 버전 (조건부 GET용, 송금 상태와 근로자 이름 변경까지 반영)
+    @Query("SELECT new com.example.paycheck.common.dto.ResourceVersion(" +
+            "MAX(GREATEST(s.updatedAt, u.updatedAt, COALESCE(p.updatedAt, s.updatedAt))), COUNT(s)) " +
+            "FROM Salary s " +
+            "JOIN s.contract c " +
+            "JOIN c.worker w " +
+            "JOIN w.user u " +
+            "LEFT JOIN s.payment p " +
+            "WHERE w.id = :workerId")
+    ResourceVersion findListVersionByWorkerId(@Param("workerId") Long workerId);
+
+    @Query("SELECT new com.example.paycheck.common.dto.ResourceVersion(" +
+            "MAX(GREATEST(s.updatedAt, u.updatedAt, COALESCE(p.updatedAt, s.updatedAt))), COUNT(s)) " +
+            "FROM Salary s " +
+            "JOIN s.contract c " +
+            "JOIN c.worker w " +
+            "JOIN w.user u " +
+            "LEFT JOIN s.payment p " +
+            "WHERE c.workplace.id = :workplaceId")
+    ResourceVersion findListVersionByWorkplaceId(@Param("workplaceId") Long workplaceId);
+
+    @Query("SELECT new com.example.paycheck.common.dto.ResourceVersion(" +
+            "MAX(GREATEST(s.updatedAt, u.updatedAt, COALESCE(p.updatedAt, s.updatedAt))), COUNT(s)) " +
+            "FROM Salary s " +
+            "JOIN s.contract c " +
+            "JOIN c.worker w " +
+            "JOIN w.user u " +
+            "LEFT JOIN s.payment p " +
+            "WHERE c.workplace.id = :workplaceId " +
+            "AND s.year = :year " +
+            "AND s.month = :month")
+    ResourceVersion findListVersionByWorkplaceIdAndYearAndMonth(
+            @Param("workplaceId") Long workplaceId,
+            @Param("year") Integer year,
+            @Param("month") Integer month);
+
     @Query("SELECT s FROM Salary s " +
             "JOIN FETCH s.contract c " +
             "JOIN FETCH c.worker w " +
@@ -70,6 +110,33 @@ public interface SalaryRepository extends JpaRepository<Salary, Long> {
             @Param("month") Integer month
     );
 
+    /**
+     * 급여 UPSERT용: 합계 조회 전 급여 version 조회 (급여가 없으면 empty)
+     */
+    @Query("SELECT s.version FROM Salary s " +
+            "WHERE s.contract.id = :contractId " +
+            "AND s.year = :year " +
+            "AND s.month = :month")
+    Optional<Long> findVersionByContractIdAndYearAndMonth(
+            @Param("contractId") Long contractId,
+            @Param("year") Integer year,
+            @Param("month") Integer month
+    );
+
+    /**
+     * 사업장 급여 일괄 계산용: 합계 조회 전 계약별 급여 version 조회
+     */
+    @Query("SELECT new com.example.paycheck.domain.salary.dto.SalaryVersion(s.contract.id, s.version) " +
+            "FROM Salary s " +
+            "WHERE s.contract.workplace.id = :workplaceId " +
+            "AND s.year = :year " +
+            "AND s.month = :month")
+    List<SalaryVersion> findVersionsByWorkplaceIdAndYearAndMonth(
+            @Param("workplaceId") Long workplaceId,
+            @Param("year") Integer year,
+            @Param("month") Integer month
+    );
+
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @QueryHints({@QueryHint(name = "jakarta.persistence.lock.timeout", value = "3000")})
     @Query("SELECT s FROM Salary s " +
@@ -83,6 +150,38 @@ public interface SalaryRepository extends JpaRepository<Salary, Long> {
             @Param("month") Integer month
     );
 
+    /**
+     * 급여 정합성 검증용: ID로 급여를 잠금 조회
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints({@QueryHint(name = "jakarta.persistence.lock.timeout", value = "3000")})
+    @Query("SELECT s FROM Salary s " +
+            "JOIN FETCH s.contract c " +
+            "WHERE s.id = :salaryId")
+    Optional<Salary> findByIdForUpdate(@Param("salaryId") Long salaryId);
+
+    /**
+     * 급여 정합성 검증용: 증분 반영 후 아직 검증되지 않은 급여 ID 조회
+     */
+    @Query("SELECT s.id FROM Salary s " +
+            "WHERE s.incrementallyUpdated = true " +
+            "ORDER BY s.id ASC")
+    List<Long> findIncrementallyUpdatedIds(Pageable pageable);
+
+    /**
+     * 급여 정합성 검증용: 비동기 재계산을 등록한 급여를 검증 대상으로 표시
+     */
+    @Modifying
+    @Query("UPDATE Salary s SET s.incrementallyUpdated = true " +
+            "WHERE s.contract.id = :contractId " +
+            "AND s.year = :year " +
+            "AND s.month = :month")
+    int markIncrementallyUpdated(
+            @Param("contractId") Long contractId,
+            @Param("year") Integer year,
+            @Param("month") Integer month
+    );
+
     /**
      * 영구 삭제용: 여러 계약의 모든 Salary ID 조회 (Payment 선삭제용)
      */
@@ -95,4 +194,16 @@ public interface SalaryRepository extends JpaRepository<Salary, Long> {
     @Modifying(clearAutomatically = true)
     @Query("DELETE FROM Salary s WHERE s.contract.id IN :contractIds")
     void deleteAllByContractIdIn(@Param("contractIds") List<Long> contractIds);
+
+    /**
+     * 권한 검사용: 급여 계약의 고용주/근로자 사용자 ID
+     */
+    @Query("SELECT new com.example.paycheck.common.dto.ResourceOwner(e.user.id, w.user.id) " +
+            "FROM Salary s " +
+            "JOIN s.contract c " +
+            "JOIN c.workplace wp " +
+            "JOIN wp.employer e " +
+            "JOIN c.worker w " +
+            "WHERE s.id = :salaryId")
+    Optional<ResourceOwner> findOwnerById(@Param("salaryId") Long salaryId);
 }
@@ -0,0 +1,35 @@
+package com.example.paycheck.domain.salary.repository;
+
+import com.example.paycheck.domain.salary.entity.Salary;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 급여 UPSERT 전용 리포지토리 (SalaryRepository 확장)
+ */
+public interface SalaryUpsertRepository {
+
+    /**
+     * uk_salary_contract_year_month 기준으로 급여를 단일 문장으로 저장 (INSERT 또는 UPDATE)
+     * - 없으면 version 0으로 새로 생성한다.
+     * - 있고 version이 expectedVersion과 같으면 계산 칼럼만 갱신한다. (생성일, 지급 예정일 유지)
+     * - 있고 version이 다르면(합계 조회 이후 다른 트랜잭션이 갱신) 기존 값을 유지하고 정합성 검증 대상으로 표시한다.
+     * 어느 경우든 기존 행의 version은 1 증가한다.
+     *
+     * @param salary          계산 결과가 담긴 비영속 급여 엔티티 (계약, 연, 월 필수)
+     * @param expectedVersion 합계 조회 전에 읽은 급여 version, 급여가 없었으면 null
+     * @return DB 값과 동기화된 영속 상태의 급여 엔티티
+     */
+    Salary upsert(Salary salary, Long expectedVersion);
+
+    /**
+     * 같은 연/월의 여러 급여를 JDBC 배치로 저장 (행마다 upsert와 같은 규칙)
+     * 영속성 컨텍스트 flush와 저장 후 조회는 건별이 아니라 묶음당 한 번만 수행한다.
+     *
+     * @param salaries         계산 결과가 담긴 비영속 급여 엔티티 (계약, 연, 월 필수, 연/월은 모두 같아야 함)
+     * @param expectedVersions 계약 ID별 합계 조회 전에 읽은 급여 version (급여가 없던 계약은 키 없음)
+     * @return 계약 ID별 DB 값과 동기화된 영속 상태의 급여 (salaries 순서)
+     */
+    Map<Long, Salary> upsertAll(List<Salary> salaries, Map<Long, Long> expectedVersions);
+}
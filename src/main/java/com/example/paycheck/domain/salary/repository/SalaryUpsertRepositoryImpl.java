@@ -0,0 +1,265 @@
+package com.example.paycheck.domain.salary.repository;
+
+import com.example.paycheck.domain.salary.entity.Salary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 급여 UPSERT 구현
+ * - MySQL: INSERT ... AS new ON DUPLICATE KEY UPDATE
+ * - H2(테스트): MERGE INTO ... USING ... WHEN MATCHED / WHEN NOT MATCHED
+ *
+ * 기존 행 존재 여부 확인, FOR UPDATE 잠금, REQUIRES_NEW INSERT와 충돌 시 재조회를 하나의 문장으로 대체한다.
+ *
+ * 합계는 잠금 없이 조회하므로, 조회 이후 다른 트랜잭션(증분 반영 등)이 같은 급여를 갱신했으면
+ * 이 계산 값은 그 변경을 포함하지 않는다. 그래서 합계 조회 전에 읽어 둔 version이 현재 행과 같을 때만
+ * 계산 칼럼을 덮어쓰고, 다르면 기존 값을 유지한 채 정합성 검증 대상(incrementally_updated)으로 표시한다.
+ * (정합성 검증 배치가 새 트랜잭션에서 행을 잠근 뒤 다시 합산하여 보정, 같은 트랜잭션에서 다시 합산하면
+ * REPEATABLE READ 스냅샷 때문에 같은 값을 읽으므로 재시도는 검증 배치에 맡긴다)
+ *
+ * 일괄 저장(upsertAll)은 같은 문장을 위치 파라미터로 바꿔 현재 트랜잭션의 커넥션에서 PreparedStatement 배치로 실행한다.
+ */
+@Slf4j
+public class SalaryUpsertRepositoryImpl implements SalaryUpsertRepository {
+
+    // 합계 조회 전 급여가 없었을 때의 기대 version (실제 version은 0 이상)
+    private static final long ABSENT_VERSION = -1L;
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final Pattern NAMED_PARAMETER = Pattern.compile(":(\\w+)");
+
+    // 재계산 시 갱신되는 칼럼 (파라미터 이름 = 칼럼 이름)
+    private static final List<String> CALCULATED_COLUMNS = List.of(
+            "total_work_hours", "base_pay", "overtime_pay", "night_pay", "holiday_pay",
+            "weekly_paid_leave_amount", "weekly_overtime_pay", "total_gross_pay",
+            "four_major_insurance", "national_pension", "health_insurance", "long_term_care",
+            "employment_insurance", "income_tax", "local_income_tax", "total_deduction", "net_pay",
+            "incrementally_updated");
+
+    private static final String INSERT_COLUMNS = "contract_id, salary_year, salary_month, "
+            + String.join(", ", CALCULATED_COLUMNS)
+            + ", payment_due_date, version, created_at, updated_at";
+
+    private static final String INSERT_VALUES = ":contract_id, :salary_year, :salary_month, "
+            + CALCULATED_COLUMNS.stream().map(column -> ":" + column).collect(Collectors.joining(", "))
+            + ", :payment_due_date, 0, :now, :now";
+
+    // VALUES(col) 참조는 MySQL 8.0.20부터 deprecated 이므로 행 별칭(AS new)으로 새 값을 참조한다. (8.0.19+)
+    // version이 다르면 기존 값을 유지하고 검증 대상으로 표시 (version은 비교 후 마지막에 증가)
+    private static final String MYSQL_UPSERT_SQL =
+            "INSERT INTO salary (" + INSERT_COLUMNS + ") VALUES (" + INSERT_VALUES + ") AS new " +
+            "ON DUPLICATE KEY UPDATE " +
+            CALCULATED_COLUMNS.stream()
+                    .filter(column -> !column.equals("incrementally_updated"))
+                    .map(column -> column + " = IF(salary.version = :expected_version, new." + column + ", salary." + column + ")")
+                    .collect(Collectors.joining(", ")) +
+            ", incrementally_updated = IF(salary.version = :expected_version, new.incrementally_updated, TRUE)" +
+            ", updated_at = new.updated_at, version = salary.version + 1";
+
+    private static final String H2_UPSERT_SQL =
+            "MERGE INTO salary t " +
+            "USING (SELECT CAST(:contract_id AS BIGINT) AS contract_id, " +
+            "CAST(:salary_year AS INTEGER) AS salary_year, " +
+            "CAST(:salary_month AS INTEGER) AS salary_month) s " +
+            "ON (t.contract_id = s.contract_id AND t.salary_year = s.salary_year AND t.salary_month = s.salary_month) " +
+            "WHEN MATCHED AND t.version = :expected_version THEN UPDATE SET " +
+            CALCULATED_COLUMNS.stream().map(column -> column + " = :" + column).collect(Collectors.joining(", ")) +
+            ", version = t.version + 1, updated_at = :now " +
+            "WHEN MATCHED THEN UPDATE SET incrementally_updated = TRUE, version = t.version + 1, updated_at = :now " +
+            "WHEN NOT MATCHED THEN INSERT (" + INSERT_COLUMNS + ") VALUES (" + INSERT_VALUES + ")";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile String upsertSql;
+
+    private volatile PositionalSql batchUpsertSql;
+
+    @Override
+    public Salary upsert(Salary salary, Long expectedVersion) {
+        // 영속성 컨텍스트의 변경분을 먼저 반영하여 네이티브 문장과 순서를 맞춘다.
+        entityManager.flush();
+
+        Long contractId = salary.getContract().getId();
+        Query query = entityManager.createNativeQuery(upsertSql());
+        parameters(salary, expectedVersion, LocalDateTime.now()).forEach(query::setParameter);
+        query.executeUpdate();
+
+        // 이미 영속성 컨텍스트에 있는 급여는 조회 결과로 덮어쓰이지 않으므로,
+        // DB의 version을 함께 조회하여 다를 때만 refresh 한다. (@Version 불일치로 인한 이후 갱신 실패 방지)
+        // version이 달라 기존 값을 유지한 경우에도 이 문장이 행을 갱신하므로 조회 결과는 최신 행 기준이다.
+        Object[] row = entityManager.createQuery(
+                        "SELECT s, s.version FROM Salary s " +
+                        "WHERE s.contract.id = :contractId " +
+                        "AND s.year = :year " +
+                        "AND s.month = :month", Object[].class)
+                .setParameter("contractId", contractId)
+                .setParameter("year", salary.getYear())
+                .setParameter("month", salary.getMonth())
+                .getSingleResult();
+
+        Salary saved = (Salary) row[0];
+        if (!Objects.equals(saved.getVersion(), row[1])) {
+            entityManager.refresh(saved);
+        }
+
+        warnIfNotApplied(saved, expectedVersion);
+        return saved;
+    }
+
+    @Override
+    public Map<Long, Salary> upsertAll(List<Salary> salaries, Map<Long, Long> expectedVersions) {
+        if (salaries.isEmpty()) {
+            return Map.of();
+        }
+
+        // 영속성 컨텍스트의 변경분은 묶음 전체에 대해 한 번만 반영
+        entityManager.flush();
+
+        PositionalSql sql = batchUpsertSql();
+        LocalDateTime now = LocalDateTime.now();
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql.sql())) {
+                int pending = 0;
+                for (Salary salary : salaries) {
+                    Map<String, Object> parameters = parameters(
+                            salary, expectedVersions.get(salary.getContract().getId()), now);
+                    for (int i = 0; i < sql.parameterNames().size(); i++) {
+                        statement.setObject(i + 1, parameters.get(sql.parameterNames().get(i)));
+                    }
+                    statement.addBatch();
+                    if (++pending == BATCH_SIZE) {
+                        statement.executeBatch();
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    statement.executeBatch();
+                }
+            }
+        });
+
+        // 묶음 전체를 한 번에 다시 조회 (이미 영속 상태인 급여는 version이 다를 때만 refresh)
+        Salary first = salaries.get(0);
+        List<Long> contractIds = salaries.stream().map(salary -> salary.getContract().getId()).toList();
+        Map<Long, Salary> savedByContract = new HashMap<>();
+        for (Object[] row : entityManager.createQuery(
+                        "SELECT s, s.version FROM Salary s " +
+                        "WHERE s.contract.id IN :contractIds " +
+                        "AND s.year = :year " +
+                        "AND s.month = :month", Object[].class)
+                .setParameter("contractIds", contractIds)
+                .setParameter("year", first.getYear())
+                .setParameter("month", first.getMonth())
+                .getResultList()) {
+            Salary saved = (Salary) row[0];
+            if (!Objects.equals(saved.getVersion(), row[1])) {
+                entityManager.refresh(saved);
+            }
+            warnIfNotApplied(saved, expectedVersions.get(saved.getContract().getId()));
+            savedByContract.put(saved.getContract().getId(), saved);
+        }
+
+        Map<Long, Salary> ordered = new LinkedHashMap<>();
+        for (Long contractId : contractIds) {
+            ordered.put(contractId, savedByContract.get(contractId));
+        }
+        return ordered;
+    }
+
+    private void warnIfNotApplied(Salary saved, Long expectedVersion) {
+        long appliedVersion = expectedVersion != null ? expectedVersion + 1 : 0L;
+        if (saved.getVersion() != appliedVersion) {
+            log.warn("급여 UPSERT version 불일치 - 동시 갱신 값 유지 후 정합성 검증 대상으로 표시: "
+                            + "contractId={}, year={}, month={}, expectedVersion={}, version={}",
+                    saved.getContract().getId(), saved.getYear(), saved.getMonth(), expectedVersion, saved.getVersion());
+        }
+    }
+
+    /**
+     * UPSERT 문장의 파라미터 (이름 = 문장의 :이름)
+     */
+    private static Map<String, Object> parameters(Salary salary, Long expectedVersion, LocalDateTime now) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("contract_id", salary.getContract().getId());
+        parameters.put("salary_year", salary.getYear());
+        parameters.put("salary_month", salary.getMonth());
+        parameters.put("total_work_hours", salary.getTotalWorkHours());
+        parameters.put("base_pay", salary.getBasePay());
+        parameters.put("overtime_pay", salary.getOvertimePay());
+        parameters.put("night_pay", salary.getNightPay());
+        parameters.put("holiday_pay", salary.getHolidayPay());
+        parameters.put("weekly_paid_leave_amount", salary.getWeeklyPaidLeaveAmount());
+        parameters.put("weekly_overtime_pay", salary.getWeeklyOvertimePay());
+        parameters.put("total_gross_pay", salary.getTotalGrossPay());
+        parameters.put("four_major_insurance", salary.getFourMajorInsurance());
+        parameters.put("national_pension", salary.getNationalPension());
+        parameters.put("health_insurance", salary.getHealthInsurance());
+        parameters.put("long_term_care", salary.getLongTermCare());
+        parameters.put("employment_insurance", salary.getEmploymentInsurance());
+        parameters.put("income_tax", salary.getIncomeTax());
+        parameters.put("local_income_tax", salary.getLocalIncomeTax());
+        parameters.put("total_deduction", salary.getTotalDeduction());
+        parameters.put("net_pay", salary.getNetPay());
+        parameters.put("incrementally_updated", salary.getIncrementallyUpdated());
+        parameters.put("payment_due_date", salary.getPaymentDueDate());
+        parameters.put("expected_version", expectedVersion != null ? expectedVersion : ABSENT_VERSION);
+        parameters.put("now", now);
+        return parameters;
+    }
+
+    private PositionalSql batchUpsertSql() {
+        if (batchUpsertSql == null) {
+            batchUpsertSql = PositionalSql.of(upsertSql());
+        }
+        return batchUpsertSql;
+    }
+
+    private String upsertSql() {
+        if (upsertSql == null) {
+            Dialect dialect = entityManager.getEntityManagerFactory()
+                    .unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices()
+                    .getDialect();
+            upsertSql = dialect instanceof H2Dialect ? H2_UPSERT_SQL : MYSQL_UPSERT_SQL;
+        }
+        return upsertSql;
+    }
+
+    /**
+     * 이름 파라미터(:name)를 JDBC 위치 파라미터(?)로 바꾼 문장과 위치별 파라미터 이름
+     */
+    private record PositionalSql(String sql, List<String> parameterNames) {
+
+        static PositionalSql of(String namedSql) {
+            List<String> names = new ArrayList<>();
+            Matcher matcher = NAMED_PARAMETER.matcher(namedSql);
+            StringBuilder sql = new StringBuilder();
+            while (matcher.find()) {
+                names.add(matcher.group(1));
+                matcher.appendReplacement(sql, "?");
+            }
+            matcher.appendTail(sql);
+            return new PositionalSql(sql.toString(), List.copyOf(names));
+        }
+    }
+}
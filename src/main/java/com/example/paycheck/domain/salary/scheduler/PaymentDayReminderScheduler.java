@@ -1,6 +1,7 @@
 package com.example.paycheck.domain.salary.scheduler;
 
 import com.example.paycheck.domain.salary.service.PaymentDayReminderService;
+import com.example.paycheck.global.scheduling.SchedulerLock;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -17,12 +18,17 @@ import org.springframework.stereotype.Component;
 public class PaymentDayReminderScheduler {
 
     private final PaymentDayReminderService paymentDayReminderService;
+    private final SchedulerLock schedulerLock;
 
     /**
      * 매일 오전 9시에 실행합니다.
      */
     @Scheduled(cron = "0 0 9 * * *")
     public void sendPaymentDayReminders() {
+        schedulerLock.runExclusively("payment-day-reminder", this::doSendPaymentDayReminders);
+    }
+
+    private void doSendPaymentDayReminders() {
         log.info("급여 지급일 전날 알림 스케줄러 시작");
         try {
             paymentDayReminderService.sendPaymentDayReminders();
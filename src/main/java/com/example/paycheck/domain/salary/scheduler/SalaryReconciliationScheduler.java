@@ -0,0 +1,70 @@
+package com.example.paycheck.domain.salary.scheduler;
+
+import com.example.paycheck.domain.salary.service.SalaryService;
+import com.example.paycheck.global.scheduling.SchedulerLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 증분 반영된 급여의 정합성을 검증하는 스케줄러.
+ *
+ * 근무 기록 변경분으로 갱신된 급여를 전체 재계산 값과 비교하여, 차이가 있으면 경고 로그를 남기고 보정합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SalaryReconciliationScheduler {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final SalaryService salaryService;
+    private final SchedulerLock schedulerLock;
+
+    /**
+     * 매시간 30분에 실행합니다.
+     * 급여별로 개별 트랜잭션에서 검증하며, 한 번에 최대 BATCH_SIZE건을 처리합니다.
+     */
+    @Scheduled(cron = "0 30 * * * *")
+    public void reconcileIncrementalSalaries() {
+        schedulerLock.runExclusively("salary-reconciliation", this::doReconcileIncrementalSalaries);
+    }
+
+    private void doReconcileIncrementalSalaries() {
+        log.info("===== 급여 증분 반영 정합성 검증 스케줄러 시작 =====");
+
+        try {
+            List<Long> salaryIds = salaryService.findIncrementallyUpdatedSalaryIds(BATCH_SIZE);
+
+            if (salaryIds.isEmpty()) {
+                log.info("정합성 검증 대상 급여가 없습니다.");
+                return;
+            }
+
+            int driftCount = 0;
+            int failCount = 0;
+
+            for (Long salaryId : salaryIds) {
+                try {
+                    if (salaryService.reconcileSalary(salaryId)) {
+                        driftCount++;
+                    }
+                } catch (Exception e) {
+                    log.error("급여 정합성 검증 실패: Salary ID={}, Error={}", salaryId, e.getMessage(), e);
+                    failCount++;
+                }
+            }
+
+            if (driftCount > 0) {
+                log.warn("급여 증분 반영 불일치 보정: {}건", driftCount);
+            }
+            log.info("===== 급여 증분 반영 정합성 검증 완료 ===== (대상: {}, 불일치 보정: {}, 실패: {})",
+                    salaryIds.size(), driftCount, failCount);
+        } catch (Exception e) {
+            log.error("급여 정합성 검증 스케줄러 실행 중 오류 발생", e);
+        }
+    }
+}
@@ -5,7 +5,8 @@ import com.example.paycheck.domain.contract.repository.WorkerContractRepository;
 import com.example.paycheck.domain.notification.enums.NotificationActionType;
 import com.example.paycheck.domain.notification.enums.NotificationType;
 import com.example.paycheck.domain.notification.event.NotificationEvent;
-import com.example.paycheck.domain.workrecord.entity.WorkRecord;
+import com.example.paycheck.domain.salary.util.PayPeriod;
+import com.example.paycheck.domain.workrecord.dto.WorkRecordPaySummary;
 import com.example.paycheck.domain.workrecord.enums.WorkRecordStatus;
 import com.example.paycheck.domain.workrecord.repository.WorkRecordRepository;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -19,9 +20,11 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
 @Slf4j
 @Service
@@ -63,12 +66,14 @@ public class PaymentDayReminderService {
 
         log.info("알림 대상 계약 수: {}건", contracts.size());
 
+        Map<Long, WorkRecordPaySummary> summaries = loadCompletedWorkSummaries(contracts, tomorrow);
+
         int successCount = 0;
         int failCount = 0;
 
         for (WorkerContract contract : contracts) {
             try {
-                sendReminderForContract(contract, tomorrow);
+                sendReminderForContract(contract, tomorrow, summaries.get(contract.getId()));
                 successCount++;
             } catch (Exception e) {
                 log.error("계약 ID={} 알림 발송 실패: {}", contract.getId(), e.getMessage(), e);
@@ -80,27 +85,48 @@ public class PaymentDayReminderService {
     }
 
     /**
-     * 특정 계약에 대해 근무 기록 요약을 계산하고 알림 이벤트를 발행합니다.
+     * 대상 계약들의 급여 기간 내 COMPLETED 근무 기록을 DB에서 계약별로 집계합니다.
+     * 급여 기간은 paymentDay로 결정되므로 같은 paymentDay의 계약은 한 번의 집계 쿼리로 조회합니다.
+     * (월말에는 paymentDay 28~31 계약이 함께 대상이 되어 기간별로 최대 4회)
      */
-    private void sendReminderForContract(WorkerContract contract, LocalDate tomorrow) {
-        int paymentDay = contract.getPaymentDay();
-        int year = tomorrow.getYear();
-        int month = tomorrow.getMonthValue();
+    private Map<Long, WorkRecordPaySummary> loadCompletedWorkSummaries(List<WorkerContract> contracts, LocalDate tomorrow) {
+        PayPeriod period = PayPeriod.of(tomorrow.getYear(), tomorrow.getMonthValue());
+
+        Map<Integer, List<Long>> contractIdsByPaymentDay = new TreeMap<>();
+        for (WorkerContract contract : contracts) {
+            contractIdsByPaymentDay.computeIfAbsent(contract.getPaymentDay(), day -> new ArrayList<>())
+                    .add(contract.getId());
+        }
+
+        Map<Long, WorkRecordPaySummary> summaries = new HashMap<>();
+        for (Map.Entry<Integer, List<Long>> entry : contractIdsByPaymentDay.entrySet()) {
+            int paymentDay = entry.getKey();
 
-        // SalaryService와 동일한 급여 기간 계산 로직
-        LocalDate periodStart = adjustDayOfMonth(
-                LocalDate.of(year, month, 1).minusMonths(1), paymentDay);
-        LocalDate periodEnd = adjustDayOfMonth(
-                LocalDate.of(year, month, 1), paymentDay).minusDays(1);
+            // SalaryService와 동일한 급여 기간
+            LocalDate periodStart = period.startDate(paymentDay);
+            LocalDate periodEnd = period.endDate(paymentDay);
 
-        // COMPLETED 근무 기록만 집계 (SCHEDULED/DELETED 제외)
-        List<WorkRecord> records = workRecordRepository.findByContractAndDateRangeAndStatus(
-                contract.getId(), periodStart, periodEnd, List.of(WorkRecordStatus.COMPLETED));
+            // COMPLETED 근무 기록만 집계 (SCHEDULED/DELETED 제외)
+            for (WorkRecordPaySummary summary : workRecordRepository.sumPayByContractIdsAndDateRangeAndStatus(
+                    entry.getValue(), periodStart, periodEnd, List.of(WorkRecordStatus.COMPLETED))) {
+                summaries.put(summary.getContractId(), summary);
+            }
+        }
+        return summaries;
+    }
 
-        int workDays = records.size();
-        BigDecimal totalHours = records.stream()
-                .map(WorkRecord::getTotalHours)
-                .reduce(BigDecimal.ZERO, BigDecimal::add)
+    /**
+     * 특정 계약에 대해 근무 기록 요약으로 알림 이벤트를 발행합니다.
+     * 기간 내 COMPLETED 근무 기록이 없으면 summary는 null이며 0일/0시간으로 안내합니다.
+     */
+    private void sendReminderForContract(WorkerContract contract, LocalDate tomorrow, WorkRecordPaySummary summary) {
+        int year = tomorrow.getYear();
+        int month = tomorrow.getMonthValue();
+
+        int workDays = summary != null ? summary.getWorkDays().intValue() : 0;
+        BigDecimal totalHours = (summary != null && summary.getTotalHours() != null
+                ? summary.getTotalHours()
+                : BigDecimal.ZERO)
                 .setScale(1, RoundingMode.HALF_UP);
 
         String title = String.format(
@@ -140,13 +166,4 @@ public class PaymentDayReminderService {
             return null;
         }
     }
-
-    /**
-     * SalaryService.adjustDayOfMonth()와 동일한 로직.
-     * paymentDay가 해당 월의 일수를 초과하는 경우 월말 날짜로 조정합니다.
-     */
-    private LocalDate adjustDayOfMonth(LocalDate baseDate, int desiredDay) {
-        int lastDay = baseDate.lengthOfMonth();
-        return baseDate.withDayOfMonth(Math.max(1, Math.min(desiredDay, lastDay)));
-    }
 }
@@ -0,0 +1,172 @@
+package com.example.paycheck.domain.salary.service;
+
+import com.example.paycheck.domain.allowance.entity.WeeklyAllowance;
+import com.example.paycheck.domain.allowance.repository.WeeklyAllowanceRepository;
+import com.example.paycheck.domain.contract.entity.WorkerContract;
+import com.example.paycheck.domain.salary.dto.PayrollRunDto;
+import com.example.paycheck.domain.salary.dto.SalaryVersion;
+import com.example.paycheck.domain.salary.entity.Salary;
+import com.example.paycheck.domain.salary.repository.SalaryRepository;
+import com.example.paycheck.domain.salary.util.MonthlySalaryCalculator;
+import com.example.paycheck.domain.salary.util.PayPeriod;
+import com.example.paycheck.domain.salary.util.WorkRecordPayTotals;
+import com.example.paycheck.domain.workrecord.dto.WorkRecordPaySummary;
+import com.example.paycheck.domain.workrecord.enums.WorkRecordStatus;
+import com.example.paycheck.domain.workrecord.repository.WorkRecordRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 사업장 월 급여 일괄 계산 서비스
+ *
+ * 계약별 calculateSalaryByWorkRecords를 반복 호출하는 대신, 사업장 전체를 적은 수의 쿼리로 계산한다.
+ * - 계약: 활성 계약 1회 조회 (+ 기간 내 근무 기록이 있는 비활성 계약 1회)
+ * - 근무 기록: 엔티티를 로딩하지 않고 월급날(= 급여 기간)별로 계약 단위 합계만 DB에서 집계
+ * - 주간 수당: 전월~당월 생성분 1회 조회 후 계약/연월별로 분류
+ * - 급여: UPSERT_CHUNK_SIZE개씩 묶어 UPSERT JDBC 배치로 저장 (계약 ID 순, 묶음당 flush/재조회 1회, 잠금 조회/충돌 재시도 없음)
+ * 계산 규칙은 MonthlySalaryCalculator를 공유하므로 단건 계산과 결과가 같다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PayrollRunService {
+
+    // 급여 UPSERT 묶음 크기 (묶음마다 JDBC 배치 1회 + 저장 결과 재조회 1회)
+    private static final int UPSERT_CHUNK_SIZE = 500;
+
+    private final WorkRecordRepository workRecordRepository;
+    private final WeeklyAllowanceRepository weeklyAllowanceRepository;
+    private final SalaryRepository salaryRepository;
+
+    /**
+     * 사업장 월 급여 일괄 계산
+     * 급여 기간 내 근무 기록이 없는 계약은 건너뛴다 (단건 계산에서 WORK_RECORD_NOT_FOUND인 경우와 동일).
+     */
+    @Transactional
+    public PayrollRunDto.Response runMonthlyPayroll(Long workplaceId, Integer year, Integer month) {
+        // 1. 활성 계약 조회 (근로자 이름까지 함께 조회)
+        Map<Long, WorkerContract> contracts = new LinkedHashMap<>();
+        for (WorkerContract contract : workRecordRepository.findContractsByWorkplaceId(workplaceId)) {
+            contracts.put(contract.getId(), contract);
+        }
+
+        // 합계 조회 전의 계약별 급여 version (UPSERT 시 그 사이 다른 트랜잭션의 갱신을 덮어쓰지 않도록 비교)
+        Map<Long, Long> expectedVersions = new HashMap<>();
+        for (SalaryVersion salaryVersion : salaryRepository.findVersionsByWorkplaceIdAndYearAndMonth(workplaceId, year, month)) {
+            expectedVersions.put(salaryVersion.getContractId(), salaryVersion.getVersion());
+        }
+
+        // 2. 월급날별 급여 기간의 근무 기록 합계 집계 (월급날 종류 수만큼 조회)
+        PayPeriod period = PayPeriod.of(year, month);
+        Map<Long, WorkRecordPaySummary> summaries = new TreeMap<>();
+        for (Integer paymentDay : workRecordRepository.findPaymentDaysByWorkplaceId(workplaceId)) {
+            for (WorkRecordPaySummary summary : workRecordRepository.sumPayByWorkplaceAndPaymentDayAndDateRange(
+                    workplaceId, paymentDay, period.startDate(paymentDay), period.endDate(paymentDay),
+                    WorkRecordStatus.DELETED)) {
+                summaries.put(summary.getContractId(), summary);
+            }
+        }
+
+        // 기간 내 근무 기록이 있는 비활성 계약도 계산 대상에 포함
+        List<Long> inactiveContractIds = summaries.keySet().stream()
+                .filter(contractId -> !contracts.containsKey(contractId))
+                .toList();
+        if (!inactiveContractIds.isEmpty()) {
+            for (WorkerContract contract : workRecordRepository.findContractsWithWorkerUserByIdIn(inactiveContractIds)) {
+                contracts.put(contract.getId(), contract);
+            }
+        }
+
+        // 3. 당월/전월 생성 WeeklyAllowance 일괄 조회 후 계약/연월별 분류 (createdAt 기준, 단건 계산과 동일)
+        LocalDate currentMonthStart = LocalDate.of(year, month, 1);
+        LocalDate previousMonthStart = currentMonthStart.minusMonths(1);
+        List<WeeklyAllowance> allowances = weeklyAllowanceRepository.findByWorkplaceIdAndCreatedAtRange(
+                workplaceId, previousMonthStart.atStartOfDay(), currentMonthStart.plusMonths(1).atStartOfDay());
+
+        Map<Long, List<WeeklyAllowance>> currentAllowancesByContract = new HashMap<>();
+        Map<Long, List<WeeklyAllowance>> previousAllowancesByContract = new HashMap<>();
+        for (WeeklyAllowance allowance : allowances) {
+            Map<Long, List<WeeklyAllowance>> target = allowance.getCreatedAt().toLocalDate().isBefore(currentMonthStart)
+                    ? previousAllowancesByContract
+                    : currentAllowancesByContract;
+            target.computeIfAbsent(allowance.getContract().getId(), id -> new ArrayList<>()).add(allowance);
+        }
+
+        // 4. 계약별 계산 후 UPSERT (계약 ID 순으로 저장하여 단건 계산과의 교착 가능성을 줄임)
+        List<Long> skippedContractIds = contracts.keySet().stream()
+                .filter(contractId -> !summaries.containsKey(contractId))
+                .toList();
+        Map<Long, Salary> salaries = new LinkedHashMap<>();
+        List<Salary> chunk = new ArrayList<>(Math.min(summaries.size(), UPSERT_CHUNK_SIZE));
+        for (WorkRecordPaySummary summary : summaries.values()) {
+            WorkerContract contract = contracts.get(summary.getContractId());
+            MonthlySalaryCalculator.Result result = MonthlySalaryCalculator.calculate(
+                    contract, year, month, WorkRecordPayTotals.from(summary),
+                    currentAllowancesByContract.getOrDefault(contract.getId(), List.of()),
+                    previousAllowancesByContract.getOrDefault(contract.getId(), List.of()));
+
+            chunk.add(result.toSalary(contract, year, month));
+            if (chunk.size() == UPSERT_CHUNK_SIZE) {
+                salaries.putAll(salaryRepository.upsertAll(chunk, expectedVersions));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            salaries.putAll(salaryRepository.upsertAll(chunk, expectedVersions));
+        }
+
+        // UPSERT는 신규 행을 version 0으로 만들고 기존 행은 version을 증가시킨다.
+        int createdCount = 0;
+        for (Salary salary : salaries.values()) {
+            if (salary.getVersion() == 0) {
+                createdCount++;
+            }
+        }
+
+        return toResponse(workplaceId, year, month, contracts, salaries, skippedContractIds,
+                createdCount, salaries.size() - createdCount);
+    }
+
+    private PayrollRunDto.Response toResponse(Long workplaceId, Integer year, Integer month,
+                                              Map<Long, WorkerContract> contracts, Map<Long, Salary> salaries,
+                                              List<Long> skippedContractIds, int createdCount, int updatedCount) {
+        BigDecimal totalGrossPay = BigDecimal.ZERO;
+        BigDecimal totalNetPay = BigDecimal.ZERO;
+        List<PayrollRunDto.Item> items = new ArrayList<>(salaries.size());
+        for (Map.Entry<Long, Salary> entry : salaries.entrySet()) {
+            Salary salary = entry.getValue();
+            totalGrossPay = totalGrossPay.add(salary.getTotalGrossPay());
+            totalNetPay = totalNetPay.add(salary.getNetPay());
+            WorkerContract contract = contracts.get(entry.getKey());
+            items.add(PayrollRunDto.Item.from(salary, contract.getWorker().getUser().getName()));
+        }
+
+        log.info("사업장 급여 일괄 계산 완료: workplaceId={}, year={}, month={}, created={}, updated={}, skipped={}",
+                workplaceId, year, month, createdCount, updatedCount, skippedContractIds.size());
+
+        return PayrollRunDto.Response.builder()
+                .workplaceId(workplaceId)
+                .year(year)
+                .month(month)
+                .calculatedCount(salaries.size())
+                .createdCount(createdCount)
+                .updatedCount(updatedCount)
+                .skippedContractIds(skippedContractIds)
+                .totalGrossPay(totalGrossPay)
+                .totalNetPay(totalNetPay)
+                .salaries(items)
+                .build();
+    }
+}
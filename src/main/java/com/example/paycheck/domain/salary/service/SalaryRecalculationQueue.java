@@ -0,0 +1,281 @@
+package com.example.paycheck.domain.salary.service;
+
+import com.example.paycheck.common.exception.NotFoundException;
+import com.example.paycheck.domain.salary.dto.SalaryRecalculationDto;
+import com.example.paycheck.domain.salary.event.SalaryRecalculationEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 급여 비동기 재계산 큐
+ *
+ * 근무 기록 변경 트랜잭션이 커밋된 뒤 (계약, 연, 월) 단위로 재계산 요청을 받아
+ * 짧은 병합 구간(coalesce window) 동안 같은 급여의 요청을 모아 전체 재계산을 1회만 수행한다.
+ * - 재계산은 고정 크기 작업 스레드에서 수행되며, 대기 항목은 급여(키)당 1개로 제한된다.
+ * - 계산 중 들어온 요청은 계산이 끝난 뒤 한 번 더 재계산한다. (커밋 이후 변경분 누락 방지)
+ * - awaitPending()으로 대기 중인 재계산이 끝날 때까지 기다린 뒤 조회할 수 있다. (read-your-writes)
+ * - 대기 상태는 메모리에만 있으므로, 등록하는 쪽이 같은 트랜잭션에서 급여를 정합성 검증 대상으로 표시한다.
+ *   (SalaryService.markRecalculationPending) 종료 시에는 대기 중인 재계산을 실행하고 잠시 기다리며,
+ *   그래도 실행되지 못한 재계산은 정합성 검증 배치가 다음 실행(최대 1시간 후)에 보정한다.
+ *
+ * salary.recalculation.async=false(기본값)이면 비활성화되어 근무 기록 변경 시 급여를 동기적으로 증분 반영한다.
+ * 대기 상태와 awaitPending은 요청을 받은 인스턴스에만 있으므로, 여러 인스턴스로 운영하면 다른 인스턴스에서는
+ * 재계산이 끝나기 전의 급여를 IDLE 상태로 조회할 수 있다. 그래서 기본값은 비활성(opt-in)이며,
+ * 단일 인스턴스이거나 같은 급여 요청이 한 인스턴스로 라우팅되는 환경에서만 켠다.
+ *
+ * 실패 사유는 내부 예외 메시지를 노출하지 않도록 고정 문구로만 기록한다. (상세 내용은 로그)
+ */
+@Slf4j
+@Service
+public class SalaryRecalculationQueue {
+
+    private static final Duration SETTLED_ENTRY_RETENTION = Duration.ofMinutes(10);
+
+    private static final String RECALCULATION_FAILED_MESSAGE = "급여 재계산에 실패했습니다. 정합성 검증 배치가 다시 계산합니다.";
+    private static final String NOT_SCHEDULED_MESSAGE = "서버 종료 중이라 급여 재계산을 실행하지 못했습니다. 정합성 검증 배치가 다시 계산합니다.";
+
+    private final SalaryService salaryService;
+    private final boolean async;
+    private final long coalesceWindowMillis;
+    private final Duration awaitTimeout;
+    private final ScheduledExecutorService executor;
+
+    // 키별 재계산 상태 (모든 상태 전이는 entries 잠금 안에서 수행)
+    private final Map<Key, Entry> entries = new HashMap<>();
+
+    public SalaryRecalculationQueue(
+            SalaryService salaryService,
+            @Value("${salary.recalculation.async:false}") boolean async,
+            @Value("${salary.recalculation.coalesce-window-ms:300}") long coalesceWindowMillis,
+            @Value("${salary.recalculation.await-timeout-ms:3000}") long awaitTimeoutMillis,
+            @Value("${salary.recalculation.pool-size:2}") int poolSize) {
+        this.salaryService = salaryService;
+        this.async = async;
+        this.coalesceWindowMillis = coalesceWindowMillis;
+        this.awaitTimeout = Duration.ofMillis(awaitTimeoutMillis);
+        this.executor = new ScheduledThreadPoolExecutor(poolSize, new CustomizableThreadFactory("salary-recalc-"));
+    }
+
+    /**
+     * 비동기 재계산 사용 여부
+     */
+    public boolean isAsync() {
+        return async;
+    }
+
+    /**
+     * 근무 기록 변경 트랜잭션 커밋 후 재계산 요청 등록
+     * 롤백된 변경은 등록되지 않는다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSalaryRecalculationEvent(SalaryRecalculationEvent event) {
+        enqueue(event.getContractId(), event.getYear(), event.getMonth(), event.isCreateIfMissing());
+    }
+
+    /**
+     * 재계산 요청 등록 (같은 급여의 대기 중인 요청과 병합)
+     */
+    public void enqueue(Long contractId, Integer year, Integer month, boolean createIfMissing) {
+        Key key = new Key(contractId, year, month);
+        boolean schedule = false;
+
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry == null || entry.isSettled()) {
+                entry = new Entry();
+                entries.put(key, entry);
+                entry.status = SalaryRecalculationDto.Status.PENDING;
+                schedule = true;
+            } else if (entry.status == SalaryRecalculationDto.Status.RUNNING) {
+                // 계산 중인 트랜잭션이 이번 커밋을 보지 못했을 수 있으므로 끝난 뒤 다시 계산
+                entry.rerunRequested = true;
+            }
+            entry.createIfMissing |= createIfMissing;
+            entry.requestCount++;
+        }
+
+        if (schedule) {
+            schedule(key);
+        }
+    }
+
+    /**
+     * 급여 재계산 상태 조회
+     */
+    public SalaryRecalculationDto.StatusResponse getStatus(Long contractId, Integer year, Integer month) {
+        SalaryRecalculationDto.StatusResponse.StatusResponseBuilder builder = SalaryRecalculationDto.StatusResponse.builder()
+                .contractId(contractId)
+                .year(year)
+                .month(month);
+
+        synchronized (entries) {
+            Entry entry = entries.get(new Key(contractId, year, month));
+            if (entry == null) {
+                return builder.status(SalaryRecalculationDto.Status.IDLE).requestCount(0).build();
+            }
+            return builder
+                    .status(entry.status)
+                    .requestCount(entry.requestCount)
+                    .requestedAt(entry.requestedAt)
+                    .completedAt(entry.completedAt)
+                    .errorMessage(entry.errorMessage)
+                    .build();
+        }
+    }
+
+    /**
+     * 대기 중이거나 계산 중인 재계산이 끝날 때까지 대기 (최대 await-timeout-ms)
+     *
+     * @return 대기한 재계산이 시간 내에 끝났으면 true, 대기할 재계산이 없거나 시간이 초과되면 false
+     */
+    public boolean awaitPending(Long contractId, Integer year, Integer month) {
+        CompletableFuture<Void> completion;
+        synchronized (entries) {
+            Entry entry = entries.get(new Key(contractId, year, month));
+            if (entry == null || entry.isSettled()) {
+                return false;
+            }
+            completion = entry.completion;
+        }
+
+        try {
+            completion.get(awaitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            log.warn("급여 재계산 대기 시간 초과: contractId={}, year={}, month={}", contractId, year, month);
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 완료/실패 후 일정 시간이 지난 상태 정보 정리
+     */
+    @Scheduled(fixedDelay = 600000)
+    public void evictSettledEntries() {
+        LocalDateTime threshold = LocalDateTime.now().minus(SETTLED_ENTRY_RETENTION);
+        synchronized (entries) {
+            entries.values().removeIf(entry -> entry.isSettled() && entry.completedAt.isBefore(threshold));
+        }
+    }
+
+    /**
+     * 종료 시 병합 구간에 대기 중인 재계산까지 실행하고 최대 (병합 구간 + await-timeout-ms) 동안 기다린다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(coalesceWindowMillis + awaitTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("급여 재계산 큐 종료 대기 시간 초과 - 남은 재계산은 정합성 검증 배치가 보정");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void schedule(Key key) {
+        try {
+            executor.schedule(() -> run(key), coalesceWindowMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            log.warn("종료 중이라 급여 재계산을 등록하지 않음 - 정합성 검증 배치가 보정: contractId={}, year={}, month={}",
+                    key.contractId(), key.year(), key.month());
+            // 실행되지 않을 항목이 PENDING으로 남아 대기하는 쪽이 시간 초과까지 기다리지 않도록 실패로 종료
+            synchronized (entries) {
+                Entry entry = entries.get(key);
+                if (entry != null && !entry.isSettled()) {
+                    settle(entry, NOT_SCHEDULED_MESSAGE);
+                }
+            }
+        }
+    }
+
+    private void run(Key key) {
+        Entry entry;
+        boolean createIfMissing;
+        synchronized (entries) {
+            entry = entries.get(key);
+            entry.status = SalaryRecalculationDto.Status.RUNNING;
+            createIfMissing = entry.createIfMissing;
+            entry.createIfMissing = false;
+        }
+
+        String errorMessage = null;
+        try {
+            salaryService.recalculateSalary(key.contractId(), key.year(), key.month(), createIfMissing);
+        } catch (NotFoundException e) {
+            // 급여 기간 내 근무 기록이 없어 급여를 생성하지 않는 경우 (정상 케이스)
+        } catch (Exception e) {
+            errorMessage = RECALCULATION_FAILED_MESSAGE;
+            log.error("급여 비동기 재계산 실패: contractId={}, year={}, month={}",
+                    key.contractId(), key.year(), key.month(), e);
+        }
+
+        boolean rerun = false;
+        synchronized (entries) {
+            if (entry.rerunRequested) {
+                entry.rerunRequested = false;
+                entry.status = SalaryRecalculationDto.Status.PENDING;
+                rerun = true;
+            } else {
+                settle(entry, errorMessage);
+            }
+        }
+
+        if (rerun) {
+            schedule(key);
+        }
+    }
+
+    /**
+     * 재계산 종료 처리 (entries 잠금 안에서 호출, errorMessage가 없으면 완료, 있으면 실패)
+     */
+    private static void settle(Entry entry, String errorMessage) {
+        entry.status = errorMessage == null
+                ? SalaryRecalculationDto.Status.COMPLETED
+                : SalaryRecalculationDto.Status.FAILED;
+        entry.errorMessage = errorMessage;
+        entry.completedAt = LocalDateTime.now();
+        entry.completion.complete(null);
+    }
+
+    private record Key(Long contractId, Integer year, Integer month) {
+    }
+
+    private static final class Entry {
+        private SalaryRecalculationDto.Status status;
+        private boolean createIfMissing;
+        private boolean rerunRequested;
+        private int requestCount;
+        private final LocalDateTime requestedAt = LocalDateTime.now();
+        private LocalDateTime completedAt;
+        private String errorMessage;
+        private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+        private boolean isSettled() {
+            return status == SalaryRecalculationDto.Status.COMPLETED || status == SalaryRecalculationDto.Status.FAILED;
+        }
+    }
+}
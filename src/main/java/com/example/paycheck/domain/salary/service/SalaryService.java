@@ -1,5 +1,6 @@
 package com.example.paycheck.domain.salary.service;
 
+import com.example.paycheck.common.dto.ResourceVersion;
 import com.example.paycheck.common.exception.ErrorCode;
 import com.example.paycheck.common.exception.NotFoundException;
 import com.example.paycheck.domain.allowance.entity.WeeklyAllowance;
@@ -9,18 +10,21 @@ import com.example.paycheck.domain.contract.repository.WorkerContractRepository;
 import com.example.paycheck.domain.salary.dto.SalaryDto;
 import com.example.paycheck.domain.salary.entity.Salary;
 import com.example.paycheck.domain.salary.repository.SalaryRepository;
-import com.example.paycheck.domain.salary.util.DeductionCalculator;
-import com.example.paycheck.domain.workrecord.entity.WorkRecord;
+import com.example.paycheck.domain.salary.util.MonthlySalaryCalculator;
+import com.example.paycheck.domain.salary.util.PayPeriod;
+import com.example.paycheck.domain.salary.util.WorkRecordPayTotals;
+import com.example.paycheck.domain.workrecord.dto.WorkRecordPaySummary;
 import com.example.paycheck.domain.workrecord.enums.WorkRecordStatus;
 import com.example.paycheck.domain.workrecord.repository.WorkRecordRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -38,6 +42,10 @@ public class SalaryService {
     private final WeeklyAllowanceRepository weeklyAllowanceRepository;
     private final SalaryPersistenceService salaryPersistenceService;
 
+    // 급여 저장 시 UPSERT 단일 문장 사용 여부 (false면 잠금 후 갱신/INSERT 재시도 방식)
+    @Value("${salary.persistence.native-upsert:true}")
+    private boolean nativeUpsertEnabled;
+
     /**
      * 급여 상세 조회
      */
@@ -77,6 +85,27 @@ public class SalaryService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 근로자별 급여 목록의 버전 (조건부 GET용)
+     */
+    public ResourceVersion getSalaryListVersionByWorker(Long workerId) {
+        return salaryRepository.findListVersionByWorkerId(workerId);
+    }
+
+    /**
+     * 사업장별 급여 목록의 버전 (조건부 GET용)
+     */
+    public ResourceVersion getSalaryListVersionByWorkplace(Long workplaceId) {
+        return salaryRepository.findListVersionByWorkplaceId(workplaceId);
+    }
+
+    /**
+     * 사업장별 연월 급여 목록의 버전 (조건부 GET용)
+     */
+    public ResourceVersion getSalaryListVersionByWorkplaceAndYearMonth(Long workplaceId, Integer year, Integer month) {
+        return salaryRepository.findListVersionByWorkplaceIdAndYearAndMonth(workplaceId, year, month);
+    }
+
     /**
      * 계약별 급여 목록 조회
      */
@@ -90,8 +119,7 @@ public class SalaryService {
     /**
      * 급여 자동 계산 (실시간 근무 기록 기반)
      * - 월급날 기준으로 급여 계산 (전월 paymentDay ~ 당월 paymentDay-1)
-     * - 해당 기간의 모든 근무 기록을 조회
-     * - 각 근무 기록의 급여를 합산
+     * - 해당 기간 근무 기록의 급여를 DB에서 합산하여 조회
      * - 세금/보험료를 계산하여 순급여 도출
      */
     @Transactional
@@ -102,208 +130,201 @@ public class SalaryService {
         // 월급날 기준으로 급여 계산 기간 설정
         // 예: 월급날이 21일이면, 전월 21일 ~ 당월 20일까지
         Integer paymentDay = contract.getPaymentDay();
-        LocalDate startDate = adjustDayOfMonth(LocalDate.of(year, month, 1).minusMonths(1), paymentDay);
-        LocalDate endDate = adjustDayOfMonth(LocalDate.of(year, month, 1), paymentDay).minusDays(1);
+        PayPeriod period = PayPeriod.of(year, month);
+        LocalDate startDate = period.startDate(paymentDay);
+        LocalDate endDate = period.endDate(paymentDay);
 
-        List<WorkRecord> workRecords = workRecordRepository.findByContractAndDateRange(
-                contractId, startDate, endDate, WorkRecordStatus.DELETED);
+        // 합계 조회 전의 급여 version (UPSERT 시 그 사이 다른 트랜잭션의 갱신을 덮어쓰지 않도록 비교)
+        Long expectedVersion = nativeUpsertEnabled
+                ? salaryRepository.findVersionByContractIdAndYearAndMonth(contractId, year, month).orElse(null)
+                : null;
 
+        // 근무 기록 급여 칼럼은 DB에서 합산만 조회 (엔티티 로딩/변경 감지 없이)
         // 기간 내 WorkRecord가 없으면 Salary 생성하지 않음
-        if (workRecords.isEmpty()) {
-            throw new NotFoundException(ErrorCode.WORK_RECORD_NOT_FOUND, "해당 기간 내 근무 기록이 없습니다.");
-        }
+        WorkRecordPaySummary workRecordSummary = workRecordRepository.sumPayByContractAndDateRange(
+                        contractId, startDate, endDate, WorkRecordStatus.DELETED)
+                .orElseThrow(() -> new NotFoundException(ErrorCode.WORK_RECORD_NOT_FOUND, "해당 기간 내 근무 기록이 없습니다."));
 
-        // WorkRecord의 이미 계산된 급여 칼럼값 합산
-        BigDecimal totalWorkHours = BigDecimal.ZERO;
-        BigDecimal totalBasePay = BigDecimal.ZERO;
-        BigDecimal totalNightPay = BigDecimal.ZERO;
-        BigDecimal totalHolidayPay = BigDecimal.ZERO;
-        BigDecimal totalDailyOvertimePay = BigDecimal.ZERO;
-
-        for (WorkRecord record : workRecords) {
-            totalWorkHours = totalWorkHours.add(record.getTotalHours());
-            totalBasePay = totalBasePay.add(record.getBaseSalary());
-            totalNightPay = totalNightPay.add(record.getNightSalary());
-            totalHolidayPay = totalHolidayPay.add(record.getHolidaySalary());
-            totalDailyOvertimePay = totalDailyOvertimePay.add(record.getOvertimeSalary());
-        }
+        // 합산, 주휴/연장 수당, 세금 및 보험료 계산
+        MonthlySalaryCalculator.Result result = calculate(
+                contractId, contract, year, month, WorkRecordPayTotals.from(workRecordSummary));
 
-        // ========================================
-        // 주휴수당 및 연장수당 계산 (마지막 주차 이월 정책 적용)
-        // ========================================
+        // 기본은 UPSERT 단일 문장으로 저장 (존재 확인/잠금/충돌 재시도 없음)
+        Salary salary = nativeUpsertEnabled
+                ? salaryRepository.upsert(result.toSalary(contract, year, month), expectedVersion)
+                : saveWithLock(contractId, contract, year, month, result);
 
-        // 당월 WeeklyAllowance 조회
-        List<WeeklyAllowance> weeklyAllowances = weeklyAllowanceRepository.findByContractIdAndYearMonth(contractId, year, month);
-        BigDecimal totalWeeklyPaidLeaveAmount = BigDecimal.ZERO;
-        BigDecimal totalWeeklyOvertimePay = BigDecimal.ZERO;
+        return SalaryDto.Response.from(salary);
+    }
 
-        // 월급날 계산 (당월 paymentDay)
-        LocalDate paymentDayDate = adjustDayOfMonth(LocalDate.of(year, month, 1), paymentDay);
+    /**
+     * 기존 저장 방식: 존재 확인 후 FOR UPDATE 잠금 갱신, 없으면 REQUIRES_NEW INSERT (충돌 시 재조회 후 갱신)
+     * salary.persistence.native-upsert=false일 때 사용
+     */
+    private Salary saveWithLock(Long contractId, WorkerContract contract, Integer year, Integer month,
+                                MonthlySalaryCalculator.Result result) {
+        // 존재 여부는 일반 조회로 확인하고, 기존 행이 있을 때만 FOR UPDATE 잠금을 건다.
+        // 없는 행에 대해 FOR UPDATE를 먼저 수행하면, REQUIRES_NEW INSERT와 gap lock 충돌이 날 수 있다.
+        Optional<Salary> existingSalary = salaryRepository.findByContractIdAndYearAndMonth(contractId, year, month)
+                .stream()
+                .findFirst();
 
-        // 당월 WeeklyAllowance 처리
-        for (WeeklyAllowance allowance : weeklyAllowances) {
-            // 마지막 주차 판단: 월급날이 해당 주(weekStartDate ~ weekEndDate)에 포함되는지 확인
-            boolean isLastWeek = !paymentDayDate.isBefore(allowance.getWeekStartDate())
-                              && !paymentDayDate.isAfter(allowance.getWeekEndDate());
+        if (existingSalary.isPresent()) {
+            Salary salary = salaryRepository.findByContractIdAndYearAndMonthForUpdate(contractId, year, month)
+                    .orElseThrow(() -> new IllegalStateException("급여 데이터 동시성 오류"));
 
-            if (!isLastWeek) {
-                // 마지막 주차가 아니면 현재 월 급여에 포함
-                totalWeeklyPaidLeaveAmount = totalWeeklyPaidLeaveAmount.add(allowance.getWeeklyPaidLeaveAmount());
-                totalWeeklyOvertimePay = totalWeeklyOvertimePay.add(allowance.getOvertimeAmount());
-            }
-            // 마지막 주차면 제외 (다음 달 급여로 이월)
+            // 기존 급여 정보 업데이트
+            result.applyTo(salary);
+            return salary;
         }
 
-        // 전월에서 이월된 수당 포함
-        LocalDate previousMonth = paymentDayDate.minusMonths(1);
-        List<WeeklyAllowance> previousMonthAllowances = weeklyAllowanceRepository.findByContractIdAndYearMonth(
-                contractId, previousMonth.getYear(), previousMonth.getMonthValue());
+        // 새로운 급여 생성
+        Salary salary = result.toSalary(contract, year, month);
+
+        try {
+            // REQUIRES_NEW 트랜잭션에서 저장 시도 (실패해도 메인 트랜잭션 유지)
+            // 성공 시 저장된 엔티티를 그대로 사용한다.
+            // 재조회는 동시 INSERT 충돌(DataIntegrityViolationException) 경로에서만 수행한다.
+            return salaryPersistenceService.trySave(salary);
+        } catch (DataIntegrityViolationException | PessimisticLockingFailureException e) {
+            // 동시 INSERT 또는 잠금 경합 발생 시 재조회 후 업데이트
+            log.warn("급여 동시 생성/잠금 경합 감지 - 재조회 후 업데이트 수행: contractId={}, year={}, month={}",
+                    contractId, year, month);
+            salary = salaryRepository.findByContractIdAndYearAndMonthForUpdate(contractId, year, month)
+                    .orElseThrow(() -> new IllegalStateException("급여 데이터 동시성 오류"));
+            result.applyTo(salary);
+            return salary;
+        }
+    }
 
-        LocalDate previousPaymentDayDate = adjustDayOfMonth(LocalDate.of(previousMonth.getYear(), previousMonth.getMonthValue(), 1), paymentDay);
+    /**
+     * 근무 기록 수정 시 해당 월의 급여 자동 재계산
+     */
+    @Transactional
+    public SalaryDto.Response recalculateSalaryAfterWorkRecordUpdate(Long contractId, Integer year, Integer month) {
+        return calculateSalaryByWorkRecords(contractId, year, month);
+    }
 
-        for (WeeklyAllowance allowance : previousMonthAllowances) {
-            // 전월의 마지막 주차(전월 월급날이 포함된 주)를 찾아서 현재 월 급여에 포함
-            boolean isPreviousLastWeek = !previousPaymentDayDate.isBefore(allowance.getWeekStartDate())
-                                      && !previousPaymentDayDate.isAfter(allowance.getWeekEndDate());
+    /**
+     * 급여 전체 재계산 (비동기 재계산 큐에서 사용)
+     *
+     * @param createIfMissing 급여가 없을 때 새로 생성할지 여부, false면 기존 급여만 재계산
+     */
+    @Transactional
+    public void recalculateSalary(Long contractId, Integer year, Integer month, boolean createIfMissing) {
+        if (!createIfMissing && salaryRepository.findByContractIdAndYearAndMonth(contractId, year, month).isEmpty()) {
+            return;
+        }
+        calculateSalaryByWorkRecords(contractId, year, month);
+    }
 
-            if (isPreviousLastWeek) {
-                // 전월 마지막 주차의 수당을 현재 월 급여에 추가 (이월분)
-                totalWeeklyPaidLeaveAmount = totalWeeklyPaidLeaveAmount.add(allowance.getWeeklyPaidLeaveAmount());
-                totalWeeklyOvertimePay = totalWeeklyOvertimePay.add(allowance.getOvertimeAmount());
+    /**
+     * 근무 기록 변경분(delta)을 급여에 증분 반영
+     * - 기간 내 근무 기록을 다시 합산하지 않고, 저장된 급여의 근무 기록 합계에 변경분만 더한다.
+     * - 주간 수당(당월/전월 생성분, 각 수 건)과 세금/보험료는 새 합계 기준으로 다시 계산한다.
+     * - 급여 행을 FOR UPDATE로 잠근 뒤 갱신하므로 동시 변경은 직렬화되고 @Version도 함께 증가한다.
+     * - 반영된 급여는 정합성 검증 대상으로 표시되어 reconcileSalary()에서 전체 재계산 값과 비교된다.
+     *
+     * @param delta           변경 후 기여분 - 변경 전 기여분
+     * @param createIfMissing 급여가 없을 때 전체 계산으로 새로 생성할지 여부 (COMPLETED 반영 시)
+     */
+    @Transactional
+    public void applyWorkRecordDelta(Long contractId, Integer year, Integer month,
+                                     WorkRecordPayTotals delta, boolean createIfMissing) {
+        if (salaryRepository.findByContractIdAndYearAndMonth(contractId, year, month).isEmpty()) {
+            if (createIfMissing) {
+                calculateSalaryByWorkRecords(contractId, year, month);
             }
+            return;
         }
 
-        // 연장 수당 합계 = 일일 연장 가산분 + 주간 연장 가산분
-        BigDecimal totalOvertimePay = totalDailyOvertimePay.add(totalWeeklyOvertimePay);
+        Salary salary = salaryRepository.findByContractIdAndYearAndMonthForUpdate(contractId, year, month)
+                .orElseThrow(() -> new IllegalStateException("급여 데이터 동시성 오류"));
 
-        BigDecimal totalGrossPay = totalBasePay.add(totalNightPay).add(totalHolidayPay)
-                .add(totalWeeklyPaidLeaveAmount).add(totalOvertimePay);
-
-        // 세금 및 보험료 계산 (payrollDeductionType에 따라)
-        // 근무 기록은 있지만 급여가 0원이면 4대보험 면제
-        DeductionCalculator.PayrollDeductionType deductionType = contract.getPayrollDeductionType();
-
-        if (deductionType == DeductionCalculator.PayrollDeductionType.PART_TIME_TAX_AND_INSURANCE
-            && totalGrossPay.compareTo(BigDecimal.ZERO) == 0) {
-            // 근무하지 않은 경우(급여 0원) 4대보험 면제
-            deductionType = DeductionCalculator.PayrollDeductionType.PART_TIME_NONE;
+        WorkRecordPayTotals currentTotals = WorkRecordPayTotals.fromSalary(salary);
+        if (currentTotals == null) {
+            // 주간 연장 가산분이 분리 저장되기 전의 급여는 전체 재계산으로 기준값을 만든다.
+            calculateSalaryByWorkRecords(contractId, year, month);
+            return;
         }
 
-        DeductionCalculator.TaxResult taxResult = DeductionCalculator.calculate(totalGrossPay, deductionType);
-
-        BigDecimal fourMajorInsurance = taxResult.totalInsurance;
-        BigDecimal incomeTax = taxResult.incomeTax;
-        BigDecimal localIncomeTax = taxResult.localIncomeTax;
-        BigDecimal totalDeduction = taxResult.totalDeduction;
+        MonthlySalaryCalculator.Result result = calculate(
+                contractId, salary.getContract(), year, month, currentTotals.add(delta));
+        result.applyTo(salary);
+        salary.markIncrementallyUpdated();
+    }
 
-        BigDecimal netPay = totalGrossPay.subtract(totalDeduction);
+    /**
+     * 비동기 재계산 대기 중인 급여를 정합성 검증 대상으로 표시
+     * 근무 기록 변경과 같은 트랜잭션에서 호출하므로, 커밋 후 재계산 큐의 작업이 재시작/배포로 유실되어도
+     * 정합성 검증 배치(reconcileSalary)가 전체 재계산 값으로 보정한다.
+     * 급여가 아직 없으면 표시할 행이 없으며, 이후 급여 계산 요청 시 새로 계산된다.
+     */
+    @Transactional
+    public void markRecalculationPending(Long contractId, Integer year, Integer month) {
+        salaryRepository.markIncrementallyUpdated(contractId, year, month);
+    }
 
-        // 음수 급여 방지 (공제액이 급여를 초과하는 경우)
-        if (netPay.compareTo(BigDecimal.ZERO) < 0) {
-            netPay = BigDecimal.ZERO;
-        }
+    /**
+     * 증분 반영 후 아직 검증되지 않은 급여 ID 조회 (정합성 검증 배치용)
+     */
+    public List<Long> findIncrementallyUpdatedSalaryIds(int limit) {
+        return salaryRepository.findIncrementallyUpdatedIds(PageRequest.of(0, limit));
+    }
 
-        // 존재 여부는 일반 조회로 확인하고, 기존 행이 있을 때만 FOR UPDATE 잠금을 건다.
-        // 없는 행에 대해 FOR UPDATE를 먼저 수행하면, REQUIRES_NEW INSERT와 gap lock 충돌이 날 수 있다.
-        Optional<Salary> existingSalary = salaryRepository.findByContractIdAndYearAndMonth(contractId, year, month)
-                .stream()
-                .findFirst();
-        Salary salary;
+    /**
+     * 증분 반영된 급여를 전체 재계산 값과 비교하여 보정
+     * 차이가 있으면 경고 로그를 남기고 재계산 값으로 덮어쓴다.
+     *
+     * @return 차이(drift) 발견 여부
+     */
+    @Transactional
+    public boolean reconcileSalary(Long salaryId) {
+        Salary salary = salaryRepository.findByIdForUpdate(salaryId)
+                .orElseThrow(() -> new NotFoundException(ErrorCode.SALARY_NOT_FOUND, "급여 정보를 찾을 수 없습니다."));
 
-        if (existingSalary.isPresent()) {
-            salary = salaryRepository.findByContractIdAndYearAndMonthForUpdate(contractId, year, month)
-                    .orElseThrow(() -> new IllegalStateException("급여 데이터 동시성 오류"));
+        // 조회 이후 전체 재계산이 먼저 수행된 경우
+        if (!Boolean.TRUE.equals(salary.getIncrementallyUpdated())) {
+            return false;
+        }
 
-            // 기존 급여 정보 업데이트
-            salary.updateCalculatedFields(
-                    totalWorkHours,
-                    totalBasePay,
-                    totalOvertimePay,
-                    totalNightPay,
-                    totalHolidayPay,
-                    totalWeeklyPaidLeaveAmount,
-                    totalGrossPay,
-                    fourMajorInsurance,
-                    taxResult.nationalPension,
-                    taxResult.healthInsurance,
-                    taxResult.longTermCare,
-                    taxResult.employmentInsurance,
-                    incomeTax,
-                    localIncomeTax,
-                    totalDeduction,
-                    netPay
-            );
-        } else {
-            // 새로운 급여 생성
-            salary = Salary.builder()
-                    .contract(contract)
-                    .year(year)
-                    .month(month)
-                    .totalWorkHours(totalWorkHours)
-                    .basePay(totalBasePay)
-                    .overtimePay(totalOvertimePay)
-                    .nightPay(totalNightPay)
-                    .holidayPay(totalHolidayPay)
-                    .weeklyPaidLeaveAmount(totalWeeklyPaidLeaveAmount)
-                    .totalGrossPay(totalGrossPay)
-                    .fourMajorInsurance(fourMajorInsurance)
-                    .nationalPension(taxResult.nationalPension)
-                    .healthInsurance(taxResult.healthInsurance)
-                    .longTermCare(taxResult.longTermCare)
-                    .employmentInsurance(taxResult.employmentInsurance)
-                    .incomeTax(incomeTax)
-                    .localIncomeTax(localIncomeTax)
-                    .totalDeduction(totalDeduction)
-                    .netPay(netPay)
-                    .paymentDueDate(adjustDayOfMonth(LocalDate.of(year, month, 1), contract.getPaymentDay()))
-                    .build();
-
-            try {
-                // REQUIRES_NEW 트랜잭션에서 저장 시도 (실패해도 메인 트랜잭션 유지)
-                // 성공 시 저장된 엔티티를 그대로 사용한다.
-                // 재조회는 동시 INSERT 충돌(DataIntegrityViolationException) 경로에서만 수행한다.
-                salary = salaryPersistenceService.trySave(salary);
-            } catch (DataIntegrityViolationException | PessimisticLockingFailureException e) {
-                // 동시 INSERT 또는 잠금 경합 발생 시 재조회 후 업데이트
-                log.warn("급여 동시 생성/잠금 경합 감지 - 재조회 후 업데이트 수행: contractId={}, year={}, month={}",
-                        contractId, year, month);
-                salary = salaryRepository.findByContractIdAndYearAndMonthForUpdate(contractId, year, month)
-                        .orElseThrow(() -> new IllegalStateException("급여 데이터 동시성 오류"));
-                salary.updateCalculatedFields(
-                        totalWorkHours,
-                        totalBasePay,
-                        totalOvertimePay,
-                        totalNightPay,
-                        totalHolidayPay,
-                        totalWeeklyPaidLeaveAmount,
-                        totalGrossPay,
-                        fourMajorInsurance,
-                        taxResult.nationalPension,
-                        taxResult.healthInsurance,
-                        taxResult.longTermCare,
-                        taxResult.employmentInsurance,
-                        incomeTax,
-                        localIncomeTax,
-                        totalDeduction,
-                        netPay
-                );
-            }
+        WorkerContract contract = salary.getContract();
+        Integer paymentDay = contract.getPaymentDay();
+        PayPeriod period = PayPeriod.of(salary.getYear(), salary.getMonth());
+        LocalDate startDate = period.startDate(paymentDay);
+        LocalDate endDate = period.endDate(paymentDay);
+
+        // 근무 기록이 모두 삭제된 기간은 0원으로 보정
+        WorkRecordPayTotals totals = workRecordRepository.sumPayByContractAndDateRange(
+                        contract.getId(), startDate, endDate, WorkRecordStatus.DELETED)
+                .map(WorkRecordPayTotals::from)
+                .orElseGet(WorkRecordPayTotals::zero);
+
+        MonthlySalaryCalculator.Result expected = calculate(
+                contract.getId(), contract, salary.getYear(), salary.getMonth(), totals);
+        boolean drifted = expected.differsFrom(salary);
+        if (drifted) {
+            log.warn("급여 증분 반영 불일치 감지 - 재계산 값으로 보정: salaryId={}, contractId={}, year={}, month={}, "
+                            + "totalGrossPay={} -> {}, netPay={} -> {}",
+                    salaryId, contract.getId(), salary.getYear(), salary.getMonth(),
+                    salary.getTotalGrossPay(), expected.totalGrossPay, salary.getNetPay(), expected.netPay);
         }
 
-        return SalaryDto.Response.from(salary);
+        expected.applyTo(salary);
+        return drifted;
     }
 
     /**
-     * 근무 기록 수정 시 해당 월의 급여 자동 재계산
+     * 근무 기록 합계와 당월/전월 WeeklyAllowance(마지막 주차 이월 정책 적용용)로 월 급여 계산
      */
-    @Transactional
-    public SalaryDto.Response recalculateSalaryAfterWorkRecordUpdate(Long contractId, Integer year, Integer month) {
-        return calculateSalaryByWorkRecords(contractId, year, month);
-    }
+    private MonthlySalaryCalculator.Result calculate(Long contractId, WorkerContract contract,
+                                                     Integer year, Integer month, WorkRecordPayTotals totals) {
+        List<WeeklyAllowance> weeklyAllowances = weeklyAllowanceRepository.findByContractIdAndYearMonth(
+                contractId, year, month);
+        LocalDate previousMonth = LocalDate.of(year, month, 1).minusMonths(1);
+        List<WeeklyAllowance> previousMonthAllowances = weeklyAllowanceRepository.findByContractIdAndYearMonth(
+                contractId, previousMonth.getYear(), previousMonth.getMonthValue());
 
-    private LocalDate adjustDayOfMonth(LocalDate baseDate, int desiredDay) {
-        int lastDayOfMonth = baseDate.lengthOfMonth();
-        int day = Math.max(1, Math.min(desiredDay, lastDayOfMonth));
-        return baseDate.withDayOfMonth(day);
+        return MonthlySalaryCalculator.calculate(contract, year, month, totals, weeklyAllowances, previousMonthAllowances);
     }
 }
@@ -1,16 +1,7 @@
 package com.example.paycheck.domain.salary.util;
 
-import com.fasterxml.jackson.annotation.JsonProperty;
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import java.io.IOException;
-import java.io.InputStream;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
 
 /**
  * 급여 공제 계산 유틸리티
@@ -21,9 +12,7 @@ import java.util.Map;
  */
 public class DeductionCalculator {
     private static final int DEFAULT_FAMILY_COUNT = 1;
-    private static final int MIN_TABLE_SALARY_THOUSAND = 770;
-    private static final int MAX_TABLE_SALARY_THOUSAND = 10000;
-    private static final String INCOME_TAX_TABLE_RESOURCE = "tax/income_tax_table_2024.json";
+    private static final BigDecimal THOUSAND = new BigDecimal("1000");
 
     /**
      * 급여 공제 유형
@@ -62,7 +51,10 @@ public class DeductionCalculator {
 
         public BigDecimal totalDeduction;      // 총 공제 (보험료 + 세금)
 
-        public TaxResult(BigDecimal grossPay, PayrollDeductionType deductionType) {
+        /**
+         * @param paymentYear 지급 연도 (간이세액표 선택 기준)
+         */
+        public TaxResult(BigDecimal grossPay, PayrollDeductionType deductionType, int paymentYear) {
             switch (deductionType) {
                 case FREELANCER:
                     // 프리랜서: 소득세 3% + 지방소득세 0.3%
@@ -101,7 +93,7 @@ public class DeductionCalculator {
                     this.employmentInsurance = BigDecimal.ZERO;
                     this.totalInsurance = BigDecimal.ZERO;
 
-                    this.incomeTax = calculateSimpleIncomeTax(grossPay)
+                    this.incomeTax = calculateSimpleIncomeTax(grossPay, paymentYear)
                         .setScale(0, RoundingMode.DOWN);
                     this.localIncomeTax = this.incomeTax.multiply(new BigDecimal("0.1"))
                         .setScale(0, RoundingMode.DOWN);
@@ -127,7 +119,7 @@ public class DeductionCalculator {
                     this.totalInsurance = this.nationalPension.add(this.healthInsurance)
                         .add(this.longTermCare).add(this.employmentInsurance);
 
-                    this.incomeTax = calculateSimpleIncomeTax(grossPay)
+                    this.incomeTax = calculateSimpleIncomeTax(grossPay, paymentYear)
                         .setScale(0, RoundingMode.DOWN);
                     this.localIncomeTax = this.incomeTax.multiply(new BigDecimal("0.1"))
                         .setScale(0, RoundingMode.DOWN);
@@ -139,179 +131,59 @@ public class DeductionCalculator {
     }
 
     /**
-     * 통합 세금 및 보험료 계산
+     * 통합 세금 및 보험료 계산 (지급 연도의 간이세액표 적용)
+     * 연도마다 간이세액표가 다르므로 지급 연도를 반드시 지정한다. (급여 귀속 연/월 기준)
      */
-    public static TaxResult calculate(BigDecimal grossPay, PayrollDeductionType deductionType) {
-        return new TaxResult(grossPay, deductionType);
+    public static TaxResult calculate(BigDecimal grossPay, PayrollDeductionType deductionType, int paymentYear) {
+        return new TaxResult(grossPay, deductionType, paymentYear);
     }
 
     /**
      * 간이세액표를 반영한 세금 계산
      */
-    private static BigDecimal calculateSimpleIncomeTax(BigDecimal grossPay) {
-        return calculateIncomeTaxFromTable(grossPay, DEFAULT_FAMILY_COUNT);
+    private static BigDecimal calculateSimpleIncomeTax(BigDecimal grossPay, int paymentYear) {
+        return calculateIncomeTaxFromTable(grossPay, DEFAULT_FAMILY_COUNT, paymentYear);
     }
 
-    private static BigDecimal calculateIncomeTaxFromTable(BigDecimal grossPay, int familyCount) {
+    // 부양가족 수별 검증을 위해 패키지 범위로 노출 (DeductionCalculatorTest)
+    static BigDecimal calculateIncomeTaxFromTable(BigDecimal grossPay, int familyCount, int paymentYear) {
+        return calculateIncomeTaxFromTable(grossPay, familyCount, IncomeTaxTables.forYear(paymentYear));
+    }
+
+    private static BigDecimal calculateIncomeTaxFromTable(BigDecimal grossPay, int familyCount, IncomeTaxTable table) {
         if (grossPay == null || grossPay.compareTo(BigDecimal.ZERO) <= 0) {
             return BigDecimal.ZERO;
         }
 
         int normalizedFamilyCount = Math.max(1, Math.min(11, familyCount));
-        BigDecimal thousand = grossPay.divide(new BigDecimal("1000"), 0, RoundingMode.DOWN);
+        BigDecimal thousand = grossPay.divide(THOUSAND, 0, RoundingMode.DOWN);
         int salaryThousand = thousand.intValue();
 
-        if (salaryThousand < MIN_TABLE_SALARY_THOUSAND) {
+        if (salaryThousand < table.getMinSalaryThousand()) {
             return BigDecimal.ZERO;
         }
 
-        TaxTable table = TaxTableHolder.TABLE;
         BigDecimal tableTax = table.lookup(salaryThousand, normalizedFamilyCount);
         if (tableTax != null) {
             return tableTax;
         }
 
-        if (salaryThousand <= MAX_TABLE_SALARY_THOUSAND) {
+        if (salaryThousand <= table.getFormulaBaseThousand()) {
             return BigDecimal.ZERO;
         }
 
         return calculateFormulaTax(grossPay, normalizedFamilyCount, table);
     }
 
-    private static BigDecimal calculateFormulaTax(BigDecimal grossPay, int familyCount, TaxTable table) {
-        BigDecimal baseTax = table.lookup(MAX_TABLE_SALARY_THOUSAND, familyCount);
+    private static BigDecimal calculateFormulaTax(BigDecimal grossPay, int familyCount, IncomeTaxTable table) {
+        BigDecimal baseTax = table.lookup(table.getFormulaBaseThousand(), familyCount);
         if (baseTax == null) {
             baseTax = BigDecimal.ZERO;
         }
 
+        // 간이세액표 하단 수식 구간 (경계/기본 세액/세율은 연도별 meta에서 읽음)
         BigDecimal grossPayWon = grossPay.setScale(0, RoundingMode.DOWN);
-        // 간이세액표 하단 수식 구간 경계(단위: 원)
-        BigDecimal tenMillion = new BigDecimal("10000000");
-        BigDecimal fourteenMillion = new BigDecimal("14000000");
-        BigDecimal twentyEightMillion = new BigDecimal("28000000");
-        BigDecimal thirtyMillion = new BigDecimal("30000000");
-        BigDecimal fortyFiveMillion = new BigDecimal("45000000");
-        BigDecimal eightySevenMillion = new BigDecimal("87000000");
-
-        if (grossPayWon.compareTo(fourteenMillion) <= 0) {
-            BigDecimal over = grossPayWon.subtract(tenMillion).max(BigDecimal.ZERO);
-            return baseTax
-                .add(over.multiply(new BigDecimal("0.98")).multiply(new BigDecimal("0.35")))
-                .add(new BigDecimal("25000"));
-        }
-        if (grossPayWon.compareTo(twentyEightMillion) <= 0) {
-            BigDecimal over = grossPayWon.subtract(fourteenMillion).max(BigDecimal.ZERO);
-            return baseTax
-                .add(new BigDecimal("1397000"))
-                .add(over.multiply(new BigDecimal("0.98")).multiply(new BigDecimal("0.38")));
-        }
-        if (grossPayWon.compareTo(thirtyMillion) <= 0) {
-            BigDecimal over = grossPayWon.subtract(twentyEightMillion).max(BigDecimal.ZERO);
-            return baseTax
-                .add(new BigDecimal("6610600"))
-                .add(over.multiply(new BigDecimal("0.98")).multiply(new BigDecimal("0.40")));
-        }
-        if (grossPayWon.compareTo(fortyFiveMillion) <= 0) {
-            BigDecimal over = grossPayWon.subtract(thirtyMillion).max(BigDecimal.ZERO);
-            return baseTax
-                .add(new BigDecimal("7394600"))
-                .add(over.multiply(new BigDecimal("0.40")));
-        }
-        if (grossPayWon.compareTo(eightySevenMillion) <= 0) {
-            BigDecimal over = grossPayWon.subtract(fortyFiveMillion).max(BigDecimal.ZERO);
-            return baseTax
-                .add(new BigDecimal("13394600"))
-                .add(over.multiply(new BigDecimal("0.42")));
-        }
-        BigDecimal over = grossPayWon.subtract(eightySevenMillion).max(BigDecimal.ZERO);
-        return baseTax
-            .add(new BigDecimal("31034600"))
-            .add(over.multiply(new BigDecimal("0.45")));
-    }
-
-    private static class TaxTableHolder {
-        private static final TaxTable TABLE = loadTaxTable();
-    }
-
-    private static TaxTable loadTaxTable() {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-        try (InputStream stream = DeductionCalculator.class.getClassLoader()
-            .getResourceAsStream(INCOME_TAX_TABLE_RESOURCE)) {
-            if (stream == null) {
-                throw new IllegalStateException("Income tax table resource not found: " + INCOME_TAX_TABLE_RESOURCE);
-            }
-            TaxTableData data = mapper.readValue(stream, TaxTableData.class);
-            return TaxTable.fromRows(data.rows);
-        } catch (IOException e) {
-            throw new IllegalStateException("Failed to load income tax table", e);
-        }
-    }
-
-    private static class TaxTableData {
-        @JsonProperty("rows")
-        private List<TaxTableRow> rows;
-    }
-
-    private static class TaxTableRow {
-        @JsonProperty("min_salary_thousand")
-        private int minSalaryThousand;
-        @JsonProperty("max_salary_thousand")
-        private int maxSalaryThousand;
-        @JsonProperty("family_count")
-        private int familyCount;
-        @JsonProperty("income_tax_won")
-        private int incomeTaxWon;
-    }
-
-    private static class TaxTable {
-        private final Map<Integer, List<TaxRange>> rangesByFamily;
-
-        private TaxTable(Map<Integer, List<TaxRange>> rangesByFamily) {
-            this.rangesByFamily = rangesByFamily;
-        }
-
-        private static TaxTable fromRows(List<TaxTableRow> rows) {
-            Map<Integer, List<TaxRange>> map = new HashMap<>();
-            if (rows != null) {
-                for (TaxTableRow row : rows) {
-                    map.computeIfAbsent(row.familyCount, key -> new ArrayList<>())
-                        .add(new TaxRange(row.minSalaryThousand, row.maxSalaryThousand, row.incomeTaxWon));
-                }
-            }
-            return new TaxTable(map);
-        }
-
-        private BigDecimal lookup(int salaryThousand, int familyCount) {
-            List<TaxRange> ranges = rangesByFamily.get(familyCount);
-            if (ranges == null) {
-                return null;
-            }
-            for (TaxRange range : ranges) {
-                if (range.matches(salaryThousand)) {
-                    return new BigDecimal(range.incomeTaxWon);
-                }
-            }
-            return null;
-        }
-    }
-
-    private static class TaxRange {
-        private final int min;
-        private final int max;
-        private final int incomeTaxWon;
-
-        private TaxRange(int min, int max, int incomeTaxWon) {
-            this.min = min;
-            this.max = max;
-            this.incomeTaxWon = incomeTaxWon;
-        }
-
-        private boolean matches(int salaryThousand) {
-            if (min == max) {
-                return salaryThousand == min;
-            }
-            return salaryThousand >= min && salaryThousand < max;
-        }
+        IncomeTaxTable.FormulaRange range = table.formulaRangeOf(grossPayWon);
+        return range != null ? range.tax(grossPayWon, baseTax) : baseTax;
     }
 }
@@ -0,0 +1,325 @@
+package com.example.paycheck.domain.salary.util;
+
+import java.math.BigDecimal;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 연도별 근로소득 간이세액표 (부양가족 수별 천원 구간 인덱스 배열)
+ *
+ * - 일반 구간([min, max)): 모든 경계의 최대공약수 폭으로 나눈 버킷 배열에 세액 캐시 인덱스를 저장해 O(1) 조회
+ * - 단일 금액 구간(min == max) 등 버킷에 맞지 않는 구간: 정렬 배열 이진 탐색
+ * - 세액 BigDecimal은 표 로딩 시 한 번만 생성하여 조회마다 할당하지 않음
+ * - 표 상단을 넘는 금액의 수식 구간(기본 세액, 세율, 과세 비율)도 연도별 meta에서 읽는다
+ *
+ * 바이너리 형식 (빌드 시 compileTaxTables 태스크가 JSON + meta JSON으로부터 생성, big-endian):
+ * <pre>
+ * int   magic (0x50435458, "PCTX")
+ * short format version (2)
+ * short 귀속 연도
+ * int   간이세액표 최저 금액 (천원, 미만은 세액 0)
+ * int   수식 구간 시작 금액 (천원, 초과분은 수식 적용)
+ * int   행 수 N
+ * N × { int 최소 금액, int 최대 금액, byte 부양가족 수, int 세액(원) }
+ * int   수식 구간 수 M
+ * M × { int 최소 금액(천원), int 최대 금액(천원, 포함, 상한 없으면 -1), int 기본 세액(원),
+ *       int 세율(1/10000), int 과세 비율(1/10000) }
+ * </pre>
+ */
+final class IncomeTaxTable {
+    static final int MAGIC = 0x50435458;
+    static final short FORMAT_VERSION = 2;
+
+    private static final int NO_ENTRY = -1;
+
+    private final int year;
+    private final int minSalaryThousand;     // 간이세액표 최저 금액 (천원)
+    private final int formulaBaseThousand;   // 수식 구간 시작 금액 (천원)
+
+    private final int baseThousand;          // 버킷 배열 시작 금액 (천원)
+    private final int endThousand;           // 버킷 배열 끝 금액 (천원, 미포함)
+    private final int bucketWidth;           // 버킷 폭 (천원)
+    private final int[][] bucketsByFamily;   // [부양가족 수][버킷] → 세액 캐시 인덱스
+    private final TaxRange[][] irregularByFamily; // [부양가족 수] → 최소 금액 순 정렬 구간
+    private final BigDecimal[] taxValues;    // 세액 캐시
+    private final FormulaRange[] formulaRanges; // 최소 금액 순 수식 구간
+
+    private IncomeTaxTable(int year, int minSalaryThousand, int formulaBaseThousand,
+                           int baseThousand, int endThousand, int bucketWidth, int[][] bucketsByFamily,
+                           TaxRange[][] irregularByFamily, BigDecimal[] taxValues, FormulaRange[] formulaRanges) {
+        this.year = year;
+        this.minSalaryThousand = minSalaryThousand;
+        this.formulaBaseThousand = formulaBaseThousand;
+        this.baseThousand = baseThousand;
+        this.endThousand = endThousand;
+        this.bucketWidth = bucketWidth;
+        this.bucketsByFamily = bucketsByFamily;
+        this.irregularByFamily = irregularByFamily;
+        this.taxValues = taxValues;
+        this.formulaRanges = formulaRanges;
+    }
+
+    int getYear() {
+        return year;
+    }
+
+    int getMinSalaryThousand() {
+        return minSalaryThousand;
+    }
+
+    int getFormulaBaseThousand() {
+        return formulaBaseThousand;
+    }
+
+    /**
+     * 급여(원)가 속하는 수식 구간 (수식 구간 시작 금액 이하이면 null)
+     */
+    FormulaRange formulaRangeOf(BigDecimal grossPayWon) {
+        FormulaRange matched = null;
+        for (FormulaRange range : formulaRanges) {
+            if (grossPayWon.compareTo(range.minWon) < 0) {
+                break;
+            }
+            matched = range;
+            if (range.maxWon == null || grossPayWon.compareTo(range.maxWon) <= 0) {
+                return range;
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * 컴파일된 바이너리 세액표 읽기
+     */
+    static IncomeTaxTable read(ByteBuffer buffer) {
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IllegalStateException("Invalid income tax table binary (magic mismatch)");
+            }
+            short version = buffer.getShort();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalStateException("Unsupported income tax table format version: " + version);
+            }
+            int year = buffer.getShort();
+            int minSalaryThousand = buffer.getInt();
+            int formulaBaseThousand = buffer.getInt();
+            int rowCount = buffer.getInt();
+
+            int[] mins = new int[rowCount];
+            int[] maxs = new int[rowCount];
+            int[] families = new int[rowCount];
+            int[] taxes = new int[rowCount];
+            for (int i = 0; i < rowCount; i++) {
+                mins[i] = buffer.getInt();
+                maxs[i] = buffer.getInt();
+                families[i] = buffer.get();
+                taxes[i] = buffer.getInt();
+            }
+
+            int formulaRangeCount = buffer.getInt();
+            FormulaRange[] formulaRanges = new FormulaRange[formulaRangeCount];
+            for (int i = 0; i < formulaRangeCount; i++) {
+                formulaRanges[i] = new FormulaRange(buffer.getInt(), buffer.getInt(), buffer.getInt(),
+                        buffer.getInt(), buffer.getInt());
+            }
+            return fromRows(year, minSalaryThousand, formulaBaseThousand, mins, maxs, families, taxes, formulaRanges);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalStateException("Truncated income tax table binary", e);
+        }
+    }
+
+    static IncomeTaxTable fromRows(int year, int minSalaryThousand, int formulaBaseThousand,
+                                   int[] mins, int[] maxs, int[] families, int[] taxes,
+                                   FormulaRange[] formulaRanges) {
+        int rowCount = mins.length;
+
+        int maxFamily = 0;
+        int base = Integer.MAX_VALUE;
+        int end = Integer.MIN_VALUE;
+        for (int i = 0; i < rowCount; i++) {
+            maxFamily = Math.max(maxFamily, families[i]);
+            if (mins[i] < maxs[i]) {
+                base = Math.min(base, mins[i]);
+                end = Math.max(end, maxs[i]);
+            }
+        }
+
+        // 일반 구간 경계의 최대공약수를 버킷 폭으로 사용 (2024 표 기준 5천원)
+        int width = 0;
+        if (base <= end) {
+            for (int i = 0; i < rowCount; i++) {
+                if (mins[i] < maxs[i]) {
+                    width = gcd(width, mins[i] - base);
+                    width = gcd(width, maxs[i] - base);
+                }
+            }
+        } else {
+            base = 0;
+            end = 0;
+        }
+        width = Math.max(width, 1);
+        int bucketCount = (end - base) / width;
+
+        Map<Integer, Integer> taxIndexByValue = new HashMap<>();
+        List<BigDecimal> taxValues = new ArrayList<>();
+        int[][] buckets = new int[maxFamily + 1][];
+        List<List<TaxRange>> irregular = new ArrayList<>();
+        for (int family = 0; family <= maxFamily; family++) {
+            irregular.add(null);
+        }
+
+        for (int i = 0; i < rowCount; i++) {
+            int taxIndex = taxIndexByValue.computeIfAbsent(taxes[i], value -> {
+                taxValues.add(new BigDecimal(value));
+                return taxValues.size() - 1;
+            });
+
+            if (mins[i] < maxs[i]) {
+                int[] familyBuckets = buckets[families[i]];
+                if (familyBuckets == null) {
+                    familyBuckets = new int[bucketCount];
+                    Arrays.fill(familyBuckets, NO_ENTRY);
+                    buckets[families[i]] = familyBuckets;
+                }
+                int from = (mins[i] - base) / width;
+                int to = (maxs[i] - base) / width;
+                for (int bucket = from; bucket < to; bucket++) {
+                    // 구간이 겹치면 먼저 나온 행 우선 (기존 순차 탐색과 동일)
+                    if (familyBuckets[bucket] == NO_ENTRY) {
+                        familyBuckets[bucket] = taxIndex;
+                    }
+                }
+            } else {
+                List<TaxRange> familyRanges = irregular.get(families[i]);
+                if (familyRanges == null) {
+                    familyRanges = new ArrayList<>();
+                    irregular.set(families[i], familyRanges);
+                }
+                familyRanges.add(new TaxRange(mins[i], maxs[i], taxIndex));
+            }
+        }
+
+        TaxRange[][] irregularByFamily = new TaxRange[maxFamily + 1][];
+        for (int family = 0; family <= maxFamily; family++) {
+            List<TaxRange> familyRanges = irregular.get(family);
+            if (familyRanges != null) {
+                TaxRange[] sorted = familyRanges.toArray(new TaxRange[0]);
+                // 안정 정렬: 같은 시작 금액이면 원래 행 순서 유지
+                Arrays.sort(sorted, Comparator.comparingInt(range -> range.min));
+                irregularByFamily[family] = sorted;
+            }
+        }
+
+        return new IncomeTaxTable(year, minSalaryThousand, formulaBaseThousand,
+                base, end, width, buckets, irregularByFamily, taxValues.toArray(new BigDecimal[0]),
+                formulaRanges.clone());
+    }
+
+    /**
+     * 급여(천원)와 부양가족 수에 해당하는 세액 조회
+     *
+     * @return 세액 (표에 해당 구간이 없으면 null)
+     */
+    BigDecimal lookup(int salaryThousand, int familyCount) {
+        if (familyCount < 0 || familyCount >= bucketsByFamily.length) {
+            return null;
+        }
+
+        int[] familyBuckets = bucketsByFamily[familyCount];
+        if (familyBuckets != null && salaryThousand >= baseThousand && salaryThousand < endThousand) {
+            int taxIndex = familyBuckets[(salaryThousand - baseThousand) / bucketWidth];
+            if (taxIndex != NO_ENTRY) {
+                return taxValues[taxIndex];
+            }
+        }
+
+        TaxRange[] ranges = irregularByFamily[familyCount];
+        if (ranges == null) {
+            return null;
+        }
+        int taxIndex = findIrregular(ranges, salaryThousand);
+        return taxIndex != NO_ENTRY ? taxValues[taxIndex] : null;
+    }
+
+    // 시작 금액이 salaryThousand 이상인 첫 위치를 이진 탐색으로 찾은 뒤 같은 시작 금액 후보의 일치 여부 확인
+    private static int findIrregular(TaxRange[] ranges, int salaryThousand) {
+        int low = 0;
+        int high = ranges.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (ranges[mid].min < salaryThousand) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        for (int i = low; i < ranges.length && ranges[i].min == salaryThousand; i++) {
+            if (ranges[i].matches(salaryThousand)) {
+                return ranges[i].taxIndex;
+            }
+        }
+        return NO_ENTRY;
+    }
+
+    private static int gcd(int a, int b) {
+        while (b != 0) {
+            int t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+
+    private static class TaxRange {
+        private final int min;
+        private final int max;
+        private final int taxIndex;
+
+        private TaxRange(int min, int max, int taxIndex) {
+            this.min = min;
+            this.max = max;
+            this.taxIndex = taxIndex;
+        }
+
+        private boolean matches(int salaryThousand) {
+            if (min == max) {
+                return salaryThousand == min;
+            }
+            return salaryThousand >= min && salaryThousand < max;
+        }
+    }
+
+    /**
+     * 간이세액표 상단을 넘는 금액의 수식 구간
+     * 세액 = 수식 구간 시작 금액의 표 세액 + 기본 세액 + (급여 - 구간 최소 금액) × 과세 비율 × 세율
+     */
+    static final class FormulaRange {
+        private final BigDecimal minWon;
+        private final BigDecimal maxWon;        // 포함, 상한이 없으면 null
+        private final BigDecimal baseTaxWon;
+        private final BigDecimal effectiveRate; // 과세 비율 × 세율
+
+        FormulaRange(int minThousand, int maxThousand, int baseTaxWon, int rateBasisPoints, int taxableRatioBasisPoints) {
+            this.minWon = BigDecimal.valueOf(minThousand * 1000L);
+            this.maxWon = maxThousand < 0 ? null : BigDecimal.valueOf(maxThousand * 1000L);
+            this.baseTaxWon = BigDecimal.valueOf(baseTaxWon);
+            this.effectiveRate = BigDecimal.valueOf(rateBasisPoints, 4)
+                    .multiply(BigDecimal.valueOf(taxableRatioBasisPoints, 4))
+                    .stripTrailingZeros();
+        }
+
+        /**
+         * 수식 구간 세액 (baseTax: 수식 구간 시작 금액의 표 세액)
+         */
+        BigDecimal tax(BigDecimal grossPayWon, BigDecimal baseTax) {
+            BigDecimal over = grossPayWon.subtract(minWon).max(BigDecimal.ZERO);
+            return baseTax.add(baseTaxWon).add(over.multiply(effectiveRate));
+        }
+    }
+}
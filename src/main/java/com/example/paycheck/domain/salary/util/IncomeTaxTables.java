@@ -0,0 +1,112 @@
+package com.example.paycheck.domain.salary.util;
+
+import com.example.paycheck.common.exception.BadRequestException;
+import com.example.paycheck.common.exception.ErrorCode;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 귀속 연도별 간이세액표 레지스트리
+ *
+ * 빌드 시 compileTaxTables 태스크가 src/main/tax/income_tax_table_&lt;year&gt;.json을 바이너리(.bin)로 컴파일하고
+ * 적용 연도별 표 연도(meta의 effective_years)를 tax/income_tax_tables.idx에 "적용연도=표연도"로 기록한다.
+ * 새 연도의 JSON을 추가하거나 기존 표의 적용 연도를 늘리면 코드 변경 없이 반영된다.
+ *
+ * 연도 선택: 적용 연도로 등록된 표만 사용하며, 등록되지 않은 연도는 다른 연도 표로 대신하지 않고 예외를 던진다.
+ * 각 표는 처음 요청될 때 한 번 일괄 읽기(readAllBytes)로 로딩한다.
+ */
+final class IncomeTaxTables {
+    private static final String INDEX_RESOURCE = "tax/income_tax_tables.idx";
+    private static final String TABLE_RESOURCE_FORMAT = "tax/income_tax_table_%d.bin";
+
+    private static final ConcurrentMap<Integer, IncomeTaxTable> TABLES = new ConcurrentHashMap<>();
+
+    private IncomeTaxTables() {
+    }
+
+    private static class YearIndexHolder {
+        private static final YearIndex INDEX = loadYearIndex();
+    }
+
+    // 적용 연도(오름차순)와 각 연도에 적용할 표 연도
+    private record YearIndex(int[] years, int[] tableYears) {
+    }
+
+    /**
+     * 지급 연도에 적용할 간이세액표
+     */
+    static IncomeTaxTable forYear(int paymentYear) {
+        return TABLES.computeIfAbsent(resolveYear(paymentYear), IncomeTaxTables::loadTable);
+    }
+
+    /**
+     * 지급 연도에 적용할 표 연도
+     *
+     * @throws BadRequestException 간이세액표가 등록되지 않은 연도
+     */
+    static int resolveYear(int paymentYear) {
+        YearIndex index = YearIndexHolder.INDEX;
+        int position = Arrays.binarySearch(index.years(), paymentYear);
+        if (position < 0) {
+            throw new BadRequestException(ErrorCode.INCOME_TAX_TABLE_NOT_FOUND,
+                "간이세액표가 등록되지 않은 연도입니다: " + paymentYear);
+        }
+        return index.tableYears()[position];
+    }
+
+    private static YearIndex loadYearIndex() {
+        try (InputStream stream = openResource(INDEX_RESOURCE)) {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+            int[][] entries = reader.lines()
+                .map(String::trim)
+                .filter(line -> !line.isEmpty())
+                .map(line -> line.split("="))
+                .map(parts -> new int[]{Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim())})
+                .sorted(Comparator.comparingInt(entry -> entry[0]))
+                .toArray(int[][]::new);
+            if (entries.length == 0) {
+                throw new IllegalStateException("Income tax table index is empty: " + INDEX_RESOURCE);
+            }
+            int[] years = new int[entries.length];
+            int[] tableYears = new int[entries.length];
+            for (int i = 0; i < entries.length; i++) {
+                years[i] = entries[i][0];
+                tableYears[i] = entries[i][1];
+            }
+            return new YearIndex(years, tableYears);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to load income tax table index", e);
+        }
+    }
+
+    private static IncomeTaxTable loadTable(int year) {
+        String resource = String.format(TABLE_RESOURCE_FORMAT, year);
+        try (InputStream stream = openResource(resource)) {
+            IncomeTaxTable table = IncomeTaxTable.read(ByteBuffer.wrap(stream.readAllBytes()));
+            if (table.getYear() != year) {
+                throw new IllegalStateException("Income tax table year mismatch: " + resource);
+            }
+            return table;
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to load income tax table: " + resource, e);
+        }
+    }
+
+    private static InputStream openResource(String resource) {
+        InputStream stream = IncomeTaxTables.class.getClassLoader().getResourceAsStream(resource);
+        if (stream == null) {
+            throw new IllegalStateException("Compiled income tax table resource not found: " + resource
+                + " (generated by the compileTaxTables Gradle task)");
+        }
+        return stream;
+    }
+}
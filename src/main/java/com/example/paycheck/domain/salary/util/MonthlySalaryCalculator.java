@@ -0,0 +1,205 @@
+package com.example.paycheck.domain.salary.util;
+
+import com.example.paycheck.domain.allowance.entity.WeeklyAllowance;
+import com.example.paycheck.domain.contract.entity.WorkerContract;
+import com.example.paycheck.domain.salary.entity.Salary;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 월 급여 계산 (DB 접근 없는 순수 계산)
+ *
+ * 계약별 단건 계산(SalaryService)과 사업장 일괄 계산(PayrollRunService)이 같은 규칙을 사용하도록
+ * 근무 기록 합계/주간 수당을 입력으로 받아 금액만 계산한다.
+ * - 급여 기간: 전월 paymentDay ~ 당월 paymentDay-1
+ * - 마지막 주차 이월 정책: 당월 월급날이 포함된 주의 수당은 다음 달로 이월, 전월 이월분은 당월에 포함
+ */
+public class MonthlySalaryCalculator {
+
+    /**
+     * 월 급여 계산 결과
+     */
+    public static class Result {
+        public BigDecimal totalWorkHours;
+        public BigDecimal basePay;
+        public BigDecimal overtimePay;            // 일일 연장 가산분 + 주간 연장 가산분
+        public BigDecimal nightPay;
+        public BigDecimal holidayPay;
+        public BigDecimal weeklyPaidLeaveAmount;
+        public BigDecimal weeklyOvertimePay;      // overtimePay 중 주간 연장 가산분
+        public BigDecimal totalGrossPay;
+        public DeductionCalculator.TaxResult taxResult;
+        public BigDecimal netPay;
+        public LocalDate paymentDueDate;
+
+        /**
+         * 저장된 급여와 계산 결과의 금액 차이 여부 (정합성 검증용)
+         */
+        public boolean differsFrom(Salary salary) {
+            return differs(totalWorkHours, salary.getTotalWorkHours())
+                    || differs(basePay, salary.getBasePay())
+                    || differs(overtimePay, salary.getOvertimePay())
+                    || differs(nightPay, salary.getNightPay())
+                    || differs(holidayPay, salary.getHolidayPay())
+                    || differs(weeklyPaidLeaveAmount, salary.getWeeklyPaidLeaveAmount())
+                    || differs(totalGrossPay, salary.getTotalGrossPay())
+                    || differs(taxResult.totalDeduction, salary.getTotalDeduction())
+                    || differs(netPay, salary.getNetPay());
+        }
+
+        private static boolean differs(BigDecimal expected, BigDecimal actual) {
+            if (expected == null || actual == null) {
+                return expected != actual;
+            }
+            return expected.compareTo(actual) != 0;
+        }
+
+        /**
+         * 기존 급여 엔티티에 계산 결과 반영
+         * 전체 합계로 계산한 결과이므로 증분 반영 표시도 해제한다. (증분 반영 시 호출 측에서 다시 표시)
+         */
+        public void applyTo(Salary salary) {
+            salary.updateCalculatedFields(
+                    totalWorkHours,
+                    basePay,
+                    overtimePay,
+                    nightPay,
+                    holidayPay,
+                    weeklyPaidLeaveAmount,
+                    weeklyOvertimePay,
+                    totalGrossPay,
+                    taxResult.totalInsurance,
+                    taxResult.nationalPension,
+                    taxResult.healthInsurance,
+                    taxResult.longTermCare,
+                    taxResult.employmentInsurance,
+                    taxResult.incomeTax,
+                    taxResult.localIncomeTax,
+                    taxResult.totalDeduction,
+                    netPay
+            );
+            salary.markReconciled();
+        }
+
+        /**
+         * 새 급여 엔티티 생성
+         */
+        public Salary toSalary(WorkerContract contract, Integer year, Integer month) {
+            return Salary.builder()
+                    .contract(contract)
+                    .year(year)
+                    .month(month)
+                    .totalWorkHours(totalWorkHours)
+                    .basePay(basePay)
+                    .overtimePay(overtimePay)
+                    .nightPay(nightPay)
+                    .holidayPay(holidayPay)
+                    .weeklyPaidLeaveAmount(weeklyPaidLeaveAmount)
+                    .weeklyOvertimePay(weeklyOvertimePay)
+                    .totalGrossPay(totalGrossPay)
+                    .fourMajorInsurance(taxResult.totalInsurance)
+                    .nationalPension(taxResult.nationalPension)
+                    .healthInsurance(taxResult.healthInsurance)
+                    .longTermCare(taxResult.longTermCare)
+                    .employmentInsurance(taxResult.employmentInsurance)
+                    .incomeTax(taxResult.incomeTax)
+                    .localIncomeTax(taxResult.localIncomeTax)
+                    .totalDeduction(taxResult.totalDeduction)
+                    .netPay(netPay)
+                    .paymentDueDate(paymentDueDate)
+                    .build();
+        }
+    }
+
+    /**
+     * 월 급여 계산
+     *
+     * @param contract                 계약 (시급, 월급날, 공제 유형)
+     * @param year                     급여 연도
+     * @param month                    급여 월
+     * @param totals                   급여 기간 내 삭제되지 않은 근무 기록의 급여 칼럼 합계
+     * @param currentMonthAllowances   당월 생성된 주간 수당 (createdAt 기준)
+     * @param previousMonthAllowances  전월 생성된 주간 수당 (createdAt 기준)
+     */
+    public static Result calculate(WorkerContract contract, Integer year, Integer month,
+                                   WorkRecordPayTotals totals,
+                                   List<WeeklyAllowance> currentMonthAllowances,
+                                   List<WeeklyAllowance> previousMonthAllowances) {
+        Result result = new Result();
+
+        // 주휴수당 및 연장수당 계산 (마지막 주차 이월 정책 적용)
+        BigDecimal totalWeeklyPaidLeaveAmount = BigDecimal.ZERO;
+        BigDecimal totalWeeklyOvertimePay = BigDecimal.ZERO;
+
+        // 월급날 계산 (당월 paymentDay)
+        Integer paymentDay = contract.getPaymentDay();
+        PayPeriod period = PayPeriod.of(year, month);
+        LocalDate paymentDayDate = period.paymentDate(paymentDay);
+
+        // 당월 WeeklyAllowance 처리
+        for (WeeklyAllowance allowance : currentMonthAllowances) {
+            // 마지막 주차 판단: 월급날이 해당 주(weekStartDate ~ weekEndDate)에 포함되는지 확인
+            if (!containsDate(allowance, paymentDayDate)) {
+                // 마지막 주차가 아니면 현재 월 급여에 포함
+                totalWeeklyPaidLeaveAmount = totalWeeklyPaidLeaveAmount.add(allowance.getWeeklyPaidLeaveAmount());
+                totalWeeklyOvertimePay = totalWeeklyOvertimePay.add(allowance.getOvertimeAmount());
+            }
+            // 마지막 주차면 제외 (다음 달 급여로 이월)
+        }
+
+        // 전월에서 이월된 수당 포함
+        LocalDate previousPaymentDayDate = period.previous().paymentDate(paymentDay);
+
+        for (WeeklyAllowance allowance : previousMonthAllowances) {
+            // 전월의 마지막 주차(전월 월급날이 포함된 주)를 찾아서 현재 월 급여에 포함
+            if (containsDate(allowance, previousPaymentDayDate)) {
+                totalWeeklyPaidLeaveAmount = totalWeeklyPaidLeaveAmount.add(allowance.getWeeklyPaidLeaveAmount());
+                totalWeeklyOvertimePay = totalWeeklyOvertimePay.add(allowance.getOvertimeAmount());
+            }
+        }
+
+        // 연장 수당 합계 = 일일 연장 가산분 + 주간 연장 가산분
+        BigDecimal totalOvertimePay = totals.getTotalDailyOvertimePay().add(totalWeeklyOvertimePay);
+
+        BigDecimal totalGrossPay = totals.getTotalBasePay().add(totals.getTotalNightPay()).add(totals.getTotalHolidayPay())
+                .add(totalWeeklyPaidLeaveAmount).add(totalOvertimePay);
+
+        // 세금 및 보험료 계산 (payrollDeductionType에 따라, 지급 연도의 간이세액표 적용)
+        // 근무 기록은 있지만 급여가 0원이면 4대보험 면제
+        DeductionCalculator.PayrollDeductionType deductionType = contract.getPayrollDeductionType();
+
+        if (deductionType == DeductionCalculator.PayrollDeductionType.PART_TIME_TAX_AND_INSURANCE
+            && totalGrossPay.compareTo(BigDecimal.ZERO) == 0) {
+            // 근무하지 않은 경우(급여 0원) 4대보험 면제
+            deductionType = DeductionCalculator.PayrollDeductionType.PART_TIME_NONE;
+        }
+
+        DeductionCalculator.TaxResult taxResult = DeductionCalculator.calculate(totalGrossPay, deductionType, year);
+
+        BigDecimal netPay = totalGrossPay.subtract(taxResult.totalDeduction);
+
+        // 음수 급여 방지 (공제액이 급여를 초과하는 경우)
+        if (netPay.compareTo(BigDecimal.ZERO) < 0) {
+            netPay = BigDecimal.ZERO;
+        }
+
+        result.totalWorkHours = totals.getTotalWorkHours();
+        result.basePay = totals.getTotalBasePay();
+        result.overtimePay = totalOvertimePay;
+        result.nightPay = totals.getTotalNightPay();
+        result.holidayPay = totals.getTotalHolidayPay();
+        result.weeklyPaidLeaveAmount = totalWeeklyPaidLeaveAmount;
+        result.weeklyOvertimePay = totalWeeklyOvertimePay;
+        result.totalGrossPay = totalGrossPay;
+        result.taxResult = taxResult;
+        result.netPay = netPay;
+        result.paymentDueDate = paymentDayDate;
+        return result;
+    }
+
+    private static boolean containsDate(WeeklyAllowance allowance, LocalDate date) {
+        return !date.isBefore(allowance.getWeekStartDate()) && !date.isAfter(allowance.getWeekEndDate());
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.paycheck.domain.salary.util;
+
+import java.time.LocalDate;
+
+/**
+ * 급여 기간 (급여 연월)
+ * 월급날(paymentDay) 기준 전월 paymentDay ~ 당월 paymentDay-1 근무가 해당 연월 급여에 귀속된다.
+ *
+ * key()는 연월을 int 하나로 압축한 값(year * 12 + month - 1)으로,
+ * 크기 순서가 연월 순서와 같고 key + 1 / key - 1이 다음 달 / 이전 달이다.
+ */
+public record PayPeriod(int year, int month) implements Comparable<PayPeriod> {
+
+    public PayPeriod {
+        if (month < 1 || month > 12) {
+            throw new IllegalArgumentException("급여 월은 1~12 사이여야 합니다: " + month);
+        }
+    }
+
+    public static PayPeriod of(int year, int month) {
+        return new PayPeriod(year, month);
+    }
+
+    public static PayPeriod fromKey(int key) {
+        return new PayPeriod(Math.floorDiv(key, 12), Math.floorMod(key, 12) + 1);
+    }
+
+    public static int keyOf(int year, int month) {
+        return year * 12 + month - 1;
+    }
+
+    public int key() {
+        return keyOf(year, month);
+    }
+
+    public PayPeriod previous() {
+        return fromKey(key() - 1);
+    }
+
+    /**
+     * 급여 기간 시작일 (전월 월급날)
+     */
+    public LocalDate startDate(int paymentDay) {
+        return PayPeriodCalendar.startDate(paymentDay, key());
+    }
+
+    /**
+     * 급여 기간 종료일 (당월 월급날 전날)
+     */
+    public LocalDate endDate(int paymentDay) {
+        return PayPeriodCalendar.endDate(paymentDay, key());
+    }
+
+    /**
+     * 급여 지급일 (당월 월급날, 월의 일수를 넘으면 말일)
+     */
+    public LocalDate paymentDate(int paymentDay) {
+        return PayPeriodCalendar.paymentDate(paymentDay, key());
+    }
+
+    @Override
+    public int compareTo(PayPeriod other) {
+        return Integer.compare(key(), other.key());
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.paycheck.domain.salary.util;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * 월급날(1~31일)별 급여 기간 달력
+ *
+ * 지원 연도 범위의 모든 연월에 대해 월급날(월의 일수를 넘으면 말일로 보정)의 epoch day를 미리 계산해 두고
+ * - 근무일 → 급여 기간 키(PayPeriod.key())
+ * - 급여 기간 키 → 기간 시작일/종료일/지급일
+ * 을 배열 조회만으로 구한다. 범위 밖 연월은 같은 규칙으로 직접 계산한다.
+ */
+public final class PayPeriodCalendar {
+
+    static final int MIN_YEAR = 2000;
+    static final int MAX_YEAR = 2100;
+
+    private static final int MIN_KEY = PayPeriod.keyOf(MIN_YEAR, 1);
+    private static final int MAX_KEY = PayPeriod.keyOf(MAX_YEAR, 12);
+
+    // PAYMENT_EPOCH_DAYS[paymentDay][key - MIN_KEY] = 해당 연월 월급날의 epoch day (0번 행은 사용하지 않음)
+    private static final int[][] PAYMENT_EPOCH_DAYS = new int[32][];
+
+    static {
+        for (int paymentDay = 1; paymentDay <= 31; paymentDay++) {
+            int[] epochDays = new int[MAX_KEY - MIN_KEY + 1];
+            for (int key = MIN_KEY; key <= MAX_KEY; key++) {
+                epochDays[key - MIN_KEY] = (int) computePaymentDate(paymentDay, key).toEpochDay();
+            }
+            PAYMENT_EPOCH_DAYS[paymentDay] = epochDays;
+        }
+    }
+
+    private PayPeriodCalendar() {
+    }
+
+    /**
+     * 근무일이 귀속되는 급여 기간 키 (해당 월 월급날 이후 근무는 다음 달 급여)
+     */
+    public static int periodKey(int paymentDay, LocalDate workDate) {
+        int monthKey = PayPeriod.keyOf(workDate.getYear(), workDate.getMonthValue());
+        return workDate.toEpochDay() >= paymentEpochDay(paymentDay, monthKey) ? monthKey + 1 : monthKey;
+    }
+
+    /**
+     * 근무일이 귀속되는 급여 기간
+     */
+    public static PayPeriod periodOf(int paymentDay, LocalDate workDate) {
+        return PayPeriod.fromKey(periodKey(paymentDay, workDate));
+    }
+
+    /**
+     * 급여 기간 시작일 (전월 월급날)
+     */
+    public static LocalDate startDate(int paymentDay, int periodKey) {
+        return LocalDate.ofEpochDay(paymentEpochDay(paymentDay, periodKey - 1));
+    }
+
+    /**
+     * 급여 기간 종료일 (당월 월급날 전날)
+     */
+    public static LocalDate endDate(int paymentDay, int periodKey) {
+        return LocalDate.ofEpochDay(paymentEpochDay(paymentDay, periodKey) - 1);
+    }
+
+    /**
+     * 급여 지급일 (당월 월급날)
+     */
+    public static LocalDate paymentDate(int paymentDay, int periodKey) {
+        return LocalDate.ofEpochDay(paymentEpochDay(paymentDay, periodKey));
+    }
+
+    private static long paymentEpochDay(int paymentDay, int key) {
+        int day = Math.max(1, Math.min(paymentDay, 31));
+        if (key < MIN_KEY || key > MAX_KEY) {
+            return computePaymentDate(day, key).toEpochDay();
+        }
+        return PAYMENT_EPOCH_DAYS[day][key - MIN_KEY];
+    }
+
+    /**
+     * 월의 일수를 넘는 월급날은 말일로 보정 (예: 31일 → 2월 28/29일)
+     */
+    private static LocalDate computePaymentDate(int paymentDay, int key) {
+        YearMonth yearMonth = YearMonth.of(Math.floorDiv(key, 12), Math.floorMod(key, 12) + 1);
+        return yearMonth.atDay(Math.max(1, Math.min(paymentDay, yearMonth.lengthOfMonth())));
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.paycheck.domain.salary.util;
+
+import com.example.paycheck.domain.salary.entity.Salary;
+import com.example.paycheck.domain.workrecord.dto.WorkRecordPaySummary;
+import com.example.paycheck.domain.workrecord.entity.WorkRecord;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * 급여 기간 내 근무 기록의 계산된 급여 칼럼 합계
+ * WorkRecord에 이미 계산되어 저장된 값(시간/기본급/야간/휴일/일일 연장)을 합산한다.
+ * 합산은 DB 집계 쿼리가 하고, 집계 결과를 그대로 옮긴다(from).
+ * 증분 반영 시에는 근무 기록 1건의 기여분(of)과 저장된 급여의 합계(fromSalary)를 더하고 뺀다.
+ */
+@Getter
+@AllArgsConstructor
+public class WorkRecordPayTotals {
+    private static final WorkRecordPayTotals ZERO = new WorkRecordPayTotals(
+            BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO);
+
+    private final BigDecimal totalWorkHours;
+    private final BigDecimal totalBasePay;
+    private final BigDecimal totalNightPay;
+    private final BigDecimal totalHolidayPay;
+    private final BigDecimal totalDailyOvertimePay;
+
+    /**
+     * 빈 합계 (모든 칼럼 0)
+     */
+    public static WorkRecordPayTotals zero() {
+        return ZERO;
+    }
+
+    /**
+     * DB 집계 쿼리 결과로부터 합계 생성
+     *
+     * @param summary WorkRecordRepository 집계 결과
+     * @return 합계
+     */
+    public static WorkRecordPayTotals from(WorkRecordPaySummary summary) {
+        return new WorkRecordPayTotals(
+                zeroIfNull(summary.getTotalHours()),
+                zeroIfNull(summary.getBaseSalary()),
+                zeroIfNull(summary.getNightSalary()),
+                zeroIfNull(summary.getHolidaySalary()),
+                zeroIfNull(summary.getOvertimeSalary()));
+    }
+
+    /**
+     * 근무 기록 1건의 급여 기여분 (계산 전 칼럼은 0으로 취급)
+     *
+     * @param workRecord 근무 기록
+     * @return 기여분
+     */
+    public static WorkRecordPayTotals of(WorkRecord workRecord) {
+        return new WorkRecordPayTotals(
+                zeroIfNull(workRecord.getTotalHours()),
+                zeroIfNull(workRecord.getBaseSalary()),
+                zeroIfNull(workRecord.getNightSalary()),
+                zeroIfNull(workRecord.getHolidaySalary()),
+                zeroIfNull(workRecord.getOvertimeSalary()));
+    }
+
+    /**
+     * 저장된 급여에 반영되어 있는 근무 기록 합계
+     * overtimePay에서 주간 연장 가산분을 빼서 일일 연장 가산분 합계를 역산한다.
+     *
+     * @param salary 급여
+     * @return 합계, 주간 연장 가산분이 저장되지 않은 급여(도입 이전 행)는 null
+     */
+    public static WorkRecordPayTotals fromSalary(Salary salary) {
+        if (salary.getWeeklyOvertimePay() == null) {
+            return null;
+        }
+        return new WorkRecordPayTotals(
+                zeroIfNull(salary.getTotalWorkHours()),
+                zeroIfNull(salary.getBasePay()),
+                zeroIfNull(salary.getNightPay()),
+                zeroIfNull(salary.getHolidayPay()),
+                zeroIfNull(salary.getOvertimePay()).subtract(salary.getWeeklyOvertimePay()));
+    }
+
+    /**
+     * 두 합계의 합
+     */
+    public WorkRecordPayTotals add(WorkRecordPayTotals other) {
+        return new WorkRecordPayTotals(
+                totalWorkHours.add(other.totalWorkHours),
+                totalBasePay.add(other.totalBasePay),
+                totalNightPay.add(other.totalNightPay),
+                totalHolidayPay.add(other.totalHolidayPay),
+                totalDailyOvertimePay.add(other.totalDailyOvertimePay));
+    }
+
+    /**
+     * 두 합계의 차 (변경 전후 기여분의 차이 계산용)
+     */
+    public WorkRecordPayTotals subtract(WorkRecordPayTotals other) {
+        return new WorkRecordPayTotals(
+                totalWorkHours.subtract(other.totalWorkHours),
+                totalBasePay.subtract(other.totalBasePay),
+                totalNightPay.subtract(other.totalNightPay),
+                totalHolidayPay.subtract(other.totalHolidayPay),
+                totalDailyOvertimePay.subtract(other.totalDailyOvertimePay));
+    }
+
+    private static BigDecimal zeroIfNull(BigDecimal value) {
+        return value != null ? value : BigDecimal.ZERO;
+    }
+}
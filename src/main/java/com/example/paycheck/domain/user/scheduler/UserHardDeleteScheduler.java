@@ -3,6 +3,7 @@ package com.example.paycheck.domain.user.scheduler;
 import com.example.paycheck.domain.user.entity.User;
 import com.example.paycheck.domain.user.repository.UserRepository;
 import com.example.paycheck.domain.user.service.UserHardDeleteService;
+import com.example.paycheck.global.scheduling.SchedulerLock;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -23,6 +24,7 @@ public class UserHardDeleteScheduler {
 
     private final UserRepository userRepository;
     private final UserHardDeleteService userHardDeleteService;
+    private final SchedulerLock schedulerLock;
 
     /**
      * 매일 새벽 4시에 30일 경과 탈퇴 사용자 영구 삭제
@@ -31,6 +33,10 @@ public class UserHardDeleteScheduler {
      */
     @Scheduled(cron = "0 0 4 * * *")
     public void hardDeleteWithdrawnUsers() {
+        schedulerLock.runExclusively("user-hard-delete", this::doHardDeleteWithdrawnUsers);
+    }
+
+    private void doHardDeleteWithdrawnUsers() {
         log.info("===== 탈퇴 사용자 영구 삭제 스케줄러 시작 =====");
 
         LocalDateTime threshold = LocalDateTime.now().minusDays(RETENTION_DAYS);
@@ -22,6 +22,7 @@ import com.example.paycheck.domain.worker.repository.WorkerRepository;
 import com.example.paycheck.domain.workplace.entity.Workplace;
 import com.example.paycheck.domain.workplace.repository.WorkplaceRepository;
 import com.example.paycheck.domain.workrecord.repository.WorkRecordRepository;
+import com.example.paycheck.global.security.UserSnapshotCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -53,6 +54,7 @@ public class UserHardDeleteService {
     private final FcmTokenRepository fcmTokenRepository;
     private final UserSettingsRepository userSettingsRepository;
     private final RefreshTokenRepository refreshTokenRepository;
+    private final UserSnapshotCache userSnapshotCache;
 
     /**
      * 단일 사용자 영구 삭제.
@@ -71,6 +73,7 @@ public class UserHardDeleteService {
 
         cleanupCommonData(user);
         userRepository.delete(user);
+        userSnapshotCache.invalidate(userId);
 
         log.info("사용자 영구 삭제 완료: userId={}, userType={}", user.getId(), user.getUserType());
     }
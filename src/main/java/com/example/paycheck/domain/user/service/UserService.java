@@ -11,6 +11,7 @@ import com.example.paycheck.domain.user.repository.UserRepository;
 import com.example.paycheck.domain.worker.entity.Worker;
 import com.example.paycheck.domain.worker.repository.WorkerRepository;
 import com.example.paycheck.domain.worker.service.WorkerService;
+import com.example.paycheck.global.security.UserSnapshotCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,6 +29,7 @@ public class UserService {
     private final UserSettingsService userSettingsService;
     private final ProfileImageStorageService profileImageStorageService;
     private final ProfileImageUrlResolver profileImageUrlResolver;
+    private final UserSnapshotCache userSnapshotCache;
 
     public UserDto.Response getUserById(Long userId) {
         User user = userRepository.findById(userId)
@@ -47,6 +49,7 @@ public class UserService {
                 .orElseThrow(() -> new NotFoundException(ErrorCode.USER_NOT_FOUND, "사용자를 찾을 수 없습니다."));
 
         user.updateProfile(request.getName(), request.getPhone(), request.getProfileImageUrl());
+        userSnapshotCache.invalidate(userId);
 
         return getUserById(userId);
     }
@@ -59,6 +62,7 @@ public class UserService {
         String previousProfileImageUrl = user.getProfileImageUrl();
         String storedProfileImageUrl = profileImageStorageService.store(profileImage);
         user.updateProfile(null, null, storedProfileImageUrl);
+        userSnapshotCache.invalidate(userId);
 
         if (previousProfileImageUrl != null && !previousProfileImageUrl.equals(storedProfileImageUrl)) {
             profileImageStorageService.deleteIfStoredLocally(previousProfileImageUrl);
@@ -22,6 +22,7 @@ import com.example.paycheck.domain.workplace.repository.WorkplaceRepository;
 import com.example.paycheck.domain.workrecord.enums.WorkRecordStatus;
 import com.example.paycheck.domain.workrecord.repository.WorkRecordRepository;
 import com.example.paycheck.domain.workrecord.service.WorkRecordCoordinatorService;
+import com.example.paycheck.domain.workrecord.service.WorkedDayIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -44,6 +45,7 @@ public class UserWithdrawService {
     private final WeeklyAllowanceService weeklyAllowanceService;
     private final WeeklyAllowanceRepository weeklyAllowanceRepository;
     private final WorkRecordCoordinatorService workRecordCoordinatorService;
+    private final WorkedDayIndex workedDayIndex;
     private final RefreshTokenRepository refreshTokenRepository;
     private final FcmTokenRepository fcmTokenRepository;
     private final NotificationRepository notificationRepository;
@@ -97,6 +99,7 @@ public class UserWithdrawService {
                         contract.getId(),
                         WorkRecordStatus.SCHEDULED,
                         WorkRecordStatus.DELETED);
+                workedDayIndex.invalidate(contract.getId());
                 recalculateTerminationWeekAllowanceAndSalary(contract);
             }
         }
@@ -121,6 +124,7 @@ public class UserWithdrawService {
                         contract.getId(),
                         WorkRecordStatus.SCHEDULED,
                         WorkRecordStatus.DELETED);
+                workedDayIndex.invalidate(contract.getId());
                 recalculateTerminationWeekAllowanceAndSalary(contract);
             }
         }
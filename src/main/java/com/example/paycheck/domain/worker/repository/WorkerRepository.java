@@ -19,4 +19,10 @@ public interface WorkerRepository extends JpaRepository<Worker, Long> {
     Optional<Worker> findByWorkerCode(@Param("workerCode") String workerCode);
 
     boolean existsByWorkerCode(String workerCode);
+
+    /**
+     * 권한 검사용: 근로자의 사용자 ID
+     */
+    @Query("SELECT w.user.id FROM Worker w WHERE w.id = :workerId")
+    Optional<Long> findUserIdById(@Param("workerId") Long workerId);
 }
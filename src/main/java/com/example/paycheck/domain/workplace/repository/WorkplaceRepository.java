@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface WorkplaceRepository extends JpaRepository<Workplace, Long> {
@@ -20,4 +21,10 @@ public interface WorkplaceRepository extends JpaRepository<Workplace, Long> {
     @Modifying(clearAutomatically = true)
     @Query("DELETE FROM Workplace w WHERE w.employer.id = :employerId")
     void deleteAllByEmployerId(@Param("employerId") Long employerId);
+
+    /**
+     * 권한 검사용: 사업장 고용주의 사용자 ID
+     */
+    @Query("SELECT e.user.id FROM Workplace w JOIN w.employer e WHERE w.id = :workplaceId")
+    Optional<Long> findEmployerUserIdById(@Param("workplaceId") Long workplaceId);
 }
@@ -0,0 +1,16 @@
+package com.example.paycheck.domain.workrecord.dto;
+
+import com.example.paycheck.domain.workrecord.enums.ShiftConflictSource;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 근무 시간 겹침 검사 결과 (요청된 근무 시간대와 겹치는 기존 시간대)
+ */
+@Getter
+@AllArgsConstructor
+public class ShiftConflict {
+    private WorkShift requested;
+    private WorkShift existing;
+    private ShiftConflictSource source;
+}
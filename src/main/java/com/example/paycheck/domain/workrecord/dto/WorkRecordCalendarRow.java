@@ -0,0 +1,35 @@
+package com.example.paycheck.domain.workrecord.dto;
+
+import com.example.paycheck.domain.workrecord.enums.WorkRecordStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 사업장 캘린더 조회용 근무 기록 프로젝션 (엔티티 대신 필요한 컬럼만 조회)
+ */
+@Getter
+@AllArgsConstructor
+public class WorkRecordCalendarRow {
+
+    private Long id;
+    private Long contractId;
+    private String workerName;
+    private String workplaceName;
+    private LocalDate workDate;
+    private LocalTime startTime;
+    private LocalTime endTime;
+    private Integer breakMinutes;
+    private BigDecimal hourlyWage;
+    private WorkRecordStatus status;
+
+    /**
+     * 자정을 넘는 근무 여부 (종료 시각이 시작 시각보다 늦지 않으면 다음 날 종료)
+     */
+    public boolean isOvernight() {
+        return !endTime.isAfter(startTime);
+    }
+}
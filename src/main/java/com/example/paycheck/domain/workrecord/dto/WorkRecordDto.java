@@ -150,22 +150,18 @@ public class WorkRecordDto {
         private BigDecimal hourlyWage;
         private WorkRecordStatus status;
 
-        public static CalendarResponse from(WorkRecord workRecord) {
-            return from(workRecord, workRecord.getWorkDate());
-        }
-
-        public static CalendarResponse from(WorkRecord workRecord, LocalDate displayDate) {
+        public static CalendarResponse from(WorkRecordCalendarRow row, LocalDate displayDate) {
             return CalendarResponse.builder()
-                    .id(workRecord.getId())
-                    .contractId(workRecord.getContract().getId())
-                    .workerName(workRecord.getContract().getWorker().getUser().getName())
-                    .workplaceName(workRecord.getContract().getWorkplace().getName())
+                    .id(row.getId())
+                    .contractId(row.getContractId())
+                    .workerName(row.getWorkerName())
+                    .workplaceName(row.getWorkplaceName())
                     .workDate(displayDate)
-                    .startTime(workRecord.getStartTime())
-                    .endTime(workRecord.getEndTime())
-                    .breakMinutes(workRecord.getBreakMinutes())
-                    .hourlyWage(workRecord.getContract().getHourlyWage())
-                    .status(workRecord.getStatus())
+                    .startTime(row.getStartTime())
+                    .endTime(row.getEndTime())
+                    .breakMinutes(row.getBreakMinutes())
+                    .hourlyWage(row.getHourlyWage())
+                    .status(row.getStatus())
                     .build();
         }
     }
@@ -293,10 +289,29 @@ public class WorkRecordDto {
         @Schema(description = "생성된 일정 개수", example = "5")
         private Integer createdCount;
 
-        @Schema(description = "건너뛴 일정 개수 (중복으로 인해 생성되지 않음)", example = "2")
+        @Schema(description = "건너뛴 일정 개수 (중복 또는 근무 시간 겹침으로 인해 생성되지 않음)", example = "2")
         private Integer skippedCount;
 
         @Schema(description = "요청한 전체 일정 개수", example = "7")
         private Integer totalRequested;
+
+        @Schema(description = "기존 근무 기록 또는 대기중인 생성 요청과 근무 시간이 겹쳐 건너뛴 날짜")
+        private List<LocalDate> conflictDates;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(name = "WorkRecordTimelineResponse", description = "근무 기록 타임라인 (최신순 커서 페이지)")
+    public static class TimelineResponse {
+        @Schema(description = "근무 기록 목록 (근무일, 시작 시각 최신순)")
+        private List<DetailedResponse> records;
+
+        @Schema(description = "다음 페이지 조회용 커서 (마지막 페이지이면 null)", example = "MjAyNi0wMy0wMnwwOTowMHwxMjM")
+        private String nextCursor;
+
+        @Schema(description = "다음 페이지 존재 여부", example = "true")
+        private boolean hasNext;
     }
 }
@@ -0,0 +1,22 @@
+package com.example.paycheck.domain.workrecord.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * 계약별 근무 기록 집계 (DB 집계 쿼리 결과)
+ * 급여 계산/급여일 알림에서 엔티티를 로딩하지 않고 합계만 조회할 때 사용한다.
+ */
+@Getter
+@AllArgsConstructor
+public class WorkRecordPaySummary {
+    private Long contractId;
+    private Long workDays;
+    private BigDecimal totalHours;
+    private BigDecimal baseSalary;
+    private BigDecimal nightSalary;
+    private BigDecimal holidaySalary;
+    private BigDecimal overtimeSalary;
+}
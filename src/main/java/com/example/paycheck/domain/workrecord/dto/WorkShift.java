@@ -0,0 +1,42 @@
+package com.example.paycheck.domain.workrecord.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 근무 시간대 (근무일 + 시작/종료 시각, 종료 시각이 시작 시각보다 이르면 자정을 넘는 근무)
+ * 근무 기록/정정요청의 시간대를 겹침 검사용으로 조회할 때 사용한다.
+ */
+@Getter
+@AllArgsConstructor
+public class WorkShift {
+
+    private static final long MINUTES_PER_DAY = 24 * 60;
+
+    private Long id;              // 근무 기록 또는 정정요청 ID (새로 요청된 근무는 null)
+    private LocalDate workDate;
+    private LocalTime startTime;
+    private LocalTime endTime;
+
+    public static WorkShift of(LocalDate workDate, LocalTime startTime, LocalTime endTime) {
+        return new WorkShift(null, workDate, startTime, endTime);
+    }
+
+    /**
+     * 시작 시각 (epoch day 기준 분)
+     */
+    public long startMinute() {
+        return workDate.toEpochDay() * MINUTES_PER_DAY + startTime.toSecondOfDay() / 60;
+    }
+
+    /**
+     * 종료 시각 (epoch day 기준 분, 자정을 넘는 근무는 다음 날 시각)
+     */
+    public long endMinute() {
+        long endMinute = workDate.toEpochDay() * MINUTES_PER_DAY + endTime.toSecondOfDay() / 60;
+        return endTime.isBefore(startTime) ? endMinute + MINUTES_PER_DAY : endMinute;
+    }
+}
@@ -4,6 +4,7 @@ import com.example.paycheck.common.BaseEntity;
 import com.example.paycheck.domain.contract.entity.WorkerContract;
 import com.example.paycheck.domain.workrecord.enums.WorkRecordStatus;
 import com.example.paycheck.domain.allowance.entity.WeeklyAllowance;
+import com.example.paycheck.domain.workrecord.util.WorkPayEngine;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -23,13 +24,6 @@ import java.time.LocalTime;
 @Builder
 public class WorkRecord extends BaseEntity {
 
-    // 근무 시간 및 급여 계산 상수
-    private static final LocalTime NIGHT_SHIFT_START = LocalTime.of(22, 0);
-    private static final LocalTime NIGHT_SHIFT_END = LocalTime.of(6, 0);
-    private static final BigDecimal OVERTIME_RATE = BigDecimal.valueOf(1.5);
-    private static final BigDecimal HOLIDAY_DAILY_THRESHOLD = BigDecimal.valueOf(8);
-    private static final BigDecimal DAILY_THRESHOLD = BigDecimal.valueOf(8);
-
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -170,115 +164,56 @@ public class WorkRecord extends BaseEntity {
         this.status = WorkRecordStatus.DELETED;
     }
 
-    // 휴일 정보와 사업장 규모를 고려한 근무 시간 분류 계산
+    // 휴일 정보와 사업장 규모를 고려한 근무 시간 분류 및 급여 계산 (한 번에 수행)
     // WorkRecordCalculationService에서 호출됨
-    public void calculateHoursWithHolidayInfo(boolean isHoliday, boolean isSmallWorkplace) {
-        // 전체 근무 시간 계산 (자정을 넘는 경우 처리)
-        long minutes = java.time.Duration.between(startTime, endTime).toMinutes();
-        if (endTime.isBefore(startTime)) {
-            minutes += 24 * 60; // 자정을 넘는 경우 24시간 추가
-        }
-        this.totalHours = BigDecimal.valueOf(minutes).subtract(BigDecimal.valueOf(this.breakMinutes))
-                .divide(BigDecimal.valueOf(60), 2, java.math.RoundingMode.HALF_UP);
-
-        // 실제 근무 시간 계산 (전체 시간 - 휴식 시간)
-        this.totalWorkMinutes = (int) (minutes - this.breakMinutes);
-
-        // 연장 시간 계산 (8시간 초과분)
-        if (this.totalHours.compareTo(DAILY_THRESHOLD) > 0) {
-            this.overtimeHours = this.totalHours.subtract(DAILY_THRESHOLD);
-        } else {
-            this.overtimeHours = BigDecimal.ZERO;
-        }
+    public void calculatePayWithHolidayInfo(boolean isHoliday, boolean isSmallWorkplace) {
+        calculatePayWithHolidayInfo(isHoliday, isSmallWorkplace, WorkPayEngine.threadBuffer());
+    }
 
-        // 야간 시간과 주간 시간 분류 (자정을 넘는 경우 처리)
-        BigDecimal nightHours = BigDecimal.ZERO;
-
-        LocalTime nightStart = NIGHT_SHIFT_START; // 22:00
-        LocalTime nightEnd = NIGHT_SHIFT_END;     // 06:00
-
-        boolean crossesMidnight = endTime.isBefore(startTime);
-
-        if (crossesMidnight) {
-            // 자정을 넘는 경우 (예: 22:00-06:00)
-            if (!startTime.isBefore(nightStart)) {
-                long nightMinutes1 = java.time.Duration.between(startTime, LocalTime.MAX).toMinutes() + 1;
-                nightHours = nightHours.add(BigDecimal.valueOf(nightMinutes1).divide(BigDecimal.valueOf(60), 2, java.math.RoundingMode.HALF_UP));
-            } else {
-                long nightMinutes1 = java.time.Duration.between(nightStart, LocalTime.MAX).toMinutes() + 1;
-                nightHours = nightHours.add(BigDecimal.valueOf(nightMinutes1).divide(BigDecimal.valueOf(60), 2, java.math.RoundingMode.HALF_UP));
-            }
-
-            if (endTime.isBefore(nightEnd) || endTime.equals(LocalTime.MIN)) {
-                long nightMinutes2 = java.time.Duration.between(LocalTime.MIN, endTime).toMinutes();
-                nightHours = nightHours.add(BigDecimal.valueOf(nightMinutes2).divide(BigDecimal.valueOf(60), 2, java.math.RoundingMode.HALF_UP));
-            } else {
-                long nightMinutes2 = java.time.Duration.between(LocalTime.MIN, nightEnd).toMinutes();
-                nightHours = nightHours.add(BigDecimal.valueOf(nightMinutes2).divide(BigDecimal.valueOf(60), 2, java.math.RoundingMode.HALF_UP));
-            }
-        } else {
-            if (startTime.isBefore(nightEnd)) {
-                LocalTime actualEnd = endTime.isBefore(nightEnd) ? endTime : nightEnd;
-                long nightMinutes = java.time.Duration.between(startTime, actualEnd).toMinutes();
-                nightHours = BigDecimal.valueOf(nightMinutes).divide(BigDecimal.valueOf(60), 2, java.math.RoundingMode.HALF_UP);
-            }
-
-            if (endTime.isAfter(nightStart)) {
-                LocalTime actualStart = startTime.isAfter(nightStart) ? startTime : nightStart;
-                long nightMinutes = java.time.Duration.between(actualStart, endTime).toMinutes();
-                nightHours = nightHours.add(BigDecimal.valueOf(nightMinutes).divide(BigDecimal.valueOf(60), 2, java.math.RoundingMode.HALF_UP));
-            }
-        }
+    // 일괄 계산 시 결과 버퍼를 재사용하기 위한 오버로드
+    public void calculatePayWithHolidayInfo(boolean isHoliday, boolean isSmallWorkplace, WorkPayEngine.PayResult buffer) {
+        WorkPayEngine.classifyHours(startTime.toNanoOfDay(), endTime.toNanoOfDay(), this.breakMinutes, isHoliday, buffer);
+        WorkPayEngine.calculatePay(WorkPayEngine.toCentiWon(this.contract.getHourlyWage()), isSmallWorkplace, buffer);
+        applyHours(buffer);
+        applySalary(buffer);
+    }
 
-        // 휴게시간 비율에 따른 야간 시간 차감 (간소화된 정책: 전체 시간 대비 야간 시간 비율로 차감)
-        if (this.breakMinutes > 0 && this.totalHours.compareTo(BigDecimal.ZERO) > 0) {
-             BigDecimal breakHours = BigDecimal.valueOf(this.breakMinutes).divide(BigDecimal.valueOf(60), 2, java.math.RoundingMode.HALF_UP);
-             BigDecimal nightRatio = nightHours.divide(this.totalHours.add(breakHours), 4, java.math.RoundingMode.HALF_UP);
-             nightHours = nightHours.subtract(breakHours.multiply(nightRatio)).setScale(2, java.math.RoundingMode.HALF_UP);
-        }
-        this.nightHours = nightHours.max(BigDecimal.ZERO);
-
-        // 휴일 여부에 따라 분류
-        if (isHoliday) {
-            this.holidayHours = this.totalHours;
-            this.regularHours = BigDecimal.ZERO;
-        } else {
-            this.regularHours = this.totalHours.subtract(this.nightHours).max(BigDecimal.ZERO);
-            this.holidayHours = BigDecimal.ZERO;
-        }
+    // 휴일 정보와 사업장 규모를 고려한 근무 시간 분류 계산
+    public void calculateHoursWithHolidayInfo(boolean isHoliday, boolean isSmallWorkplace) {
+        WorkPayEngine.PayResult result = WorkPayEngine.threadBuffer();
+        WorkPayEngine.classifyHours(startTime.toNanoOfDay(), endTime.toNanoOfDay(), this.breakMinutes, isHoliday, result);
+        applyHours(result);
     }
 
-    // 사업장 규모를 고려한 급여 계산
-    // WorkRecordCalculationService에서 호출됨
+    // 사업장 규모를 고려한 급여 계산 (현재 시간 분류 값 기준)
     public void calculateSalaryWithAllowanceRules(boolean isSmallWorkplace) {
-        BigDecimal hourlyWage = this.contract.getHourlyWage();
-        BigDecimal premiumRate = BigDecimal.valueOf(0.5);
-
-        // 1. 기본급 계산 (모든 사업장 공통: 1.0배)
-        this.baseSalary = this.totalHours.multiply(hourlyWage);
-
-        if (isSmallWorkplace) {
-            // 5인 미만 사업장: 가산 수당 없음
-            this.overtimeSalary = BigDecimal.ZERO;
-            this.nightSalary = BigDecimal.ZERO;
-            this.holidaySalary = BigDecimal.ZERO;
-        } else {
-            // 5인 이상 사업장: 가산 수당 (0.5배씩) 적용
-            
-            // 연장 가산 (8시간 초과분 0.5배)
-            this.overtimeSalary = this.overtimeHours.multiply(hourlyWage).multiply(premiumRate);
-
-            // 야간 가산 (22-06시 근무분 0.5배)
-            this.nightSalary = this.nightHours.multiply(hourlyWage).multiply(premiumRate);
-
-            // 휴일 가산 (휴일 근무분 0.5배)
-            this.holidaySalary = this.holidayHours.multiply(hourlyWage).multiply(premiumRate);
-        }
+        WorkPayEngine.PayResult result = WorkPayEngine.threadBuffer();
+        WorkPayEngine.calculatePay(
+                WorkPayEngine.toCentiHours(this.totalHours),
+                WorkPayEngine.toCentiHours(this.overtimeHours),
+                WorkPayEngine.toCentiHours(this.nightHours),
+                WorkPayEngine.toCentiHours(this.holidayHours),
+                WorkPayEngine.toCentiWon(this.contract.getHourlyWage()),
+                isSmallWorkplace,
+                result);
+        applySalary(result);
+    }
+
+    // 정수 계산 결과를 BigDecimal 컬럼에 반영 (엔티티 경계에서만 변환)
+    private void applyHours(WorkPayEngine.PayResult result) {
+        this.totalWorkMinutes = result.totalWorkMinutes;
+        this.totalHours = BigDecimal.valueOf(result.totalCentiHours, WorkPayEngine.HOURS_SCALE);
+        this.overtimeHours = BigDecimal.valueOf(result.overtimeCentiHours, WorkPayEngine.HOURS_SCALE);
+        this.nightHours = BigDecimal.valueOf(result.nightCentiHours, WorkPayEngine.HOURS_SCALE);
+        this.regularHours = BigDecimal.valueOf(result.regularCentiHours, WorkPayEngine.HOURS_SCALE);
+        this.holidayHours = BigDecimal.valueOf(result.holidayCentiHours, WorkPayEngine.HOURS_SCALE);
+    }
 
-        // 총 급여 = 기본급(1.0) + 연장가산(0.5) + 야간가산(0.5) + 휴일가산(0.5)
-        this.totalSalary = this.baseSalary
-                .add(this.overtimeSalary)
-                .add(this.nightSalary)
-                .add(this.holidaySalary);
+    private void applySalary(WorkPayEngine.PayResult result) {
+        this.baseSalary = BigDecimal.valueOf(result.basePay, WorkPayEngine.BASE_PAY_SCALE);
+        this.overtimeSalary = BigDecimal.valueOf(result.overtimePay, WorkPayEngine.PREMIUM_PAY_SCALE);
+        this.nightSalary = BigDecimal.valueOf(result.nightPay, WorkPayEngine.PREMIUM_PAY_SCALE);
+        this.holidaySalary = BigDecimal.valueOf(result.holidayPay, WorkPayEngine.PREMIUM_PAY_SCALE);
+        this.totalSalary = BigDecimal.valueOf(result.totalPay, WorkPayEngine.PREMIUM_PAY_SCALE);
     }
 }
@@ -0,0 +1,202 @@
+package com.example.paycheck.domain.workrecord.entity;
+
+import com.example.paycheck.common.BaseEntity;
+import com.example.paycheck.domain.workrecord.enums.WorkRecordGenerationRunStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 월별 근무 기록 자동 생성 작업 실행 이력 및 체크포인트
+ * 대상 월의 계약 ID 구간(파티션)당 1행이며, 구간 안에서 ID 오름차순으로 처리 완료된 마지막 계약 ID를 기록해
+ * 재실행 시 이어서 처리한다.
+ * 체크포인트를 지나친 계약 중 생성에 실패한 계약은 ID를 기록해 두고 재실행 시 다시 처리하며,
+ * 실패한 계약이 남아 있으면 COMPLETED 대신 PARTIAL로 끝낸다.
+ */
+@Entity
+@Table(name = "work_record_generation_run",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_work_record_generation_run_target",
+                columnNames = {"target_year", "target_month", "partition_index"}
+        ))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class WorkRecordGenerationRun extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "target_year", nullable = false)
+    private Integer targetYear;
+
+    @Column(name = "target_month", nullable = false)
+    private Integer targetMonth;
+
+    @Column(name = "partition_index", nullable = false)
+    private Integer partitionIndex;
+
+    // 파티션이 담당하는 계약 ID 구간 (양 끝 포함)
+    @Column(name = "range_start", nullable = false)
+    private Long rangeStart;
+
+    @Column(name = "range_end", nullable = false)
+    private Long rangeEnd;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private WorkRecordGenerationRunStatus status;
+
+    // 체크포인트: 구간 안에서 이 ID 이하의 활성 계약은 처리 완료
+    @Column(name = "last_contract_id", nullable = false)
+    private Long lastContractId;
+
+    @Column(name = "processed_contracts", nullable = false)
+    @Builder.Default
+    private Integer processedContracts = 0;
+
+    @Column(name = "created_records", nullable = false)
+    @Builder.Default
+    private Integer createdRecords = 0;
+
+    // 재처리 대기 중인 실패 계약 수 (failed_contract_ids의 개수)
+    @Column(name = "failed_contracts", nullable = false)
+    @Builder.Default
+    private Integer failedContracts = 0;
+
+    // 재처리 대기 중인 실패 계약 ID (쉼표 구분)
+    @Column(name = "failed_contract_ids", columnDefinition = "TEXT")
+    private String failedContractIds;
+
+    // 실행 횟수 (최초 실행 + 재실행)
+    @Column(name = "attempts", nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    // 누적 처리 시간 (재실행 포함)
+    @Column(name = "elapsed_millis", nullable = false)
+    @Builder.Default
+    private Long elapsedMillis = 0L;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    public static WorkRecordGenerationRun of(YearMonth targetMonth, int partitionIndex, long rangeStart, long rangeEnd) {
+        return WorkRecordGenerationRun.builder()
+                .targetYear(targetMonth.getYear())
+                .targetMonth(targetMonth.getMonthValue())
+                .partitionIndex(partitionIndex)
+                .rangeStart(rangeStart)
+                .rangeEnd(rangeEnd)
+                .lastContractId(rangeStart - 1)
+                .status(WorkRecordGenerationRunStatus.RUNNING)
+                .build();
+    }
+
+    public YearMonth getTargetYearMonth() {
+        return YearMonth.of(targetYear, targetMonth);
+    }
+
+    public LocalDate getPeriodStart() {
+        return YearMonth.of(targetYear, targetMonth).atDay(1);
+    }
+
+    public LocalDate getPeriodEnd() {
+        return YearMonth.of(targetYear, targetMonth).atEndOfMonth();
+    }
+
+    public boolean isCompleted() {
+        return status == WorkRecordGenerationRunStatus.COMPLETED;
+    }
+
+    /**
+     * 실행 시작 (재실행 포함)
+     */
+    public void begin() {
+        this.status = WorkRecordGenerationRunStatus.RUNNING;
+        this.attempts++;
+        this.lastError = null;
+        this.finishedAt = null;
+    }
+
+    /**
+     * 재처리 대기 중인 실패 계약 ID
+     */
+    public List<Long> getFailedContractIdList() {
+        if (failedContractIds == null || failedContractIds.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(failedContractIds.split(","))
+                .map(Long::valueOf)
+                .toList();
+    }
+
+    /**
+     * 처리 완료된 구간 반영 및 체크포인트 전진 (구간 안에서 실패한 계약은 재처리 대기 목록에 추가)
+     */
+    public void recordProgress(Long lastContractId, int processed, int created, List<Long> failedIds, long elapsedMillis) {
+        this.lastContractId = lastContractId;
+        this.processedContracts += processed;
+        this.createdRecords += created;
+        this.elapsedMillis += elapsedMillis;
+        List<Long> pending = new ArrayList<>(getFailedContractIdList());
+        pending.addAll(failedIds);
+        updateFailedContracts(pending);
+    }
+
+    /**
+     * 실패 계약 재처리 결과 반영 (다시 실패한 계약만 재처리 대기 목록에 남김)
+     */
+    public void recordRetry(int processed, int created, List<Long> stillFailedIds, long elapsedMillis) {
+        this.processedContracts += processed;
+        this.createdRecords += created;
+        this.elapsedMillis += elapsedMillis;
+        updateFailedContracts(stillFailedIds);
+    }
+
+    /**
+     * 끝까지 처리 (실패한 계약이 남아 있으면 PARTIAL)
+     */
+    public void complete() {
+        this.status = failedContracts > 0 ? WorkRecordGenerationRunStatus.PARTIAL : WorkRecordGenerationRunStatus.COMPLETED;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public void fail(String errorMessage) {
+        this.status = WorkRecordGenerationRunStatus.FAILED;
+        this.lastError = errorMessage != null && errorMessage.length() > 500 ? errorMessage.substring(0, 500) : errorMessage;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    private void updateFailedContracts(List<Long> failedIds) {
+        this.failedContracts = failedIds.size();
+        this.failedContractIds = failedIds.isEmpty()
+                ? null
+                : failedIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    /**
+     * 초당 처리 계약 수 (누적 처리 시간 기준)
+     */
+    public BigDecimal getContractsPerSecond() {
+        if (elapsedMillis == 0) {
+            return BigDecimal.ZERO;
+        }
+        return BigDecimal.valueOf(processedContracts * 1000L)
+                .divide(BigDecimal.valueOf(elapsedMillis), 2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.paycheck.domain.workrecord.enums;
+
+public enum ShiftConflictSource {
+    WORK_RECORD,              // 유효한(삭제되지 않은) 근무 기록
+    PENDING_CREATE_REQUEST,   // 대기 중인 근무 생성 정정요청
+    REQUESTED                 // 함께 요청된 다른 근무 시간대
+}
@@ -0,0 +1,8 @@
+package com.example.paycheck.domain.workrecord.enums;
+
+public enum WorkRecordGenerationRunStatus {
+    RUNNING,     // 실행 중 (중단된 경우 재실행 시 체크포인트부터 이어서 처리)
+    COMPLETED,   // 완료
+    PARTIAL,     // 끝까지 처리했으나 실패한 계약이 있음 (재실행 시 실패한 계약만 다시 처리)
+    FAILED       // 실패 (재실행 시 체크포인트부터 이어서 처리)
+}
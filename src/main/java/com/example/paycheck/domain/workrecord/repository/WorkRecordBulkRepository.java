@@ -0,0 +1,20 @@
+package com.example.paycheck.domain.workrecord.repository;
+
+import com.example.paycheck.domain.workrecord.entity.WorkRecord;
+
+import java.util.List;
+
+/**
+ * 근무 기록 일괄 INSERT 전용 리포지토리 (WorkRecordRepository 확장)
+ */
+public interface WorkRecordBulkRepository {
+
+    /**
+     * 근무 기록을 JDBC 배치 INSERT로 일괄 저장 (IDENTITY 키라 saveAll은 건별 INSERT가 됨)
+     * 저장된 행은 영속성 컨텍스트에 등록되지 않으며, 전달한 엔티티에 ID도 채워지지 않는다.
+     * 저장 직후 엔티티를 다시 사용해야 하는 경우에는 saveAll을 사용한다.
+     *
+     * @return 저장된 행 수
+     */
+    int insertAll(List<WorkRecord> workRecords);
+}
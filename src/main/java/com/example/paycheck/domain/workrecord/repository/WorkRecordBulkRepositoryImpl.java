@@ -0,0 +1,91 @@
+package com.example.paycheck.domain.workrecord.repository;
+
+import com.example.paycheck.domain.workrecord.entity.WorkRecord;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 근무 기록 일괄 INSERT 구현
+ * 현재 트랜잭션의 커넥션에서 PreparedStatement 배치로 실행한다.
+ * (MySQL은 rewriteBatchedStatements=true 설정으로 다중 행 INSERT 하나로 전송)
+ */
+public class WorkRecordBulkRepositoryImpl implements WorkRecordBulkRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO work_record (contract_id, weekly_allowance_id, work_date, start_time, end_time, " +
+            "break_minutes, total_work_minutes, total_hours, regular_hours, night_hours, holiday_hours, overtime_hours, " +
+            "status, is_modified, memo, base_salary, night_salary, holiday_salary, overtime_salary, total_salary, " +
+            "created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int insertAll(List<WorkRecord> workRecords) {
+        if (workRecords.isEmpty()) {
+            return 0;
+        }
+
+        // 계약 등 선행 변경분을 먼저 반영 (FK 참조)
+        entityManager.flush();
+
+        LocalDateTime now = LocalDateTime.now();
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL)) {
+                int pending = 0;
+                for (WorkRecord workRecord : workRecords) {
+                    bind(statement, workRecord, now);
+                    statement.addBatch();
+                    if (++pending == BATCH_SIZE) {
+                        statement.executeBatch();
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    statement.executeBatch();
+                }
+            }
+        });
+        return workRecords.size();
+    }
+
+    private void bind(PreparedStatement statement, WorkRecord workRecord, LocalDateTime now) throws SQLException {
+        int index = 1;
+        statement.setLong(index++, workRecord.getContract().getId());
+        if (workRecord.getWeeklyAllowance() != null) {
+            statement.setLong(index++, workRecord.getWeeklyAllowance().getId());
+        } else {
+            statement.setNull(index++, Types.BIGINT);
+        }
+        statement.setObject(index++, workRecord.getWorkDate());
+        statement.setObject(index++, workRecord.getStartTime());
+        statement.setObject(index++, workRecord.getEndTime());
+        statement.setObject(index++, workRecord.getBreakMinutes(), Types.INTEGER);
+        statement.setObject(index++, workRecord.getTotalWorkMinutes(), Types.INTEGER);
+        statement.setBigDecimal(index++, workRecord.getTotalHours());
+        statement.setBigDecimal(index++, workRecord.getRegularHours());
+        statement.setBigDecimal(index++, workRecord.getNightHours());
+        statement.setBigDecimal(index++, workRecord.getHolidayHours());
+        statement.setBigDecimal(index++, workRecord.getOvertimeHours());
+        statement.setString(index++, workRecord.getStatus().name());
+        statement.setBoolean(index++, Boolean.TRUE.equals(workRecord.getIsModified()));
+        statement.setString(index++, workRecord.getMemo());
+        statement.setBigDecimal(index++, workRecord.getBaseSalary());
+        statement.setBigDecimal(index++, workRecord.getNightSalary());
+        statement.setBigDecimal(index++, workRecord.getHolidaySalary());
+        statement.setBigDecimal(index++, workRecord.getOvertimeSalary());
+        statement.setBigDecimal(index++, workRecord.getTotalSalary());
+        statement.setObject(index++, now);
+        statement.setObject(index, now);
+    }
+}
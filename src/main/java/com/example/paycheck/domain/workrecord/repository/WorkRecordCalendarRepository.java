@@ -0,0 +1,20 @@
+package com.example.paycheck.domain.workrecord.repository;
+
+import com.example.paycheck.domain.workrecord.dto.WorkRecordCalendarRow;
+import com.example.paycheck.domain.workrecord.enums.WorkRecordStatus;
+
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+/**
+ * 사업장 캘린더 스트리밍 조회 전용 리포지토리 (WorkRecordRepository 확장)
+ */
+public interface WorkRecordCalendarRepository {
+
+    /**
+     * 사업장 캘린더 조회용 프로젝션 (근무일, 시작 시각, ID 순으로 DB에서 정렬하여 스트리밍)
+     * 트랜잭션 안에서 호출하고, 반환된 Stream은 반드시 닫아야 한다. (닫을 때까지 커넥션을 점유)
+     */
+    Stream<WorkRecordCalendarRow> streamCalendarRowsByWorkplaceAndDateRange(
+            Long workplaceId, LocalDate startDate, LocalDate endDate, WorkRecordStatus deletedStatus);
+}
@@ -0,0 +1,67 @@
+package com.example.paycheck.domain.workrecord.repository;
+
+import com.example.paycheck.domain.workrecord.dto.WorkRecordCalendarRow;
+import com.example.paycheck.domain.workrecord.enums.WorkRecordStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+/**
+ * 사업장 캘린더 스트리밍 조회 구현
+ * - MySQL: fetchSize를 Integer.MIN_VALUE로 지정하여 이 문장만 행 단위 스트리밍으로 읽는다.
+ *   (useCursorFetch를 URL 전체에 켜면 모든 문장이 서버 PreparedStatement가 되어 배치 INSERT 등에 영향을 줌)
+ *   스트리밍 중에는 같은 커넥션으로 다른 문장을 실행할 수 없으므로 행 처리 중 추가 조회를 하지 않는다.
+ * - 그 외(H2 테스트): 음수 fetchSize를 허용하지 않으므로 일반 fetchSize를 사용한다.
+ */
+public class WorkRecordCalendarRepositoryImpl implements WorkRecordCalendarRepository {
+
+    private static final int MYSQL_STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+    private static final int DEFAULT_FETCH_SIZE = 500;
+
+    private static final String CALENDAR_ROWS_JPQL =
+            "SELECT new com.example.paycheck.domain.workrecord.dto.WorkRecordCalendarRow(" +
+            "wr.id, c.id, u.name, wp.name, wr.workDate, wr.startTime, wr.endTime, " +
+            "wr.breakMinutes, c.hourlyWage, wr.status) " +
+            "FROM WorkRecord wr " +
+            "JOIN wr.contract c " +
+            "JOIN c.workplace wp " +
+            "JOIN c.worker wk " +
+            "JOIN wk.user u " +
+            "WHERE wp.id = :workplaceId " +
+            "AND wr.workDate BETWEEN :startDate AND :endDate " +
+            "AND wr.status <> :deletedStatus " +
+            "ORDER BY wr.workDate ASC, wr.startTime ASC, wr.id ASC";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile Integer fetchSize;
+
+    @Override
+    public Stream<WorkRecordCalendarRow> streamCalendarRowsByWorkplaceAndDateRange(
+            Long workplaceId, LocalDate startDate, LocalDate endDate, WorkRecordStatus deletedStatus) {
+        return entityManager.createQuery(CALENDAR_ROWS_JPQL, WorkRecordCalendarRow.class)
+                .setParameter("workplaceId", workplaceId)
+                .setParameter("startDate", startDate)
+                .setParameter("endDate", endDate)
+                .setParameter("deletedStatus", deletedStatus)
+                .setHint("org.hibernate.fetchSize", fetchSize())
+                .getResultStream();
+    }
+
+    private int fetchSize() {
+        if (fetchSize == null) {
+            Dialect dialect = entityManager.getEntityManagerFactory()
+                    .unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices()
+                    .getDialect();
+            fetchSize = dialect instanceof MySQLDialect ? MYSQL_STREAMING_FETCH_SIZE : DEFAULT_FETCH_SIZE;
+        }
+        return fetchSize;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.paycheck.domain.workrecord.repository;
+
+import com.example.paycheck.domain.workrecord.entity.WorkRecordGenerationRun;
+import com.example.paycheck.domain.workrecord.enums.WorkRecordGenerationRunStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface WorkRecordGenerationRunRepository extends JpaRepository<WorkRecordGenerationRun, Long> {
+
+    Optional<WorkRecordGenerationRun> findByTargetYearAndTargetMonthAndPartitionIndex(
+            Integer targetYear, Integer targetMonth, Integer partitionIndex);
+
+    // 중단/실패한 실행 조회 (재개 대상)
+    List<WorkRecordGenerationRun> findByStatusNotOrderByIdAsc(WorkRecordGenerationRunStatus status);
+}
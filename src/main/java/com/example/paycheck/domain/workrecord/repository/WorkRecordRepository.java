@@ -1,8 +1,13 @@
 package com.example.paycheck.domain.workrecord.repository;
 
+import com.example.paycheck.common.dto.ResourceOwner;
+import com.example.paycheck.common.dto.ResourceVersion;
+import com.example.paycheck.domain.workrecord.dto.WorkRecordPaySummary;
+import com.example.paycheck.domain.workrecord.dto.WorkShift;
 import com.example.paycheck.domain.workrecord.entity.WorkRecord;
 import com.example.paycheck.domain.workrecord.enums.WorkRecordStatus;
 import com.example.paycheck.domain.contract.entity.WorkerContract;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -10,11 +15,14 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface WorkRecordRepository extends JpaRepository<WorkRecord, Long> {
+public interface WorkRecordRepository extends JpaRepository<WorkRecord, Long>, WorkRecordBulkRepository,
+        WorkRecordCalendarRepository {
 
         @Query("SELECT wr FROM WorkRecord wr " +
                         "JOIN FETCH wr.contract c " +
@@ -41,7 +49,9 @@ public interface WorkRecordRepository extends JpaRepository<WorkRecord, Long> {
 
         @Query("SELECT wr FROM WorkRecord wr " +
                         "JOIN FETCH wr.contract c " +
+                        "JOIN FETCH c.workplace " +
                         "JOIN FETCH c.worker wk " +
+                        "JOIN FETCH wk.user " +
                         "WHERE wk.id = :workerId " +
                         "AND wr.workDate BETWEEN :startDate AND :endDate " +
                         "AND wr.status <> :deletedStatus " +
@@ -52,6 +62,42 @@ public interface WorkRecordRepository extends JpaRepository<WorkRecord, Long> {
                         @Param("endDate") LocalDate endDate,
                         @Param("deletedStatus") WorkRecordStatus deletedStatus);
 
+        // 근로자 타임라인 첫 페이지 (근무일, 시작 시각, ID 역순, pageable로 개수 제한)
+        @Query("SELECT wr FROM WorkRecord wr " +
+                        "JOIN FETCH wr.contract c " +
+                        "JOIN FETCH c.workplace " +
+                        "JOIN FETCH c.worker wk " +
+                        "JOIN FETCH wk.user " +
+                        "WHERE wk.id = :workerId " +
+                        "AND wr.status <> :deletedStatus " +
+                        "ORDER BY wr.workDate DESC, wr.startTime DESC, wr.id DESC")
+        List<WorkRecord> findTimelineByWorkerId(
+                        @Param("workerId") Long workerId,
+                        @Param("deletedStatus") WorkRecordStatus deletedStatus,
+                        Pageable pageable);
+
+        // 근로자 타임라인 다음 페이지 (커서의 정렬 키보다 앞선 근무 기록만 조회하는 keyset 조건)
+        // workDate <= :cursorDate 조건으로 계약별 idx_contract_date_status 범위만 읽고, 근로자 전체 정렬은 계약 행을 합쳐 DB에서 수행
+        @Query("SELECT wr FROM WorkRecord wr " +
+                        "JOIN FETCH wr.contract c " +
+                        "JOIN FETCH c.workplace " +
+                        "JOIN FETCH c.worker wk " +
+                        "JOIN FETCH wk.user " +
+                        "WHERE wk.id = :workerId " +
+                        "AND wr.status <> :deletedStatus " +
+                        "AND wr.workDate <= :cursorDate " +
+                        "AND (wr.workDate < :cursorDate " +
+                        "OR wr.startTime < :cursorStartTime " +
+                        "OR (wr.startTime = :cursorStartTime AND wr.id < :cursorId)) " +
+                        "ORDER BY wr.workDate DESC, wr.startTime DESC, wr.id DESC")
+        List<WorkRecord> findTimelineByWorkerIdBefore(
+                        @Param("workerId") Long workerId,
+                        @Param("deletedStatus") WorkRecordStatus deletedStatus,
+                        @Param("cursorDate") LocalDate cursorDate,
+                        @Param("cursorStartTime") LocalTime cursorStartTime,
+                        @Param("cursorId") Long cursorId,
+                        Pageable pageable);
+
         @Query("SELECT wr FROM WorkRecord wr " +
                         "JOIN FETCH wr.contract c " +
                         "WHERE c.id = :contractId " +
@@ -75,6 +121,55 @@ public interface WorkRecordRepository extends JpaRepository<WorkRecord, Long> {
                         @Param("endDate") LocalDate endDate,
                         @Param("deletedStatus") WorkRecordStatus deletedStatus);
 
+        // 급여 계산용 계약/기간 근무 기록 집계 (엔티티 로딩 없이 DB에서 합산, 근무 기록이 없으면 빈 결과)
+        @Query("SELECT new com.example.paycheck.domain.workrecord.dto.WorkRecordPaySummary(" +
+                        "wr.contract.id, COUNT(wr), SUM(wr.totalHours), SUM(wr.baseSalary), " +
+                        "SUM(wr.nightSalary), SUM(wr.holidaySalary), SUM(wr.overtimeSalary)) " +
+                        "FROM WorkRecord wr " +
+                        "WHERE wr.contract.id = :contractId " +
+                        "AND wr.workDate BETWEEN :startDate AND :endDate " +
+                        "AND wr.status <> :deletedStatus " +
+                        "GROUP BY wr.contract.id")
+        Optional<WorkRecordPaySummary> sumPayByContractAndDateRange(
+                        @Param("contractId") Long contractId,
+                        @Param("startDate") LocalDate startDate,
+                        @Param("endDate") LocalDate endDate,
+                        @Param("deletedStatus") WorkRecordStatus deletedStatus);
+
+        // 여러 계약의 동일 기간 근무 기록 집계 (계약별 그룹, 근무 기록이 없는 계약은 결과에서 빠짐)
+        @Query("SELECT new com.example.paycheck.domain.workrecord.dto.WorkRecordPaySummary(" +
+                        "wr.contract.id, COUNT(wr), SUM(wr.totalHours), SUM(wr.baseSalary), " +
+                        "SUM(wr.nightSalary), SUM(wr.holidaySalary), SUM(wr.overtimeSalary)) " +
+                        "FROM WorkRecord wr " +
+                        "WHERE wr.contract.id IN :contractIds " +
+                        "AND wr.workDate BETWEEN :startDate AND :endDate " +
+                        "AND wr.status IN :statuses " +
+                        "GROUP BY wr.contract.id")
+        List<WorkRecordPaySummary> sumPayByContractIdsAndDateRangeAndStatus(
+                        @Param("contractIds") List<Long> contractIds,
+                        @Param("startDate") LocalDate startDate,
+                        @Param("endDate") LocalDate endDate,
+                        @Param("statuses") List<WorkRecordStatus> statuses);
+
+        // 사업장 계약(비활성 포함)의 급여 기간별 근무 기록 집계 (월급날이 같은 계약은 급여 기간이 같으므로 월급날 단위로 조회)
+        @Query("SELECT new com.example.paycheck.domain.workrecord.dto.WorkRecordPaySummary(" +
+                        "c.id, COUNT(wr), SUM(wr.totalHours), SUM(wr.baseSalary), " +
+                        "SUM(wr.nightSalary), SUM(wr.holidaySalary), SUM(wr.overtimeSalary)) " +
+                        "FROM WorkRecord wr " +
+                        "JOIN wr.contract c " +
+                        "WHERE c.workplace.id = :workplaceId " +
+                        "AND c.paymentDay = :paymentDay " +
+                        "AND wr.workDate BETWEEN :startDate AND :endDate " +
+                        "AND wr.status <> :deletedStatus " +
+                        "GROUP BY c.id " +
+                        "ORDER BY c.id ASC")
+        List<WorkRecordPaySummary> sumPayByWorkplaceAndPaymentDayAndDateRange(
+                        @Param("workplaceId") Long workplaceId,
+                        @Param("paymentDay") Integer paymentDay,
+                        @Param("startDate") LocalDate startDate,
+                        @Param("endDate") LocalDate endDate,
+                        @Param("deletedStatus") WorkRecordStatus deletedStatus);
+
         @Query("SELECT DISTINCT c FROM WorkerContract c " +
                         "JOIN FETCH c.worker w " +
                         "JOIN FETCH w.user " +
@@ -84,8 +179,39 @@ public interface WorkRecordRepository extends JpaRepository<WorkRecord, Long> {
         List<WorkerContract> findContractsByWorkplaceId(
                         @Param("workplaceId") Long workplaceId);
 
+        // 사업장 계약(비활성 포함)의 월급날 목록 (사업장 급여 일괄 계산의 급여 기간별 집계용)
+        @Query("SELECT DISTINCT c.paymentDay FROM WorkerContract c " +
+                        "WHERE c.workplace.id = :workplaceId")
+        List<Integer> findPaymentDaysByWorkplaceId(
+                        @Param("workplaceId") Long workplaceId);
+
+        @Query("SELECT c FROM WorkerContract c " +
+                        "JOIN FETCH c.worker w " +
+                        "JOIN FETCH w.user " +
+                        "JOIN FETCH c.workplace " +
+                        "WHERE c.id IN :contractIds")
+        List<WorkerContract> findContractsWithWorkerUserByIdIn(
+                        @Param("contractIds") List<Long> contractIds);
+
         boolean existsByContractAndWorkDate(WorkerContract contract, LocalDate workDate);
 
+        // 계약/기간 내 근무 기록이 있는 날짜 일괄 조회 (상태 무관, 근무 기록 자동 생성 중복 체크용)
+        @Query("SELECT wr.workDate FROM WorkRecord wr " +
+                        "WHERE wr.contract.id = :contractId " +
+                        "AND wr.workDate BETWEEN :startDate AND :endDate")
+        List<LocalDate> findWorkDatesByContractAndDateRange(
+                        @Param("contractId") Long contractId,
+                        @Param("startDate") LocalDate startDate,
+                        @Param("endDate") LocalDate endDate);
+
+        // 계약의 유효한(삭제되지 않은) 근무일 전체 조회 (근무일 비트맵 인덱스 적재용)
+        @Query("SELECT DISTINCT wr.workDate FROM WorkRecord wr " +
+                        "WHERE wr.contract.id = :contractId " +
+                        "AND wr.status <> :deletedStatus")
+        List<LocalDate> findDistinctWorkDatesByContractIdAndStatusNot(
+                        @Param("contractId") Long contractId,
+                        @Param("deletedStatus") WorkRecordStatus deletedStatus);
+
         @Query("SELECT c FROM WorkerContract c " +
                         "JOIN FETCH c.worker w " +
                         "JOIN FETCH c.workplace " +
@@ -127,17 +253,34 @@ public interface WorkRecordRepository extends JpaRepository<WorkRecord, Long> {
                         @Param("endDate") LocalDate endDate,
                         @Param("deletedStatus") WorkRecordStatus deletedStatus);
 
-        // 동일한 시간대에 유효한(삭제되지 않은) 근무 기록 존재 여부 확인
-        @Query("SELECT COUNT(wr) > 0 FROM WorkRecord wr " +
+        // 사업장 캘린더 조회 범위의 버전 (조건부 GET용, 응답에 포함되는 계약/사업장/근로자 이름 변경까지 반영)
+        @Query("SELECT new com.example.paycheck.common.dto.ResourceVersion(" +
+                        "MAX(GREATEST(wr.updatedAt, c.updatedAt, wp.updatedAt, u.updatedAt)), COUNT(wr)) " +
+                        "FROM WorkRecord wr " +
+                        "JOIN wr.contract c " +
+                        "JOIN c.workplace wp " +
+                        "JOIN c.worker wk " +
+                        "JOIN wk.user u " +
+                        "WHERE wp.id = :workplaceId " +
+                        "AND wr.workDate BETWEEN :startDate AND :endDate " +
+                        "AND wr.status <> :deletedStatus")
+        ResourceVersion findCalendarVersionByWorkplaceAndDateRange(
+                        @Param("workplaceId") Long workplaceId,
+                        @Param("startDate") LocalDate startDate,
+                        @Param("endDate") LocalDate endDate,
+                        @Param("deletedStatus") WorkRecordStatus deletedStatus);
+
+        // 기간 내 유효한(삭제되지 않은) 근무 기록의 시간대 조회 (근무 시간 겹침 검사용)
+        @Query("SELECT new com.example.paycheck.domain.workrecord.dto.WorkShift(" +
+                        "wr.id, wr.workDate, wr.startTime, wr.endTime) " +
+                        "FROM WorkRecord wr " +
                         "WHERE wr.contract.id = :contractId " +
-                        "AND wr.workDate = :workDate " +
-                        "AND wr.status <> :deletedStatus " +
-                        "AND (wr.startTime < :endTime AND wr.endTime > :startTime)")
-        boolean existsOverlappingWorkRecord(
+                        "AND wr.workDate BETWEEN :startDate AND :endDate " +
+                        "AND wr.status <> :deletedStatus")
+        List<WorkShift> findShiftsByContractIdAndWorkDateBetween(
                         @Param("contractId") Long contractId,
-                        @Param("workDate") LocalDate workDate,
-                        @Param("startTime") LocalTime startTime,
-                        @Param("endTime") LocalTime endTime,
+                        @Param("startDate") LocalDate startDate,
+                        @Param("endDate") LocalDate endDate,
                         @Param("deletedStatus") WorkRecordStatus deletedStatus);
 
         // 특정 계약의 여러 날짜에 대한 기존 WorkRecord 날짜 일괄 조회 (배치 중복 체크용)
@@ -159,6 +302,26 @@ public interface WorkRecordRepository extends JpaRepository<WorkRecord, Long> {
                         @Param("currentStatus") WorkRecordStatus currentStatus,
                         @Param("newStatus") WorkRecordStatus newStatus);
 
+        // 자동 완료 배치용: 지정한 근무 기록 중 현재 상태인 것만 새 상태로 일괄 변경
+        @Modifying(clearAutomatically = true, flushAutomatically = true)
+        @Query("UPDATE WorkRecord wr SET wr.status = :newStatus, wr.updatedAt = :updatedAt " +
+                        "WHERE wr.id IN :ids AND wr.status = :currentStatus")
+        int bulkUpdateStatusByIdIn(
+                        @Param("ids") List<Long> ids,
+                        @Param("currentStatus") WorkRecordStatus currentStatus,
+                        @Param("newStatus") WorkRecordStatus newStatus,
+                        @Param("updatedAt") LocalDateTime updatedAt);
+
+        // 자동 완료 배치용: 지정한 근무 기록을 계약/사업장과 함께 조회 (재계산용)
+        @Query("SELECT wr FROM WorkRecord wr " +
+                        "JOIN FETCH wr.contract c " +
+                        "JOIN FETCH c.workplace " +
+                        "WHERE wr.id IN :ids " +
+                        "AND wr.status = :status")
+        List<WorkRecord> findWithContractByIdInAndStatus(
+                        @Param("ids") List<Long> ids,
+                        @Param("status") WorkRecordStatus status);
+
         // 영구 삭제용: 여러 계약의 모든 WorkRecord 일괄 삭제
         @Modifying(clearAutomatically = true)
         @Query("DELETE FROM WorkRecord wr WHERE wr.contract.id IN :contractIds")
@@ -183,4 +346,16 @@ public interface WorkRecordRepository extends JpaRepository<WorkRecord, Long> {
                         @Param("currentDate") LocalDate currentDate,
                         @Param("currentTime") LocalTime currentTime,
                         @Param("previousDate") LocalDate previousDate);
+
+        /**
+         * 권한 검사용: 근무 기록 계약의 고용주/근로자 사용자 ID
+         */
+        @Query("SELECT new com.example.paycheck.common.dto.ResourceOwner(e.user.id, w.user.id) " +
+                        "FROM WorkRecord wr " +
+                        "JOIN wr.contract c " +
+                        "JOIN c.workplace wp " +
+                        "JOIN wp.employer e " +
+                        "JOIN c.worker w " +
+                        "WHERE wr.id = :workRecordId")
+        Optional<ResourceOwner> findOwnerById(@Param("workRecordId") Long workRecordId);
 }
@@ -1,18 +1,19 @@
 package com.example.paycheck.domain.workrecord.scheduler;
 
-import com.example.paycheck.domain.contract.entity.WorkerContract;
+import com.example.paycheck.domain.workrecord.entity.WorkRecordGenerationRun;
 import com.example.paycheck.domain.workrecord.enums.WorkRecordStatus;
 import com.example.paycheck.domain.workrecord.repository.WorkRecordRepository;
 import com.example.paycheck.domain.workrecord.service.WorkRecordCommandService;
-import com.example.paycheck.domain.workrecord.service.WorkRecordGenerationService;
+import com.example.paycheck.domain.workrecord.service.WorkRecordGenerationJobService;
+import com.example.paycheck.global.scheduling.SchedulerLock;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.YearMonth;
 import java.util.List;
 
 @Slf4j
@@ -20,46 +21,53 @@ import java.util.List;
 @RequiredArgsConstructor
 public class WorkRecordScheduler {
 
+    // 자동 완료 청크 크기 (청크당 트랜잭션 1개, IN절 파라미터 수 제한)
+    private static final int AUTO_COMPLETE_CHUNK_SIZE = 500;
+
     private final WorkRecordRepository workRecordRepository;
-    private final WorkRecordGenerationService workRecordGenerationService;
+    private final WorkRecordGenerationJobService workRecordGenerationJobService;
     private final WorkRecordCommandService workRecordCommandService;
+    private final SchedulerLock schedulerLock;
 
     /**
      * 매월 15일 오전 2시에 2개월 뒤 WorkRecord 생성
      * 항상 2개월치 데이터를 유지하기 위해 2개월 뒤의 데이터를 생성
+     * 활성 계약을 청크 단위로 나누어 병렬 처리하며, 중단 시 체크포인트부터 재개 (WorkRecordGenerationJobService)
+     * 여러 인스턴스에서 동시에 실행되면 계약 ID 구간(파티션)을 나누어 처리
      * cron: 초 분 시 일 월 요일
      * "0 0 2 15 * *" = 매월 15일 오전 2시 0분 0초
      */
     @Scheduled(cron = "0 0 2 15 * *")
-    @Transactional
     public void generateTwoMonthsLaterWorkRecords() {
         log.info("===== 2개월 뒤 WorkRecord 자동 생성 스케줄러 시작 =====");
 
         try {
-            // 모든 활성 계약 조회
-            List<WorkerContract> activeContracts = workRecordRepository.findAllActiveContracts();
-            log.info("활성 계약 수: {}", activeContracts.size());
-
-            int successCount = 0;
-            int failCount = 0;
-
-            // 각 계약마다 2개월 뒤 WorkRecord 생성
-            for (WorkerContract contract : activeContracts) {
-                try {
-                    workRecordGenerationService.generateTwoMonthsLaterWorkRecords(contract);
-                    successCount++;
-                } catch (Exception e) {
-                    log.error("WorkRecord 생성 실패: Contract ID={}, Error={}", contract.getId(), e.getMessage(), e);
-                    failCount++;
-                }
-            }
-
-            log.info("===== 2개월 뒤 WorkRecord 자동 생성 완료 ===== (성공: {}, 실패: {})", successCount, failCount);
+            YearMonth targetMonth = YearMonth.now().plusMonths(2);
+            List<WorkRecordGenerationRun> runs = workRecordGenerationJobService.run(targetMonth);
+            log.info("===== 2개월 뒤 WorkRecord 자동 생성 종료 ===== (대상 월: {}, 처리 파티션: {}, 계약: {}, 생성: {}, 실패: {})",
+                    targetMonth, runs.size(),
+                    runs.stream().mapToInt(WorkRecordGenerationRun::getProcessedContracts).sum(),
+                    runs.stream().mapToInt(WorkRecordGenerationRun::getCreatedRecords).sum(),
+                    runs.stream().mapToInt(WorkRecordGenerationRun::getFailedContracts).sum());
         } catch (Exception e) {
             log.error("WorkRecord 자동 생성 스케줄러 실행 중 오류 발생", e);
         }
     }
 
+    /**
+     * 매일 오전 3시에 중단/실패한 WorkRecord 자동 생성 작업을 체크포인트부터 재개
+     * cron: 초 분 시 일 월 요일
+     * "0 0 3 * * *" = 매일 오전 3시 0분 0초
+     */
+    @Scheduled(cron = "0 0 3 * * *")
+    public void resumeUnfinishedWorkRecordGeneration() {
+        try {
+            workRecordGenerationJobService.resumeUnfinished();
+        } catch (Exception e) {
+            log.error("WorkRecord 자동 생성 작업 재개 중 오류 발생", e);
+        }
+    }
+
     /**
      * 매시간 정각에 종료 시각이 지난 SCHEDULED 근무를 자동 COMPLETED 처리
      * cron: 초 분 시 일 월 요일
@@ -67,6 +75,10 @@ public class WorkRecordScheduler {
      */
     @Scheduled(cron = "0 0 * * * *")
     public void autoCompletePastScheduledWorkRecords() {
+        schedulerLock.runExclusively("work-record-auto-complete", this::doAutoCompletePastScheduledWorkRecords);
+    }
+
+    private void doAutoCompletePastScheduledWorkRecords() {
         log.info("===== 종료된 SCHEDULED 근무 자동 완료 스케줄러 시작 =====");
 
         try {
@@ -88,13 +100,23 @@ public class WorkRecordScheduler {
             int successCount = 0;
             int failCount = 0;
 
-            for (Long workRecordId : targetIds) {
+            // 청크마다 별도 트랜잭션에서 일괄 완료, 청크 실패 시 해당 청크만 건별 완료로 전환
+            for (int from = 0; from < targetIds.size(); from += AUTO_COMPLETE_CHUNK_SIZE) {
+                List<Long> chunk = targetIds.subList(from, Math.min(from + AUTO_COMPLETE_CHUNK_SIZE, targetIds.size()));
                 try {
-                    workRecordCommandService.completeWorkRecord(workRecordId);
-                    successCount++;
+                    // 그 사이 수정/삭제되어 SCHEDULED가 아닌 근무 기록은 완료 처리에서 제외됨
+                    successCount += workRecordCommandService.completeWorkRecords(chunk);
                 } catch (Exception e) {
-                    log.error("근무 자동 완료 실패: WorkRecord ID={}, Error={}", workRecordId, e.getMessage(), e);
-                    failCount++;
+                    log.warn("근무 일괄 자동 완료 실패, 건별 처리로 전환: 대상 {}건, Error={}", chunk.size(), e.getMessage());
+                    for (Long workRecordId : chunk) {
+                        try {
+                            workRecordCommandService.completeWorkRecord(workRecordId);
+                            successCount++;
+                        } catch (Exception ex) {
+                            log.error("근무 자동 완료 실패: WorkRecord ID={}, Error={}", workRecordId, ex.getMessage(), ex);
+                            failCount++;
+                        }
+                    }
                 }
             }
 
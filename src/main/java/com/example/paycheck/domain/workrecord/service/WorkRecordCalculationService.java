@@ -1,17 +1,15 @@
 package com.example.paycheck.domain.workrecord.service;
 
-import com.example.paycheck.domain.holiday.service.HolidayService;
+import com.example.paycheck.domain.holiday.service.HolidayCalendar;
 import com.example.paycheck.domain.workplace.entity.Workplace;
 import com.example.paycheck.domain.workrecord.entity.WorkRecord;
+import com.example.paycheck.domain.workrecord.util.WorkPayEngine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
-import java.time.LocalDate;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * WorkRecord 급여 계산 서비스
@@ -22,7 +20,7 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class WorkRecordCalculationService {
 
-    private final HolidayService holidayService;
+    private final HolidayCalendar holidayCalendar;
 
     /**
      * WorkRecord의 시간 및 급여를 계산
@@ -35,7 +33,7 @@ public class WorkRecordCalculationService {
         boolean isSmallWorkplace = workplace.getIsLessThanFiveEmployees();
 
         // 2. 휴일 여부 확인 (주말 + 공공기관 휴일)
-        boolean isHoliday = holidayService.isPublicHoliday(workRecord.getWorkDate());
+        boolean isHoliday = holidayCalendar.isHoliday(workRecord.getWorkDate());
 
         // 3. 로그 출력 (디버깅용)
         if (log.isDebugEnabled()) {
@@ -43,14 +41,13 @@ public class WorkRecordCalculationService {
                     workRecord.getWorkDate(), isHoliday, isSmallWorkplace);
         }
 
-        // 4. 엔티티 계산 메서드 호출
-        workRecord.calculateHoursWithHolidayInfo(isHoliday, isSmallWorkplace);
-        workRecord.calculateSalaryWithAllowanceRules(isSmallWorkplace);
+        // 4. 엔티티 계산 메서드 호출 (정수 기반 WorkPayEngine 사용)
+        workRecord.calculatePayWithHolidayInfo(isHoliday, isSmallWorkplace);
     }
 
     /**
      * 여러 WorkRecord의 시간 및 급여를 일괄 계산
-     * 공휴일 정보를 연도별로 한 번에 조회하여 N+1 문제 방지
+     * 휴일 여부는 단건 계산과 같은 HolidayCalendar로 판단 (연도별 1회 조회 후 비트 확인)
      *
      * @param workRecords 계산할 WorkRecord 목록
      */
@@ -59,26 +56,16 @@ public class WorkRecordCalculationService {
             return;
         }
 
-        // 1. 관련 연도의 공휴일 날짜를 한 번에 조회
-        Set<Integer> years = workRecords.stream()
-                .map(wr -> wr.getWorkDate().getYear())
-                .collect(Collectors.toSet());
-
-        Set<LocalDate> holidayDates = years.stream()
-                .flatMap(year -> holidayService.getHolidayDates(year).stream())
-                .collect(Collectors.toSet());
-
-        // 2. 각 WorkRecord 계산
+        // 각 WorkRecord 계산 (결과 버퍼는 레코드 간 재사용)
+        WorkPayEngine.PayResult buffer = new WorkPayEngine.PayResult();
         for (WorkRecord workRecord : workRecords) {
             Workplace workplace = workRecord.getContract().getWorkplace();
             boolean isSmallWorkplace = workplace.getIsLessThanFiveEmployees();
 
-            // 주말 또는 공휴일 여부 확인
-            boolean isHoliday = workRecord.getWorkDate().getDayOfWeek().getValue() >= 6
-                    || holidayDates.contains(workRecord.getWorkDate());
+            // 주말 또는 공공기관 휴일 여부 확인
+            boolean isHoliday = holidayCalendar.isHoliday(workRecord.getWorkDate());
 
-            workRecord.calculateHoursWithHolidayInfo(isHoliday, isSmallWorkplace);
-            workRecord.calculateSalaryWithAllowanceRules(isSmallWorkplace);
+            workRecord.calculatePayWithHolidayInfo(isHoliday, isSmallWorkplace, buffer);
         }
     }
 
@@ -10,8 +10,10 @@ import com.example.paycheck.domain.correction.repository.CorrectionRequestReposi
 import com.example.paycheck.domain.notification.enums.NotificationActionType;
 import com.example.paycheck.domain.notification.enums.NotificationType;
 import com.example.paycheck.domain.notification.event.NotificationEvent;
+import com.example.paycheck.domain.salary.util.WorkRecordPayTotals;
 import com.example.paycheck.domain.user.entity.User;
 import com.example.paycheck.domain.workrecord.dto.WorkRecordDto;
+import com.example.paycheck.domain.workrecord.dto.WorkShift;
 import com.example.paycheck.domain.workrecord.entity.WorkRecord;
 import com.example.paycheck.domain.workrecord.enums.WorkRecordStatus;
 import com.example.paycheck.domain.workrecord.repository.WorkRecordRepository;
@@ -54,6 +56,8 @@ public class WorkRecordCommandService {
     private final WorkRecordCoordinatorService coordinatorService;
     private final WorkRecordGenerationService workRecordGenerationService;
     private final WorkRecordCalculationService calculationService;
+    private final WorkedDayIndex workedDayIndex;
+    private final WorkShiftOverlapService workShiftOverlapService;
     private final ApplicationEventPublisher eventPublisher;
     private final Clock clock;
 
@@ -104,11 +108,11 @@ public class WorkRecordCommandService {
 
         // 도메인 간 협력 처리
         if (status == WorkRecordStatus.COMPLETED) {
-            // COMPLETED로 생성된 경우 급여 재계산 포함
+            // COMPLETED로 생성된 경우 급여 반영 포함 (생성 전 기여분은 없음)
             coordinatorService.handleWorkRecordCreation(savedRecord);
-            coordinatorService.handleWorkRecordCompletion(savedRecord);
+            coordinatorService.handleWorkRecordCompletion(savedRecord, WorkRecordPayTotals.zero());
         } else {
-            // SCHEDULED로 생성된 경우 WeeklyAllowance만 재계산
+            // SCHEDULED로 생성된 경우 WeeklyAllowance 재계산 및 기존 급여에 증분 반영
             coordinatorService.handleWorkRecordCreation(savedRecord);
         }
 
@@ -149,6 +153,8 @@ public class WorkRecordCommandService {
 
             // 기존 WeeklyAllowance 저장 (나중에 재계산용)
             WeeklyAllowance oldWeeklyAllowance = workRecord.getWeeklyAllowance();
+            // 수정 전 급여 기여분 저장 (급여 증분 반영용)
+            WorkRecordPayTotals previousContribution = WorkRecordPayTotals.of(workRecord);
 
             // 기존 WeeklyAllowance에서 제거 (양방향 관계 해제)
             if (oldWeeklyAllowance != null) {
@@ -182,7 +188,8 @@ public class WorkRecordCommandService {
             workRecordRepository.save(workRecord);
 
             // 도메인 간 협력 처리
-            coordinatorService.handleWorkRecordUpdate(workRecord, oldWeeklyAllowance, newWeeklyAllowance);
+            coordinatorService.handleWorkRecordUpdate(
+                    workRecord, oldWeeklyAllowance, newWeeklyAllowance, originalWorkDate, previousContribution);
 
             // 근로자에게 변경 알림 전송
             User worker = workRecord.getContract().getWorker().getUser();
@@ -213,6 +220,8 @@ public class WorkRecordCommandService {
      * 조회된 WorkRecord를 완료 처리 (스케줄러/배치 재사용용)
      */
     public void completeWorkRecord(WorkRecord workRecord) {
+        // 완료 전 급여 기여분 저장 (SCHEDULED 상태로 이미 급여에 반영되어 있을 수 있음)
+        WorkRecordPayTotals previousContribution = WorkRecordPayTotals.of(workRecord);
         workRecord.complete();
 
         // 정확한 휴일 정보와 사업장 규모를 반영하여 재계산
@@ -220,8 +229,44 @@ public class WorkRecordCommandService {
         calculationService.validateWorkRecordConsistency(workRecord);
         workRecordRepository.save(workRecord);
 
-        // 근무 완료 시 급여 재계산 (COMPLETED 상태가 되어야 급여에 포함됨)
-        coordinatorService.handleWorkRecordCompletion(workRecord);
+        // 근무 완료 시 급여 증분 반영 (재계산된 기여분과의 차이만 반영)
+        coordinatorService.handleWorkRecordCompletion(workRecord, previousContribution);
+    }
+
+    /**
+     * 종료된 SCHEDULED 근무 기록 일괄 완료 (자동 완료 스케줄러 청크 처리용)
+     * - 상태는 집합 UPDATE 1회로 변경 (그 사이 수정/삭제된 근무 기록은 제외됨)
+     * - 완료된 근무 기록만 다시 조회하여 휴일/사업장 규모 기준으로 일괄 재계산 (값이 바뀐 행만 UPDATE)
+     * - 영향을 받은 WeeklyAllowance와 (계약, 급여 기간)별 급여는 각각 1회만 재계산
+     *
+     * @param workRecordIds 완료 처리할 근무 기록 ID (최대 MAX_BATCH_CHUNK_SIZE개 권장)
+     * @return 완료 처리된 근무 기록 수
+     */
+    public int completeWorkRecords(List<Long> workRecordIds) {
+        if (workRecordIds.isEmpty()) {
+            return 0;
+        }
+
+        int completedCount = workRecordRepository.bulkUpdateStatusByIdIn(
+                workRecordIds, WorkRecordStatus.SCHEDULED, WorkRecordStatus.COMPLETED, LocalDateTime.now(clock));
+        if (completedCount == 0) {
+            return 0;
+        }
+
+        List<WorkRecord> completedRecords =
+                workRecordRepository.findWithContractByIdInAndStatus(workRecordIds, WorkRecordStatus.COMPLETED);
+
+        // 재계산 전 급여 기여분 저장 (SCHEDULED 상태로 이미 급여에 반영되어 있을 수 있음)
+        Map<Long, WorkRecordPayTotals> previousContributions = new HashMap<>();
+        for (WorkRecord workRecord : completedRecords) {
+            previousContributions.put(workRecord.getId(), WorkRecordPayTotals.of(workRecord));
+        }
+
+        calculationService.calculateWorkRecordDetailsBatch(completedRecords);
+        completedRecords.forEach(calculationService::validateWorkRecordConsistency);
+
+        coordinatorService.handleBulkWorkRecordCompletion(completedRecords, previousContributions);
+        return completedCount;
     }
 
     /**
@@ -267,6 +312,7 @@ public class WorkRecordCommandService {
      * 고용주가 근무 일정 일괄 생성 (최적화 버전)
      * 여러 날짜에 동일한 시간으로 일정 생성
      * - 중복 체크 일괄 수행 (N번 쿼리 -> 1번 IN 쿼리)
+     * - 근무 시간 겹침 검사 일괄 수행 (기존 근무 기록/대기중인 생성 요청, 범위 쿼리 2회)
      * - WeeklyAllowance 일괄 조회/생성 (N번 -> 1~2번 쿼리)
      * - WorkRecord 일괄 저장 (saveAll 사용)
      */
@@ -295,24 +341,42 @@ public class WorkRecordCommandService {
                             contract.getId(), chunk, WorkRecordStatus.DELETED));
         }
 
-        // 2. 생성할 날짜만 필터링
-        List<LocalDate> datesToCreate = uniqueRequestedDates.stream()
+        // 2. 근무 시간 겹침 검사 (전날 자정을 넘는 근무, 대기중인 생성 요청과의 겹침 포함)
+        List<WorkShift> requestedShifts = uniqueRequestedDates.stream()
                 .filter(date -> !existingDates.contains(date))
+                .map(date -> WorkShift.of(date, request.getStartTime(), request.getEndTime()))
+                .collect(Collectors.toList());
+        List<LocalDate> conflictDates = workShiftOverlapService.findConflicts(contract.getId(), requestedShifts).stream()
+                .map(conflict -> conflict.getRequested().getWorkDate())
+                .distinct()
+                .sorted()
                 .collect(Collectors.toList());
 
+        // 3. 생성할 날짜만 필터링 (겹치는 날짜는 중복과 같이 건너뜀)
+        Set<LocalDate> conflictDateSet = new HashSet<>(conflictDates);
+        List<LocalDate> datesToCreate = requestedShifts.stream()
+                .map(WorkShift::getWorkDate)
+                .filter(date -> !conflictDateSet.contains(date))
+                .collect(Collectors.toList());
+
+        if (!conflictDates.isEmpty()) {
+            log.info("근무 시간 겹침으로 일정 생성 건너뜀: contractId={}, dates={}", contract.getId(), conflictDates);
+        }
+
         if (datesToCreate.isEmpty()) {
             return WorkRecordDto.BatchCreateResponse.builder()
                     .createdCount(0)
                     .skippedCount(originalRequestSize)
                     .totalRequested(originalRequestSize)
+                    .conflictDates(conflictDates)
                     .build();
         }
 
-        // 3. WeeklyAllowance 일괄 조회/생성 (N번 쿼리 -> 1~2번 쿼리)
+        // 4. WeeklyAllowance 일괄 조회/생성 (N번 쿼리 -> 1~2번 쿼리)
         Map<LocalDate, WeeklyAllowance> weeklyAllowanceMap =
                 coordinatorService.getOrCreateWeeklyAllowances(contract.getId(), datesToCreate);
 
-        // 4. WorkRecord 객체 일괄 생성 (메모리에서)
+        // 5. WorkRecord 객체 일괄 생성 (메모리에서)
         List<WorkRecord> workRecordsToSave = new ArrayList<>();
         Set<Long> affectedWeeklyAllowanceIds = new HashSet<>();
 
@@ -346,10 +410,10 @@ public class WorkRecordCommandService {
             affectedWeeklyAllowanceIds.add(weeklyAllowance.getId());
         }
 
-        // 5. WorkRecord 일괄 저장 (saveAll 사용)
+        // 6. WorkRecord 일괄 저장 (saveAll 사용)
         List<WorkRecord> savedRecords = workRecordRepository.saveAll(workRecordsToSave);
 
-        // 6. 전체 WorkRecord 예상 급여 일괄 계산 (SCHEDULED, COMPLETED 모두)
+        // 7. 전체 WorkRecord 예상 급여 일괄 계산 (SCHEDULED, COMPLETED 모두)
         calculationService.calculateWorkRecordDetailsBatch(savedRecords);
 
         List<WorkRecord> completedRecords = savedRecords.stream()
@@ -357,18 +421,18 @@ public class WorkRecordCommandService {
                 .collect(Collectors.toList());
         completedRecords.forEach(calculationService::validateWorkRecordConsistency);
 
-        // 7. 계산된 WorkRecord 일괄 업데이트
+        // 8. 계산된 WorkRecord 일괄 업데이트
         workRecordRepository.saveAll(savedRecords);
 
-        // 8. 도메인 협력 처리 일괄 수행 (기존 handleBatchWorkRecordCreation 활용)
+        // 9. 도메인 협력 처리 일괄 수행 (기존 handleBatchWorkRecordCreation 활용)
         coordinatorService.handleBatchWorkRecordCreation(savedRecords);
 
-        // 9. COMPLETED 레코드들의 급여 일괄 재계산
+        // 10. COMPLETED 레코드들의 급여 일괄 재계산
         if (!completedRecords.isEmpty()) {
             coordinatorService.handleBatchWorkRecordCompletion(completedRecords);
         }
 
-        // 10. 근로자에게 일괄 생성 알림 전송 (1회만)
+        // 11. 근로자에게 일괄 생성 알림 전송 (1회만)
         if (!savedRecords.isEmpty()) {
             User worker = contract.getWorker().getUser();
             String title = String.format("%d개의 근무 일정이 등록되었습니다.", savedRecords.size());
@@ -388,6 +452,7 @@ public class WorkRecordCommandService {
                 .createdCount(savedRecords.size())
                 .skippedCount(originalRequestSize - savedRecords.size())
                 .totalRequested(originalRequestSize)
+                .conflictDates(conflictDates)
                 .build();
     }
 
@@ -406,6 +471,7 @@ public class WorkRecordCommandService {
         // 오늘 포함 이후의 SCHEDULED 상태 WorkRecord 삭제
         workRecordRepository.deleteByContractIdAndWorkDateAfterAndStatus(
                 contractId, today.minusDays(1), WorkRecordStatus.SCHEDULED);
+        workedDayIndex.invalidate(contractId);
     }
 
     /**
@@ -424,6 +490,7 @@ public class WorkRecordCommandService {
         // 오늘 이후의 SCHEDULED 상태 WorkRecord 삭제
         workRecordRepository.deleteByContractIdAndWorkDateAfterAndStatus(
                 contractId, LocalDate.now(clock), WorkRecordStatus.SCHEDULED);
+        workedDayIndex.invalidate(contractId);
 
         // 새로운 WorkRecord 생성 (오늘+1 ~ 2개월 뒤)
         LocalDate startDate = LocalDate.now(clock).plusDays(1);
@@ -4,19 +4,29 @@ import com.example.paycheck.common.exception.NotFoundException;
 import com.example.paycheck.domain.allowance.entity.WeeklyAllowance;
 import com.example.paycheck.domain.allowance.repository.WeeklyAllowanceRepository;
 import com.example.paycheck.domain.allowance.service.WeeklyAllowanceService;
+import com.example.paycheck.domain.contract.entity.WorkerContract;
+import com.example.paycheck.domain.salary.event.SalaryRecalculationEvent;
+import com.example.paycheck.domain.salary.service.SalaryRecalculationQueue;
 import com.example.paycheck.domain.salary.service.SalaryService;
+import com.example.paycheck.domain.salary.util.PayPeriod;
+import com.example.paycheck.domain.salary.util.PayPeriodCalendar;
+import com.example.paycheck.domain.salary.util.WorkRecordPayTotals;
 import com.example.paycheck.domain.workrecord.entity.WorkRecord;
 import com.example.paycheck.domain.workrecord.enums.WorkRecordStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.temporal.TemporalAdjusters;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Stream;
 import java.util.stream.Collectors;
 
@@ -28,13 +38,21 @@ import java.util.stream.Collectors;
 @Transactional
 public class WorkRecordCoordinatorService {
 
+    // 배치 그룹 키: 계약 ID << PERIOD_KEY_BITS | 급여 기간 키 (급여 기간 키는 연 * 12 + 월 - 1 < 2^16)
+    private static final int PERIOD_KEY_BITS = 16;
+    private static final long PERIOD_KEY_MASK = (1L << PERIOD_KEY_BITS) - 1;
+
     private final WeeklyAllowanceService weeklyAllowanceService;
     private final WeeklyAllowanceRepository weeklyAllowanceRepository;
     private final SalaryService salaryService;
+    private final SalaryRecalculationQueue salaryRecalculationQueue;
+    private final ApplicationEventPublisher eventPublisher;
+    private final WorkedDayIndex workedDayIndex;
 
     /**
      * 근무 기록 생성 시 WeeklyAllowance 연동 처리
-     * SCHEDULED 또는 COMPLETED 상태로 생성되므로 급여 재계산
+     * SCHEDULED로 생성되면 이미 생성된 급여에만 기여분을 증분 반영
+     * (COMPLETED로 생성된 경우는 handleWorkRecordCompletion에서 반영)
      * DELETED 상태는 수당 재계산 제외
      */
     public void handleWorkRecordCreation(WorkRecord workRecord) {
@@ -43,45 +61,70 @@ public class WorkRecordCoordinatorService {
 
         // DELETED 상태는 WeeklyAllowance 재계산 제외
         if (workRecord.getStatus() != WorkRecordStatus.DELETED) {
+            workedDayIndex.markWorked(workRecord.getContract().getId(), workRecord.getWorkDate());
             // WeeklyAllowance의 수당 재계산 (SCHEDULED, COMPLETED만 주휴수당 계산에 포함)
             weeklyAllowanceService.recalculateAllowances(workRecord.getWeeklyAllowance().getId());
         }
 
         // 이번 주 근무 기록 변경이 이전 주 주휴수당에 영향을 줄 수 있으므로 이전 주도 재계산
         recalculatePreviousWeekAllowance(workRecord);
+
+        if (workRecord.getStatus() == WorkRecordStatus.SCHEDULED) {
+            applySalaryDelta(workRecord.getContract(), salaryPeriodOf(workRecord.getContract(), workRecord.getWorkDate()),
+                    WorkRecordPayTotals.of(workRecord), false);
+        }
     }
 
     /**
      * 여러 근무 기록 생성 시 WeeklyAllowance 연동 처리
-     * SCHEDULED 상태로 생성되므로 급여 재계산 불필요
+     * SCHEDULED 근무 기록은 이미 생성된 급여에만 급여 기간별 합계를 증분 반영
+     * (COMPLETED 근무 기록은 handleBatchWorkRecordCompletion에서 반영)
      */
     public void handleBatchWorkRecordCreation(List<WorkRecord> workRecords) {
         // 양방향 관계 동기화
         workRecords.forEach(WorkRecord::addToWeeklyAllowance);
 
+        // 근무일 인덱스 반영 (주휴수당 다음 주 근무 여부 판단용)
+        workRecords.stream()
+                .filter(wr -> wr.getStatus() != WorkRecordStatus.DELETED)
+                .collect(Collectors.groupingBy(wr -> wr.getContract().getId(),
+                        Collectors.mapping(WorkRecord::getWorkDate, Collectors.toList())))
+                .forEach(workedDayIndex::markWorked);
+
         // 각 주의 WeeklyAllowance 수당 재계산 (SCHEDULED도 주휴수당 계산에 포함)
         workRecords.stream()
                 .map(WorkRecord::getWeeklyAllowance)
                 .distinct()
                 .forEach(allowance -> weeklyAllowanceService.recalculateAllowances(allowance.getId()));
-    }
 
-    /**
-     * 근무 기록 수정 시 WeeklyAllowance 재할당 및 재계산 처리
-     * COMPLETED 상태일 때만 급여 재계산
-     */
-    public void handleWorkRecordUpdate(WorkRecord workRecord, WeeklyAllowance oldWeeklyAllowance, WeeklyAllowance newWeeklyAllowance) {
-        handleWorkRecordUpdate(workRecord, oldWeeklyAllowance, newWeeklyAllowance, workRecord.getWorkDate());
+        List<WorkRecord> scheduledRecords = workRecords.stream()
+                .filter(wr -> wr.getStatus() == WorkRecordStatus.SCHEDULED)
+                .collect(Collectors.toList());
+        applyBatchSalaryDelta(scheduledRecords, WorkRecordPayTotals::of, false);
     }
 
     /**
-     * 근무 기록 수정 시 원래 근무일을 기준으로 WeeklyAllowance/급여 재계산 처리
+     * 근무 기록 수정 시 WeeklyAllowance 재할당/재계산 및 급여 증분 반영
+     * 수정 전 기여분(previousContribution)과 수정 후 기여분의 차이만 급여에 반영한다.
+     * 급여가 없으면 COMPLETED 상태일 때만 새로 계산한다.
+     *
+     * @param originalWorkDate     수정 전 근무일
+     * @param previousContribution 수정 전 근무 기록의 급여 기여분 (WorkRecordPayTotals.of로 수정 전에 캡처)
      */
     public void handleWorkRecordUpdate(
             WorkRecord workRecord,
             WeeklyAllowance oldWeeklyAllowance,
             WeeklyAllowance newWeeklyAllowance,
-            LocalDate originalWorkDate) {
+            LocalDate originalWorkDate,
+            WorkRecordPayTotals previousContribution) {
+        // 근무일이 바뀌면 근무일 인덱스 반영 (이후 수당 재계산의 다음 주 근무 여부 판단에 사용)
+        if (!originalWorkDate.equals(workRecord.getWorkDate())) {
+            workedDayIndex.markRemoved(workRecord.getContract().getId(), originalWorkDate);
+            if (workRecord.getStatus() != WorkRecordStatus.DELETED) {
+                workedDayIndex.markWorked(workRecord.getContract().getId(), workRecord.getWorkDate());
+            }
+        }
+
         // 기존 WeeklyAllowance 수당 재계산 (다른 WeeklyAllowance였다면)
         if (oldWeeklyAllowance != null && newWeeklyAllowance != null && !oldWeeklyAllowance.getId().equals(newWeeklyAllowance.getId())) {
             weeklyAllowanceService.recalculateAllowances(oldWeeklyAllowance.getId());
@@ -96,17 +139,38 @@ public class WorkRecordCoordinatorService {
             recalculatePreviousWeekAllowances(workRecord.getContract().getId(), originalWorkDate, workRecord.getWorkDate());
         }
 
-        // COMPLETED 상태일 때만 급여 재계산
-        if (workRecord.getStatus() == WorkRecordStatus.COMPLETED) {
-            recalculateSalaryForWorkRecordUpdate(workRecord, originalWorkDate);
+        if (workRecord.getStatus() == WorkRecordStatus.DELETED) {
+            return;
+        }
+
+        boolean createIfMissing = workRecord.getStatus() == WorkRecordStatus.COMPLETED;
+        WorkerContract contract = workRecord.getContract();
+        WorkRecordPayTotals currentContribution = WorkRecordPayTotals.of(workRecord);
+
+        PayPeriod originalPeriod = salaryPeriodOf(contract, originalWorkDate);
+        PayPeriod currentPeriod = salaryPeriodOf(contract, workRecord.getWorkDate());
+
+        if (originalPeriod.equals(currentPeriod)) {
+            applySalaryDelta(contract, currentPeriod,
+                    currentContribution.subtract(previousContribution), createIfMissing);
+        } else {
+            // 급여 기간이 바뀌면 이전 기간에서 빼고 새 기간에 더한다.
+            applySalaryDelta(contract, originalPeriod,
+                    WorkRecordPayTotals.zero().subtract(previousContribution), false);
+            applySalaryDelta(contract, currentPeriod, currentContribution, createIfMissing);
         }
     }
 
     /**
      * 근무 기록 삭제 시 WeeklyAllowance 정리 및 재계산 처리
-     * COMPLETED 상태의 근무 기록이 삭제되면 급여도 재계산
+     * 삭제 전 상태가 DELETED가 아니면 근무 기록의 기여분을 급여에서 차감
+     * (소프트 삭제는 급여 칼럼을 유지하므로 삭제된 근무 기록에서 그대로 읽는다)
      */
     public void handleWorkRecordDeletion(WeeklyAllowance weeklyAllowance, WorkRecord workRecord, WorkRecordStatus deletedStatus) {
+        if (deletedStatus != WorkRecordStatus.DELETED) {
+            workedDayIndex.markRemoved(workRecord.getContract().getId(), workRecord.getWorkDate());
+        }
+
         // WeeklyAllowance가 비어있으면 삭제
         if (weeklyAllowance != null) {
             // 양방향 관계가 이미 해제되었으므로 컬렉션만 확인
@@ -119,9 +183,11 @@ public class WorkRecordCoordinatorService {
             }
         }
 
-        // COMPLETED 상태의 근무 기록이 삭제된 경우 급여 재계산
-        if (deletedStatus == WorkRecordStatus.COMPLETED) {
-            recalculateSalaryForWorkRecord(workRecord);
+        // 삭제 전 급여에 포함되어 있던 기여분 차감 (COMPLETED 삭제 시에는 급여가 없으면 새로 계산)
+        if (deletedStatus != WorkRecordStatus.DELETED) {
+            applySalaryDelta(workRecord.getContract(), salaryPeriodOf(workRecord.getContract(), workRecord.getWorkDate()),
+                    WorkRecordPayTotals.zero().subtract(WorkRecordPayTotals.of(workRecord)),
+                    deletedStatus == WorkRecordStatus.COMPLETED);
         }
 
         // 이번 주 근무 기록 삭제가 이전 주 주휴수당에 영향을 줄 수 있으므로 이전 주도 재계산
@@ -129,35 +195,83 @@ public class WorkRecordCoordinatorService {
     }
 
     /**
-     * 근무 완료 처리 시 급여 재계산
-     * SCHEDULED → COMPLETED 상태 변경 시에만 급여에 반영
+     * 근무 완료 처리 시 급여 증분 반영
+     * 완료 시 재계산된 기여분과 완료 전 기여분의 차이를 반영하고, 급여가 없으면 새로 계산한다.
+     *
+     * @param previousContribution 완료 전 기여분 (새로 COMPLETED로 생성된 근무 기록은 0)
      */
-    public void handleWorkRecordCompletion(WorkRecord workRecord) {
-        // 급여 재계산 (COMPLETED 상태가 된 근무 기록이 급여에 포함됨)
-        recalculateSalaryForWorkRecord(workRecord);
+    public void handleWorkRecordCompletion(WorkRecord workRecord, WorkRecordPayTotals previousContribution) {
+        applySalaryDelta(workRecord.getContract(), salaryPeriodOf(workRecord.getContract(), workRecord.getWorkDate()),
+                WorkRecordPayTotals.of(workRecord).subtract(previousContribution), true);
     }
 
     /**
-     * 근무 기록 변경 시 해당 월의 급여 재계산
-     * workDate와 paymentDay를 기준으로 해당 급여의 year/month를 계산하여 재계산
+     * 급여 기간의 급여에 변경분 증분 반영
+     * 비동기 재계산을 사용하면 커밋 후 재계산 큐에 등록만 한다. (같은 급여의 연속 변경은 병합되어 1회만 재계산)
+     * 큐는 메모리에만 있으므로 등록 전에 같은 트랜잭션에서 급여를 정합성 검증 대상으로 표시해 둔다.
      */
-    private void recalculateSalaryForWorkRecord(WorkRecord workRecord) {
-        recalculateSalaryForDate(
-                workRecord.getContract().getId(),
-                workRecord.getContract().getPaymentDay(),
-                workRecord.getWorkDate());
+    private void applySalaryDelta(WorkerContract contract, PayPeriod period,
+                                  WorkRecordPayTotals delta, boolean createIfMissing) {
+        if (salaryRecalculationQueue.isAsync()) {
+            salaryService.markRecalculationPending(contract.getId(), period.year(), period.month());
+            eventPublisher.publishEvent(new SalaryRecalculationEvent(
+                    contract.getId(), period.year(), period.month(), createIfMissing));
+            return;
+        }
+
+        try {
+            salaryService.applyWorkRecordDelta(
+                    contract.getId(), period.year(), period.month(), delta, createIfMissing);
+        } catch (NotFoundException e) {
+            // 급여 기간 내 근무 기록이 없어 급여를 생성하지 않는 경우 무시 (정상 케이스)
+        }
     }
 
-    private void recalculateSalaryForWorkRecordUpdate(WorkRecord workRecord, LocalDate originalWorkDate) {
-        Long contractId = workRecord.getContract().getId();
-        Integer paymentDay = workRecord.getContract().getPaymentDay();
-        LocalDate updatedWorkDate = workRecord.getWorkDate();
+    /**
+     * 여러 근무 기록의 기여분을 계약/급여 기간별로 합산하여 기간당 1회씩 증분 반영
+     * 계약 ID와 급여 기간 키를 long 하나로 압축한 키를 정렬된 long 배열로 묶는다. (키 박싱/해시 맵 없음)
+     * 반영 순서는 (계약 ID, 급여 기간) 오름차순이다.
+     */
+    private void applyBatchSalaryDelta(List<WorkRecord> workRecords,
+                                       Function<WorkRecord, WorkRecordPayTotals> contributionOf,
+                                       boolean createIfMissing) {
+        long[] keys = new long[workRecords.size()];
+        for (int i = 0; i < keys.length; i++) {
+            WorkRecord workRecord = workRecords.get(i);
+            WorkerContract contract = workRecord.getContract();
+            int periodKey = PayPeriodCalendar.periodKey(contract.getPaymentDay(), workRecord.getWorkDate());
+            keys[i] = (contract.getId() << PERIOD_KEY_BITS) | periodKey;
+        }
+        long[] groupKeys = distinctSorted(keys);
+
+        WorkRecordPayTotals[] deltas = new WorkRecordPayTotals[groupKeys.length];
+        WorkerContract[] contracts = new WorkerContract[groupKeys.length];
+        for (int i = 0; i < keys.length; i++) {
+            int group = Arrays.binarySearch(groupKeys, keys[i]);
+            WorkRecord workRecord = workRecords.get(i);
+            WorkRecordPayTotals contribution = contributionOf.apply(workRecord);
+            deltas[group] = deltas[group] == null ? contribution : deltas[group].add(contribution);
+            if (contracts[group] == null) {
+                contracts[group] = workRecord.getContract();
+            }
+        }
 
-        if (!getSalaryPeriodKey(paymentDay, originalWorkDate).equals(getSalaryPeriodKey(paymentDay, updatedWorkDate))) {
-            recalculateSalaryForDate(contractId, paymentDay, originalWorkDate);
+        for (int group = 0; group < groupKeys.length; group++) {
+            applySalaryDelta(contracts[group], PayPeriod.fromKey((int) (groupKeys[group] & PERIOD_KEY_MASK)),
+                    deltas[group], createIfMissing);
         }
+    }
 
-        recalculateSalaryForDate(contractId, paymentDay, updatedWorkDate);
+    private static long[] distinctSorted(long[] keys) {
+        long[] sorted = keys.clone();
+        Arrays.sort(sorted);
+        int distinct = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                sorted[distinct++] = sorted[i];
+            }
+        }
+        return Arrays.copyOf(sorted, distinct);
     }
 
     /**
@@ -165,17 +279,10 @@ public class WorkRecordCoordinatorService {
      * 계약 종료 등 WorkRecord 없이 날짜 기준으로 재계산이 필요한 경우 사용
      */
     public void recalculateSalaryForDate(Long contractId, Integer paymentDay, LocalDate date) {
-        int year = date.getYear();
-        int month = date.getMonthValue();
-
-        if (date.getDayOfMonth() >= paymentDay) {
-            LocalDate nextMonth = date.plusMonths(1);
-            year = nextMonth.getYear();
-            month = nextMonth.getMonthValue();
-        }
+        PayPeriod period = PayPeriodCalendar.periodOf(paymentDay, date);
 
         try {
-            salaryService.recalculateSalaryAfterWorkRecordUpdate(contractId, year, month);
+            salaryService.recalculateSalaryAfterWorkRecordUpdate(contractId, period.year(), period.month());
         } catch (NotFoundException e) {
             // 급여가 아직 생성되지 않은 경우 무시 (정상 케이스)
         }
@@ -186,19 +293,18 @@ public class WorkRecordCoordinatorService {
      * 이번 주 근무 기록 변경이 이전 주의 주휴수당(다음 주 근무 여부 기반)에 영향을 줌
      */
     private void recalculatePreviousWeekAllowance(WorkRecord workRecord) {
-        LocalDate workDate = workRecord.getWorkDate();
-        LocalDate previousWeekStart = workDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).minusWeeks(1);
-
-        weeklyAllowanceRepository.findByContractAndWeek(
-                workRecord.getContract().getId(), previousWeekStart)
-            .ifPresent(prevAllowance ->
-                weeklyAllowanceService.recalculateAllowances(prevAllowance.getId()));
+        recalculatePreviousWeekAllowances(workRecord.getContract().getId(), workRecord.getWorkDate());
     }
 
+    /**
+     * 이전 주에 유효한 근무가 없으면 수당이 모두 0이므로 다음 주 근무 여부와 무관하여 조회/재계산을 생략한다.
+     */
     private void recalculatePreviousWeekAllowances(Long contractId, LocalDate... workDates) {
         Stream.of(workDates)
                 .map(this::getPreviousWeekStart)
                 .distinct()
+                .filter(previousWeekStart ->
+                        workedDayIndex.hasWorkedDayBetween(contractId, previousWeekStart, previousWeekStart.plusDays(6)))
                 .forEach(previousWeekStart ->
                         weeklyAllowanceRepository.findByContractAndWeek(contractId, previousWeekStart)
                                 .ifPresent(previousAllowance ->
@@ -209,17 +315,11 @@ public class WorkRecordCoordinatorService {
         return workDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).minusWeeks(1);
     }
 
-    private String getSalaryPeriodKey(Integer paymentDay, LocalDate date) {
-        int year = date.getYear();
-        int month = date.getMonthValue();
-
-        if (date.getDayOfMonth() >= paymentDay) {
-            LocalDate nextMonth = date.plusMonths(1);
-            year = nextMonth.getYear();
-            month = nextMonth.getMonthValue();
-        }
-
-        return year + "_" + month;
+    /**
+     * 근무일이 귀속되는 급여 기간 (해당 월 월급날 이후 근무는 다음 달 급여)
+     */
+    private PayPeriod salaryPeriodOf(WorkerContract contract, LocalDate workDate) {
+        return PayPeriodCalendar.periodOf(contract.getPaymentDay(), workDate);
     }
 
     /**
@@ -244,51 +344,40 @@ public class WorkRecordCoordinatorService {
     }
 
     /**
-     * COMPLETED 상태 WorkRecord들의 급여 일괄 재계산 (배치 처리용)
-     * 동일 계약/년월별로 그룹핑하여 급여 재계산 최소화
+     * 새로 COMPLETED 상태로 생성된 WorkRecord들의 급여 일괄 증분 반영 (배치 처리용)
+     * 동일 계약/년월별로 기여분을 합산하여 급여 반영 횟수 최소화
      */
     public void handleBatchWorkRecordCompletion(List<WorkRecord> completedRecords) {
         if (completedRecords.isEmpty()) {
             return;
         }
 
-        // 동일 계약/년월별로 그룹핑하여 급여 재계산 최소화
-        Map<String, WorkRecord> groupedRecords = completedRecords.stream()
-                .collect(Collectors.toMap(
-                        wr -> {
-                            LocalDate workDate = wr.getWorkDate();
-                            Integer paymentDay = wr.getContract().getPaymentDay();
-                            int year = workDate.getYear();
-                            int month = workDate.getMonthValue();
-                            if (workDate.getDayOfMonth() >= paymentDay) {
-                                LocalDate nextMonth = workDate.plusMonths(1);
-                                year = nextMonth.getYear();
-                                month = nextMonth.getMonthValue();
-                            }
-                            return wr.getContract().getId() + "_" + year + "_" + month;
-                        },
-                        wr -> wr,
-                        (existing, replacement) -> existing));
-
-        // 그룹별로 한 번씩만 급여 재계산
-        for (WorkRecord sample : groupedRecords.values()) {
-            LocalDate workDate = sample.getWorkDate();
-            Integer paymentDay = sample.getContract().getPaymentDay();
-            int year = workDate.getYear();
-            int month = workDate.getMonthValue();
-            if (workDate.getDayOfMonth() >= paymentDay) {
-                LocalDate nextMonth = workDate.plusMonths(1);
-                year = nextMonth.getYear();
-                month = nextMonth.getMonthValue();
-            }
+        applyBatchSalaryDelta(completedRecords, WorkRecordPayTotals::of, true);
+    }
 
-            try {
-                salaryService.recalculateSalaryAfterWorkRecordUpdate(
-                        sample.getContract().getId(), year, month);
-            } catch (NotFoundException e) {
-                // 급여가 아직 생성되지 않은 경우 무시
-            }
+    /**
+     * 일괄 완료된 WorkRecord들의 WeeklyAllowance 및 급여 반영 (자동 완료 배치용)
+     * 영향을 받은 WeeklyAllowance는 1회씩 재계산하고,
+     * 급여는 (계약, 급여 기간)별로 완료 전후 기여분 차이를 합산하여 1회씩 반영
+     *
+     * @param previousContributions 근무 기록 ID별 완료 전 급여 기여분
+     */
+    public void handleBulkWorkRecordCompletion(List<WorkRecord> completedRecords,
+                                               Map<Long, WorkRecordPayTotals> previousContributions) {
+        if (completedRecords.isEmpty()) {
+            return;
         }
+
+        Set<Long> weeklyAllowanceIds = completedRecords.stream()
+                .map(WorkRecord::getWeeklyAllowance)
+                .filter(Objects::nonNull)
+                .map(WeeklyAllowance::getId)
+                .collect(Collectors.toSet());
+        weeklyAllowanceService.recalculateAllowancesBatch(weeklyAllowanceIds);
+
+        applyBatchSalaryDelta(completedRecords,
+                workRecord -> WorkRecordPayTotals.of(workRecord).subtract(previousContributions.get(workRecord.getId())),
+                true);
     }
 
 }
@@ -0,0 +1,51 @@
+package com.example.paycheck.domain.workrecord.service;
+
+import com.example.paycheck.domain.contract.entity.WorkerContract;
+import com.example.paycheck.domain.contract.repository.WorkerContractRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 근무 기록 생성 작업의 청크 처리 전용 서비스
+ * REQUIRES_NEW 전파 속성으로 청크(또는 계약)마다 독립된 트랜잭션에서 생성하여
+ * 영속성 컨텍스트와 트랜잭션 크기를 청크 단위로 제한한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WorkRecordGenerationChunkService {
+
+    private final WorkerContractRepository workerContractRepository;
+    private final WorkRecordGenerationService workRecordGenerationService;
+
+    /**
+     * 새로운 트랜잭션에서 청크의 모든 계약에 대해 근무 기록 생성
+     * 하나라도 실패하면 청크 전체가 롤백되며, 호출 측에서 계약별 처리로 전환한다.
+     *
+     * @return 생성된 근무 기록 수
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int generateChunk(List<Long> contractIds, LocalDate startDate, LocalDate endDate) {
+        int created = 0;
+        for (WorkerContract contract : workerContractRepository.findAllWithWorkplaceByIdIn(contractIds)) {
+            created += workRecordGenerationService.generateWorkRecordsForPeriod(contract, startDate, endDate);
+        }
+        return created;
+    }
+
+    /**
+     * 새로운 트랜잭션에서 단일 계약의 근무 기록 생성 (청크 실패 시 계약별 처리용)
+     *
+     * @return 생성된 근무 기록 수
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int generateForContract(Long contractId, LocalDate startDate, LocalDate endDate) {
+        return generateChunk(List.of(contractId), startDate, endDate);
+    }
+}
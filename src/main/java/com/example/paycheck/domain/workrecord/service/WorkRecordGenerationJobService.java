@@ -0,0 +1,280 @@
+package com.example.paycheck.domain.workrecord.service;
+
+import com.example.paycheck.domain.contract.repository.WorkerContractRepository;
+import com.example.paycheck.domain.workrecord.entity.WorkRecordGenerationRun;
+import com.example.paycheck.domain.workrecord.enums.WorkRecordGenerationRunStatus;
+import com.example.paycheck.domain.workrecord.repository.WorkRecordGenerationRunRepository;
+import com.example.paycheck.global.scheduling.SchedulerLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 월별 근무 기록 자동 생성 작업
+ *
+ * 활성 계약을 partition-size개 단위의 계약 ID 구간(파티션)으로 나누고, 파티션별 lease를 획득한 노드가 처리한다.
+ * (여러 인스턴스가 파티션을 나눠 처리하며, 완료된 파티션은 다시 처리하지 않음)
+ * 파티션 안에서는 ID 오름차순 키셋 페이지(청크)마다 별도 트랜잭션에서 생성하고,
+ * 최대 parallelism개의 청크를 동시에 처리한다.
+ * 동시에 처리한 청크가 모두 끝날 때마다 마지막 계약 ID를 체크포인트로 저장하므로,
+ * 작업이 중간에 중단되어도 같은 대상 월로 재실행하면 체크포인트 이후부터 이어서 처리한다.
+ * 체크포인트를 지나친 계약 중 실패한 계약은 실행 이력에 ID를 남겨 재실행 시 먼저 다시 처리하고,
+ * 남아 있으면 파티션을 PARTIAL로 끝내 재개 대상에 포함시킨다.
+ * 파티션 lease를 잃으면 다른 노드가 이어서 처리하므로 실행 이력을 더 기록하지 않고 멈춘다.
+ */
+@Slf4j
+@Service
+public class WorkRecordGenerationJobService {
+
+    private static final String LOCK_NAME_PREFIX = "work-record-generation:";
+
+    // 파티션 lease 기간 (실행 중에는 heartbeat로 연장, 노드가 죽으면 이 시간 뒤 다른 노드가 재개 가능)
+    private static final Duration LEASE_DURATION = Duration.ofMinutes(5);
+
+    private final WorkerContractRepository workerContractRepository;
+    private final WorkRecordGenerationRunRepository runRepository;
+    private final WorkRecordGenerationChunkService chunkService;
+    private final SchedulerLock schedulerLock;
+    private final int chunkSize;
+    private final int parallelism;
+    private final long partitionSize;
+
+    public WorkRecordGenerationJobService(
+            WorkerContractRepository workerContractRepository,
+            WorkRecordGenerationRunRepository runRepository,
+            WorkRecordGenerationChunkService chunkService,
+            SchedulerLock schedulerLock,
+            @Value("${work-record.generation.chunk-size:200}") int chunkSize,
+            @Value("${work-record.generation.parallelism:4}") int parallelism,
+            @Value("${work-record.generation.partition-size:10000}") long partitionSize) {
+        this.workerContractRepository = workerContractRepository;
+        this.runRepository = runRepository;
+        this.chunkService = chunkService;
+        this.schedulerLock = schedulerLock;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+        this.partitionSize = partitionSize;
+    }
+
+    /**
+     * 대상 월의 근무 기록 생성 작업 실행
+     * 이 노드가 lease를 획득한 파티션만 처리하며, 이미 완료된 파티션은 다시 처리하지 않고
+     * 중단/실패한 파티션은 체크포인트부터, 일부 계약이 실패한 파티션은 실패한 계약부터 다시 처리한다.
+     *
+     * @return 이 노드에서 처리한 파티션의 실행 이력
+     */
+    public List<WorkRecordGenerationRun> run(YearMonth targetMonth) {
+        Long maxContractId = workerContractRepository.findMaxActiveId();
+        if (maxContractId == null) {
+            return List.of();
+        }
+
+        int partitionCount = (int) ((maxContractId + partitionSize - 1) / partitionSize);
+        List<WorkRecordGenerationRun> runs = new ArrayList<>();
+        schedulerLock.runPartitioned(lockName(targetMonth), partitionCount, LEASE_DURATION,
+                partition -> runPartition(targetMonth, partition).ifPresent(runs::add));
+        return runs;
+    }
+
+    /**
+     * 중단/실패/일부 실패한 파티션을 재개 (lease를 획득한 파티션만)
+     */
+    public void resumeUnfinished() {
+        for (WorkRecordGenerationRun run : runRepository.findByStatusNotOrderByIdAsc(WorkRecordGenerationRunStatus.COMPLETED)) {
+            YearMonth targetMonth = run.getTargetYearMonth();
+            int partition = run.getPartitionIndex();
+            schedulerLock.runExclusively(SchedulerLock.partitionLockName(lockName(targetMonth), partition), LEASE_DURATION,
+                    () -> runPartition(targetMonth, partition));
+        }
+    }
+
+    /**
+     * 파티션(계약 ID 구간) 처리 (호출 측에서 파티션 lease를 보유한 상태)
+     */
+    private Optional<WorkRecordGenerationRun> runPartition(YearMonth targetMonth, int partition) {
+        long rangeStart = partition * partitionSize + 1;
+        long rangeEnd = (partition + 1) * partitionSize;
+        WorkRecordGenerationRun run = runRepository
+                .findByTargetYearAndTargetMonthAndPartitionIndex(targetMonth.getYear(), targetMonth.getMonthValue(), partition)
+                .orElseGet(() -> WorkRecordGenerationRun.of(targetMonth, partition, rangeStart, rangeEnd));
+
+        if (run.isCompleted()) {
+            log.info("이미 완료된 근무 기록 생성 파티션입니다: 대상 월={}, 파티션={}", targetMonth, partition);
+            return Optional.empty();
+        }
+
+        if (run.getId() != null) {
+            log.info("근무 기록 생성 작업 재개: 대상 월={}, 파티션={}, 체크포인트 계약 ID={}",
+                    targetMonth, partition, run.getLastContractId());
+        }
+        run.begin();
+        return Optional.of(execute(runRepository.save(run)));
+    }
+
+    private static String lockName(YearMonth targetMonth) {
+        return LOCK_NAME_PREFIX + targetMonth;
+    }
+
+    private WorkRecordGenerationRun execute(WorkRecordGenerationRun run) {
+        LocalDate startDate = run.getPeriodStart();
+        LocalDate endDate = run.getPeriodEnd();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, new CustomizableThreadFactory("work-record-gen-"));
+
+        try {
+            run = retryFailedContracts(run, startDate, endDate);
+
+            Long lastContractId = run.getLastContractId();
+            while (!schedulerLock.isLeaseLost()) {
+                List<List<Long>> chunks = nextChunks(lastContractId, run.getRangeEnd());
+                if (chunks.isEmpty()) {
+                    break;
+                }
+
+                long waveStart = System.currentTimeMillis();
+                List<Future<ChunkResult>> futures = new ArrayList<>();
+                for (List<Long> contractIds : chunks) {
+                    futures.add(executor.submit(() -> processChunk(contractIds, startDate, endDate)));
+                }
+
+                int processed = 0;
+                int created = 0;
+                List<Long> failedIds = new ArrayList<>();
+                for (Future<ChunkResult> future : futures) {
+                    ChunkResult result = future.get();
+                    processed += result.processed();
+                    created += result.created();
+                    failedIds.addAll(result.failedIds());
+                }
+
+                // 동시에 처리한 청크가 모두 끝난 뒤에만 체크포인트 전진 (실패한 계약은 재처리 목록에 기록)
+                List<Long> lastChunk = chunks.get(chunks.size() - 1);
+                lastContractId = lastChunk.get(lastChunk.size() - 1);
+                run.recordProgress(lastContractId, processed, created, failedIds, System.currentTimeMillis() - waveStart);
+                run = runRepository.save(run);
+            }
+
+            if (schedulerLock.isLeaseLost()) {
+                return stopOnLeaseLost(run);
+            }
+
+            run.complete();
+            run = runRepository.save(run);
+            log.info("근무 기록 생성 작업 종료: 상태={}, 대상 월={}, 파티션={}, 계약={}, 생성={}, 실패={}, 처리 속도={} 계약/초, 실행 횟수={}",
+                    run.getStatus(), run.getTargetYearMonth(), run.getPartitionIndex(), run.getProcessedContracts(), run.getCreatedRecords(),
+                    run.getFailedContracts(), run.getContractsPerSecond(), run.getAttempts());
+        } catch (InterruptedException e) {
+            run = markFailed(run, e);
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            run = markFailed(run, e.getCause());
+        } catch (RuntimeException e) {
+            run = markFailed(run, e);
+        } finally {
+            executor.shutdownNow();
+        }
+        return run;
+    }
+
+    /**
+     * 체크포인트 이후 구간 내 활성 계약 ID를 최대 parallelism개 청크로 조회
+     */
+    private List<List<Long>> nextChunks(Long afterContractId, Long rangeEnd) {
+        List<List<Long>> chunks = new ArrayList<>();
+        Long cursor = afterContractId;
+        while (chunks.size() < parallelism) {
+            List<Long> contractIds = workerContractRepository.findActiveIdsInRange(cursor, rangeEnd, PageRequest.of(0, chunkSize));
+            if (contractIds.isEmpty()) {
+                break;
+            }
+            chunks.add(contractIds);
+            cursor = contractIds.get(contractIds.size() - 1);
+            if (contractIds.size() < chunkSize) {
+                break;
+            }
+        }
+        return chunks;
+    }
+
+    /**
+     * 이전 실행에서 실패한 계약을 계약별 트랜잭션으로 다시 처리 (다시 실패한 계약만 재처리 목록에 남김)
+     */
+    private WorkRecordGenerationRun retryFailedContracts(WorkRecordGenerationRun run, LocalDate startDate, LocalDate endDate) {
+        List<Long> failedIds = run.getFailedContractIdList();
+        if (failedIds.isEmpty()) {
+            return run;
+        }
+
+        log.info("근무 기록 생성 실패 계약 재처리: 대상 월={}, 파티션={}, 계약 수={}",
+                run.getTargetYearMonth(), run.getPartitionIndex(), failedIds.size());
+        long retryStart = System.currentTimeMillis();
+        ChunkResult result = processContracts(failedIds, startDate, endDate);
+        run.recordRetry(result.processed(), result.created(), result.failedIds(), System.currentTimeMillis() - retryStart);
+        return runRepository.save(run);
+    }
+
+    /**
+     * 청크 처리 (청크 트랜잭션 실패 시 계약별 트랜잭션으로 전환하여 실패 계약만 건너뜀)
+     */
+    private ChunkResult processChunk(List<Long> contractIds, LocalDate startDate, LocalDate endDate) {
+        try {
+            int created = chunkService.generateChunk(contractIds, startDate, endDate);
+            return new ChunkResult(contractIds.size(), created, List.of());
+        } catch (Exception e) {
+            log.warn("근무 기록 생성 청크 실패, 계약별 처리로 전환: 계약 ID {}~{}, Error={}",
+                    contractIds.get(0), contractIds.get(contractIds.size() - 1), e.getMessage());
+        }
+        return processContracts(contractIds, startDate, endDate);
+    }
+
+    /**
+     * 계약별 트랜잭션으로 처리 (실패한 계약 ID를 모아 반환)
+     */
+    private ChunkResult processContracts(List<Long> contractIds, LocalDate startDate, LocalDate endDate) {
+        int created = 0;
+        List<Long> failedIds = new ArrayList<>();
+        for (Long contractId : contractIds) {
+            try {
+                created += chunkService.generateForContract(contractId, startDate, endDate);
+            } catch (Exception e) {
+                log.error("WorkRecord 생성 실패: Contract ID={}, Error={}", contractId, e.getMessage(), e);
+                failedIds.add(contractId);
+            }
+        }
+        return new ChunkResult(contractIds.size() - failedIds.size(), created, failedIds);
+    }
+
+    private WorkRecordGenerationRun markFailed(WorkRecordGenerationRun run, Throwable cause) {
+        if (schedulerLock.isLeaseLost()) {
+            return stopOnLeaseLost(run);
+        }
+        log.error("근무 기록 생성 작업 중단: 대상 월={}, 파티션={}, 체크포인트 계약 ID={}",
+                run.getTargetYearMonth(), run.getPartitionIndex(), run.getLastContractId(), cause);
+        run.fail(cause.getMessage());
+        return runRepository.save(run);
+    }
+
+    /**
+     * lease를 잃은 경우 중단 (새 holder가 같은 행을 갱신하므로 상태를 저장하지 않음)
+     */
+    private WorkRecordGenerationRun stopOnLeaseLost(WorkRecordGenerationRun run) {
+        log.warn("파티션 lease를 잃어 근무 기록 생성을 중단합니다: 대상 월={}, 파티션={}, 체크포인트 계약 ID={}",
+                run.getTargetYearMonth(), run.getPartitionIndex(), run.getLastContractId());
+        return run;
+    }
+
+    private record ChunkResult(int processed, int created, List<Long> failedIds) {
+    }
+}
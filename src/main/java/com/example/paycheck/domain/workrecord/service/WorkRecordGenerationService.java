@@ -12,11 +12,16 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -26,6 +31,7 @@ public class WorkRecordGenerationService {
     private final WorkRecordRepository workRecordRepository;
     private final ObjectMapper objectMapper;
     private final WorkRecordCalculationService calculationService;
+    private final WorkedDayIndex workedDayIndex;
 
     /**
      * 계약 생성 시 2개월치 WorkRecord 생성
@@ -54,50 +60,72 @@ public class WorkRecordGenerationService {
 
     /**
      * 특정 기간 동안의 WorkRecord 생성
+     * 기간 내 기존 근무 기록 날짜를 1회 조회한 뒤 스케줄 전개 결과와 메모리에서 비교하고,
+     * 새 근무 기록은 배치 INSERT로 한 번에 저장한다.
+     *
+     * @return 생성된 근무 기록 수
      */
     @Transactional
-    public void generateWorkRecordsForPeriod(WorkerContract contract, LocalDate startDate, LocalDate endDate) {
-        List<WorkScheduleDto> schedules = parseWorkSchedules(contract.getWorkSchedules());
-
-        List<WorkRecord> workRecords = new ArrayList<>();
-        LocalDate currentDate = startDate;
+    public int generateWorkRecordsForPeriod(WorkerContract contract, LocalDate startDate, LocalDate endDate) {
+        // 계약 종료일이 있는 경우, 종료일 이후는 생성하지 않음
+        LocalDate lastDate = endDate;
+        if (contract.getContractEndDate() != null && contract.getContractEndDate().isBefore(lastDate)) {
+            lastDate = contract.getContractEndDate();
+        }
+        if (startDate.isAfter(lastDate)) {
+            return 0;
+        }
 
-        while (!currentDate.isAfter(endDate)) {
-            // 계약 종료일이 있는 경우, 종료일 이후는 생성하지 않음
-            if (contract.getContractEndDate() != null && currentDate.isAfter(contract.getContractEndDate())) {
-                break;
-            }
+        // 요일별 스케줄 (시간 문자열은 여기서 1회만 파싱)
+        Map<DayOfWeek, List<ScheduleSlot>> slotsByDay = toSlotsByDay(parseWorkSchedules(contract.getWorkSchedules()));
+        if (slotsByDay.isEmpty()) {
+            return 0;
+        }
 
-            // 현재 날짜의 요일에 해당하는 스케줄 찾기
-            int dayOfWeekValue = currentDate.getDayOfWeek().getValue();
-            final LocalDate workDate = currentDate; // 람다에서 사용하기 위한 final 변수
+        // 이미 근무 기록이 있는 날짜 (상태 무관, 삭제된 기록 포함)
+        Set<LocalDate> existingDates = new HashSet<>(
+                workRecordRepository.findWorkDatesByContractAndDateRange(contract.getId(), startDate, lastDate));
 
-            for (WorkScheduleDto schedule : schedules) {
-                if (schedule.getDayOfWeek().equals(dayOfWeekValue)) {
-                    // 이미 해당 날짜에 WorkRecord가 있는지 확인
-                    boolean exists = workRecordRepository.existsByContractAndWorkDate(contract, workDate);
-                    if (!exists) {
-                        WorkRecord workRecord = WorkRecord.builder()
-                                .contract(contract)
-                                .workDate(workDate)
-                                .startTime(LocalTime.parse(schedule.getStartTime()))
-                                .endTime(LocalTime.parse(schedule.getEndTime()))
-                                .breakMinutes(schedule.getBreakMinutes() != null ? schedule.getBreakMinutes() : 0)
-                                .status(WorkRecordStatus.SCHEDULED)
-                                .build();
-                        workRecords.add(workRecord);
-                    }
-                }
+        List<WorkRecord> workRecords = new ArrayList<>();
+        for (LocalDate workDate = startDate; !workDate.isAfter(lastDate); workDate = workDate.plusDays(1)) {
+            List<ScheduleSlot> slots = slotsByDay.get(workDate.getDayOfWeek());
+            if (slots == null || existingDates.contains(workDate)) {
+                continue;
+            }
+            for (ScheduleSlot slot : slots) {
+                workRecords.add(WorkRecord.builder()
+                        .contract(contract)
+                        .workDate(workDate)
+                        .startTime(slot.startTime())
+                        .endTime(slot.endTime())
+                        .breakMinutes(slot.breakMinutes())
+                        .status(WorkRecordStatus.SCHEDULED)
+                        .build());
             }
-
-            currentDate = currentDate.plusDays(1);
         }
 
         if (!workRecords.isEmpty()) {
             calculationService.calculateWorkRecordDetailsBatch(workRecords);
-            workRecordRepository.saveAll(workRecords);
+            workRecordRepository.insertAll(workRecords);
+            workedDayIndex.markWorked(contract.getId(), workRecords.stream().map(WorkRecord::getWorkDate).distinct().toList());
             log.info("WorkRecord 생성 완료: {} 개 생성됨 (Contract ID={})", workRecords.size(), contract.getId());
         }
+        return workRecords.size();
+    }
+
+    /**
+     * 스케줄 목록을 요일별 근무 시간대로 변환
+     */
+    private Map<DayOfWeek, List<ScheduleSlot>> toSlotsByDay(List<WorkScheduleDto> schedules) {
+        Map<DayOfWeek, List<ScheduleSlot>> slotsByDay = new EnumMap<>(DayOfWeek.class);
+        for (WorkScheduleDto schedule : schedules) {
+            ScheduleSlot slot = new ScheduleSlot(
+                    LocalTime.parse(schedule.getStartTime()),
+                    LocalTime.parse(schedule.getEndTime()),
+                    schedule.getBreakMinutes() != null ? schedule.getBreakMinutes() : 0);
+            slotsByDay.computeIfAbsent(DayOfWeek.of(schedule.getDayOfWeek()), day -> new ArrayList<>()).add(slot);
+        }
+        return slotsByDay;
     }
 
     /**
@@ -111,4 +139,7 @@ public class WorkRecordGenerationService {
             throw new RuntimeException("근무 스케줄 파싱 중 오류가 발생했습니다.", e);
         }
     }
+
+    private record ScheduleSlot(LocalTime startTime, LocalTime endTime, int breakMinutes) {
+    }
 }
@@ -1,5 +1,6 @@
 package com.example.paycheck.domain.workrecord.service;
 
+import com.example.paycheck.common.dto.ResourceVersion;
 import com.example.paycheck.common.exception.ErrorCode;
 import com.example.paycheck.common.exception.NotFoundException;
 import com.example.paycheck.domain.correction.dto.CorrectionRequestDto;
@@ -9,12 +10,15 @@ import com.example.paycheck.domain.correction.enums.RequestType;
 import com.example.paycheck.domain.correction.repository.CorrectionRequestRepository;
 import com.example.paycheck.domain.worker.entity.Worker;
 import com.example.paycheck.domain.worker.repository.WorkerRepository;
+import com.example.paycheck.domain.workrecord.dto.WorkRecordCalendarRow;
 import com.example.paycheck.domain.workrecord.dto.WorkRecordDto;
 import com.example.paycheck.domain.workrecord.entity.WorkRecord;
 import com.example.paycheck.domain.workrecord.enums.WorkRecordCurrentStatus;
 import com.example.paycheck.domain.workrecord.enums.WorkRecordStatus;
 import com.example.paycheck.domain.workrecord.repository.WorkRecordRepository;
+import com.example.paycheck.domain.workrecord.util.TimelineCursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,10 +26,12 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.Clock;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.util.ArrayDeque;
 import java.util.Comparator;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -37,6 +43,13 @@ public class WorkRecordQueryService {
     private final CorrectionRequestRepository correctionRequestRepository;
     private final Clock clock;
 
+    private static final int MAX_TIMELINE_PAGE_SIZE = 100;
+
+    private static final Comparator<WorkerRecordSortKey> WORKER_RECORD_ORDER = Comparator
+            .comparingInt((WorkerRecordSortKey key) -> key.currentStatus().getSortOrder())
+            .thenComparing(WorkerRecordSortKey::compareWithinSameCurrentStatus)
+            .thenComparing(key -> key.record().getId());
+
     public List<WorkRecordDto.Response> getWorkRecordsByContract(Long contractId) {
         return workRecordRepository.findByContractId(contractId, WorkRecordStatus.DELETED).stream()
                 .map(WorkRecordDto.Response::from)
@@ -49,20 +62,30 @@ public class WorkRecordQueryService {
         return WorkRecordDto.DetailedResponse.from(workRecord);
     }
 
-    // 고용주용: 사업장의 근무 기록 조회 (캘린더)
-    public List<WorkRecordDto.CalendarResponse> getWorkRecordsByWorkplaceAndDateRange(
-            Long workplaceId, LocalDate startDate, LocalDate endDate) {
-        LocalDate queryStartDate = startDate.minusDays(1);
-        List<WorkRecord> records = workRecordRepository.findByWorkplaceAndDateRange(
-                workplaceId, queryStartDate, endDate, WorkRecordStatus.DELETED);
+    /**
+     * 고용주용: 사업장의 근무 기록 조회 (캘린더)
+     * 캘린더 프로젝션을 근무일/시작 시각/ID 순으로 스트리밍하며 표시 순서대로 action에 전달한다.
+     * 자정을 넘는 근무는 다음 날에도 표시되므로, 전날의 야간 근무를 다음 날 근무와 시작 시각 순으로 병합한다.
+     * (목록 전체를 모으거나 정렬하지 않으므로 메모리 사용량은 하루치 야간 근무 수에 비례)
+     */
+    public void forEachWorkRecordByWorkplaceAndDateRange(
+            Long workplaceId, LocalDate startDate, LocalDate endDate,
+            Consumer<WorkRecordDto.CalendarResponse> action) {
+        CalendarMerger merger = new CalendarMerger(startDate, endDate, action);
+        // 전날 자정을 넘어 이어지는 근무를 포함하도록 하루 앞부터 조회
+        try (Stream<WorkRecordCalendarRow> rows = workRecordRepository.streamCalendarRowsByWorkplaceAndDateRange(
+                workplaceId, startDate.minusDays(1), endDate, WorkRecordStatus.DELETED)) {
+            rows.forEach(merger::accept);
+        }
+        merger.finish();
+    }
 
-        return records.stream()
-                .flatMap(record -> getCalendarDisplayDates(record, startDate, endDate).stream()
-                        .map(displayDate -> WorkRecordDto.CalendarResponse.from(record, displayDate)))
-                .sorted(Comparator.comparing(WorkRecordDto.CalendarResponse::getWorkDate)
-                        .thenComparing(WorkRecordDto.CalendarResponse::getStartTime)
-                        .thenComparing(WorkRecordDto.CalendarResponse::getId))
-                .collect(Collectors.toList());
+    /**
+     * 고용주용 캘린더 조회 범위의 버전 (조건부 GET용, 캘린더와 같이 전날 야간 근무까지 포함)
+     */
+    public ResourceVersion getCalendarVersionByWorkplaceAndDateRange(Long workplaceId, LocalDate startDate, LocalDate endDate) {
+        return workRecordRepository.findCalendarVersionByWorkplaceAndDateRange(
+                workplaceId, startDate.minusDays(1), endDate, WorkRecordStatus.DELETED);
     }
 
     // 근로자용: 내 근무 기록 조회
@@ -74,12 +97,48 @@ public class WorkRecordQueryService {
         List<WorkRecord> records = workRecordRepository.findByWorkerAndDateRange(worker.getId(), startDate, endDate, WorkRecordStatus.DELETED);
         LocalDateTime now = LocalDateTime.now(clock);
 
+        // 정렬 비교마다 현재 상태와 시작/종료 일시를 다시 계산하지 않도록 행마다 한 번만 계산해 둔다
         return records.stream()
-                .sorted(buildWorkerRecordComparator(now))
-                .map(record -> WorkRecordDto.DetailedResponse.from(record, calculateCurrentStatus(record, now)))
+                .map(record -> WorkerRecordSortKey.of(record, now))
+                .sorted(WORKER_RECORD_ORDER)
+                .map(key -> WorkRecordDto.DetailedResponse.from(key.record(), key.currentStatus()))
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 근로자용: 근무 기록 타임라인 (근무일, 시작 시각, ID 최신순 keyset 페이지)
+     * 정렬과 개수 제한은 DB에서 처리하고, 한 건을 더 조회해 다음 페이지 존재 여부를 판단한다.
+     */
+    public WorkRecordDto.TimelineResponse getWorkRecordTimeline(Long userId, String cursor, int size) {
+        Worker worker = workerRepository.findByUserId(userId)
+                .orElseThrow(() -> new NotFoundException(ErrorCode.WORKER_NOT_FOUND, "근로자 정보를 찾을 수 없습니다."));
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_TIMELINE_PAGE_SIZE);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<WorkRecord> records;
+        if (cursor == null || cursor.isBlank()) {
+            records = workRecordRepository.findTimelineByWorkerId(worker.getId(), WorkRecordStatus.DELETED, limit);
+        } else {
+            TimelineCursor after = TimelineCursor.decode(cursor);
+            records = workRecordRepository.findTimelineByWorkerIdBefore(
+                    worker.getId(), WorkRecordStatus.DELETED,
+                    after.workDate(), after.startTime(), after.id(), limit);
+        }
+
+        boolean hasNext = records.size() > pageSize;
+        List<WorkRecord> page = hasNext ? records.subList(0, pageSize) : records;
+        LocalDateTime now = LocalDateTime.now(clock);
+
+        return WorkRecordDto.TimelineResponse.builder()
+                .records(page.stream()
+                        .map(record -> WorkRecordDto.DetailedResponse.from(record, calculateCurrentStatus(record, now)))
+                        .collect(Collectors.toList()))
+                .nextCursor(hasNext ? TimelineCursor.of(page.get(page.size() - 1)).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
     // 고용주용: 승인 대기중인 모든 요청 조회 (통합)
     public List<CorrectionRequestDto.ListResponse> getAllPendingApprovalsByWorkplace(
             Long workplaceId, RequestType filterType) {
@@ -103,28 +162,28 @@ public class WorkRecordQueryService {
                 .collect(Collectors.toList());
     }
 
-    private Comparator<WorkRecord> buildWorkerRecordComparator(LocalDateTime now) {
-        return Comparator
-                .comparing((WorkRecord record) -> calculateCurrentStatus(record, now).getSortOrder())
-                .thenComparing((left, right) -> compareWithinSameCurrentStatus(left, right, now))
-                .thenComparing(WorkRecord::getId);
-    }
-
-    private int compareWithinSameCurrentStatus(WorkRecord left, WorkRecord right, LocalDateTime now) {
-        WorkRecordCurrentStatus leftStatus = calculateCurrentStatus(left, now);
-        WorkRecordCurrentStatus rightStatus = calculateCurrentStatus(right, now);
+    /**
+     * 근로자 근무 기록 정렬 키 (현재 상태 순, 같은 상태 안에서는 진행 중/예정은 시작 일시 오름차순,
+     * 완료는 종료 일시 내림차순, 마지막으로 ID 순)
+     */
+    private record WorkerRecordSortKey(
+            WorkRecord record, WorkRecordCurrentStatus currentStatus,
+            LocalDateTime startDateTime, LocalDateTime endDateTime) {
 
-        if (leftStatus != rightStatus) {
-            return 0;
+        static WorkerRecordSortKey of(WorkRecord record, LocalDateTime now) {
+            return new WorkerRecordSortKey(record, calculateCurrentStatus(record, now),
+                    getStartDateTime(record), getEndDateTime(record));
         }
 
-        return switch (leftStatus) {
-            case IN_PROGRESS, UPCOMING -> getStartDateTime(left).compareTo(getStartDateTime(right));
-            case COMPLETED -> getEndDateTime(right).compareTo(getEndDateTime(left));
-        };
+        private int compareWithinSameCurrentStatus(WorkerRecordSortKey other) {
+            return switch (currentStatus) {
+                case IN_PROGRESS, UPCOMING -> startDateTime.compareTo(other.startDateTime);
+                case COMPLETED -> other.endDateTime.compareTo(endDateTime);
+            };
+        }
     }
 
-    private WorkRecordCurrentStatus calculateCurrentStatus(WorkRecord workRecord, LocalDateTime now) {
+    private static WorkRecordCurrentStatus calculateCurrentStatus(WorkRecord workRecord, LocalDateTime now) {
         if (workRecord.getStatus() == WorkRecordStatus.COMPLETED) {
             return WorkRecordCurrentStatus.COMPLETED;
         }
@@ -143,39 +202,94 @@ public class WorkRecordQueryService {
         return WorkRecordCurrentStatus.UPCOMING;
     }
 
-    private LocalDateTime getStartDateTime(WorkRecord workRecord) {
+    private static LocalDateTime getStartDateTime(WorkRecord workRecord) {
         return workRecord.getWorkDate().atTime(workRecord.getStartTime());
     }
 
-    private LocalDateTime getEndDateTime(WorkRecord workRecord) {
+    private static LocalDateTime getEndDateTime(WorkRecord workRecord) {
         LocalDate endDate = workRecord.getEndTime().isAfter(workRecord.getStartTime())
                 ? workRecord.getWorkDate()
                 : workRecord.getWorkDate().plusDays(1);
         return endDate.atTime(workRecord.getEndTime());
     }
-    private List<LocalDate> getCalendarDisplayDates(WorkRecord workRecord, LocalDate startDate, LocalDate endDate) {
-        List<LocalDate> displayDates = new ArrayList<>();
-        LocalDate workDate = workRecord.getWorkDate();
 
-        if (isWithinDateRange(workDate, startDate, endDate)) {
-            displayDates.add(workDate);
+    /**
+     * 근무일/시작 시각/ID 순으로 정렬된 캘린더 행을 표시일/시작 시각/ID 순으로 내보낸다.
+     * carried: 현재 근무일에 표시할 전날 야간 근무, overnight: 다음 날에 표시할 현재 근무일 야간 근무
+     * (둘 다 입력 순서대로 쌓이므로 시작 시각/ID 순으로 정렬된 상태)
+     */
+    private static class CalendarMerger {
+
+        private static final Comparator<WorkRecordCalendarRow> DISPLAY_ORDER = Comparator
+                .comparing(WorkRecordCalendarRow::getStartTime)
+                .thenComparing(WorkRecordCalendarRow::getId);
+
+        private final LocalDate startDate;
+        private final LocalDate endDate;
+        private final Consumer<WorkRecordDto.CalendarResponse> action;
+
+        private LocalDate currentDate;
+        private ArrayDeque<WorkRecordCalendarRow> carried = new ArrayDeque<>();
+        private ArrayDeque<WorkRecordCalendarRow> overnight = new ArrayDeque<>();
+
+        CalendarMerger(LocalDate startDate, LocalDate endDate, Consumer<WorkRecordDto.CalendarResponse> action) {
+            this.startDate = startDate;
+            this.endDate = endDate;
+            this.action = action;
         }
 
-        if (isOvernight(workRecord)) {
-            LocalDate nextDate = workDate.plusDays(1);
-            if (isWithinDateRange(nextDate, startDate, endDate)) {
-                displayDates.add(nextDate);
+        void accept(WorkRecordCalendarRow row) {
+            if (!row.getWorkDate().equals(currentDate)) {
+                moveTo(row.getWorkDate());
+            }
+
+            // 현재 근무보다 먼저 시작하는 전날 야간 근무를 먼저 내보냄
+            while (!carried.isEmpty() && DISPLAY_ORDER.compare(carried.peekFirst(), row) < 0) {
+                emit(carried.pollFirst(), currentDate);
+            }
+            emit(row, currentDate);
+
+            if (row.isOvernight()) {
+                overnight.addLast(row);
             }
         }
 
-        return displayDates;
-    }
+        void finish() {
+            if (currentDate != null) {
+                flushCarried();
+                emitAll(overnight, currentDate.plusDays(1));
+            }
+        }
 
-    private boolean isWithinDateRange(LocalDate date, LocalDate startDate, LocalDate endDate) {
-        return !date.isBefore(startDate) && !date.isAfter(endDate);
-    }
+        private void moveTo(LocalDate workDate) {
+            if (currentDate != null) {
+                flushCarried();
+                LocalDate nextDate = currentDate.plusDays(1);
+                if (nextDate.isBefore(workDate)) {
+                    // 다음 날 근무가 없으면 야간 근무만 그날에 표시
+                    emitAll(overnight, nextDate);
+                }
+                ArrayDeque<WorkRecordCalendarRow> emptied = carried;
+                carried = overnight;
+                overnight = emptied;
+            }
+            currentDate = workDate;
+        }
+
+        private void flushCarried() {
+            emitAll(carried, currentDate);
+        }
 
-    private boolean isOvernight(WorkRecord workRecord) {
-        return !workRecord.getEndTime().isAfter(workRecord.getStartTime());
+        private void emitAll(ArrayDeque<WorkRecordCalendarRow> rows, LocalDate displayDate) {
+            while (!rows.isEmpty()) {
+                emit(rows.pollFirst(), displayDate);
+            }
+        }
+
+        private void emit(WorkRecordCalendarRow row, LocalDate displayDate) {
+            if (!displayDate.isBefore(startDate) && !displayDate.isAfter(endDate)) {
+                action.accept(WorkRecordDto.CalendarResponse.from(row, displayDate));
+            }
+        }
     }
 }
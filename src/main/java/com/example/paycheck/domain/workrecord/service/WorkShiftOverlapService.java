@@ -0,0 +1,93 @@
+package com.example.paycheck.domain.workrecord.service;
+
+import com.example.paycheck.domain.correction.enums.CorrectionStatus;
+import com.example.paycheck.domain.correction.enums.RequestType;
+import com.example.paycheck.domain.correction.repository.CorrectionRequestRepository;
+import com.example.paycheck.domain.workrecord.dto.ShiftConflict;
+import com.example.paycheck.domain.workrecord.dto.WorkShift;
+import com.example.paycheck.domain.workrecord.enums.ShiftConflictSource;
+import com.example.paycheck.domain.workrecord.enums.WorkRecordStatus;
+import com.example.paycheck.domain.workrecord.repository.WorkRecordRepository;
+import com.example.paycheck.domain.workrecord.util.ShiftIntervalTree;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 근무 시간 겹침 검사
+ *
+ * 요청된 근무 시간대 전체 기간(자정을 넘는 근무를 고려해 앞뒤 하루 포함)의 유효한 근무 기록과
+ * 대기 중인 생성 정정요청을 각각 범위 조회 1회로 불러와 구간 트리로 만들고,
+ * 요청된 근무 시간대 전체를 한 번에 검사하여 모든 충돌을 반환한다.
+ * (요청 개수와 무관하게 조회 쿼리 2회, 검사 O(n log n))
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class WorkShiftOverlapService {
+
+    private final WorkRecordRepository workRecordRepository;
+    private final CorrectionRequestRepository correctionRequestRepository;
+
+    /**
+     * 요청된 근무 시간대들의 충돌 목록 (충돌이 없으면 빈 목록)
+     * 요청된 근무 시간대끼리 겹치는 경우도 포함한다. (나중에 시작하는 근무가 requested)
+     */
+    public List<ShiftConflict> findConflicts(Long contractId, List<WorkShift> requestedShifts) {
+        if (requestedShifts.isEmpty()) {
+            return List.of();
+        }
+
+        LocalDate startDate = requestedShifts.stream().map(WorkShift::getWorkDate).min(Comparator.naturalOrder()).orElseThrow();
+        LocalDate endDate = requestedShifts.stream().map(WorkShift::getWorkDate).max(Comparator.naturalOrder()).orElseThrow();
+
+        // 전날 자정을 넘어 이어지는 근무와 다음 날 새벽 근무까지 검사하도록 앞뒤 하루 포함
+        ShiftIntervalTree<WorkShift> workRecordShifts = ShiftIntervalTree.of(
+                workRecordRepository.findShiftsByContractIdAndWorkDateBetween(
+                        contractId, startDate.minusDays(1), endDate.plusDays(1), WorkRecordStatus.DELETED),
+                WorkShift::startMinute, WorkShift::endMinute);
+        ShiftIntervalTree<WorkShift> pendingRequestShifts = ShiftIntervalTree.of(
+                correctionRequestRepository.findRequestedShiftsByContractIdAndWorkDateBetween(
+                        contractId, startDate.minusDays(1), endDate.plusDays(1), RequestType.CREATE, CorrectionStatus.PENDING),
+                WorkShift::startMinute, WorkShift::endMinute);
+
+        List<ShiftConflict> conflicts = new ArrayList<>();
+        for (WorkShift requested : requestedShifts) {
+            long start = requested.startMinute();
+            long end = requested.endMinute();
+            workRecordShifts.findOverlapping(start, end).forEach(existing ->
+                    conflicts.add(new ShiftConflict(requested, existing, ShiftConflictSource.WORK_RECORD)));
+            pendingRequestShifts.findOverlapping(start, end).forEach(existing ->
+                    conflicts.add(new ShiftConflict(requested, existing, ShiftConflictSource.PENDING_CREATE_REQUEST)));
+        }
+        addRequestedOverlaps(requestedShifts, conflicts);
+        return conflicts;
+    }
+
+    /**
+     * 요청된 근무 시간대끼리의 겹침 (시작 시각 순 정렬 후, 각 근무가 끝나기 전에 시작하는 근무만 비교)
+     */
+    private void addRequestedOverlaps(List<WorkShift> requestedShifts, List<ShiftConflict> conflicts) {
+        List<WorkShift> sorted = new ArrayList<>(requestedShifts);
+        sorted.sort(Comparator.comparingLong(WorkShift::startMinute));
+
+        for (int i = 0; i < sorted.size(); i++) {
+            WorkShift earlier = sorted.get(i);
+            long earlierEnd = earlier.endMinute();
+            if (earlier.startMinute() >= earlierEnd) {
+                continue;
+            }
+            for (int j = i + 1; j < sorted.size() && sorted.get(j).startMinute() < earlierEnd; j++) {
+                WorkShift later = sorted.get(j);
+                if (later.startMinute() < later.endMinute()) {
+                    conflicts.add(new ShiftConflict(later, earlier, ShiftConflictSource.REQUESTED));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,312 @@
+package com.example.paycheck.domain.workrecord.service;
+
+import com.example.paycheck.domain.workrecord.enums.WorkRecordStatus;
+import com.example.paycheck.domain.workrecord.repository.WorkRecordRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 계약별 근무일 비트맵 인덱스 (주휴수당 다음 주 근무 여부 판단용)
+ *
+ * 계약마다 삭제되지 않은 근무 기록이 있는 날을 epoch day 기준 비트맵(long 1개당 64일)으로 보관하여
+ * "기간 내 근무일이 있는가"를 DB 조회 없이 판단한다.
+ * - 계약별 비트맵은 처음 조회할 때 별도 읽기 전용 트랜잭션에서 적재하고, 최대 max-contracts개를 LRU로 유지한다.
+ * - 다른 인스턴스의 근무 기록 변경은 알 수 없으므로 적재 후 ttl-seconds가 지나면 DB에서 다시 적재한다.
+ *   (다른 노드에서 변경한 근무일은 최대 TTL만큼 늦게 반영, 변경한 노드는 자기 변경으로 이전 주 수당을 바로 재계산)
+ * - 근무 기록 변경은 트랜잭션 커밋 후에 반영한다. (롤백된 변경은 반영되지 않음)
+ * - 커밋 전까지는 트랜잭션 안에서만 보이는 변경분을 함께 고려한다.
+ *   추가된 근무일은 바로 근무일로 보고, 삭제/이동/일괄 변경으로 근무일 여부가 불확실해진 구간은 DB에서 확인한다.
+ *
+ * 근무 기록을 생성/삭제하거나 근무일을 바꾸는 코드는 반드시 markWorked/markRemoved/invalidate로 변경을 알려야 한다.
+ */
+@Slf4j
+@Component
+public class WorkedDayIndex {
+
+    private final WorkRecordRepository workRecordRepository;
+    private final TransactionTemplate loadTransaction;
+    private final Clock clock;
+    private final long ttlMillis;
+
+    // 계약 ID별 커밋된 근무일 비트맵 (접근 순서 LRU, 모든 접근은 entries 잠금 안에서 수행)
+    private final Map<Long, LoadedDays> entries;
+
+    // 커밋된 변경 반영 횟수 (적재 중 반영된 변경이 있으면 적재 결과를 캐시하지 않음)
+    private long changeSequence;
+
+    public WorkedDayIndex(
+            WorkRecordRepository workRecordRepository,
+            PlatformTransactionManager transactionManager,
+            Clock clock,
+            @Value("${work-record.worked-day-index.max-contracts:10000}") int maxContracts,
+            @Value("${work-record.worked-day-index.ttl-seconds:60}") long ttlSeconds) {
+        this.workRecordRepository = workRecordRepository;
+        this.clock = clock;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, LoadedDays> eldest) {
+                return size() > maxContracts;
+            }
+        };
+    }
+
+    /**
+     * 기간(시작일, 종료일 포함) 내 삭제되지 않은 근무 기록이 있는지 여부
+     */
+    public boolean hasWorkedDayBetween(Long contractId, LocalDate startDate, LocalDate endDate) {
+        long fromDay = startDate.toEpochDay();
+        long toDay = endDate.toEpochDay();
+
+        PendingChanges pending = currentPendingChanges();
+        if (pending != null) {
+            if (pending.isUncertain(contractId, fromDay, toDay)) {
+                // 트랜잭션 안에서 삭제/일괄 변경된 구간: 현재 트랜잭션 기준으로 DB에서 확인
+                return workRecordRepository.existsByContractIdAndWorkDateBetweenAndStatusNot(
+                        contractId, startDate, endDate, WorkRecordStatus.DELETED);
+            }
+            if (pending.hasAdded(contractId, fromDay, toDay)) {
+                return true;
+            }
+        }
+
+        long sequence;
+        synchronized (entries) {
+            LoadedDays cached = entries.get(contractId);
+            if (cached != null && clock.millis() < cached.expiresAt()) {
+                return cached.days().anyBetween(fromDay, toDay);
+            }
+            sequence = changeSequence;
+        }
+
+        long expiresAt = clock.millis() + ttlMillis;
+        WorkedDays loaded = load(contractId);
+        synchronized (entries) {
+            if (sequence == changeSequence) {
+                entries.put(contractId, new LoadedDays(loaded, expiresAt));
+            }
+        }
+        return loaded.anyBetween(fromDay, toDay);
+    }
+
+    /**
+     * 근무일 추가 (근무 기록 생성, 다른 날짜로 이동)
+     */
+    public void markWorked(Long contractId, LocalDate workDate) {
+        markWorked(contractId, List.of(workDate));
+    }
+
+    /**
+     * 근무일 일괄 추가 (근무 기록 일괄 생성)
+     */
+    public void markWorked(Long contractId, Collection<LocalDate> workDates) {
+        if (workDates.isEmpty()) {
+            return;
+        }
+
+        PendingChanges pending = pendingChangesForWrite();
+        if (pending == null) {
+            applyCommitted(Map.of(contractId, WorkedDays.of(workDates)), Map.of(), Set.of());
+            return;
+        }
+        WorkedDays added = pending.added.computeIfAbsent(contractId, id -> new WorkedDays());
+        workDates.forEach(workDate -> added.set(workDate.toEpochDay()));
+    }
+
+    /**
+     * 근무일 제거 (근무 기록 삭제, 다른 날짜로 이동)
+     * 같은 날 다른 근무 기록이 남아 있을 수 있으므로 해당 날짜는 근무일 여부가 불확실한 것으로 처리한다.
+     */
+    public void markRemoved(Long contractId, LocalDate workDate) {
+        PendingChanges pending = pendingChangesForWrite();
+        if (pending == null) {
+            applyCommitted(Map.of(), Map.of(contractId, WorkedDays.of(List.of(workDate))), Set.of());
+            return;
+        }
+        pending.removed.computeIfAbsent(contractId, id -> new WorkedDays()).set(workDate.toEpochDay());
+    }
+
+    /**
+     * 계약의 근무일 전체 무효화 (기간 일괄 삭제/상태 일괄 변경 등 변경 날짜를 특정하기 어려운 경우)
+     */
+    public void invalidate(Long contractId) {
+        PendingChanges pending = pendingChangesForWrite();
+        if (pending == null) {
+            applyCommitted(Map.of(), Map.of(), Set.of(contractId));
+            return;
+        }
+        pending.invalidated.add(contractId);
+    }
+
+    private WorkedDays load(Long contractId) {
+        List<LocalDate> workDates = loadTransaction.execute(status ->
+                workRecordRepository.findDistinctWorkDatesByContractIdAndStatusNot(contractId, WorkRecordStatus.DELETED));
+        return WorkedDays.of(workDates != null ? workDates : List.of());
+    }
+
+    /**
+     * 커밋된 변경 반영 (근무일 추가는 비트 설정, 제거/무효화는 다음 조회 시 다시 적재)
+     */
+    private void applyCommitted(Map<Long, WorkedDays> added, Map<Long, WorkedDays> removed, Set<Long> invalidated) {
+        synchronized (entries) {
+            changeSequence++;
+            removed.keySet().forEach(entries::remove);
+            invalidated.forEach(entries::remove);
+            added.forEach((contractId, days) -> {
+                LoadedDays cached = entries.get(contractId);
+                if (cached != null) {
+                    cached.days().addAll(days);
+                }
+            });
+        }
+    }
+
+    private PendingChanges currentPendingChanges() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        return (PendingChanges) TransactionSynchronizationManager.getResource(this);
+    }
+
+    /**
+     * 현재 트랜잭션의 변경분 (트랜잭션 밖이면 null을 반환하고 호출 측에서 즉시 반영)
+     */
+    private PendingChanges pendingChangesForWrite() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            PendingChanges created = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(WorkedDayIndex.this);
+                    if (status == STATUS_COMMITTED) {
+                        applyCommitted(created.added, created.removed, created.invalidated);
+                    }
+                }
+            });
+            pending = created;
+        }
+        return pending;
+    }
+
+    /**
+     * DB에서 적재한 근무일 비트맵과 만료 시각
+     */
+    private record LoadedDays(WorkedDays days, long expiresAt) {
+    }
+
+    /**
+     * 트랜잭션 안에서만 보이는 근무일 변경분
+     */
+    private static final class PendingChanges {
+        private final Map<Long, WorkedDays> added = new HashMap<>();
+        private final Map<Long, WorkedDays> removed = new HashMap<>();
+        private final Set<Long> invalidated = new HashSet<>();
+
+        private boolean isUncertain(Long contractId, long fromDay, long toDay) {
+            if (invalidated.contains(contractId)) {
+                return true;
+            }
+            WorkedDays removedDays = removed.get(contractId);
+            return removedDays != null && removedDays.anyBetween(fromDay, toDay);
+        }
+
+        private boolean hasAdded(Long contractId, long fromDay, long toDay) {
+            WorkedDays addedDays = added.get(contractId);
+            return addedDays != null && addedDays.anyBetween(fromDay, toDay);
+        }
+    }
+
+    /**
+     * epoch day 비트맵 (words[i]의 비트 b = (baseWord + i) * 64 + b 번째 날)
+     */
+    static final class WorkedDays {
+        private long baseWord;
+        private long[] words = new long[0];
+
+        static WorkedDays of(Collection<LocalDate> workDates) {
+            WorkedDays workedDays = new WorkedDays();
+            workDates.forEach(workDate -> workedDays.set(workDate.toEpochDay()));
+            return workedDays;
+        }
+
+        void set(long epochDay) {
+            long word = epochDay >> 6;
+            if (words.length == 0) {
+                baseWord = word;
+                words = new long[1];
+            } else if (word < baseWord) {
+                int shift = (int) (baseWord - word);
+                long[] grown = new long[words.length + shift];
+                System.arraycopy(words, 0, grown, shift, words.length);
+                words = grown;
+                baseWord = word;
+            } else if (word >= baseWord + words.length) {
+                words = Arrays.copyOf(words, (int) (word - baseWord + 1));
+            }
+            words[(int) (word - baseWord)] |= 1L << (epochDay & 63);
+        }
+
+        void addAll(WorkedDays other) {
+            for (int i = 0; i < other.words.length; i++) {
+                long bits = other.words[i];
+                while (bits != 0) {
+                    set(((other.baseWord + i) << 6) + Long.numberOfTrailingZeros(bits));
+                    bits &= bits - 1;
+                }
+            }
+        }
+
+        boolean anyBetween(long fromDay, long toDay) {
+            if (words.length == 0) {
+                return false;
+            }
+            long from = Math.max(fromDay, baseWord << 6);
+            long to = Math.min(toDay, ((baseWord + words.length) << 6) - 1);
+            if (from > to) {
+                return false;
+            }
+
+            int fromIndex = (int) ((from >> 6) - baseWord);
+            int toIndex = (int) ((to >> 6) - baseWord);
+            for (int i = fromIndex; i <= toIndex; i++) {
+                long mask = -1L;
+                if (i == fromIndex) {
+                    mask &= -1L << (from & 63);
+                }
+                if (i == toIndex) {
+                    mask &= -1L >>> (63 - (to & 63));
+                }
+                if ((words[i] & mask) != 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
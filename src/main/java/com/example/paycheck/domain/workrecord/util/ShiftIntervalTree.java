@@ -0,0 +1,87 @@
+package com.example.paycheck.domain.workrecord.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * 근무 시간대 구간 트리 (구성 후 변경하지 않는 정적 트리)
+ *
+ * 구간을 시작 시각 순으로 정렬한 배열을 균형 이진 탐색 트리로 보고(구간 [lo, hi]의 가운데 원소가 루트),
+ * 노드마다 하위 트리의 최대 종료 시각을 저장하여 겹치지 않는 하위 트리를 건너뛴다.
+ * - 구성: O(n log n) (정렬)
+ * - 겹침 조회: O(log n + k) (k = 겹치는 구간 수)
+ *
+ * 구간은 [시작, 종료) 반열린 구간이므로 한 근무의 종료 시각과 다른 근무의 시작 시각이 같으면 겹치지 않는다.
+ */
+public final class ShiftIntervalTree<T> {
+
+    private final List<T> values;
+    private final long[] starts;
+    private final long[] ends;
+    private final long[] maxEnds;
+
+    private ShiftIntervalTree(List<T> sortedValues, ToLongFunction<T> startOf, ToLongFunction<T> endOf) {
+        int size = sortedValues.size();
+        this.values = sortedValues;
+        this.starts = new long[size];
+        this.ends = new long[size];
+        this.maxEnds = new long[size];
+        for (int i = 0; i < size; i++) {
+            starts[i] = startOf.applyAsLong(sortedValues.get(i));
+            ends[i] = endOf.applyAsLong(sortedValues.get(i));
+        }
+        buildMaxEnds(0, size - 1);
+    }
+
+    public static <T> ShiftIntervalTree<T> of(Collection<T> values, ToLongFunction<T> startOf, ToLongFunction<T> endOf) {
+        List<T> sorted = new ArrayList<>(values);
+        sorted.sort(Comparator.comparingLong(startOf));
+        return new ShiftIntervalTree<>(sorted, startOf, endOf);
+    }
+
+    /**
+     * [start, end) 구간과 겹치는 모든 구간 (시작 시각 순)
+     */
+    public List<T> findOverlapping(long start, long end) {
+        List<T> overlapping = new ArrayList<>();
+        if (start < end) {
+            collectOverlapping(0, values.size() - 1, start, end, overlapping);
+        }
+        return overlapping;
+    }
+
+    private long buildMaxEnds(int lo, int hi) {
+        if (lo > hi) {
+            return Long.MIN_VALUE;
+        }
+        int mid = (lo + hi) >>> 1;
+        long maxEnd = Math.max(ends[mid], Math.max(buildMaxEnds(lo, mid - 1), buildMaxEnds(mid + 1, hi)));
+        maxEnds[mid] = maxEnd;
+        return maxEnd;
+    }
+
+    private void collectOverlapping(int lo, int hi, long start, long end, List<T> overlapping) {
+        if (lo > hi) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        // 하위 트리의 모든 구간이 조회 시작 전에 끝나면 건너뜀
+        if (maxEnds[mid] <= start) {
+            return;
+        }
+
+        collectOverlapping(lo, mid - 1, start, end, overlapping);
+
+        // 이 노드와 오른쪽 하위 트리는 조회 종료 이후에 시작하면 건너뜀
+        if (starts[mid] >= end) {
+            return;
+        }
+        if (starts[mid] < ends[mid] && ends[mid] > start) {
+            overlapping.add(values.get(mid));
+        }
+        collectOverlapping(mid + 1, hi, start, end, overlapping);
+    }
+}
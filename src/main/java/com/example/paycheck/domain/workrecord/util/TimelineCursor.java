@@ -0,0 +1,42 @@
+package com.example.paycheck.domain.workrecord.util;
+
+import com.example.paycheck.common.exception.BadRequestException;
+import com.example.paycheck.common.exception.ErrorCode;
+import com.example.paycheck.domain.workrecord.entity.WorkRecord;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 근무 기록 타임라인 커서 (마지막으로 내려준 근무 기록의 정렬 키: 근무일, 시작 시각, ID)
+ * 클라이언트에는 정렬 키를 URL-safe Base64로 인코딩한 불투명 문자열로 전달한다.
+ */
+public record TimelineCursor(LocalDate workDate, LocalTime startTime, Long id) {
+
+    private static final String DELIMITER = "|";
+
+    public static TimelineCursor of(WorkRecord workRecord) {
+        return new TimelineCursor(workRecord.getWorkDate(), workRecord.getStartTime(), workRecord.getId());
+    }
+
+    public String encode() {
+        String key = workDate + DELIMITER + startTime + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TimelineCursor decode(String cursor) {
+        try {
+            String key = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = key.split("\\|");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("커서 형식 오류: " + key);
+            }
+            return new TimelineCursor(LocalDate.parse(parts[0]), LocalTime.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException(ErrorCode.INVALID_CURSOR, "유효하지 않은 커서입니다.");
+        }
+    }
+}
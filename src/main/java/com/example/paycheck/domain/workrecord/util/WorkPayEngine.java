@@ -0,0 +1,214 @@
+package com.example.paycheck.domain.workrecord.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 근무 기록 시간 분류 및 급여 계산 엔진 (정수 고정소수점)
+ *
+ * 단위:
+ * - 시간: 분(minute) 및 1/100시간(centi-hour, BigDecimal scale 2와 동일)
+ * - 시급: 1/100원(centi-won, hourly_wage 컬럼 scale 2와 동일)
+ * - 급여: 1/10000원(기본급), 1/100000원(가산수당, 0.5배율 포함)
+ *
+ * 기존 BigDecimal 계산(HALF_UP 반올림, 구간별 반올림 순서)과 동일한 결과를 내도록 구현되어 있으며,
+ * 계산 경로에서는 객체를 생성하지 않는다. BigDecimal 변환은 엔티티 경계(WorkRecord)에서만 수행한다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class WorkPayEngine {
+
+    // 시간 분류 상수
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long NANOS_PER_MINUTE = 60L * NANOS_PER_SECOND;
+    private static final long NIGHT_SHIFT_START_NANOS = 22L * 60L * NANOS_PER_MINUTE; // 22:00
+    private static final long NIGHT_SHIFT_END_NANOS = 6L * 60L * NANOS_PER_MINUTE;    // 06:00
+    private static final long END_OF_DAY_NANOS = 24L * 60L * NANOS_PER_MINUTE - 1;   // LocalTime.MAX
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final long DAILY_THRESHOLD_CENTI_HOURS = 800; // 8시간
+
+    // 고정소수점 scale
+    public static final int HOURS_SCALE = 2;
+    public static final int WAGE_SCALE = 2;
+    public static final int BASE_PAY_SCALE = HOURS_SCALE + WAGE_SCALE;
+    public static final int PREMIUM_PAY_SCALE = BASE_PAY_SCALE + 1;
+
+    // 가산율 0.5 = 5 × 10^-1 (PREMIUM_PAY_SCALE에 반영)
+    private static final long PREMIUM_RATE_TENTHS = 5;
+
+    /**
+     * 계산 결과 버퍼
+     * 호출 측에서 생성하여 재사용할 수 있도록 가변 필드로 구성 (일괄 계산 시 레코드마다 할당하지 않음)
+     */
+    public static final class PayResult {
+        public int totalWorkMinutes;      // 실제 근무 시간 (분)
+        public long totalCentiHours;      // 총 근무 시간 (1/100시간)
+        public long overtimeCentiHours;   // 연장 시간 (8시간 초과분)
+        public long nightCentiHours;      // 야간 시간 (22-06시)
+        public long regularCentiHours;    // 주간 시간
+        public long holidayCentiHours;    // 휴일 시간
+
+        public long basePay;              // 기본급 (scale BASE_PAY_SCALE)
+        public long overtimePay;          // 연장 가산 (scale PREMIUM_PAY_SCALE)
+        public long nightPay;             // 야간 가산 (scale PREMIUM_PAY_SCALE)
+        public long holidayPay;           // 휴일 가산 (scale PREMIUM_PAY_SCALE)
+        public long totalPay;             // 총 급여 (scale PREMIUM_PAY_SCALE)
+    }
+
+    // 단건 계산용 스레드별 버퍼 (classifyHours/calculatePay가 모든 필드를 덮어쓰므로 초기화하지 않음)
+    private static final ThreadLocal<PayResult> THREAD_BUFFER = ThreadLocal.withInitial(PayResult::new);
+
+    /**
+     * 현재 스레드의 결과 버퍼 (버퍼를 넘겨받지 않는 단건 계산에서 호출마다 할당하지 않도록 재사용)
+     * 결과는 바로 읽어서 반영하고 버퍼를 보관하거나 다른 계산 중에 다시 요청하지 않는다.
+     */
+    public static PayResult threadBuffer() {
+        return THREAD_BUFFER.get();
+    }
+
+    /**
+     * 근무 시간 분류 (총/연장/야간/주간/휴일)
+     *
+     * @param startNanoOfDay 시작 시각 (LocalTime.toNanoOfDay)
+     * @param endNanoOfDay   종료 시각 (LocalTime.toNanoOfDay), 시작보다 이르면 자정을 넘는 근무
+     * @param breakMinutes   휴게 시간 (분)
+     * @param isHoliday      휴일(주말/공휴일) 여부
+     * @param result         결과를 기록할 버퍼
+     */
+    public static void classifyHours(long startNanoOfDay, long endNanoOfDay, int breakMinutes,
+                                     boolean isHoliday, PayResult result) {
+        boolean crossesMidnight = endNanoOfDay < startNanoOfDay;
+
+        // 전체 근무 시간 계산 (자정을 넘는 경우 24시간 추가)
+        long minutes = minutesBetween(startNanoOfDay, endNanoOfDay);
+        if (crossesMidnight) {
+            minutes += MINUTES_PER_DAY;
+        }
+        long workMinutes = minutes - breakMinutes;
+        long totalCentiHours = minutesToCentiHours(workMinutes);
+
+        result.totalWorkMinutes = (int) workMinutes;
+        result.totalCentiHours = totalCentiHours;
+
+        // 연장 시간 (8시간 초과분)
+        result.overtimeCentiHours = totalCentiHours > DAILY_THRESHOLD_CENTI_HOURS
+                ? totalCentiHours - DAILY_THRESHOLD_CENTI_HOURS
+                : 0;
+
+        // 야간 시간 (구간별로 1/100시간 반올림 후 합산)
+        long nightCentiHours = 0;
+        if (crossesMidnight) {
+            long nightFrom = startNanoOfDay >= NIGHT_SHIFT_START_NANOS ? startNanoOfDay : NIGHT_SHIFT_START_NANOS;
+            nightCentiHours += minutesToCentiHours(minutesBetween(nightFrom, END_OF_DAY_NANOS) + 1);
+
+            long nightTo = endNanoOfDay < NIGHT_SHIFT_END_NANOS ? endNanoOfDay : NIGHT_SHIFT_END_NANOS;
+            nightCentiHours += minutesToCentiHours(minutesBetween(0, nightTo));
+        } else {
+            if (startNanoOfDay < NIGHT_SHIFT_END_NANOS) {
+                long nightTo = endNanoOfDay < NIGHT_SHIFT_END_NANOS ? endNanoOfDay : NIGHT_SHIFT_END_NANOS;
+                nightCentiHours = minutesToCentiHours(minutesBetween(startNanoOfDay, nightTo));
+            }
+            if (endNanoOfDay > NIGHT_SHIFT_START_NANOS) {
+                long nightFrom = startNanoOfDay > NIGHT_SHIFT_START_NANOS ? startNanoOfDay : NIGHT_SHIFT_START_NANOS;
+                nightCentiHours += minutesToCentiHours(minutesBetween(nightFrom, endNanoOfDay));
+            }
+        }
+
+        // 휴게시간 비율에 따른 야간 시간 차감 (전체 시간 대비 야간 시간 비율, 비율은 소수 4자리 반올림)
+        if (breakMinutes > 0 && totalCentiHours > 0) {
+            long breakCentiHours = minutesToCentiHours(breakMinutes);
+            long nightRatio = divideHalfUp(nightCentiHours * 10_000, totalCentiHours + breakCentiHours);
+            nightCentiHours = divideHalfUp(nightCentiHours * 10_000 - breakCentiHours * nightRatio, 10_000);
+        }
+        nightCentiHours = Math.max(nightCentiHours, 0);
+        result.nightCentiHours = nightCentiHours;
+
+        // 휴일 여부에 따라 분류
+        if (isHoliday) {
+            result.holidayCentiHours = totalCentiHours;
+            result.regularCentiHours = 0;
+        } else {
+            result.regularCentiHours = Math.max(totalCentiHours - nightCentiHours, 0);
+            result.holidayCentiHours = 0;
+        }
+    }
+
+    /**
+     * 분류된 시간으로 급여 계산
+     * 기본급(1.0배)은 모든 사업장 공통, 가산수당(0.5배)은 5인 이상 사업장에만 적용
+     *
+     * @param hourlyWageCentiWon 시급 (1/100원)
+     * @param isSmallWorkplace   5인 미만 사업장 여부
+     * @param result             classifyHours 결과가 기록된 버퍼
+     */
+    public static void calculatePay(long hourlyWageCentiWon, boolean isSmallWorkplace, PayResult result) {
+        calculatePay(result.totalCentiHours, result.overtimeCentiHours, result.nightCentiHours,
+                result.holidayCentiHours, hourlyWageCentiWon, isSmallWorkplace, result);
+    }
+
+    /**
+     * 주어진 시간 값으로 급여 계산 (시간 분류를 별도로 보관하고 있는 경우)
+     */
+    public static void calculatePay(long totalCentiHours, long overtimeCentiHours, long nightCentiHours,
+                                    long holidayCentiHours, long hourlyWageCentiWon, boolean isSmallWorkplace,
+                                    PayResult result) {
+        result.basePay = totalCentiHours * hourlyWageCentiWon;
+
+        if (isSmallWorkplace) {
+            // 5인 미만 사업장: 가산 수당 없음
+            result.overtimePay = 0;
+            result.nightPay = 0;
+            result.holidayPay = 0;
+        } else {
+            // 5인 이상 사업장: 연장/야간/휴일 가산 (0.5배씩)
+            result.overtimePay = overtimeCentiHours * hourlyWageCentiWon * PREMIUM_RATE_TENTHS;
+            result.nightPay = nightCentiHours * hourlyWageCentiWon * PREMIUM_RATE_TENTHS;
+            result.holidayPay = holidayCentiHours * hourlyWageCentiWon * PREMIUM_RATE_TENTHS;
+        }
+
+        // 총 급여 = 기본급(1.0) + 연장가산(0.5) + 야간가산(0.5) + 휴일가산(0.5)
+        result.totalPay = result.basePay * 10 + result.overtimePay + result.nightPay + result.holidayPay;
+    }
+
+    /**
+     * 시급을 1/100원 단위 정수로 변환 (hourly_wage 컬럼 scale 2 기준)
+     */
+    public static long toCentiWon(BigDecimal hourlyWage) {
+        return hourlyWage.setScale(WAGE_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * 시간(BigDecimal)을 1/100시간 단위 정수로 변환
+     */
+    public static long toCentiHours(BigDecimal hours) {
+        return hours.setScale(HOURS_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Duration.between(from, to).toMinutes()와 동일한 결과 (초 단위 내림 후 분 단위 절삭)
+     */
+    private static long minutesBetween(long fromNanoOfDay, long toNanoOfDay) {
+        return Math.floorDiv(toNanoOfDay - fromNanoOfDay, NANOS_PER_SECOND) / 60;
+    }
+
+    /**
+     * 분 → 1/100시간 (scale 2, HALF_UP)
+     */
+    private static long minutesToCentiHours(long minutes) {
+        return divideHalfUp(minutes * 100, 60);
+    }
+
+    /**
+     * RoundingMode.HALF_UP 정수 나눗셈 (divisor > 0)
+     */
+    static long divideHalfUp(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (Math.abs(remainder) * 2 >= divisor) {
+            quotient += Long.signum(dividend);
+        }
+        return quotient;
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.paycheck.global.cache;
+
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 크기/TTL 제한 캐시 (BoundedCacheManager가 생성)
+ *
+ * 최대 maxSize개까지 보관하고, 초과하면 제거 정책(LRU: 가장 오래 사용하지 않은 항목,
+ * FIFO: 가장 먼저 저장한 항목)에 따라 제거한다. ttlMillis가 0보다 크면 저장 후
+ * 그 시간이 지난 항목은 조회 시 만료로 제거한다. maxSize가 0이면 아무것도 저장하지 않는다.
+ * - 조회/저장은 잠금 없이 ConcurrentHashMap으로 수행한다. (요청마다 조회하는 캐시가 전역 잠금을 기다리지 않음)
+ * - 항목마다 사용 순번을 기록하고, 최대 크기를 넘으면 순번이 가장 작은 항목부터 제거한다.
+ *   조회는 공유 카운터를 증가시키지 않고 "마지막 저장 이후에 사용됨"만 기록하므로 LRU는 근사치이다.
+ * - 제거는 한 스레드만 수행하고, 큰 캐시는 전체 탐색 비용을 나누기 위해 maxSize/64개를 더 제거한다.
+ *   제거하는 동안 저장된 항목 때문에 잠시 maxSize를 넘을 수 있지만 저장이 멈추면 maxSize 이하로 돌아온다.
+ * - get(key, valueLoader)는 값을 불러오는 동안 잠그지 않으므로 같은 키를 동시에 조회하면 중복 적재될 수 있다.
+ */
+public class BoundedCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final CacheSpec spec;
+    private final Clock clock;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    private final ConcurrentHashMap<Object, CachedValue> entries = new ConcurrentHashMap<>();
+
+    // 저장 순번 (저장할 때만 증가, 조회는 현재 값 + 1을 사용 순번으로 기록)
+    private final AtomicLong sequence = new AtomicLong();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    public BoundedCache(String name, CacheSpec spec, Clock clock) {
+        super(true);
+        this.name = name;
+        this.spec = spec;
+        this.clock = clock;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return entries;
+    }
+
+    public CacheSpec getSpec() {
+        return spec;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        CachedValue cached = entries.get(key);
+        if (cached != null) {
+            if (cached.expiresAt > clock.millis()) {
+                hits.increment();
+                if (spec.eviction() == CacheSpec.EvictionPolicy.LRU) {
+                    cached.touch(sequence.get() + 1);
+                }
+                return cached.value;
+            }
+            if (entries.remove(key, cached)) {
+                expirations.increment();
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object storeValue = lookup(key);
+        if (storeValue != null) {
+            return (T) fromStoreValue(storeValue);
+        }
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (spec.maxSize() <= 0) {
+            return;
+        }
+        entries.put(key, new CachedValue(toStoreValue(value), expiresAt(), sequence.incrementAndGet()));
+        if (entries.size() > spec.maxSize()) {
+            evictExcess();
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        entries.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        entries.clear();
+    }
+
+    public CacheStats getStats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), expirations.sum(), entries.size());
+    }
+
+    /**
+     * 최대 크기를 넘은 만큼 사용 순번이 작은 항목부터 제거
+     * 이미 다른 스레드가 제거 중이면 맡기고, 제거를 마친 스레드는 그 사이 저장된 항목까지 다시 확인한다.
+     */
+    private void evictExcess() {
+        while (entries.size() > spec.maxSize() && evictionLock.tryLock()) {
+            try {
+                evictOldest(entries.size() - spec.maxSize());
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    private void evictOldest(int excess) {
+        if (excess <= 0) {
+            return;
+        }
+        // 정렬 중에 사용 순번이 바뀌지 않도록 순번을 먼저 복사
+        List<EvictionCandidate> candidates = new ArrayList<>(entries.size());
+        entries.forEach((key, cached) -> candidates.add(new EvictionCandidate(key, cached, cached.lastUsed)));
+        candidates.sort(Comparator.comparingLong(EvictionCandidate::lastUsed));
+        int target = Math.min(candidates.size(), excess + spec.maxSize() / 64);
+        for (int i = 0; i < target; i++) {
+            EvictionCandidate candidate = candidates.get(i);
+            if (entries.remove(candidate.key(), candidate.cached())) {
+                evictions.increment();
+            }
+        }
+    }
+
+    private long expiresAt() {
+        return spec.ttlMillis() > 0 ? clock.millis() + spec.ttlMillis() : Long.MAX_VALUE;
+    }
+
+    private record EvictionCandidate(Object key, CachedValue cached, long lastUsed) {
+    }
+
+    private static final class CachedValue {
+        private final Object value;
+        private final long expiresAt;
+        // 마지막 사용 순번 (FIFO면 저장 순번 그대로)
+        private volatile long lastUsed;
+
+        private CachedValue(Object value, long expiresAt, long lastUsed) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+            this.lastUsed = lastUsed;
+        }
+
+        private void touch(long used) {
+            // 같은 순번이면 쓰지 않음 (자주 조회하는 항목의 캐시 라인 경합 방지)
+            if (lastUsed < used) {
+                lastUsed = used;
+            }
+        }
+    }
+}
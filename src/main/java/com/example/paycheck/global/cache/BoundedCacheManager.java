@@ -0,0 +1,97 @@
+package com.example.paycheck.global.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractCacheManager;
+import org.springframework.core.env.Environment;
+
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 크기/TTL 제한 캐시 매니저 (spring.cache.type=simple의 무제한 ConcurrentMapCache 대체)
+ *
+ * 캐시별 설정은 cache.specs.<캐시 이름>.max-size / ttl-seconds / eviction 으로 지정하고,
+ * 지정하지 않은 항목은 cache.default.* 값을 사용한다.
+ * cache.names에 없는 캐시도 처음 사용할 때 같은 방식으로 생성하므로
+ * 새로 추가한 @Cacheable 캐시도 기본 크기/TTL 제한을 받는다.
+ */
+@Slf4j
+public class BoundedCacheManager extends AbstractCacheManager implements CacheStatsSource {
+
+    private static final int DEFAULT_MAX_SIZE = 1000;
+    private static final long DEFAULT_TTL_SECONDS = 3600;
+
+    private final Environment environment;
+    private final Clock clock;
+
+    public BoundedCacheManager(Environment environment, Clock clock) {
+        this.environment = environment;
+        this.clock = clock;
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        String[] names = environment.getProperty("cache.names", String[].class, new String[0]);
+        return Arrays.stream(names)
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .map(this::createCache)
+                .toList();
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        return createCache(name);
+    }
+
+    /**
+     * 캐시 설정 (캐시별 설정 → 기본 설정 순으로 적용)
+     */
+    private CacheSpec resolveSpec(String name) {
+        int defaultMaxSize = environment.getProperty("cache.default.max-size", Integer.class, DEFAULT_MAX_SIZE);
+        long defaultTtlSeconds = environment.getProperty("cache.default.ttl-seconds", Long.class, DEFAULT_TTL_SECONDS);
+        CacheSpec.EvictionPolicy defaultEviction = environment.getProperty(
+                "cache.default.eviction", CacheSpec.EvictionPolicy.class, CacheSpec.EvictionPolicy.LRU);
+
+        String prefix = "cache.specs." + name + ".";
+        int maxSize = environment.getProperty(prefix + "max-size", Integer.class, defaultMaxSize);
+        long ttlSeconds = environment.getProperty(prefix + "ttl-seconds", Long.class, defaultTtlSeconds);
+        CacheSpec.EvictionPolicy eviction = environment.getProperty(
+                prefix + "eviction", CacheSpec.EvictionPolicy.class, defaultEviction);
+        return new CacheSpec(maxSize, ttlSeconds * 1000, eviction);
+    }
+
+    /**
+     * 생성된 캐시 목록 (캐시 이름 순)
+     */
+    public List<BoundedCache> getBoundedCaches() {
+        return getCacheNames().stream()
+                .sorted()
+                .map(name -> (BoundedCache) getCache(name))
+                .toList();
+    }
+
+    /**
+     * 캐시 이름별 통계 (캐시 이름 순)
+     */
+    @Override
+    public Map<String, CacheStats> getStats() {
+        Map<String, CacheStats> stats = new LinkedHashMap<>();
+        for (BoundedCache cache : getBoundedCaches()) {
+            stats.put(cache.getName(), cache.getStats());
+        }
+        return stats;
+    }
+
+    private BoundedCache createCache(String name) {
+        CacheSpec spec = resolveSpec(name);
+        log.info("캐시 생성: name={}, maxSize={}, ttlMillis={}, eviction={}",
+                name, spec.maxSize(), spec.ttlMillis(), spec.eviction());
+        return new BoundedCache(name, spec, clock);
+    }
+}
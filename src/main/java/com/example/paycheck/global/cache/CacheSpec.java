@@ -0,0 +1,16 @@
+package com.example.paycheck.global.cache;
+
+/**
+ * 캐시별 설정 (최대 항목 수, TTL, 제거 정책)
+ *
+ * @param maxSize   최대 항목 수 (0이면 저장하지 않음)
+ * @param ttlMillis 저장 후 유효 시간 (0 이하면 만료 없음)
+ * @param eviction  최대 항목 수 초과 시 제거 정책
+ */
+public record CacheSpec(int maxSize, long ttlMillis, EvictionPolicy eviction) {
+
+    public enum EvictionPolicy {
+        LRU,   // 가장 오래 사용하지 않은 항목 제거
+        FIFO   // 가장 먼저 저장한 항목 제거
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.paycheck.global.cache;
+
+/**
+ * 캐시 통계 (hits/misses: 조회 적중/실패, evictions: 최대 크기 초과로 제거, expirations: TTL 만료로 제거, size: 보관 항목 수)
+ * 항목을 보관하지 않는 집계(조건부 GET 등)는 evictions/expirations/size를 0으로 둔다.
+ */
+public record CacheStats(long hits, long misses, long evictions, long expirations, int size) {
+
+    public static CacheStats ofHits(long hits, long misses) {
+        return new CacheStats(hits, misses, 0, 0, 0);
+    }
+
+    public double hitRatio() {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.paycheck.global.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 캐시 통계 로그 (10분마다 모든 CacheStatsSource의 통계를 기록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheStatsLogger {
+
+    private final List<CacheStatsSource> sources;
+
+    @Scheduled(fixedDelay = 600000)
+    public void logStats() {
+        for (CacheStatsSource source : sources) {
+            source.getStats().forEach((name, stats) ->
+                    log.info("캐시 통계: name={}, hits={}, misses={}, hitRatio={}, evictions={}, expirations={}, size={}",
+                            name, stats.hits(), stats.misses(), String.format("%.2f", stats.hitRatio()),
+                            stats.evictions(), stats.expirations(), stats.size()));
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.paycheck.global.cache;
+
+import java.util.Map;
+
+/**
+ * 캐시 통계 제공자 (CacheStatsLogger가 주기적으로 수집하여 로그로 남김)
+ */
+public interface CacheStatsSource {
+
+    /**
+     * 이름별 누적 통계 (캐시 이름, 엔드포인트 등)
+     */
+    Map<String, CacheStats> getStats();
+}
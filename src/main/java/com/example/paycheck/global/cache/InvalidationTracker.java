@@ -0,0 +1,64 @@
+package com.example.paycheck.global.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 트랜잭션 종료를 고려한 캐시 무효화 (UserSnapshotCache, HolidayCalendar)
+ *
+ * invalidate는 즉시 제거하고, 트랜잭션 안이면 트랜잭션 종료 후 한 번 더 제거한다.
+ * (커밋 전에 다른 요청이 이전 상태를 다시 적재하더라도 커밋 후에 남지 않음)
+ * 제거할 때마다 무효화 순번을 올리므로, 적재 전에 읽은 순번이 적재 후에도 같을 때만 결과를 남기면
+ * 적재하는 동안 일어난 무효화를 이전 상태로 덮어쓰지 않는다.
+ *
+ * @param <K> 무효화 키 (사용자 ID, 연도 등)
+ */
+public class InvalidationTracker<K> {
+
+    private final Consumer<K> remover;
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * @param remover 캐시에서 키를 제거하는 동작 (순번을 올린 뒤 호출)
+     */
+    public InvalidationTracker(Consumer<K> remover) {
+        this.remover = remover;
+    }
+
+    /**
+     * 현재 무효화 순번 (적재 전에 읽어 둔다)
+     */
+    public long sequence() {
+        return sequence.get();
+    }
+
+    /**
+     * 읽어 둔 순번 이후 무효화가 없었는지
+     */
+    public boolean isUnchangedSince(long readSequence) {
+        return sequence.get() == readSequence;
+    }
+
+    /**
+     * 키 무효화 (트랜잭션 안이면 트랜잭션 종료 후에도 한 번 더 제거)
+     */
+    public void invalidate(K key) {
+        remove(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    remove(key);
+                }
+            });
+        }
+    }
+
+    private void remove(K key) {
+        sequence.incrementAndGet();
+        remover.accept(key);
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.paycheck.global.config;
+
+import com.example.paycheck.global.cache.BoundedCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Clock;
+
+@Configuration
+public class CacheConfig {
+
+    /**
+     * CacheManager 빈을 직접 등록하므로 spring.cache.type 자동 설정은 적용되지 않는다.
+     * (캐시를 끄려면 cache.default.max-size=0)
+     */
+    @Bean
+    public BoundedCacheManager cacheManager(Environment environment, Clock clock) {
+        return new BoundedCacheManager(environment, clock);
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.paycheck.global.scheduling;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄러 작업 임대(lease) 잠금
+ * 작업 이름당 1행이며, lease_until이 지나기 전까지는 holder 노드만 작업을 실행한다.
+ * 실행 중에는 holder가 heartbeat로 lease_until을 연장하고, 노드가 죽으면 만료 후 다른 노드가 가져간다.
+ */
+@Entity
+@Table(name = "scheduler_lease")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class SchedulerLease {
+
+    @Id
+    @Column(name = "lock_name", length = 100)
+    private String name;
+
+    @Column(name = "holder", nullable = false, length = 100)
+    private String holder;
+
+    @Column(name = "lease_until", nullable = false)
+    private LocalDateTime leaseUntil;
+
+    @Column(name = "heartbeat_at", nullable = false)
+    private LocalDateTime heartbeatAt;
+
+    @Column(name = "acquired_at", nullable = false)
+    private LocalDateTime acquiredAt;
+}
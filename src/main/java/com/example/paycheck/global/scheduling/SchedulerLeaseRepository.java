@@ -0,0 +1,67 @@
+package com.example.paycheck.global.scheduling;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 스케줄러 lease 리포지토리
+ * 만료 판단과 만료 시각은 모두 DB 시각(CURRENT_TIMESTAMP(6))으로 계산한다.
+ * (노드 간 시계 차이가 있어도 lease를 일찍 빼앗거나 늦게 넘기지 않음)
+ */
+@Repository
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, String> {
+
+    // DB 시각 기준 lease 만료 시각 (현재 + lease 기간)
+    String LEASE_UNTIL = "TIMESTAMPADD(MICROSECOND, :leaseMicros, CURRENT_TIMESTAMP(6))";
+
+    /**
+     * lease 행 최초 생성
+     * save()는 식별자가 지정된 엔티티를 merge하여 동시에 생성된 행을 덮어쓸 수 있으므로 INSERT로만 생성한다.
+     * (다른 노드가 먼저 생성했으면 기본 키 충돌 예외 발생)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO scheduler_lease (lock_name, holder, lease_until, heartbeat_at, acquired_at) " +
+            "VALUES (:name, :holder, " + LEASE_UNTIL + ", CURRENT_TIMESTAMP(6), CURRENT_TIMESTAMP(6))", nativeQuery = true)
+    int insert(@Param("name") String name,
+               @Param("holder") String holder,
+               @Param("leaseMicros") long leaseMicros);
+
+    /**
+     * 만료된 lease 획득 (조건부 UPDATE로 원자적으로 판단, 획득 시 1 반환)
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(value = "UPDATE scheduler_lease " +
+            "SET holder = :holder, lease_until = " + LEASE_UNTIL + ", " +
+            "heartbeat_at = CURRENT_TIMESTAMP(6), acquired_at = CURRENT_TIMESTAMP(6) " +
+            "WHERE lock_name = :name AND lease_until <= CURRENT_TIMESTAMP(6)", nativeQuery = true)
+    int acquireIfExpired(@Param("name") String name,
+                         @Param("holder") String holder,
+                         @Param("leaseMicros") long leaseMicros);
+
+    /**
+     * 보유 중인 lease 연장 (heartbeat, 다른 노드에 넘어간 경우 0 반환)
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(value = "UPDATE scheduler_lease " +
+            "SET lease_until = " + LEASE_UNTIL + ", heartbeat_at = CURRENT_TIMESTAMP(6) " +
+            "WHERE lock_name = :name AND holder = :holder", nativeQuery = true)
+    int extend(@Param("name") String name,
+               @Param("holder") String holder,
+               @Param("leaseMicros") long leaseMicros);
+
+    /**
+     * 보유 중인 lease 반납
+     * 획득 시각 + 최소 보유 기간까지는 만료시키지 않는다. (0이면 즉시 만료)
+     * 작업이 빨리 끝나도, 같은 실행 시각에 늦게 깨어난 다른 노드가 다시 실행하지 못하게 한다.
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(value = "UPDATE scheduler_lease " +
+            "SET lease_until = GREATEST(CURRENT_TIMESTAMP(6), TIMESTAMPADD(MICROSECOND, :minHoldMicros, acquired_at)) " +
+            "WHERE lock_name = :name AND holder = :holder", nativeQuery = true)
+    int release(@Param("name") String name,
+                @Param("holder") String holder,
+                @Param("minHoldMicros") long minHoldMicros);
+}
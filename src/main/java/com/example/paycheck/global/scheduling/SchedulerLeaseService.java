@@ -0,0 +1,64 @@
+package com.example.paycheck.global.scheduling;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+
+/**
+ * 스케줄러 lease 획득/연장/반납
+ * REQUIRES_NEW 전파 속성으로 작업 트랜잭션과 무관하게 즉시 커밋되도록 한다.
+ * 시각은 애플리케이션 시계가 아니라 DB 시각을 사용한다. (SchedulerLeaseRepository 참고)
+ */
+@Service
+@RequiredArgsConstructor
+public class SchedulerLeaseService {
+
+    private final SchedulerLeaseRepository schedulerLeaseRepository;
+
+    /**
+     * lease 획득 시도
+     * 행이 없으면 새로 생성하며, 다른 노드와 동시에 생성하면 기본 키 충돌 예외가 발생한다. (호출 측에서 미획득으로 처리)
+     *
+     * @return 획득 여부
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean tryAcquire(String name, String holder, Duration leaseDuration) {
+        long leaseMicros = toMicros(leaseDuration);
+
+        if (schedulerLeaseRepository.acquireIfExpired(name, holder, leaseMicros) == 1) {
+            return true;
+        }
+        if (schedulerLeaseRepository.existsById(name)) {
+            return false;
+        }
+
+        return schedulerLeaseRepository.insert(name, holder, leaseMicros) == 1;
+    }
+
+    /**
+     * 보유 중인 lease 연장
+     *
+     * @return 연장 여부 (만료되어 다른 노드가 가져간 경우 false)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean extend(String name, String holder, Duration leaseDuration) {
+        return schedulerLeaseRepository.extend(name, holder, toMicros(leaseDuration)) == 1;
+    }
+
+    /**
+     * 보유 중인 lease 반납
+     *
+     * @param minHold 획득 시각부터 lease를 유지할 최소 기간 (Duration.ZERO면 즉시 만료)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void release(String name, String holder, Duration minHold) {
+        schedulerLeaseRepository.release(name, holder, toMicros(minHold));
+    }
+
+    private static long toMicros(Duration duration) {
+        return duration.toNanos() / 1000;
+    }
+}
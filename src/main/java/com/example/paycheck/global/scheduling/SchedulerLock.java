@@ -0,0 +1,244 @@
+package com.example.paycheck.global.scheduling;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+/**
+ * 여러 인스턴스에서 @Scheduled 작업이 한 노드에서만 실행되도록 하는 DB lease 잠금
+ *
+ * - runExclusively: lease를 획득한 노드만 작업을 실행하고, 나머지 노드는 건너뛴다.
+ * - 실행 중에는 lease 기간의 1/3마다 heartbeat로 lease를 연장하며, 작업이 끝나면 반납한다.
+ * - 반납해도 획득 후 최소 보유 기간이 지나기 전에는 만료되지 않는다.
+ *   노드마다 스케줄러가 깨어나는 시각이 조금씩 달라, 작업이 빨리 끝나면 늦게 깨어난 노드가 같은 실행을 반복할 수 있기 때문이다.
+ * - 노드가 실행 중에 죽으면 lease가 만료된 뒤 다른 노드가 다음 실행에서 가져간다.
+ * - heartbeat에서 lease를 잃은 것을 확인하면 작업 스레드를 인터럽트하여 중단을 요청한다.
+ *   오래 걸리는 작업은 단계마다 isLeaseLost()로 확인하고, 잃었으면 결과를 기록하지 않고 멈춰야 한다.
+ * - runPartitioned: 작업을 파티션별 lease로 나누어 여러 노드가 파티션을 나눠 처리한다.
+ *
+ * 같은 노드 안에서도 재진입하지 않으므로, 이전 실행이 끝나지 않았으면 다음 실행은 건너뛴다.
+ */
+@Slf4j
+@Component
+public class SchedulerLock {
+
+    // 기본 lease 기간 (실행 중에는 heartbeat로 연장되므로 작업 시간이 아니라 노드 장애 시 인계 대기 시간)
+    public static final Duration DEFAULT_LEASE_DURATION = Duration.ofMinutes(10);
+
+    // 기본 최소 보유 기간 (노드 간 실행 시각 차이보다 길고, 가장 짧은 실행 주기(1시간)보다 짧게)
+    public static final Duration DEFAULT_MIN_HOLD = Duration.ofMinutes(5);
+
+    private final SchedulerLeaseService schedulerLeaseService;
+    private final String nodeId;
+    private final ScheduledExecutorService heartbeatExecutor;
+
+    // 현재 스레드에서 실행 중인 작업의 lease (runExclusively 안에서만 설정)
+    private final ThreadLocal<RunningLease> currentLease = new ThreadLocal<>();
+
+    public SchedulerLock(
+            SchedulerLeaseService schedulerLeaseService,
+            @Value("${scheduler.lease.node-id:}") String nodeId) {
+        this.schedulerLeaseService = schedulerLeaseService;
+        this.nodeId = nodeId.isBlank() ? defaultNodeId() : nodeId;
+        ScheduledThreadPoolExecutor executor =
+                new ScheduledThreadPoolExecutor(1, new CustomizableThreadFactory("scheduler-lease-heartbeat-"));
+        executor.setRemoveOnCancelPolicy(true);
+        this.heartbeatExecutor = executor;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 현재 스레드에서 실행 중인 작업이 lease를 잃었는지 여부 (runExclusively 밖에서는 false)
+     */
+    public boolean isLeaseLost() {
+        RunningLease lease = currentLease.get();
+        return lease != null && lease.isLost();
+    }
+
+    /**
+     * lease를 획득한 경우에만 작업 실행 (기본 lease 기간, 기본 최소 보유 기간)
+     * 같은 실행 시각에 한 번만 실행되어야 하는 @Scheduled 작업용
+     *
+     * @return 이 노드에서 실행했으면 true, 다른 노드가 실행 중이거나 이미 실행해서 건너뛰었으면 false
+     */
+    public boolean runExclusively(String lockName, Runnable task) {
+        return runExclusively(lockName, DEFAULT_LEASE_DURATION, DEFAULT_MIN_HOLD, task);
+    }
+
+    /**
+     * lease를 획득한 경우에만 작업 실행 (반납 즉시 만료)
+     * 완료 여부를 스스로 기록하여 중복 실행을 건너뛰는 작업(파티션 등)용
+     *
+     * @param lockName      작업 이름 (노드 간 공유되는 잠금 키)
+     * @param leaseDuration lease 기간 (heartbeat가 멈춘 뒤 다른 노드가 가져가기까지의 시간)
+     * @return 이 노드에서 실행했으면 true, 다른 노드가 실행 중이어서 건너뛰었으면 false
+     */
+    public boolean runExclusively(String lockName, Duration leaseDuration, Runnable task) {
+        return runExclusively(lockName, leaseDuration, Duration.ZERO, task);
+    }
+
+    /**
+     * lease를 획득한 경우에만 작업 실행
+     *
+     * @param lockName      작업 이름 (노드 간 공유되는 잠금 키)
+     * @param leaseDuration lease 기간 (heartbeat가 멈춘 뒤 다른 노드가 가져가기까지의 시간)
+     * @param minHold       획득 시각부터 반납 후에도 lease를 유지할 최소 기간 (작업 실행 주기보다 짧아야 함)
+     * @return 이 노드에서 실행했으면 true, 다른 노드가 실행 중이거나 최소 보유 기간 중이어서 건너뛰었으면 false
+     */
+    public boolean runExclusively(String lockName, Duration leaseDuration, Duration minHold, Runnable task) {
+        if (!tryAcquire(lockName, leaseDuration)) {
+            log.info("다른 노드에서 실행 중인 작업을 건너뜁니다: lock={}", lockName);
+            return false;
+        }
+
+        RunningLease lease = new RunningLease(Thread.currentThread());
+        RunningLease outerLease = currentLease.get();
+        currentLease.set(lease);
+
+        long heartbeatMillis = Math.max(leaseDuration.toMillis() / 3, 1);
+        ScheduledFuture<?> heartbeat = heartbeatExecutor.scheduleAtFixedRate(
+                () -> extend(lockName, leaseDuration, lease), heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+        try {
+            task.run();
+            return true;
+        } finally {
+            heartbeat.cancel(false);
+            lease.finish();
+            if (outerLease != null) {
+                currentLease.set(outerLease);
+            } else {
+                currentLease.remove();
+            }
+            release(lockName, minHold);
+        }
+    }
+
+    /**
+     * 파티션별 lease를 획득한 파티션만 실행 (여러 노드가 파티션을 나눠 처리)
+     * 노드마다 임의의 파티션부터 순회하여 노드 간 경합을 줄인다.
+     * 반납된 파티션은 다른 노드가 다시 획득할 수 있으므로, 파티션 작업은 완료 여부를 스스로 기록하여 중복 실행을 건너뛰어야 한다.
+     *
+     * @return 이 노드에서 실행한 파티션 수
+     */
+    public int runPartitioned(String lockName, int partitionCount, Duration leaseDuration, IntConsumer partitionTask) {
+        if (partitionCount <= 0) {
+            return 0;
+        }
+
+        int offset = ThreadLocalRandom.current().nextInt(partitionCount);
+        int executed = 0;
+        for (int i = 0; i < partitionCount; i++) {
+            int partition = (offset + i) % partitionCount;
+            if (runExclusively(partitionLockName(lockName, partition), leaseDuration, () -> partitionTask.accept(partition))) {
+                executed++;
+            }
+        }
+        return executed;
+    }
+
+    /**
+     * 파티션 lease 이름
+     */
+    public static String partitionLockName(String lockName, int partition) {
+        return lockName + "#" + partition;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeatExecutor.shutdownNow();
+    }
+
+    private boolean tryAcquire(String lockName, Duration leaseDuration) {
+        try {
+            return schedulerLeaseService.tryAcquire(lockName, nodeId, leaseDuration);
+        } catch (Exception e) {
+            // 동시 생성 충돌 또는 DB 오류: 실행 여부가 불확실하면 실행하지 않음
+            log.warn("스케줄러 lease 획득 실패: lock={}, Error={}", lockName, e.getMessage());
+            return false;
+        }
+    }
+
+    private void extend(String lockName, Duration leaseDuration, RunningLease lease) {
+        try {
+            if (!schedulerLeaseService.extend(lockName, nodeId, leaseDuration) && lease.markLost()) {
+                log.warn("스케줄러 lease를 잃어 작업 중단을 요청합니다. 다른 노드가 같은 작업을 실행할 수 있습니다: lock={}", lockName);
+            }
+        } catch (Exception e) {
+            log.warn("스케줄러 lease 연장 실패: lock={}, Error={}", lockName, e.getMessage());
+        }
+    }
+
+    private void release(String lockName, Duration minHold) {
+        try {
+            schedulerLeaseService.release(lockName, nodeId, minHold);
+        } catch (Exception e) {
+            // 반납하지 못해도 lease 기간이 지나면 만료됨
+            log.warn("스케줄러 lease 반납 실패: lock={}, Error={}", lockName, e.getMessage());
+        }
+    }
+
+    /**
+     * 실행 중인 작업의 lease 상태 (heartbeat 스레드와 작업 스레드가 공유)
+     */
+    private static final class RunningLease {
+
+        private final Thread taskThread;
+        private volatile boolean lost;
+        private boolean finished;
+
+        private RunningLease(Thread taskThread) {
+            this.taskThread = taskThread;
+        }
+
+        boolean isLost() {
+            return lost;
+        }
+
+        /**
+         * lease 상실 표시 및 작업 스레드 인터럽트 (작업이 이미 끝났거나 이미 표시했으면 false)
+         */
+        synchronized boolean markLost() {
+            if (finished || lost) {
+                return false;
+            }
+            lost = true;
+            taskThread.interrupt();
+            return true;
+        }
+
+        /**
+         * 작업 종료 (작업 스레드에서 호출, 중단 요청으로 설정한 인터럽트 상태를 해제하여 스케줄러 스레드를 재사용)
+         */
+        synchronized void finish() {
+            finished = true;
+            if (lost) {
+                Thread.interrupted();
+            }
+        }
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
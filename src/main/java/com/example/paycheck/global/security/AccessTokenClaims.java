@@ -0,0 +1,39 @@
+package com.example.paycheck.global.security;
+
+import com.example.paycheck.domain.user.entity.User;
+import com.example.paycheck.domain.user.enums.UserType;
+import jakarta.annotation.Nullable;
+
+/**
+ * 서명 검증을 마친 Access Token의 클레임
+ * userType, userVersion은 클레임이 추가되기 전에 발급된 토큰이면 null이다.
+ */
+public record AccessTokenClaims(
+        Long userId,
+        @Nullable UserType userType,
+        @Nullable Long userVersion,
+        long issuedAtEpochSecond) {
+
+    public boolean hasUserDetails() {
+        return userType != null && userVersion != null;
+    }
+
+    /**
+     * 토큰 발급 이후 사용자가 변경되었는지 (토큰의 버전이 현재 사용자 버전보다 낮음)
+     * 버전 클레임이 없는 이전 형식 토큰은 클레임을 사용하지 않으므로 false
+     */
+    public boolean isOutdated(@Nullable Long currentUserVersion) {
+        return userVersion != null && currentUserVersion != null && userVersion < currentUserVersion;
+    }
+
+    /**
+     * SecurityContext의 Principal로 사용할 User (ID, 유형, 버전만 채운 분리 상태 참조)
+     */
+    public User toPrincipal() {
+        return User.builder()
+                .id(userId)
+                .userType(userType)
+                .version(userVersion)
+                .build();
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.paycheck.global.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 무효화된 Access Token 목록 (회원 탈퇴 등)
+ *
+ * 사용자별 무효화 시각(초)을 기록하고, 그 시각 이전(같은 초 포함)에 발급된 Access Token을 거부한다.
+ * 무효화 후 Access Token 유효 기간이 지나면 해당 토큰은 어차피 만료되므로 기록을 정리한다.
+ * 인스턴스 메모리에만 보관하므로 다른 인스턴스에는 반영되지 않는다. (계정 상태는 UserSnapshotCache로도 확인)
+ */
+@Slf4j
+@Component
+public class AccessTokenRevocationList {
+
+    private final Clock clock;
+    private final long expirationSeconds;
+
+    // 사용자 ID별 무효화 시각 (epoch second)
+    private final Map<Long, Long> revokedAt = new ConcurrentHashMap<>();
+
+    public AccessTokenRevocationList(Clock clock, @Value("${jwt.expiration}") long expirationTime) {
+        this.clock = clock;
+        this.expirationSeconds = expirationTime / 1000;
+    }
+
+    /**
+     * 사용자에게 지금까지 발급된 Access Token 전체 무효화
+     */
+    public void revokeAll(Long userId) {
+        revokedAt.put(userId, clock.instant().getEpochSecond());
+    }
+
+    public boolean isRevoked(AccessTokenClaims claims) {
+        Long revokedEpochSecond = revokedAt.get(claims.userId());
+        return revokedEpochSecond != null && claims.issuedAtEpochSecond() <= revokedEpochSecond;
+    }
+
+    @Scheduled(fixedDelay = 600000)
+    public void purgeExpired() {
+        long expiredBefore = clock.instant().getEpochSecond() - expirationSeconds;
+        int before = revokedAt.size();
+        revokedAt.values().removeIf(revokedEpochSecond -> revokedEpochSecond < expiredBefore);
+        int purged = before - revokedAt.size();
+        if (purged > 0) {
+            log.info("만료된 Access Token 무효화 기록 정리: purged={}, remaining={}", purged, revokedAt.size());
+        }
+    }
+
+    int size() {
+        return revokedAt.size();
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.paycheck.global.security;
+
+import com.example.paycheck.common.dto.ApiResponse;
+import com.example.paycheck.common.exception.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+
+/**
+ * 관리자 API 인증 필터
+ * /api/admin/** 요청의 X-Admin-Key 헤더를 admin.api-key와 비교하여 일치하면 ROLE_ADMIN 인증을 설정하고,
+ * 일치하지 않으면 401로 거부한다. (admin.api-key가 비어 있으면 항상 거부)
+ */
+@Component
+public class AdminApiKeyFilter extends OncePerRequestFilter {
+
+    public static final String ADMIN_KEY_HEADER = "X-Admin-Key";
+    public static final String ADMIN_ROLE = "ADMIN";
+
+    private static final String ADMIN_PATH_PREFIX = "/api/admin/";
+
+    private final String adminApiKey;
+    private final ObjectMapper objectMapper;
+
+    public AdminApiKeyFilter(@Value("${admin.api-key:}") String adminApiKey, ObjectMapper objectMapper) {
+        this.adminApiKey = adminApiKey;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !(path + "/").startsWith(ADMIN_PATH_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (!matchesAdminKey(request.getHeader(ADMIN_KEY_HEADER))) {
+            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            response.setContentType("application/json;charset=UTF-8");
+
+            ApiResponse<Void> errorResponse = ApiResponse.error(
+                ErrorCode.UNAUTHORIZED_ACCESS,
+                "관리자 키가 올바르지 않습니다."
+            );
+
+            response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+            return;
+        }
+
+        // 관리자 API는 사용자 JWT가 아닌 관리자 키로만 인가 (JWT 필터가 설정한 사용자 인증을 대체)
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                "admin", null, List.of(new SimpleGrantedAuthority("ROLE_" + ADMIN_ROLE)));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
+        filterChain.doFilter(request, response);
+    }
+
+    private boolean matchesAdminKey(String adminKey) {
+        return StringUtils.hasText(adminApiKey) && adminKey != null
+                && MessageDigest.isEqual(
+                        adminApiKey.getBytes(StandardCharsets.UTF_8), adminKey.getBytes(StandardCharsets.UTF_8));
+    }
+}
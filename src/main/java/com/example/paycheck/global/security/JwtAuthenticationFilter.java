@@ -2,7 +2,6 @@ package com.example.paycheck.global.security;
 
 import com.example.paycheck.common.dto.ApiResponse;
 import com.example.paycheck.domain.user.entity.User;
-import com.example.paycheck.domain.user.repository.UserRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.Nullable;
 import jakarta.servlet.FilterChain;
@@ -28,7 +27,8 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
-    private final UserRepository userRepository;
+    private final AccessTokenRevocationList accessTokenRevocationList;
+    private final UserSnapshotCache userSnapshotCache;
     private final ObjectMapper objectMapper;
 
     @Override
@@ -39,27 +39,41 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             // 요청 헤더에서 JWT 토큰 추출
             String jwt = getJwtFromRequest(request);
 
-            // 토큰이 있고 유효한 경우
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                // 토큰에서 userId 추출
-                Long userId = tokenProvider.getUserIdFromToken(jwt);
+            // 토큰 검증과 클레임 추출 (유효하지 않거나 만료된 토큰이면 null)
+            AccessTokenClaims claims = StringUtils.hasText(jwt) ? tokenProvider.parseAccessToken(jwt) : null;
 
-                // DB에서 사용자 조회
-                User user = userRepository.findById(userId)
+            if (claims != null) {
+                Long userId = claims.userId();
+
+                // 탈퇴 등으로 무효화된 토큰 차단
+                if (accessTokenRevocationList.isRevoked(claims)) {
+                    throw new RuntimeException("무효화된 토큰입니다: " + userId);
+                }
+
+                // 사용자 스냅샷 조회 (캐시에 없을 때만 DB 조회)
+                UserSnapshot snapshot = userSnapshotCache.get(userId)
                         .orElseThrow(() -> new RuntimeException("User not found: " + userId));
 
                 // 탈퇴한 사용자 차단
-                if (user.isDeleted()) {
+                if (snapshot.deleted()) {
                     throw new RuntimeException("탈퇴한 사용자입니다: " + userId);
                 }
 
+                // 발급 이후 사용자 정보가 변경된 토큰 차단 (클라이언트는 Refresh Token으로 현재 버전의 토큰을 재발급)
+                if (claims.isOutdated(snapshot.version())) {
+                    throw new RuntimeException("사용자 정보가 변경되어 재발급이 필요한 토큰입니다: " + userId);
+                }
+
+                // 토큰에 사용자 유형/버전이 있으면 클레임으로 Principal 구성 (이전 형식 토큰은 스냅샷 사용)
+                User user = claims.hasUserDetails() ? claims.toPrincipal() : snapshot.toPrincipal();
+
                 // UserDetails 생성
                 CustomUserDetails userDetails = new CustomUserDetails(user);
 
                 // Spring Security 인증 객체 생성
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(
-                                user,  // Principal에 User 엔티티 저장 (@AuthenticationPrincipal로 접근 가능)
+                                user,  // Principal에 ID/유형만 담은 User 저장 (@AuthenticationPrincipal로 접근 가능)
                                 null,
                                 userDetails.getAuthorities()
                         );
@@ -1,7 +1,9 @@
 package com.example.paycheck.global.security;
 
+import com.example.paycheck.domain.user.enums.UserType;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.Nullable;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -15,7 +17,11 @@ import java.util.Date;
 @Component
 public class JwtTokenProvider {
 
+    private static final String USER_TYPE_CLAIM = "userType";
+    private static final String USER_VERSION_CLAIM = "ver";
+
     private final SecretKey secretKey;
+    private final JwtParser parser;
     private final long expirationTime;
     private final long refreshExpirationTime;
 
@@ -24,21 +30,26 @@ public class JwtTokenProvider {
             @Value("${jwt.expiration}") long expirationTime,
             @Value("${jwt.refresh-expiration}") long refreshExpirationTime) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(secretKey).build();
         this.expirationTime = expirationTime;
         this.refreshExpirationTime = refreshExpirationTime;
     }
 
     /**
-     * JWT 토큰 생성
+     * JWT Access Token 생성 (사용자 유형과 버전을 클레임으로 포함)
      * @param userId 사용자 ID
+     * @param userType 사용자 유형
+     * @param userVersion 사용자 엔티티 버전
      * @return JWT 토큰 문자열
      */
-    public String generateToken(Long userId) {
+    public String generateToken(Long userId, UserType userType, Long userVersion) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expirationTime);
 
         return Jwts.builder()
                 .subject(String.valueOf(userId))
+                .claim(USER_TYPE_CLAIM, userType.name())
+                .claim(USER_VERSION_CLAIM, userVersion)
                 .issuedAt(now)
                 .expiration(expiryDate)
                 .signWith(secretKey)
@@ -46,34 +57,25 @@ public class JwtTokenProvider {
     }
 
     /**
-     * JWT 토큰에서 사용자 ID 추출
-     * @param token JWT 토큰
-     * @return 사용자 ID
-     */
-    public Long getUserIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        return Long.parseLong(claims.getSubject());
-    }
-
-    /**
-     * JWT 토큰 유효성 검증
+     * Access Token 검증과 클레임 추출 (서명 검증과 파싱을 한 번만 수행)
      * @param token JWT 토큰
-     * @return 유효하면 true, 아니면 false (만료 포함)
+     * @return 토큰 클레임, 유효하지 않으면 null (만료 포함)
      */
-    public boolean validateToken(String token) {
+    @Nullable
+    public AccessTokenClaims parseAccessToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+
+            String userType = claims.get(USER_TYPE_CLAIM, String.class);
+            Object userVersion = claims.get(USER_VERSION_CLAIM);
+            Date issuedAt = claims.getIssuedAt();
+            return new AccessTokenClaims(
+                    Long.parseLong(claims.getSubject()),
+                    userType != null ? UserType.valueOf(userType) : null,
+                    userVersion instanceof Number number ? number.longValue() : null,
+                    issuedAt != null ? issuedAt.toInstant().getEpochSecond() : 0L);
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return null;
         }
     }
 
@@ -85,10 +87,7 @@ public class JwtTokenProvider {
      */
     public boolean validateRefreshToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
+            parser.parseSignedClaims(token);
             return true;
         } catch (ExpiredJwtException e) {
             throw e; // 만료된 토큰은 별도 처리를 위해 던짐
@@ -25,6 +25,7 @@ import java.util.Arrays;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final AdminApiKeyFilter adminApiKeyFilter;
 
     @Value("${cors.allowed-origins}")
     private String[] allowedOrigins;
@@ -47,12 +48,15 @@ public class SecurityConfig {
                     "/api/auth/dev/login"
                 ).permitAll()
                 .requestMatchers("/swagger-ui/**", "/api-docs/**", "/swagger-ui.html").permitAll()
+                // 관리자 API는 JWT 대신 X-Admin-Key 헤더로 확인 (AdminApiKeyFilter)
+                .requestMatchers("/api/admin/**").hasRole(AdminApiKeyFilter.ADMIN_ROLE)
                 .anyRequest().authenticated()
             )
             .headers(headers -> headers
                 .frameOptions(frameOptions -> frameOptions.sameOrigin())
             )
-            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+            .addFilterAfter(adminApiKeyFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
@@ -0,0 +1,26 @@
+package com.example.paycheck.global.security;
+
+import com.example.paycheck.domain.user.entity.User;
+import com.example.paycheck.domain.user.enums.UserType;
+
+/**
+ * 인증에 필요한 사용자 정보만 담은 불변 스냅샷 (UserSnapshotCache에 보관)
+ */
+public record UserSnapshot(Long id, UserType userType, boolean deleted, Long version) {
+
+    public static UserSnapshot from(User user) {
+        return new UserSnapshot(user.getId(), user.getUserType(), user.isDeleted(), user.getVersion());
+    }
+
+    /**
+     * SecurityContext의 Principal로 사용할 User (ID, 유형, 버전만 채운 분리 상태 참조)
+     * 이름, 카카오 ID 등 다른 정보가 필요하면 ID로 다시 조회해야 한다.
+     */
+    public User toPrincipal() {
+        return User.builder()
+                .id(id)
+                .userType(userType)
+                .version(version)
+                .build();
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.paycheck.global.security;
+
+import com.example.paycheck.domain.user.repository.UserRepository;
+import com.example.paycheck.global.cache.BoundedCache;
+import com.example.paycheck.global.cache.BoundedCacheManager;
+import com.example.paycheck.global.cache.CacheStats;
+import com.example.paycheck.global.cache.InvalidationTracker;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * 인증 사용자 스냅샷 캐시 (JwtAuthenticationFilter용)
+ *
+ * 요청마다 users 테이블을 PK로 조회하지 않도록 사용자 ID별 스냅샷(ID, 유형, 탈퇴 여부, 버전)을
+ * BoundedCacheManager의 user-snapshots 캐시(cache.specs.user-snapshots.*)에 보관한다.
+ * (크기/TTL/제거 정책과 통계, 관리자 API의 캐시 비우기는 다른 캐시와 같이 적용)
+ * - 사용자를 변경(탈퇴, 복구, 정보 수정, 영구 삭제)하는 코드는 반드시 invalidate로 알려야 한다.
+ *   (트랜잭션 종료 후 재제거와 적재 중 무효화 처리는 InvalidationTracker)
+ * - 다른 인스턴스의 캐시는 무효화되지 않으므로 최대 TTL만큼 이전 상태가 보일 수 있다.
+ */
+@Component
+public class UserSnapshotCache {
+
+    public static final String CACHE_NAME = "user-snapshots";
+
+    private final UserRepository userRepository;
+    private final BoundedCache cache;
+
+    private final InvalidationTracker<Long> invalidationTracker;
+
+    public UserSnapshotCache(UserRepository userRepository, BoundedCacheManager cacheManager) {
+        this.userRepository = userRepository;
+        this.cache = (BoundedCache) cacheManager.getCache(CACHE_NAME);
+        this.invalidationTracker = new InvalidationTracker<>(cache::evict);
+    }
+
+    /**
+     * 사용자 스냅샷 조회 (캐시에 없거나 만료되었으면 DB에서 조회, 존재하지 않는 사용자는 캐시하지 않음)
+     */
+    public Optional<UserSnapshot> get(Long userId) {
+        UserSnapshot cached = cache.get(userId, UserSnapshot.class);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        long sequence = invalidationTracker.sequence();
+        Optional<UserSnapshot> loaded = userRepository.findById(userId).map(UserSnapshot::from);
+        loaded.ifPresent(snapshot -> {
+            cache.put(userId, snapshot);
+            // 조회하는 동안 무효화가 있었으면 저장한 스냅샷이 이전 상태일 수 있으므로 제거
+            if (!invalidationTracker.isUnchangedSince(sequence)) {
+                cache.evict(userId);
+            }
+        });
+        return loaded;
+    }
+
+    /**
+     * 사용자 스냅샷 무효화 (트랜잭션 안이면 트랜잭션 종료 후에도 한 번 더 제거)
+     */
+    public void invalidate(Long userId) {
+        invalidationTracker.invalidate(userId);
+    }
+
+    public CacheStats getStats() {
+        return cache.getStats();
+    }
+}
@@ -1,32 +1,43 @@
 package com.example.paycheck.global.security.permission;
 
-import com.example.paycheck.domain.contract.entity.WorkerContract;
+import com.example.paycheck.common.dto.ResourceOwner;
 import com.example.paycheck.domain.contract.repository.WorkerContractRepository;
-import com.example.paycheck.domain.correction.entity.CorrectionRequest;
 import com.example.paycheck.domain.correction.repository.CorrectionRequestRepository;
-import com.example.paycheck.domain.notice.entity.Notice;
 import com.example.paycheck.domain.notice.repository.NoticeRepository;
-import com.example.paycheck.domain.payment.entity.Payment;
 import com.example.paycheck.domain.payment.repository.PaymentRepository;
-import com.example.paycheck.domain.salary.entity.Salary;
 import com.example.paycheck.domain.salary.repository.SalaryRepository;
 import com.example.paycheck.domain.user.entity.User;
 import com.example.paycheck.domain.user.enums.UserType;
-import com.example.paycheck.domain.worker.entity.Worker;
 import com.example.paycheck.domain.worker.repository.WorkerRepository;
-import com.example.paycheck.domain.workplace.entity.Workplace;
 import com.example.paycheck.domain.workplace.repository.WorkplaceRepository;
-import com.example.paycheck.domain.workrecord.entity.WorkRecord;
 import com.example.paycheck.domain.workrecord.repository.WorkRecordRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
-
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 리소스 접근 권한 검사 (@PreAuthorize 표현식에서 사용)
+ *
+ * 엔티티를 불러와 연관관계를 따라가지 않고, 리소스의 소유자(고용주/근로자 사용자 ID)만
+ * 프로젝션 쿼리 한 번으로 조회한다.
+ * 조회 결과는 요청 단위로 기억하여 같은 요청 안에서 같은 리소스를 여러 번 검사해도 다시 조회하지 않는다.
+ * 소유 관계(사업장-고용주, 계약-근로자 등)는 생성 후 바뀌지 않지만, 활성 계약 여부는 계약 종료로 바뀌므로
+ * 요청 범위를 넘어 캐시하지 않는다.
+ */
 @Component("permissionEvaluator")
 @RequiredArgsConstructor
 public class CustomPermissionEvaluator {
 
+    private static final String MEMO_ATTRIBUTE = CustomPermissionEvaluator.class.getName() + ".MEMO";
+
     private final WorkerContractRepository contractRepository;
     private final WorkplaceRepository workplaceRepository;
     private final WorkRecordRepository workRecordRepository;
@@ -46,6 +57,49 @@ public class CustomPermissionEvaluator {
         return (User) authentication.getPrincipal();
     }
 
+    /**
+     * 요청 단위 조회 결과 기억 (요청 범위 밖에서는 매번 조회)
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T memoize(String key, Supplier<T> loader) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return loader.get();
+        }
+        Map<String, Object> memo = (Map<String, Object>) attributes.getAttribute(MEMO_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (memo == null) {
+            memo = new HashMap<>();
+            attributes.setAttribute(MEMO_ATTRIBUTE, memo, RequestAttributes.SCOPE_REQUEST);
+        }
+        if (memo.containsKey(key)) {
+            return (T) memo.get(key);
+        }
+        T value = loader.get();
+        memo.put(key, value);
+        return value;
+    }
+
+    private Optional<Long> findWorkplaceEmployerUserId(Long workplaceId) {
+        return memoize("WORKPLACE:" + workplaceId, () -> workplaceRepository.findEmployerUserIdById(workplaceId));
+    }
+
+    private Optional<ResourceOwner> findContractOwner(Long contractId) {
+        return memoize("CONTRACT:" + contractId, () -> contractRepository.findOwnerById(contractId));
+    }
+
+    private Optional<ResourceOwner> findWorkRecordOwner(Long workRecordId) {
+        return memoize("WORK_RECORD:" + workRecordId, () -> workRecordRepository.findOwnerById(workRecordId));
+    }
+
+    private Optional<ResourceOwner> findSalaryOwner(Long salaryId) {
+        return memoize("SALARY:" + salaryId, () -> salaryRepository.findOwnerById(salaryId));
+    }
+
+    private Optional<ResourceOwner> findCorrectionRequestOwner(Long correctionRequestId) {
+        return memoize("CORRECTION_REQUEST:" + correctionRequestId,
+                () -> correctionRequestRepository.findOwnerById(correctionRequestId));
+    }
+
     // ==================== 역할 검증 ====================
 
     public boolean isEmployer() {
@@ -72,8 +126,9 @@ public class CustomPermissionEvaluator {
         if (user == null) {
             return false;
         }
-        Worker worker = workerRepository.findById(workerId).orElse(null);
-        return worker != null && worker.getUser().getId().equals(user.getId());
+        return memoize("WORKER:" + workerId, () -> workerRepository.findUserIdById(workerId))
+                .map(user.getId()::equals)
+                .orElse(false);
     }
 
     // ==================== WORKPLACE 권한 ====================
@@ -83,21 +138,14 @@ public class CustomPermissionEvaluator {
         if (user == null) {
             return false;
         }
-        Workplace workplace = workplaceRepository.findById(workplaceId).orElse(null);
-        if (workplace == null) {
-            return false;
-        }
         if (UserType.EMPLOYER.equals(user.getUserType())) {
-            return workplace.getEmployer().getUser().getId().equals(user.getId());
+            return findWorkplaceEmployerUserId(workplaceId)
+                    .map(user.getId()::equals)
+                    .orElse(false);
         }
         if (UserType.WORKER.equals(user.getUserType())) {
-            Worker worker = workerRepository.findByUserId(user.getId()).orElse(null);
-            if (worker == null) {
-                return false;
-            }
-            return contractRepository.findByWorkerIdAndWorkplaceId(worker.getId(), workplaceId)
-                    .map(WorkerContract::getIsActive)
-                    .orElse(false);
+            return memoize("WORKPLACE_MEMBER:" + user.getId() + ":" + workplaceId,
+                    () -> contractRepository.existsActiveByWorkerUserIdAndWorkplaceId(user.getId(), workplaceId));
         }
         return false;
     }
@@ -107,8 +155,9 @@ public class CustomPermissionEvaluator {
         if (user == null) {
             return false;
         }
-        Workplace workplace = workplaceRepository.findById(workplaceId).orElse(null);
-        return workplace != null && workplace.getEmployer().getUser().getId().equals(user.getId());
+        return findWorkplaceEmployerUserId(workplaceId)
+                .map(user.getId()::equals)
+                .orElse(false);
     }
 
     // ==================== CONTRACT 권한 ====================
@@ -118,8 +167,9 @@ public class CustomPermissionEvaluator {
         if (user == null) {
             return false;
         }
-        WorkerContract contract = contractRepository.findById(contractId).orElse(null);
-        return contract != null && contract.getWorkplace().getEmployer().getUser().getId().equals(user.getId());
+        return findContractOwner(contractId)
+                .map(owner -> owner.isEmployer(user.getId()))
+                .orElse(false);
     }
 
     public boolean canAccessContractAsWorker(Long contractId) {
@@ -127,8 +177,9 @@ public class CustomPermissionEvaluator {
         if (user == null) {
             return false;
         }
-        WorkerContract contract = contractRepository.findById(contractId).orElse(null);
-        return contract != null && contract.getWorker().getUser().getId().equals(user.getId());
+        return findContractOwner(contractId)
+                .map(owner -> owner.isWorker(user.getId()))
+                .orElse(false);
     }
 
     // ==================== WORK_RECORD 권한 ====================
@@ -138,9 +189,9 @@ public class CustomPermissionEvaluator {
         if (user == null) {
             return false;
         }
-        WorkRecord workRecord = workRecordRepository.findById(workRecordId).orElse(null);
-        return workRecord != null && workRecord.getContract().getWorkplace()
-                .getEmployer().getUser().getId().equals(user.getId());
+        return findWorkRecordOwner(workRecordId)
+                .map(owner -> owner.isEmployer(user.getId()))
+                .orElse(false);
     }
 
     public boolean canAccessWorkRecordAsWorker(Long workRecordId) {
@@ -148,9 +199,9 @@ public class CustomPermissionEvaluator {
         if (user == null) {
             return false;
         }
-        WorkRecord workRecord = workRecordRepository.findById(workRecordId).orElse(null);
-        return workRecord != null && workRecord.getContract().getWorker()
-                .getUser().getId().equals(user.getId());
+        return findWorkRecordOwner(workRecordId)
+                .map(owner -> owner.isWorker(user.getId()))
+                .orElse(false);
     }
 
     public boolean canAccessWorkplaceRecords(Long workplaceId) {
@@ -164,9 +215,9 @@ public class CustomPermissionEvaluator {
         if (user == null) {
             return false;
         }
-        Salary salary = salaryRepository.findById(salaryId).orElse(null);
-        return salary != null && salary.getContract().getWorkplace()
-                .getEmployer().getUser().getId().equals(user.getId());
+        return findSalaryOwner(salaryId)
+                .map(owner -> owner.isEmployer(user.getId()))
+                .orElse(false);
     }
 
     public boolean canAccessSalaryAsWorker(Long salaryId) {
@@ -174,9 +225,9 @@ public class CustomPermissionEvaluator {
         if (user == null) {
             return false;
         }
-        Salary salary = salaryRepository.findById(salaryId).orElse(null);
-        return salary != null && salary.getContract().getWorker()
-                .getUser().getId().equals(user.getId());
+        return findSalaryOwner(salaryId)
+                .map(owner -> owner.isWorker(user.getId()))
+                .orElse(false);
     }
 
     public boolean canAccessWorkplaceSalaries(Long workplaceId) {
@@ -188,12 +239,9 @@ public class CustomPermissionEvaluator {
         if (user == null) {
             return false;
         }
-        WorkerContract contract = contractRepository.findById(contractId).orElse(null);
-        if (contract == null) {
-            return false;
-        }
-        return contract.getWorkplace().getEmployer().getUser().getId().equals(user.getId())
-                || contract.getWorker().getUser().getId().equals(user.getId());
+        return findContractOwner(contractId)
+                .map(owner -> owner.isEmployer(user.getId()) || owner.isWorker(user.getId()))
+                .orElse(false);
     }
 
     // ==================== PAYMENT 권한 ====================
@@ -203,9 +251,9 @@ public class CustomPermissionEvaluator {
         if (user == null) {
             return false;
         }
-        Payment payment = paymentRepository.findById(paymentId).orElse(null);
-        return payment != null && payment.getSalary().getContract().getWorkplace()
-                .getEmployer().getUser().getId().equals(user.getId());
+        return memoize("PAYMENT:" + paymentId, () -> paymentRepository.findOwnerById(paymentId))
+                .map(owner -> owner.isEmployer(user.getId()))
+                .orElse(false);
     }
 
     public boolean canAccessWorkplacePayments(Long workplaceId) {
@@ -219,18 +267,10 @@ public class CustomPermissionEvaluator {
         if (user == null) {
             return false;
         }
-        CorrectionRequest request = correctionRequestRepository.findById(correctionRequestId).orElse(null);
-        if (request == null) {
-            return false;
-        }
-
-        // CREATE 타입: workRecord가 null이므로 contract를 통해 권한 확인
-        WorkerContract contract = request.getWorkRecord() != null
-                ? request.getWorkRecord().getContract()
-                : request.getContract();
-
-        return contract != null && contract.getWorkplace()
-                .getEmployer().getUser().getId().equals(user.getId());
+        // CREATE 타입: workRecord가 null이므로 contract를 통해 권한 확인 (조회 쿼리에서 처리)
+        return findCorrectionRequestOwner(correctionRequestId)
+                .map(owner -> owner.isEmployer(user.getId()))
+                .orElse(false);
     }
 
     public boolean canAccessCorrectionRequestAsWorker(Long correctionRequestId) {
@@ -238,8 +278,9 @@ public class CustomPermissionEvaluator {
         if (user == null) {
             return false;
         }
-        CorrectionRequest request = correctionRequestRepository.findById(correctionRequestId).orElse(null);
-        return request != null && request.getRequester().getId().equals(user.getId());
+        return findCorrectionRequestOwner(correctionRequestId)
+                .map(owner -> owner.isWorker(user.getId()))
+                .orElse(false);
     }
 
     public boolean canAccessWorkplaceCorrectionRequests(Long workplaceId) {
@@ -249,10 +290,8 @@ public class CustomPermissionEvaluator {
     // ==================== NOTICE 권한 ====================
 
     public boolean canAccessNotice(Long noticeId) {
-        Notice notice = noticeRepository.findByIdAndIsDeletedFalse(noticeId).orElse(null);
-        if (notice == null) {
-            return false;
-        }
-        return canAccessWorkplaceAsMember(notice.getWorkplace().getId());
+        return memoize("NOTICE:" + noticeId, () -> noticeRepository.findWorkplaceIdByIdAndIsDeletedFalse(noticeId))
+                .map(this::canAccessWorkplaceAsMember)
+                .orElse(false);
     }
 }
@@ -0,0 +1,141 @@
+package com.example.paycheck.global.web;
+
+import com.example.paycheck.common.dto.ResourceVersion;
+import com.example.paycheck.global.cache.CacheStats;
+import com.example.paycheck.global.cache.CacheStatsSource;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 조건부 GET 처리 (ETag / Last-Modified)
+ *
+ * 컨트롤러가 조회 범위의 버전 쿼리(MAX(updated_at), COUNT 등)와 응답 본문 생성을 함께 넘기면,
+ * 버전만 먼저 조회하여 클라이언트가 보낸 If-None-Match / If-Modified-Since와 같으면
+ * 엔티티 조회와 직렬화 없이 304 Not Modified를 반환한다.
+ * 응답은 사용자별 데이터이므로 private, no-cache(매 요청 재검증)로 내려보낸다.
+ * 버전은 본문보다 먼저 조회하므로, 그 사이 변경이 생겨도 다음 요청에서 버전이 달라져 본문을 다시 받는다.
+ * 엔드포인트(HTTP 메서드 + 매핑 패턴)별 304 응답(hit)과 본문 응답(miss) 횟수를 집계한다.
+ */
+@Component
+public class ConditionalGetHandler implements CacheStatsSource {
+
+    private static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    private final Map<String, EndpointCounter> counters = new ConcurrentHashMap<>();
+
+    public <T> ResponseEntity<T> handle(HttpServletRequest request,
+                                        Supplier<ResourceVersion> versionQuery,
+                                        Supplier<T> bodySupplier) {
+        ResourceVersion version = versionQuery.get();
+        String eTag = toETag(version);
+        long lastModified = toEpochMilli(version);
+        EndpointCounter counter = counters.computeIfAbsent(endpointOf(request), key -> new EndpointCounter());
+
+        if (isNotModified(request, eTag, lastModified)) {
+            counter.hits.increment();
+            return withValidators(ResponseEntity.status(HttpStatus.NOT_MODIFIED), eTag, lastModified).build();
+        }
+
+        counter.misses.increment();
+        return withValidators(ResponseEntity.ok(), eTag, lastModified)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(bodySupplier.get());
+    }
+
+    /**
+     * 엔드포인트별 누적 hit/miss 횟수 (엔드포인트 이름순)
+     */
+    @Override
+    public Map<String, CacheStats> getStats() {
+        Map<String, CacheStats> stats = new TreeMap<>();
+        counters.forEach((endpoint, counter) -> stats.put(endpoint, counter.snapshot()));
+        return Collections.unmodifiableMap(stats);
+    }
+
+    private boolean isNotModified(HttpServletRequest request, String eTag, long lastModified) {
+        // If-None-Match가 있으면 If-Modified-Since보다 우선한다. (RFC 9110 13.2.2)
+        if (request.getHeaders(HttpHeaders.IF_NONE_MATCH).hasMoreElements()) {
+            return matchesETag(request, eTag);
+        }
+        if (lastModified < 0) {
+            return false;
+        }
+        try {
+            long ifModifiedSince = request.getDateHeader(HttpHeaders.IF_MODIFIED_SINCE);
+            // HTTP 날짜는 초 단위이므로 초 단위로 비교
+            return ifModifiedSince >= 0 && lastModified / 1000 <= ifModifiedSince / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private boolean matchesETag(HttpServletRequest request, String eTag) {
+        String opaqueTag = stripWeakPrefix(eTag);
+        for (String header : Collections.list(request.getHeaders(HttpHeaders.IF_NONE_MATCH))) {
+            for (String candidate : header.split(",")) {
+                String trimmed = candidate.trim();
+                if (trimmed.equals("*") || stripWeakPrefix(trimmed).equals(opaqueTag)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static ResponseEntity.BodyBuilder withValidators(ResponseEntity.BodyBuilder builder, String eTag, long lastModified) {
+        builder.eTag(eTag).cacheControl(CACHE_CONTROL);
+        if (lastModified >= 0) {
+            builder.lastModified(lastModified);
+        }
+        return builder;
+    }
+
+    /**
+     * 약한 ETag (W/"행 수-최종 수정 시각") - 본문 바이트가 아닌 조회 범위의 버전을 나타냄
+     */
+    private static String toETag(ResourceVersion version) {
+        long lastModified = toEpochMilli(version);
+        return "W/\"" + Long.toHexString(version.getCount()) + "-"
+                + (lastModified < 0 ? "0" : Long.toHexString(lastModified)) + "\"";
+    }
+
+    private static long toEpochMilli(ResourceVersion version) {
+        if (version.getLastModified() == null) {
+            return -1;
+        }
+        // BaseEntity의 updatedAt은 서버 기본 시간대의 LocalDateTime.now()로 기록됨
+        return version.getLastModified().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static String stripWeakPrefix(String eTag) {
+        return eTag.startsWith("W/") ? eTag.substring(2) : eTag;
+    }
+
+    private static String endpointOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+    }
+
+    private static final class EndpointCounter {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+
+        private CacheStats snapshot() {
+            return CacheStats.ofHits(hits.sum(), misses.sum());
+        }
+    }
+}
@@ -0,0 +1,4 @@
+-- 급여 증분 반영: 주간 연장 가산분 분리 저장 및 정합성 검증 대상 표시
+ALTER TABLE salary ADD COLUMN weekly_overtime_pay DECIMAL(12, 2) NULL;
+ALTER TABLE salary ADD COLUMN incrementally_updated BIT(1) NOT NULL DEFAULT 0;
+CREATE INDEX idx_salary_incrementally_updated ON salary (incrementally_updated);
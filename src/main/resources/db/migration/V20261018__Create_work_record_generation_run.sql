@@ -0,0 +1,25 @@
+-- 월별 근무 기록 자동 생성 작업 실행 이력 및 체크포인트 (재실행 시 last_contract_id 이후부터 이어서 처리)
+-- 생성에 실패한 계약은 failed_contract_ids에 남겨 재실행 시 다시 처리 (남아 있으면 PARTIAL로 종료)
+-- 계약 ID 구간(파티션) 단위로 나누어 여러 노드에서 처리하므로 대상 월의 파티션당 1행
+CREATE TABLE work_record_generation_run (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    target_year INT NOT NULL,
+    target_month INT NOT NULL,
+    partition_index INT NOT NULL DEFAULT 0,
+    range_start BIGINT NOT NULL DEFAULT 1,
+    range_end BIGINT NOT NULL DEFAULT 9223372036854775807,
+    status VARCHAR(20) NOT NULL,
+    last_contract_id BIGINT NOT NULL DEFAULT 0,
+    processed_contracts INT NOT NULL DEFAULT 0,
+    created_records INT NOT NULL DEFAULT 0,
+    failed_contracts INT NOT NULL DEFAULT 0,
+    failed_contract_ids TEXT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    elapsed_millis BIGINT NOT NULL DEFAULT 0,
+    last_error VARCHAR(500) NULL,
+    finished_at DATETIME(6) NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_work_record_generation_run_target UNIQUE (target_year, target_month, partition_index)
+);
@@ -0,0 +1,9 @@
+-- 다중 인스턴스 스케줄러 실행 조정: 작업별 lease 잠금 (holder 노드, 만료 시각, heartbeat)
+CREATE TABLE scheduler_lease (
+    lock_name VARCHAR(100) NOT NULL,
+    holder VARCHAR(100) NOT NULL,
+    lease_until DATETIME(6) NOT NULL,
+    heartbeat_at DATETIME(6) NOT NULL,
+    acquired_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (lock_name)
+);
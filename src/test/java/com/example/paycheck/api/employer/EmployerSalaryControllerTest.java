@@ -1,37 +1,56 @@
 package com.example.paycheck.api.employer;
 
+import com.example.paycheck.common.dto.ResourceVersion;
+import com.example.paycheck.domain.salary.dto.PayrollRunDto;
 import com.example.paycheck.domain.salary.dto.SalaryDto;
+import com.example.paycheck.domain.salary.dto.SalaryRecalculationDto;
+import com.example.paycheck.domain.salary.service.PayrollRunService;
+import com.example.paycheck.domain.salary.service.SalaryRecalculationQueue;
 import com.example.paycheck.domain.salary.service.SalaryService;
 import com.example.paycheck.global.security.JwtAuthenticationFilter;
 import com.example.paycheck.global.security.JwtTokenProvider;
 import com.example.paycheck.global.security.permission.CustomPermissionEvaluator;
+import com.example.paycheck.global.web.ConditionalGetHandler;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(EmployerSalaryController.class)
+@Import(ConditionalGetHandler.class)
 @AutoConfigureMockMvc(addFilters = false)
 @DisplayName("EmployerSalaryController 테스트")
 class EmployerSalaryControllerTest {
 
+    private static final ResourceVersion LIST_VERSION = new ResourceVersion(LocalDateTime.of(2026, 3, 10, 9, 0), 2L);
+
     @Autowired
     private MockMvc mockMvc;
 
     @MockitoBean
     private SalaryService salaryService;
 
+    @MockitoBean
+    private PayrollRunService payrollRunService;
+
+    @MockitoBean
+    private SalaryRecalculationQueue salaryRecalculationQueue;
+
     @MockitoBean
     private CustomPermissionEvaluator permissionEvaluator;
 
@@ -93,12 +112,15 @@ class EmployerSalaryControllerTest {
                 createListResponse(2L, "김영희", 2026, 3)
         );
 
+        given(salaryService.getSalaryListVersionByWorkplace(eq(1L))).willReturn(LIST_VERSION);
         given(salaryService.getSalariesByWorkplace(eq(1L))).willReturn(responses);
 
         // when & then
         mockMvc.perform(get("/api/employer/salaries")
                         .param("workplaceId", "1"))
                 .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().exists("Last-Modified"))
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.data").isArray())
                 .andExpect(jsonPath("$.data.length()").value(2))
@@ -109,6 +131,46 @@ class EmployerSalaryControllerTest {
                 .andExpect(jsonPath("$.data[1].workerName").value("김영희"));
     }
 
+    @Test
+    @DisplayName("급여 목록 조회 - 변경이 없으면 목록을 조회하지 않고 304 반환")
+    void getSalariesByWorkplace_notModified() throws Exception {
+        // given
+        given(salaryService.getSalaryListVersionByWorkplace(eq(1L))).willReturn(LIST_VERSION);
+        given(salaryService.getSalariesByWorkplace(eq(1L)))
+                .willReturn(List.of(createListResponse(1L, "홍길동", 2026, 3)));
+
+        String eTag = mockMvc.perform(get("/api/employer/salaries")
+                        .param("workplaceId", "1"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        // when & then
+        mockMvc.perform(get("/api/employer/salaries")
+                        .param("workplaceId", "1")
+                        .header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", eTag))
+                .andExpect(content().string(""));
+        verify(salaryService, times(1)).getSalariesByWorkplace(eq(1L));
+    }
+
+    @Test
+    @DisplayName("급여 목록 조회 - 버전이 바뀌면 다시 목록 반환")
+    void getSalariesByWorkplace_modified() throws Exception {
+        // given
+        given(salaryService.getSalaryListVersionByWorkplace(eq(1L)))
+                .willReturn(new ResourceVersion(LIST_VERSION.getLastModified().plusSeconds(1), 2L));
+        given(salaryService.getSalariesByWorkplace(eq(1L)))
+                .willReturn(List.of(createListResponse(1L, "홍길동", 2026, 3)));
+
+        // when & then - 이전 버전의 ETag로 요청
+        mockMvc.perform(get("/api/employer/salaries")
+                        .param("workplaceId", "1")
+                        .header("If-None-Match", "W/\"2-0\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(1));
+    }
+
     @Test
     @DisplayName("급여 목록 조회 (연월) - 성공")
     void getSalariesByYearMonth_success() throws Exception {
@@ -117,6 +179,8 @@ class EmployerSalaryControllerTest {
                 createListResponse(1L, "홍길동", 2026, 3)
         );
 
+        given(salaryService.getSalaryListVersionByWorkplaceAndYearMonth(eq(1L), eq(2026), eq(3)))
+                .willReturn(LIST_VERSION);
         given(salaryService.getSalariesByWorkplaceAndYearMonth(eq(1L), eq(2026), eq(3)))
                 .willReturn(responses);
 
@@ -162,6 +226,52 @@ class EmployerSalaryControllerTest {
                 .andExpect(jsonPath("$.data.paymentDueDate").value("2026-04-10"));
     }
 
+    @Test
+    @DisplayName("급여 상세 조회 - 재계산 대기 후 다시 조회")
+    void getSalaryById_waitForRecalculation() throws Exception {
+        // given
+        SalaryDto.Response stale = createDetailResponse(1L);
+        SalaryDto.Response recalculated = SalaryDto.Response.builder()
+                .id(1L)
+                .contractId(1L)
+                .year(2026)
+                .month(3)
+                .netPay(BigDecimal.valueOf(1900000))
+                .build();
+
+        given(salaryService.getSalaryById(eq(1L))).willReturn(stale, recalculated);
+        given(salaryRecalculationQueue.awaitPending(1L, 2026, 3)).willReturn(true);
+
+        // when & then
+        mockMvc.perform(get("/api/employer/salaries/{id}", 1L)
+                        .param("waitForRecalculation", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.netPay").value(1900000));
+    }
+
+    @Test
+    @DisplayName("급여 재계산 상태 조회 - 성공")
+    void getRecalculationStatus_success() throws Exception {
+        // given
+        SalaryRecalculationDto.StatusResponse response = SalaryRecalculationDto.StatusResponse.builder()
+                .contractId(1L)
+                .year(2026)
+                .month(3)
+                .status(SalaryRecalculationDto.Status.PENDING)
+                .requestCount(3)
+                .build();
+
+        given(salaryRecalculationQueue.getStatus(eq(1L), eq(2026), eq(3))).willReturn(response);
+
+        // when & then
+        mockMvc.perform(get("/api/employer/salaries/contracts/{contractId}/recalculation-status", 1L)
+                        .param("year", "2026")
+                        .param("month", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.status").value("PENDING"))
+                .andExpect(jsonPath("$.data.requestCount").value(3));
+    }
+
     @Test
     @DisplayName("급여 자동 계산 - 성공")
     void calculateSalaryByWorkRecords_success() throws Exception {
@@ -183,4 +293,42 @@ class EmployerSalaryControllerTest {
                 .andExpect(jsonPath("$.data.totalGrossPay").value(2000000))
                 .andExpect(jsonPath("$.data.netPay").value(1803500));
     }
+
+    @Test
+    @DisplayName("사업장 급여 일괄 계산 - 성공")
+    void runMonthlyPayroll_success() throws Exception {
+        // given
+        PayrollRunDto.Response response = PayrollRunDto.Response.builder()
+                .workplaceId(5L)
+                .year(2026)
+                .month(3)
+                .calculatedCount(1)
+                .createdCount(1)
+                .updatedCount(0)
+                .skippedContractIds(List.of(2L))
+                .totalGrossPay(BigDecimal.valueOf(2000000))
+                .totalNetPay(BigDecimal.valueOf(1803500))
+                .salaries(List.of(PayrollRunDto.Item.builder()
+                        .salaryId(1L)
+                        .contractId(1L)
+                        .workerName("홍길동")
+                        .totalGrossPay(BigDecimal.valueOf(2000000))
+                        .netPay(BigDecimal.valueOf(1803500))
+                        .build()))
+                .build();
+
+        given(payrollRunService.runMonthlyPayroll(eq(5L), eq(2026), eq(3))).willReturn(response);
+
+        // when & then
+        mockMvc.perform(post("/api/employer/salaries/workplaces/{workplaceId}/payroll-run", 5L)
+                        .param("year", "2026")
+                        .param("month", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.workplaceId").value(5L))
+                .andExpect(jsonPath("$.data.calculatedCount").value(1))
+                .andExpect(jsonPath("$.data.skippedContractIds[0]").value(2L))
+                .andExpect(jsonPath("$.data.salaries[0].workerName").value("홍길동"))
+                .andExpect(jsonPath("$.data.totalNetPay").value(1803500));
+    }
 }
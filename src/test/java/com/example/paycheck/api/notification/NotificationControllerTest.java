@@ -6,12 +6,14 @@ import com.example.paycheck.domain.user.entity.User;
 import com.example.paycheck.domain.user.enums.UserType;
 import com.example.paycheck.global.security.JwtAuthenticationFilter;
 import com.example.paycheck.global.security.JwtTokenProvider;
+import com.example.paycheck.global.web.ConditionalGetHandler;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -24,6 +26,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(NotificationController.class)
+@Import(ConditionalGetHandler.class)
 @AutoConfigureMockMvc(addFilters = false)
 @DisplayName("NotificationController 테스트")
 class NotificationControllerTest {
@@ -71,4 +74,26 @@ class NotificationControllerTest {
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.data.count").value(5));
     }
+
+    @Test
+    @DisplayName("읽지 않은 알림 개수 조회 - 개수가 같으면 304, 달라지면 새 개수 반환")
+    void 읽지_않은_알림_개수_조건부_조회() throws Exception {
+        // given
+        given(notificationService.getUnreadCount(any(User.class))).willReturn(5L);
+        String eTag = mockMvc.perform(get("/api/notifications/unread-count"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        // when & then - 개수 변경 없음
+        mockMvc.perform(get("/api/notifications/unread-count")
+                        .header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+
+        // when & then - 새 알림 도착
+        given(notificationService.getUnreadCount(any(User.class))).willReturn(6L);
+        mockMvc.perform(get("/api/notifications/unread-count")
+                        .header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.count").value(6));
+    }
 }
@@ -1,5 +1,6 @@
 package com.example.paycheck.api.workrecord;
 
+import com.example.paycheck.common.dto.ResourceVersion;
 import com.example.paycheck.domain.workrecord.dto.WorkRecordDto;
 import com.example.paycheck.domain.workrecord.enums.WorkRecordStatus;
 import com.example.paycheck.domain.workrecord.service.WorkRecordCommandService;
@@ -7,29 +8,43 @@ import com.example.paycheck.domain.workrecord.service.WorkRecordQueryService;
 import com.example.paycheck.global.security.JwtAuthenticationFilter;
 import com.example.paycheck.global.security.JwtTokenProvider;
 import com.example.paycheck.global.security.permission.CustomPermissionEvaluator;
+import com.example.paycheck.global.web.ConditionalGetHandler;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(EmployerWorkRecordController.class)
+@Import(ConditionalGetHandler.class)
 @AutoConfigureMockMvc(addFilters = false)
 @DisplayName("EmployerWorkRecordController 테스트")
 class EmployerWorkRecordControllerTest {
@@ -142,27 +157,149 @@ class EmployerWorkRecordControllerTest {
                         .build()
         );
 
-        given(workRecordQueryService.getWorkRecordsByWorkplaceAndDateRange(
+        given(workRecordQueryService.getCalendarVersionByWorkplaceAndDateRange(
+                eq(1L), eq(LocalDate.of(2026, 3, 1)), eq(LocalDate.of(2026, 3, 31))))
+                .willReturn(new ResourceVersion(LocalDateTime.of(2026, 3, 11, 18, 0), 2L));
+        willAnswer(invocation -> {
+            Consumer<WorkRecordDto.CalendarResponse> action = invocation.getArgument(3);
+            responses.forEach(action);
+            return null;
+        }).given(workRecordQueryService).forEachWorkRecordByWorkplaceAndDateRange(
                 eq(1L),
                 eq(LocalDate.of(2026, 3, 1)),
-                eq(LocalDate.of(2026, 3, 31))))
-                .willReturn(responses);
+                eq(LocalDate.of(2026, 3, 31)),
+                any());
 
-        // when & then
-        mockMvc.perform(get("/api/employer/work-records")
+        // when
+        MvcResult mvcResult = mockMvc.perform(get("/api/employer/work-records")
                         .param("workplaceId", "1")
                         .param("startDate", "2026-03-01")
                         .param("endDate", "2026-03-31"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
                 .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.data").isArray())
                 .andExpect(jsonPath("$.data.length()").value(2))
                 .andExpect(jsonPath("$.data[0].id").value(1L))
                 .andExpect(jsonPath("$.data[0].workerName").value("홍길동"))
                 .andExpect(jsonPath("$.data[0].workplaceName").value("테스트 사업장"))
+                .andExpect(jsonPath("$.data[0].startTime").value("09:00"))
                 .andExpect(jsonPath("$.data[1].id").value(2L));
     }
 
+    @Test
+    @DisplayName("근무 기록 목록 조회 - 응답 커밋 전 조회가 실패하면 일부 데이터 대신 500 에러")
+    void getWorkRecords_failureBeforeCommit() throws Exception {
+        // given
+        given(workRecordQueryService.getCalendarVersionByWorkplaceAndDateRange(
+                eq(1L), eq(LocalDate.of(2026, 3, 1)), eq(LocalDate.of(2026, 3, 31))))
+                .willReturn(new ResourceVersion(LocalDateTime.of(2026, 3, 11, 18, 0), 2L));
+        willAnswer(invocation -> {
+            Consumer<WorkRecordDto.CalendarResponse> action = invocation.getArgument(3);
+            action.accept(WorkRecordDto.CalendarResponse.builder()
+                    .id(1L)
+                    .contractId(1L)
+                    .workerName("홍길동")
+                    .workDate(LocalDate.of(2026, 3, 10))
+                    .startTime(LocalTime.of(9, 0))
+                    .endTime(LocalTime.of(18, 0))
+                    .status(WorkRecordStatus.COMPLETED)
+                    .build());
+            throw new RuntimeException("connection reset");
+        }).given(workRecordQueryService).forEachWorkRecordByWorkplaceAndDateRange(
+                eq(1L),
+                eq(LocalDate.of(2026, 3, 1)),
+                eq(LocalDate.of(2026, 3, 31)),
+                any());
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(get("/api/employer/work-records")
+                        .param("workplaceId", "1")
+                        .param("startDate", "2026-03-01")
+                        .param("endDate", "2026-03-31"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.data").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("근무 기록 목록 조회 - 버퍼 크기 이내의 항목은 항목마다 내보내지 않아 응답이 커밋되지 않는다")
+    void getWorkRecords_notCommittedWhileBuffering() throws Exception {
+        // given
+        given(workRecordQueryService.getCalendarVersionByWorkplaceAndDateRange(
+                eq(1L), eq(LocalDate.of(2026, 3, 1)), eq(LocalDate.of(2026, 3, 31))))
+                .willReturn(new ResourceVersion(LocalDateTime.of(2026, 3, 11, 18, 0), 5L));
+        AtomicReference<MockHttpServletRequest> requestRef = new AtomicReference<>();
+        AtomicBoolean committedWhileStreaming = new AtomicBoolean(true);
+        willAnswer(invocation -> {
+            Consumer<WorkRecordDto.CalendarResponse> action = invocation.getArgument(3);
+            for (long id = 1; id <= 5; id++) {
+                action.accept(WorkRecordDto.CalendarResponse.builder()
+                        .id(id)
+                        .contractId(1L)
+                        .workerName("홍길동")
+                        .workDate(LocalDate.of(2026, 3, (int) id))
+                        .startTime(LocalTime.of(9, 0))
+                        .endTime(LocalTime.of(18, 0))
+                        .status(WorkRecordStatus.COMPLETED)
+                        .build());
+            }
+            committedWhileStreaming.set(requestRef.get().getAsyncContext().getResponse().isCommitted());
+            return null;
+        }).given(workRecordQueryService).forEachWorkRecordByWorkplaceAndDateRange(
+                eq(1L),
+                eq(LocalDate.of(2026, 3, 1)),
+                eq(LocalDate.of(2026, 3, 31)),
+                any());
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(get("/api/employer/work-records")
+                        .param("workplaceId", "1")
+                        .param("startDate", "2026-03-01")
+                        .param("endDate", "2026-03-31")
+                        .with(request -> {
+                            requestRef.set(request);
+                            return request;
+                        }))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(5));
+        assertThat(committedWhileStreaming).isFalse();
+    }
+
+    @Test
+    @DisplayName("근무 기록 목록 조회 - 변경이 없으면 조회 없이 304")
+    void getWorkRecords_notModified() throws Exception {
+        // given
+        given(workRecordQueryService.getCalendarVersionByWorkplaceAndDateRange(
+                eq(1L), eq(LocalDate.of(2026, 3, 1)), eq(LocalDate.of(2026, 3, 31))))
+                .willReturn(new ResourceVersion(LocalDateTime.of(2026, 3, 11, 18, 0), 2L));
+
+        // when & then - Last-Modified 이후 시각으로 요청
+        mockMvc.perform(get("/api/employer/work-records")
+                        .param("workplaceId", "1")
+                        .param("startDate", "2026-03-01")
+                        .param("endDate", "2026-03-31")
+                        .header("If-Modified-Since", "Fri, 13 Mar 2026 00:00:00 GMT"))
+                .andExpect(status().isNotModified())
+                .andExpect(header().exists("ETag"));
+        verify(workRecordQueryService, never()).forEachWorkRecordByWorkplaceAndDateRange(any(), any(), any(), any());
+    }
+
     @Test
     @DisplayName("근무 기록 상세 조회 - 성공")
     void getWorkRecord_success() throws Exception {
@@ -0,0 +1,153 @@
+package com.example.paycheck.domain.allowance.repository;
+
+import com.example.paycheck.domain.allowance.dto.WeeklyWorkHoursSummary;
+import com.example.paycheck.domain.allowance.entity.WeeklyAllowance;
+import com.example.paycheck.domain.contract.entity.WorkerContract;
+import com.example.paycheck.domain.employer.entity.Employer;
+import com.example.paycheck.domain.user.entity.User;
+import com.example.paycheck.domain.user.enums.UserType;
+import com.example.paycheck.domain.worker.entity.Worker;
+import com.example.paycheck.domain.workplace.entity.Workplace;
+import com.example.paycheck.domain.workrecord.entity.WorkRecord;
+import com.example.paycheck.domain.workrecord.enums.WorkRecordStatus;
+import com.example.paycheck.global.config.EncryptionConfig;
+import com.example.paycheck.global.encryption.AccountNumberEncryptor;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({EncryptionConfig.class, AccountNumberEncryptor.class})
+@DisplayName("WeeklyAllowanceRepository 통합 테스트")
+class WeeklyAllowanceRepositoryTest {
+
+    @Autowired
+    private WeeklyAllowanceRepository weeklyAllowanceRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private WorkerContract contract;
+    private WeeklyAllowance firstWeek;
+    private WeeklyAllowance secondWeek;
+
+    @BeforeEach
+    void setUp() {
+        User employerUser = User.builder()
+                .kakaoId("employer-kakao-001")
+                .name("고용주")
+                .userType(UserType.EMPLOYER)
+                .build();
+        entityManager.persist(employerUser);
+
+        User workerUser = User.builder()
+                .kakaoId("worker-kakao-001")
+                .name("근로자")
+                .userType(UserType.WORKER)
+                .build();
+        entityManager.persist(workerUser);
+
+        Employer employer = Employer.builder()
+                .user(employerUser)
+                .phone("010-1234-5678")
+                .build();
+        entityManager.persist(employer);
+
+        Worker worker = Worker.builder()
+                .user(workerUser)
+                .workerCode("ABC123")
+                .build();
+        entityManager.persist(worker);
+
+        Workplace workplace = Workplace.builder()
+                .employer(employer)
+                .businessNumber("123-45-67890")
+                .name("테스트 사업장")
+                .address("서울시 강남구")
+                .build();
+        entityManager.persist(workplace);
+
+        contract = WorkerContract.builder()
+                .workplace(workplace)
+                .worker(worker)
+                .hourlyWage(BigDecimal.valueOf(10000))
+                .workSchedules("[{\"dayOfWeek\":1,\"startTime\":\"09:00\",\"endTime\":\"18:00\"}]")
+                .contractStartDate(LocalDate.of(2026, 1, 1))
+                .paymentDay(15)
+                .build();
+        entityManager.persist(contract);
+
+        // 2026-03-02(월) ~ 03-08(일), 2026-03-09(월) ~ 03-15(일)
+        firstWeek = WeeklyAllowance.builder()
+                .contract(contract)
+                .weekStartDate(LocalDate.of(2026, 3, 2))
+                .weekEndDate(LocalDate.of(2026, 3, 8))
+                .build();
+        secondWeek = WeeklyAllowance.builder()
+                .contract(contract)
+                .weekStartDate(LocalDate.of(2026, 3, 9))
+                .weekEndDate(LocalDate.of(2026, 3, 15))
+                .build();
+        entityManager.persist(firstWeek);
+        entityManager.persist(secondWeek);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private WorkRecord persistRecord(WeeklyAllowance allowance, LocalDate workDate, WorkRecordStatus status,
+                                     String totalHours, String overtimeHours) {
+        WorkRecord record = WorkRecord.builder()
+                .contract(contract)
+                .weeklyAllowance(allowance)
+                .workDate(workDate)
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(18, 0))
+                .status(status)
+                .totalHours(new BigDecimal(totalHours))
+                .overtimeHours(new BigDecimal(overtimeHours))
+                .build();
+        entityManager.persist(record);
+        return record;
+    }
+
+    @Nested
+    @DisplayName("sumWorkHoursByIdInAndStatus")
+    class SumWorkHoursByIdInAndStatus {
+
+        @Test
+        @DisplayName("주간 수당별로 해당 상태 근무 기록의 근무 시간과 일일 연장 시간을 합산한다")
+        void sumsHoursPerAllowance() {
+            // given
+            persistRecord(firstWeek, LocalDate.of(2026, 3, 2), WorkRecordStatus.COMPLETED, "10.00", "2.00");
+            persistRecord(firstWeek, LocalDate.of(2026, 3, 3), WorkRecordStatus.COMPLETED, "8.00", "0.00");
+            persistRecord(firstWeek, LocalDate.of(2026, 3, 4), WorkRecordStatus.SCHEDULED, "8.00", "0.00");
+            persistRecord(firstWeek, LocalDate.of(2026, 3, 5), WorkRecordStatus.DELETED, "8.00", "0.00");
+            persistRecord(secondWeek, LocalDate.of(2026, 3, 10), WorkRecordStatus.SCHEDULED, "8.00", "0.00");
+            entityManager.flush();
+            entityManager.clear();
+
+            // when
+            List<WeeklyWorkHoursSummary> results = weeklyAllowanceRepository.sumWorkHoursByIdInAndStatus(
+                    List.of(firstWeek.getId(), secondWeek.getId()), WorkRecordStatus.COMPLETED);
+
+            // then - COMPLETED 근무 기록이 없는 주는 결과에서 빠짐
+            assertThat(results).hasSize(1);
+            assertThat(results.get(0).getWeeklyAllowanceId()).isEqualTo(firstWeek.getId());
+            assertThat(results.get(0).getTotalHours()).isEqualByComparingTo("18.00");
+            assertThat(results.get(0).getDailyOvertimeHours()).isEqualByComparingTo("2.00");
+        }
+    }
+}
@@ -1,12 +1,14 @@
 package com.example.paycheck.domain.allowance.service;
 
 import com.example.paycheck.common.exception.NotFoundException;
+import com.example.paycheck.domain.allowance.dto.WeeklyWorkHoursSummary;
 import com.example.paycheck.domain.allowance.entity.WeeklyAllowance;
 import com.example.paycheck.domain.allowance.repository.WeeklyAllowanceRepository;
 import com.example.paycheck.domain.contract.entity.WorkerContract;
 import com.example.paycheck.domain.contract.repository.WorkerContractRepository;
+import com.example.paycheck.domain.workplace.entity.Workplace;
 import com.example.paycheck.domain.workrecord.enums.WorkRecordStatus;
-import com.example.paycheck.domain.workrecord.repository.WorkRecordRepository;
+import com.example.paycheck.domain.workrecord.service.WorkedDayIndex;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -20,6 +22,7 @@ import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -38,7 +41,7 @@ class WeeklyAllowanceServiceTest {
     private WorkerContractRepository workerContractRepository;
 
     @Mock
-    private WorkRecordRepository workRecordRepository;
+    private WorkedDayIndex workedDayIndex;
 
     @InjectMocks
     private WeeklyAllowanceService weeklyAllowanceService;
@@ -127,8 +130,7 @@ class WeeklyAllowanceServiceTest {
 
         when(weeklyAllowanceRepository.findById(1L)).thenReturn(Optional.of(allowance));
         when(weeklyAllowanceRepository.save(allowance)).thenReturn(allowance);
-        when(workRecordRepository.existsByContractIdAndWorkDateBetweenAndStatusNot(
-                eq(1L), any(LocalDate.class), any(LocalDate.class), eq(WorkRecordStatus.DELETED)))
+        when(workedDayIndex.hasWorkedDayBetween(eq(1L), any(LocalDate.class), any(LocalDate.class)))
                 .thenReturn(true);
         doNothing().when(allowance).calculateTotalWorkHours();
         doNothing().when(allowance).calculateWeeklyPaidLeave(anyBoolean());
@@ -175,8 +177,7 @@ class WeeklyAllowanceServiceTest {
 
             when(weeklyAllowanceRepository.findById(1L)).thenReturn(Optional.of(allowance));
             when(weeklyAllowanceRepository.save(allowance)).thenReturn(allowance);
-            when(workRecordRepository.existsByContractIdAndWorkDateBetweenAndStatusNot(
-                    eq(1L), eq(LocalDate.of(2024, 1, 8)), eq(LocalDate.of(2024, 1, 14)), eq(WorkRecordStatus.DELETED)))
+            when(workedDayIndex.hasWorkedDayBetween(eq(1L), eq(LocalDate.of(2024, 1, 8)), eq(LocalDate.of(2024, 1, 14))))
                     .thenReturn(true);
 
             // when
@@ -202,8 +203,7 @@ class WeeklyAllowanceServiceTest {
 
             when(weeklyAllowanceRepository.findById(1L)).thenReturn(Optional.of(allowance));
             when(weeklyAllowanceRepository.save(allowance)).thenReturn(allowance);
-            when(workRecordRepository.existsByContractIdAndWorkDateBetweenAndStatusNot(
-                    eq(1L), eq(LocalDate.of(2024, 1, 8)), eq(LocalDate.of(2024, 1, 14)), eq(WorkRecordStatus.DELETED)))
+            when(workedDayIndex.hasWorkedDayBetween(eq(1L), eq(LocalDate.of(2024, 1, 8)), eq(LocalDate.of(2024, 1, 14))))
                     .thenReturn(false);
 
             // when
@@ -229,9 +229,8 @@ class WeeklyAllowanceServiceTest {
 
             when(weeklyAllowanceRepository.findById(1L)).thenReturn(Optional.of(allowance));
             when(weeklyAllowanceRepository.save(allowance)).thenReturn(allowance);
-            // DELETED 상태만 있으면 existsBy...StatusNot은 false 반환
-            when(workRecordRepository.existsByContractIdAndWorkDateBetweenAndStatusNot(
-                    eq(1L), eq(LocalDate.of(2024, 1, 8)), eq(LocalDate.of(2024, 1, 14)), eq(WorkRecordStatus.DELETED)))
+            // DELETED 근무 기록은 근무일 인덱스에 포함되지 않음
+            when(workedDayIndex.hasWorkedDayBetween(eq(1L), eq(LocalDate.of(2024, 1, 8)), eq(LocalDate.of(2024, 1, 14))))
                     .thenReturn(false);
 
             // when
@@ -242,6 +241,104 @@ class WeeklyAllowanceServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("주간 수당 일괄 재계산 테스트")
+    class RecalculateAllowancesBatchTest {
+
+        private WorkerContract createContract(boolean isSmallWorkplace) {
+            Workplace workplace = mock(Workplace.class);
+            when(workplace.getIsLessThanFiveEmployees()).thenReturn(isSmallWorkplace);
+            WorkerContract contract = mock(WorkerContract.class);
+            when(contract.getWorkplace()).thenReturn(workplace);
+            lenient().when(contract.getHourlyWage()).thenReturn(new BigDecimal("10000"));
+            return contract;
+        }
+
+        private WeeklyAllowance createAllowance(Long id, WorkerContract contract) {
+            return WeeklyAllowance.builder()
+                    .id(id)
+                    .contract(contract)
+                    .weekStartDate(LocalDate.of(2024, 1, 15))
+                    .weekEndDate(LocalDate.of(2024, 1, 21))
+                    .build();
+        }
+
+        @Test
+        @DisplayName("집계 쿼리 결과와 근무일 인덱스로 주휴/연장수당을 계산")
+        void recalculateAllowancesBatch_UsesAggregateQueries() {
+            // given
+            WorkerContract contract = createContract(false);
+            WeeklyAllowance overtimeWeek = createAllowance(1L, contract);
+            WeeklyAllowance lastWeek = createAllowance(2L, contract);
+            Set<Long> ids = Set.of(1L, 2L);
+
+            when(weeklyAllowanceRepository.findAllWithContractByIdIn(ids)).thenReturn(List.of(overtimeWeek, lastWeek));
+            when(weeklyAllowanceRepository.sumWorkHoursByIdInAndStatus(ids, WorkRecordStatus.COMPLETED))
+                    .thenReturn(List.of(
+                            new WeeklyWorkHoursSummary(1L, new BigDecimal("45.00"), new BigDecimal("2.00")),
+                            new WeeklyWorkHoursSummary(2L, new BigDecimal("20.00"), BigDecimal.ZERO)));
+            when(contract.getId()).thenReturn(1L);
+            // 같은 주차의 두 수당 중 먼저 계산되는 수당만 다음 주 근무 있음으로 응답
+            when(workedDayIndex.hasWorkedDayBetween(1L, LocalDate.of(2024, 1, 22), LocalDate.of(2024, 1, 28)))
+                    .thenReturn(true, false);
+
+            // when
+            weeklyAllowanceService.recalculateAllowancesBatch(ids);
+
+            // then
+            // 45 / 40 = 1.13 (HALF_UP) → 1.13 * 8 * 10000 = 90400
+            assertThat(overtimeWeek.getTotalWorkHours()).isEqualByComparingTo("45.00");
+            assertThat(overtimeWeek.getWeeklyPaidLeaveAmount()).isEqualByComparingTo("90400");
+            // 주간 연장 5시간 - 일일 연장 2시간 = 3시간 * 10000 * 0.5 = 15000
+            assertThat(overtimeWeek.getOvertimeHours()).isEqualByComparingTo("5.00");
+            assertThat(overtimeWeek.getOvertimeAmount()).isEqualByComparingTo("15000");
+            // 다음 주 근무 없음 → 주휴수당 미지급
+            assertThat(lastWeek.getTotalWorkHours()).isEqualByComparingTo("20.00");
+            assertThat(lastWeek.getWeeklyPaidLeaveAmount()).isEqualByComparingTo(BigDecimal.ZERO);
+
+            verify(weeklyAllowanceRepository).saveAll(List.of(overtimeWeek, lastWeek));
+        }
+
+        @Test
+        @DisplayName("COMPLETED 근무 기록이 없는 주는 근무 시간 0으로 재계산")
+        void recalculateAllowancesBatch_NoCompletedRecords_ResetsToZero() {
+            // given
+            WorkerContract contract = createContract(true);
+            WeeklyAllowance allowance = WeeklyAllowance.builder()
+                    .id(1L)
+                    .contract(contract)
+                    .weekStartDate(LocalDate.of(2024, 1, 15))
+                    .weekEndDate(LocalDate.of(2024, 1, 21))
+                    .totalWorkHours(new BigDecimal("20.00"))
+                    .weeklyPaidLeaveAmount(new BigDecimal("40000"))
+                    .build();
+            Set<Long> ids = Set.of(1L);
+
+            when(weeklyAllowanceRepository.findAllWithContractByIdIn(ids)).thenReturn(List.of(allowance));
+            when(weeklyAllowanceRepository.sumWorkHoursByIdInAndStatus(ids, WorkRecordStatus.COMPLETED)).thenReturn(List.of());
+            when(contract.getId()).thenReturn(1L);
+            when(workedDayIndex.hasWorkedDayBetween(eq(1L), any(LocalDate.class), any(LocalDate.class))).thenReturn(true);
+
+            // when
+            weeklyAllowanceService.recalculateAllowancesBatch(ids);
+
+            // then
+            assertThat(allowance.getTotalWorkHours()).isEqualByComparingTo(BigDecimal.ZERO);
+            assertThat(allowance.getWeeklyPaidLeaveAmount()).isEqualByComparingTo(BigDecimal.ZERO);
+            assertThat(allowance.getOvertimeAmount()).isEqualByComparingTo(BigDecimal.ZERO);
+        }
+
+        @Test
+        @DisplayName("빈 ID 목록이면 조회하지 않음")
+        void recalculateAllowancesBatch_EmptyIds() {
+            // when
+            weeklyAllowanceService.recalculateAllowancesBatch(Set.of());
+
+            // then
+            verifyNoInteractions(weeklyAllowanceRepository);
+        }
+    }
+
     @Nested
     @DisplayName("WeeklyAllowance 엔티티 경계값 테스트")
     class WeeklyAllowanceBoundaryTest {
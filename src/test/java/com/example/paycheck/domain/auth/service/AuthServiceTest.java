@@ -15,6 +15,7 @@ import com.example.paycheck.domain.worker.repository.WorkerRepository;
 import com.example.paycheck.domain.worker.entity.Worker;
 import com.example.paycheck.domain.employer.entity.Employer;
 import com.example.paycheck.global.oauth.kakao.dto.KakaoUserInfo;
+import com.example.paycheck.global.security.UserSnapshotCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -58,6 +59,9 @@ class AuthServiceTest {
     @Mock
     private WorkerRepository workerRepository;
 
+    @Mock
+    private UserSnapshotCache userSnapshotCache;
+
     @InjectMocks
     private AuthService authService;
 
@@ -497,6 +501,7 @@ class AuthServiceTest {
     @DisplayName("회원 탈퇴 성공")
     void withdraw_Success() {
         // given
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
         doNothing().when(userWithdrawService).withdraw(testUser);
 
         // when
@@ -505,6 +510,27 @@ class AuthServiceTest {
         // then
         verify(oAuthService).unlinkKakaoAccount(testUser.getKakaoId());
         verify(userWithdrawService).withdraw(testUser);
+        verify(userSnapshotCache).invalidate(1L);
+        verify(tokenService).revokeAccessTokens(1L);
+    }
+
+    @Test
+    @DisplayName("회원 탈퇴 - 인증 주체에 카카오 ID가 없어도 DB에서 조회하여 연결 해제")
+    void withdraw_LoadsKakaoIdFromDatabase() {
+        // given
+        User principal = User.builder()
+                .id(1L)
+                .userType(UserType.WORKER)
+                .version(0L)
+                .build();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+
+        // when
+        authService.withdraw(principal);
+
+        // then
+        verify(oAuthService).unlinkKakaoAccount("test_kakao_id");
+        verify(userWithdrawService).withdraw(testUser);
     }
 
     @Test
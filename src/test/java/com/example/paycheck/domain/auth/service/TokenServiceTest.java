@@ -1,6 +1,11 @@
 package com.example.paycheck.domain.auth.service;
 
+import com.example.paycheck.common.exception.NotFoundException;
 import com.example.paycheck.domain.auth.repository.RefreshTokenRepository;
+import com.example.paycheck.domain.user.entity.User;
+import com.example.paycheck.domain.user.enums.UserType;
+import com.example.paycheck.domain.user.repository.UserRepository;
+import com.example.paycheck.global.security.AccessTokenRevocationList;
 import com.example.paycheck.global.security.JwtTokenProvider;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,6 +15,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -26,21 +32,52 @@ class TokenServiceTest {
     @Mock
     private RefreshTokenRepository refreshTokenRepository;
 
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private AccessTokenRevocationList accessTokenRevocationList;
+
     @InjectMocks
     private TokenService tokenService;
 
+    private User givenUser() {
+        User user = User.builder()
+                .id(1L)
+                .kakaoId("kakao-1")
+                .name("사용자")
+                .userType(UserType.EMPLOYER)
+                .version(2L)
+                .build();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        return user;
+    }
+
     @Test
     @DisplayName("Access Token 생성 성공")
     void generateAccessToken_Success() {
         // given
-        when(jwtTokenProvider.generateToken(1L)).thenReturn("access_token");
+        givenUser();
+        when(jwtTokenProvider.generateToken(1L, UserType.EMPLOYER, 2L)).thenReturn("access_token");
 
         // when
         String result = tokenService.generateAccessToken(1L);
 
         // then
         assertThat(result).isEqualTo("access_token");
-        verify(jwtTokenProvider).generateToken(1L);
+        verify(jwtTokenProvider).generateToken(1L, UserType.EMPLOYER, 2L);
+    }
+
+    @Test
+    @DisplayName("Access Token 생성 실패 - 사용자 없음")
+    void generateAccessToken_UserNotFound() {
+        // given
+        when(userRepository.findById(1L)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> tokenService.generateAccessToken(1L))
+                .isInstanceOf(NotFoundException.class);
+        verifyNoInteractions(jwtTokenProvider);
     }
 
     @Test
@@ -63,7 +100,8 @@ class TokenServiceTest {
     @DisplayName("토큰 쌍 생성 성공")
     void generateTokenPair_Success() {
         // given
-        when(jwtTokenProvider.generateToken(1L)).thenReturn("access_token");
+        givenUser();
+        when(jwtTokenProvider.generateToken(1L, UserType.EMPLOYER, 2L)).thenReturn("access_token");
         when(jwtTokenProvider.generateRefreshToken(1L)).thenReturn("refresh_token");
         when(jwtTokenProvider.getRefreshExpirationTime()).thenReturn(2592000000L);
         doNothing().when(refreshTokenRepository).upsertRefreshToken(eq(1L), eq("refresh_token"), any(LocalDateTime.class));
@@ -75,7 +113,7 @@ class TokenServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getAccessToken()).isEqualTo("access_token");
         assertThat(result.getRefreshToken()).isEqualTo("refresh_token");
-        verify(jwtTokenProvider).generateToken(1L);
+        verify(jwtTokenProvider).generateToken(1L, UserType.EMPLOYER, 2L);
         verify(jwtTokenProvider).generateRefreshToken(1L);
         verify(refreshTokenRepository).upsertRefreshToken(eq(1L), eq("refresh_token"), any(LocalDateTime.class));
     }
@@ -92,4 +130,14 @@ class TokenServiceTest {
         // then
         verify(refreshTokenRepository).deleteByUserId(1L);
     }
+
+    @Test
+    @DisplayName("Access Token 무효화 성공")
+    void revokeAccessTokens_Success() {
+        // when
+        tokenService.revokeAccessTokens(1L);
+
+        // then
+        verify(accessTokenRevocationList).revokeAll(1L);
+    }
 }
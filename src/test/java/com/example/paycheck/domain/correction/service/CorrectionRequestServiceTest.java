@@ -1,6 +1,7 @@
 package com.example.paycheck.domain.correction.service;
 
 import com.example.paycheck.common.exception.BadRequestException;
+import com.example.paycheck.common.exception.ErrorCode;
 import com.example.paycheck.common.exception.NotFoundException;
 import com.example.paycheck.domain.allowance.entity.WeeklyAllowance;
 import com.example.paycheck.domain.contract.entity.WorkerContract;
@@ -11,14 +12,20 @@ import com.example.paycheck.domain.correction.enums.CorrectionStatus;
 import com.example.paycheck.domain.correction.repository.CorrectionRequestRepository;
 import com.example.paycheck.domain.correction.service.CorrectionRequestService;
 import com.example.paycheck.domain.notification.event.NotificationEvent;
+import com.example.paycheck.domain.salary.util.WorkRecordPayTotals;
 import com.example.paycheck.domain.user.entity.User;
+import com.example.paycheck.domain.worker.entity.Worker;
+import com.example.paycheck.domain.workrecord.dto.ShiftConflict;
+import com.example.paycheck.domain.workrecord.dto.WorkShift;
 import com.example.paycheck.domain.workrecord.entity.WorkRecord;
 import com.example.paycheck.domain.workrecord.repository.WorkRecordRepository;
 import com.example.paycheck.domain.correction.enums.RequestType;
+import com.example.paycheck.domain.workrecord.enums.ShiftConflictSource;
 import com.example.paycheck.domain.workrecord.enums.WorkRecordStatus;
 import com.example.paycheck.domain.workrecord.service.WorkRecordCalculationService;
 import com.example.paycheck.domain.workrecord.service.WorkRecordCommandService;
 import com.example.paycheck.domain.workrecord.service.WorkRecordCoordinatorService;
+import com.example.paycheck.domain.workrecord.service.WorkShiftOverlapService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -59,6 +66,9 @@ class CorrectionRequestServiceTest {
     @Mock
     private WorkRecordCoordinatorService coordinatorService;
 
+    @Mock
+    private WorkShiftOverlapService workShiftOverlapService;
+
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
@@ -111,6 +121,43 @@ class CorrectionRequestServiceTest {
                 .isInstanceOf(BadRequestException.class);
     }
 
+    @Test
+    @DisplayName("정정요청 생성 실패 - 전날 자정을 넘는 근무 기록과 시간 겹침 (CREATE 타입)")
+    void createCorrectionRequest_Fail_OverlapsOvernightWorkRecord() {
+        // given
+        User requester = mock(User.class);
+        when(requester.getId()).thenReturn(1L);
+        User workerUser = mock(User.class);
+        when(workerUser.getId()).thenReturn(1L);
+        Worker worker = mock(Worker.class);
+        when(worker.getUser()).thenReturn(workerUser);
+        WorkerContract contract = mock(WorkerContract.class);
+        when(contract.getWorker()).thenReturn(worker);
+
+        LocalDate workDate = LocalDate.of(2026, 3, 3);
+        CorrectionRequestDto.CreateRequest request = CorrectionRequestDto.CreateRequest.builder()
+                .type(RequestType.CREATE)
+                .contractId(10L)
+                .requestedWorkDate(workDate)
+                .requestedStartTime(LocalTime.of(1, 0))
+                .requestedEndTime(LocalTime.of(5, 0))
+                .build();
+
+        when(workerContractRepository.findById(10L)).thenReturn(Optional.of(contract));
+        WorkShift overnightShift = new WorkShift(100L, workDate.minusDays(1), LocalTime.of(22, 0), LocalTime.of(2, 0));
+        when(workShiftOverlapService.findConflicts(eq(10L), anyList()))
+                .thenAnswer(invocation -> {
+                    List<WorkShift> requestedShifts = invocation.getArgument(1);
+                    return List.of(new ShiftConflict(requestedShifts.get(0), overnightShift, ShiftConflictSource.WORK_RECORD));
+                });
+
+        // when & then
+        assertThatThrownBy(() -> correctionRequestService.createCorrectionRequest(requester, request))
+                .isInstanceOf(BadRequestException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.DUPLICATE_WORK_RECORD);
+        verify(correctionRequestRepository, never()).save(any(CorrectionRequest.class));
+    }
+
     @Test
     @DisplayName("내 정정요청 목록 조회 - 전체")
     void getMyCorrectionRequests_All() {
@@ -237,10 +284,54 @@ class CorrectionRequestServiceTest {
         verify(calculationService).validateWorkRecordConsistency(workRecord);
         verify(coordinatorService).getOrCreateWeeklyAllowance(100L, LocalDate.of(2026, 2, 24));
         verify(coordinatorService).handleWorkRecordUpdate(
-                workRecord,
-                oldWeeklyAllowance,
-                newWeeklyAllowance,
-                LocalDate.of(2026, 2, 21));
+                eq(workRecord),
+                eq(oldWeeklyAllowance),
+                eq(newWeeklyAllowance),
+                eq(LocalDate.of(2026, 2, 21)),
+                any(WorkRecordPayTotals.class));
         verify(eventPublisher).publishEvent(any(NotificationEvent.class));
     }
+
+    @Test
+    @DisplayName("삭제 정정요청 승인 시 WeeklyAllowance가 없는 근무 기록도 급여 차감을 위해 삭제 처리를 위임한다")
+    void approveCorrectionRequest_DeleteWithoutWeeklyAllowance() {
+        // given
+        User requester = mock(User.class);
+        when(requester.getId()).thenReturn(10L);
+        when(requester.getName()).thenReturn("근로자");
+
+        WorkerContract contract = mock(WorkerContract.class);
+
+        WorkRecord workRecord = WorkRecord.builder()
+                .id(1L)
+                .contract(contract)
+                .workDate(LocalDate.of(2026, 2, 21))
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(18, 0))
+                .breakMinutes(60)
+                .totalWorkMinutes(480)
+                .status(WorkRecordStatus.COMPLETED)
+                .build();
+
+        CorrectionRequest correctionRequest = CorrectionRequest.builder()
+                .id(1L)
+                .type(RequestType.DELETE)
+                .workRecord(workRecord)
+                .requester(requester)
+                .originalWorkDate(workRecord.getWorkDate())
+                .originalStartTime(workRecord.getStartTime())
+                .originalEndTime(workRecord.getEndTime())
+                .status(CorrectionStatus.PENDING)
+                .build();
+
+        when(correctionRequestRepository.findByIdWithDetails(1L)).thenReturn(Optional.of(correctionRequest));
+
+        // when
+        CorrectionRequestDto.Response result = correctionRequestService.approveCorrectionRequest(1L);
+
+        // then
+        assertThat(result.getStatus()).isEqualTo(CorrectionStatus.APPROVED);
+        assertThat(workRecord.getStatus()).isEqualTo(WorkRecordStatus.DELETED);
+        verify(coordinatorService).handleWorkRecordDeletion(null, workRecord, WorkRecordStatus.COMPLETED);
+    }
 }
@@ -0,0 +1,121 @@
+package com.example.paycheck.domain.holiday.service;
+
+import com.example.paycheck.domain.holiday.repository.HolidayRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HolidayCalendar 테스트")
+class HolidayCalendarTest {
+
+    @Mock
+    private HolidayRepository holidayRepository;
+
+    @Mock
+    private Clock clock;
+
+    private HolidayCalendar holidayCalendar;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(clock.millis()).thenReturn(0L);
+        holidayCalendar = new HolidayCalendar(holidayRepository, clock, 3600);
+    }
+
+    @Test
+    @DisplayName("토/일과 공공기관 휴일은 휴일이고, 연도별로 한 번만 조회한다")
+    void weekendsAndPublicHolidays() {
+        // given - 2024-01-01 월요일 신정, 2024-04-05 식목일(기념일)은 조회 결과에 없음
+        when(holidayRepository.findPublicHolidayDatesByYear(2024)).thenReturn(List.of(LocalDate.of(2024, 1, 1)));
+
+        // when & then
+        assertThat(holidayCalendar.isHoliday(LocalDate.of(2024, 1, 1))).isTrue();
+        assertThat(holidayCalendar.isHoliday(LocalDate.of(2024, 1, 2))).isFalse();
+        assertThat(holidayCalendar.isHoliday(LocalDate.of(2024, 1, 6))).isTrue();   // 토요일
+        assertThat(holidayCalendar.isHoliday(LocalDate.of(2024, 1, 7))).isTrue();   // 일요일
+        assertThat(holidayCalendar.isHoliday(LocalDate.of(2024, 4, 5))).isFalse();  // 금요일 기념일
+        assertThat(holidayCalendar.isHoliday(LocalDate.of(2024, 12, 31))).isFalse(); // 윤년 366일째 화요일
+        verify(holidayRepository, times(1)).findPublicHolidayDatesByYear(2024);
+    }
+
+    @Test
+    @DisplayName("무효화하면 다음 조회 시 새 공휴일로 다시 불러온다")
+    void reloadsAfterInvalidate() {
+        // given
+        LocalDate substituteHoliday = LocalDate.of(2024, 5, 6); // 월요일 대체공휴일
+        when(holidayRepository.findPublicHolidayDatesByYear(2024))
+                .thenReturn(List.of())
+                .thenReturn(List.of(substituteHoliday));
+        assertThat(holidayCalendar.isHoliday(substituteHoliday)).isFalse();
+
+        // when
+        holidayCalendar.invalidate(2024);
+
+        // then
+        assertThat(holidayCalendar.isHoliday(substituteHoliday)).isTrue();
+        verify(holidayRepository, times(2)).findPublicHolidayDatesByYear(2024);
+    }
+
+    @Test
+    @DisplayName("TTL이 지나면 다른 인스턴스에서 변경한 공휴일을 DB에서 다시 불러온다")
+    void reloadsAfterTtl() {
+        // given
+        LocalDate substituteHoliday = LocalDate.of(2024, 5, 6);
+        when(holidayRepository.findPublicHolidayDatesByYear(2024))
+                .thenReturn(List.of())
+                .thenReturn(List.of(substituteHoliday));
+        assertThat(holidayCalendar.isHoliday(substituteHoliday)).isFalse();
+
+        // when & then - TTL 안에서는 이전 결과 사용
+        when(clock.millis()).thenReturn(3_599_999L);
+        assertThat(holidayCalendar.isHoliday(substituteHoliday)).isFalse();
+
+        // when & then - TTL이 지나면 다시 조회
+        when(clock.millis()).thenReturn(3_600_000L);
+        assertThat(holidayCalendar.isHoliday(substituteHoliday)).isTrue();
+        verify(holidayRepository, times(2)).findPublicHolidayDatesByYear(2024);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 무효화하면 커밋 전에 다시 불러온 이전 공휴일도 트랜잭션 종료 후 제거한다")
+    void evictsStaleReloadAfterTransactionCompletion() {
+        // given
+        LocalDate substituteHoliday = LocalDate.of(2024, 5, 6);
+        when(holidayRepository.findPublicHolidayDatesByYear(2024))
+                .thenReturn(List.of())
+                .thenReturn(List.of(substituteHoliday));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            holidayCalendar.invalidate(2024);
+            // 커밋 전 다른 요청이 이전 공휴일을 불러옴
+            assertThat(holidayCalendar.isHoliday(substituteHoliday)).isFalse();
+
+            // when - 트랜잭션 종료
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        assertThat(holidayCalendar.isHoliday(substituteHoliday)).isTrue();
+        verify(holidayRepository, times(2)).findPublicHolidayDatesByYear(2024);
+    }
+}
@@ -30,6 +30,9 @@ class HolidayServiceTest {
     @Mock
     private HolidayApiClient holidayApiClient;
 
+    @Mock
+    private HolidayCalendar holidayCalendar;
+
     @InjectMocks
     private HolidayService holidayService;
 
@@ -48,61 +51,18 @@ class HolidayServiceTest {
     }
 
     @Test
-    @DisplayName("공공기관 휴일 확인 - 토요일은 공공기관 휴일")
-    void isPublicHoliday_Saturday() {
-        // given
-        LocalDate saturday = LocalDate.of(2024, 1, 6); // 토요일
-
-        // when
-        boolean result = holidayService.isPublicHoliday(saturday);
-
-        // then
-        assertThat(result).isTrue();
-        verify(holidayRepository, never()).existsByHolidayDateAndIsPublicHolidayTrue(any());
-    }
-
-    @Test
-    @DisplayName("공공기관 휴일 확인 - 일요일은 공공기관 휴일")
-    void isPublicHoliday_Sunday() {
-        // given
-        LocalDate sunday = LocalDate.of(2024, 1, 7); // 일요일
-
-        // when
-        boolean result = holidayService.isPublicHoliday(sunday);
-
-        // then
-        assertThat(result).isTrue();
-        verify(holidayRepository, never()).existsByHolidayDateAndIsPublicHolidayTrue(any());
-    }
-
-    @Test
-    @DisplayName("공공기관 휴일 확인 - DB에 등록된 공공기관 휴일")
-    void isPublicHoliday_RegisteredPublicHoliday() {
+    @DisplayName("공공기관 휴일 확인 - 휴일 달력 결과를 그대로 반환")
+    void isPublicHoliday_DelegatesToCalendar() {
         // given
         LocalDate weekday = LocalDate.of(2024, 1, 1); // 월요일 (신정)
-        when(holidayRepository.existsByHolidayDateAndIsPublicHolidayTrue(weekday)).thenReturn(true);
+        when(holidayCalendar.isHoliday(weekday)).thenReturn(true);
 
         // when
         boolean result = holidayService.isPublicHoliday(weekday);
 
         // then
         assertThat(result).isTrue();
-        verify(holidayRepository).existsByHolidayDateAndIsPublicHolidayTrue(weekday);
-    }
-
-    @Test
-    @DisplayName("공공기관 휴일 확인 - 기념일(isPublicHoliday=false)은 공공기관 휴일 아님")
-    void isPublicHoliday_MemorialDay_NotPublicHoliday() {
-        // given
-        LocalDate weekday = LocalDate.of(2024, 4, 5); // 식목일
-        when(holidayRepository.existsByHolidayDateAndIsPublicHolidayTrue(weekday)).thenReturn(false);
-
-        // when
-        boolean result = holidayService.isPublicHoliday(weekday);
-
-        // then
-        assertThat(result).isFalse();
-        verify(holidayRepository).existsByHolidayDateAndIsPublicHolidayTrue(weekday);
+        verify(holidayRepository, never()).existsByHolidayDateAndIsPublicHolidayTrue(any());
     }
 
     @Test
@@ -195,6 +155,7 @@ class HolidayServiceTest {
         assertThat(result).isEqualTo(1);
         verify(holidayApiClient).fetchHolidays(year);
         verify(holidayRepository).saveAll(holidays);
+        verify(holidayCalendar).invalidate(year);
     }
 
     @Test
@@ -263,6 +224,8 @@ class HolidayServiceTest {
         // then
         assertThat(result).isEqualTo(2);
         verify(holidayApiClient, times(2)).fetchHolidays(anyInt());
+        verify(holidayCalendar).invalidate(2024);
+        verify(holidayCalendar).invalidate(2025);
     }
 
     @Test
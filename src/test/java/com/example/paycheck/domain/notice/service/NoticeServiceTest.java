@@ -14,6 +14,7 @@ import com.example.paycheck.domain.notice.enums.NoticeCategory;
 import com.example.paycheck.domain.notice.repository.NoticeRepository;
 import com.example.paycheck.domain.user.entity.User;
 import com.example.paycheck.domain.user.enums.UserType;
+import com.example.paycheck.domain.user.repository.UserRepository;
 import com.example.paycheck.domain.worker.entity.Worker;
 import com.example.paycheck.domain.workplace.entity.Workplace;
 import com.example.paycheck.domain.workplace.repository.WorkplaceRepository;
@@ -51,6 +52,9 @@ class NoticeServiceTest {
     @Mock
     private WorkerContractRepository contractRepository;
 
+    @Mock
+    private UserRepository userRepository;
+
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
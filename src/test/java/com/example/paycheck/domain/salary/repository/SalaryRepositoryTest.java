@@ -20,7 +20,9 @@ import org.springframework.context.annotation.Import;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -336,4 +338,184 @@ class SalaryRepositoryTest {
             assertThat(results.get(0).getContract().getId()).isEqualTo(contract1.getId());
         }
     }
+
+    @Nested
+    @DisplayName("upsert")
+    class Upsert {
+
+        @Test
+        @DisplayName("급여가 없으면 version 0으로 새로 생성한다")
+        void insertsWhenAbsent() {
+            // when
+            Salary saved = salaryRepository.upsert(calculated(contract1, 2026, 5, "1600000"), null);
+            entityManager.clear();
+
+            // then
+            List<Salary> results = salaryRepository.findByContractIdAndYearAndMonth(contract1.getId(), 2026, 5);
+            assertThat(results).hasSize(1);
+            assertThat(results.get(0).getId()).isEqualTo(saved.getId());
+            assertThat(results.get(0).getVersion()).isZero();
+            assertThat(results.get(0).getNetPay()).isEqualByComparingTo("1600000");
+            assertThat(results.get(0).getPaymentDueDate()).isEqualTo(LocalDate.of(2026, 5, 15));
+            assertThat(results.get(0).getCreatedAt()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("급여가 있으면 계산 칼럼만 갱신하고 version을 증가시킨다")
+        void updatesWhenPresent() {
+            // given
+            Salary existing = calculated(contract1, 2026, 5, "1600000");
+            existing.markIncrementallyUpdated();
+            entityManager.persist(existing);
+            entityManager.flush();
+            entityManager.clear();
+            LocalDateTime createdAt = entityManager.find(Salary.class, existing.getId()).getCreatedAt();
+            entityManager.clear();
+
+            // when
+            Salary saved = salaryRepository.upsert(calculated(contract1, 2026, 5, "1700000"), existing.getVersion());
+            entityManager.clear();
+
+            // then
+            List<Salary> results = salaryRepository.findByContractIdAndYearAndMonth(contract1.getId(), 2026, 5);
+            assertThat(results).hasSize(1);
+            assertThat(saved.getId()).isEqualTo(existing.getId());
+            assertThat(results.get(0).getVersion()).isEqualTo(existing.getVersion() + 1);
+            assertThat(results.get(0).getNetPay()).isEqualByComparingTo("1700000");
+            assertThat(results.get(0).getIncrementallyUpdated()).isFalse();
+            assertThat(results.get(0).getCreatedAt()).isEqualTo(createdAt);
+        }
+
+        @Test
+        @DisplayName("영속성 컨텍스트에 이미 있는 급여는 DB 값으로 갱신하여 반환한다")
+        void refreshesManagedSalary() {
+            // given
+            Salary managed = calculated(contract1, 2026, 5, "1600000");
+            entityManager.persist(managed);
+            entityManager.flush();
+
+            // when
+            Salary saved = salaryRepository.upsert(calculated(contract1, 2026, 5, "1700000"), managed.getVersion());
+
+            // then
+            assertThat(saved).isSameAs(managed);
+            assertThat(managed.getNetPay()).isEqualByComparingTo("1700000");
+            assertThat(managed.getVersion()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("합계 조회 이후 다른 트랜잭션이 갱신했으면(version 불일치) 기존 값을 유지하고 정합성 검증 대상으로 표시한다")
+        void keepsConcurrentUpdateWhenVersionChanged() {
+            // given - 합계 조회 시점 version 0, 이후 다른 트랜잭션의 갱신으로 version 1
+            Salary existing = calculated(contract1, 2026, 5, "1600000");
+            entityManager.persist(existing);
+            entityManager.flush();
+            Long readVersion = existing.getVersion();
+            existing.markIncrementallyUpdated();
+            entityManager.flush();
+            entityManager.clear();
+
+            // when - 갱신 전 합계로 계산한 값
+            Salary saved = salaryRepository.upsert(calculated(contract1, 2026, 5, "1500000"), readVersion);
+            entityManager.clear();
+
+            // then
+            Salary result = salaryRepository.findByContractIdAndYearAndMonth(contract1.getId(), 2026, 5).get(0);
+            assertThat(saved.getVersion()).isEqualTo(readVersion + 2);
+            assertThat(result.getVersion()).isEqualTo(readVersion + 2);
+            assertThat(result.getNetPay()).isEqualByComparingTo("1600000");
+            assertThat(result.getIncrementallyUpdated()).isTrue();
+        }
+
+        @Test
+        @DisplayName("급여가 없다고 보고 계산했는데 그 사이 생성되었으면 기존 값을 유지하고 정합성 검증 대상으로 표시한다")
+        void keepsConcurrentInsertWhenExpectedAbsent() {
+            // given
+            Salary existing = calculated(contract1, 2026, 5, "1600000");
+            entityManager.persist(existing);
+            entityManager.flush();
+            entityManager.clear();
+
+            // when
+            salaryRepository.upsert(calculated(contract1, 2026, 5, "1500000"), null);
+            entityManager.clear();
+
+            // then
+            Salary result = salaryRepository.findByContractIdAndYearAndMonth(contract1.getId(), 2026, 5).get(0);
+            assertThat(result.getNetPay()).isEqualByComparingTo("1600000");
+            assertThat(result.getIncrementallyUpdated()).isTrue();
+            assertThat(result.getVersion()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("일괄 저장은 계약마다 생성/갱신/version 불일치 규칙을 적용하고 전달한 순서대로 반환한다")
+        void upsertAllAppliesRulesPerRow() {
+            // given - 계약1은 version 0으로 존재, 계약2는 없음
+            Salary existing = calculated(contract1, 2026, 5, "1600000");
+            entityManager.persist(existing);
+            entityManager.flush();
+            entityManager.clear();
+
+            // when
+            Map<Long, Salary> saved = salaryRepository.upsertAll(
+                    List.of(calculated(contract2, 2026, 5, "900000"), calculated(contract1, 2026, 5, "1700000")),
+                    Map.of(contract1.getId(), existing.getVersion()));
+            entityManager.clear();
+
+            // then
+            assertThat(saved.keySet()).containsExactly(contract2.getId(), contract1.getId());
+            assertThat(saved.get(contract1.getId()).getId()).isEqualTo(existing.getId());
+            assertThat(saved.get(contract2.getId()).getVersion()).isZero();
+
+            Salary updated = salaryRepository.findByContractIdAndYearAndMonth(contract1.getId(), 2026, 5).get(0);
+            assertThat(updated.getVersion()).isEqualTo(existing.getVersion() + 1);
+            assertThat(updated.getNetPay()).isEqualByComparingTo("1700000");
+            Salary created = salaryRepository.findByContractIdAndYearAndMonth(contract2.getId(), 2026, 5).get(0);
+            assertThat(created.getNetPay()).isEqualByComparingTo("900000");
+            assertThat(created.getPaymentDueDate()).isEqualTo(LocalDate.of(2026, 5, 15));
+        }
+
+        @Test
+        @DisplayName("일괄 저장도 version이 다른 급여는 기존 값을 유지하고 정합성 검증 대상으로 표시한다")
+        void upsertAllKeepsConcurrentUpdate() {
+            // given
+            Salary existing = calculated(contract1, 2026, 5, "1600000");
+            entityManager.persist(existing);
+            entityManager.flush();
+            Long readVersion = existing.getVersion();
+            existing.markIncrementallyUpdated();
+            entityManager.flush();
+            entityManager.clear();
+
+            // when
+            salaryRepository.upsertAll(List.of(calculated(contract1, 2026, 5, "1500000")),
+                    Map.of(contract1.getId(), readVersion));
+            entityManager.clear();
+
+            // then
+            Salary result = salaryRepository.findByContractIdAndYearAndMonth(contract1.getId(), 2026, 5).get(0);
+            assertThat(result.getNetPay()).isEqualByComparingTo("1600000");
+            assertThat(result.getIncrementallyUpdated()).isTrue();
+            assertThat(result.getVersion()).isEqualTo(readVersion + 2);
+        }
+
+        private Salary calculated(WorkerContract contract, int year, int month, String netPay) {
+            return Salary.builder()
+                    .contract(contract)
+                    .year(year)
+                    .month(month)
+                    .totalWorkHours(BigDecimal.valueOf(160))
+                    .basePay(new BigDecimal(netPay))
+                    .overtimePay(BigDecimal.ZERO)
+                    .nightPay(BigDecimal.ZERO)
+                    .holidayPay(BigDecimal.ZERO)
+                    .weeklyPaidLeaveAmount(BigDecimal.ZERO)
+                    .weeklyOvertimePay(BigDecimal.ZERO)
+                    .totalGrossPay(new BigDecimal(netPay))
+                    .totalDeduction(BigDecimal.ZERO)
+                    .netPay(new BigDecimal(netPay))
+                    .paymentDueDate(LocalDate.of(year, month, 15))
+                    .build();
+        }
+    }
 }
@@ -7,7 +7,7 @@ import com.example.paycheck.domain.notification.enums.NotificationType;
 import com.example.paycheck.domain.notification.event.NotificationEvent;
 import com.example.paycheck.domain.user.entity.User;
 import com.example.paycheck.domain.worker.entity.Worker;
-import com.example.paycheck.domain.workrecord.entity.WorkRecord;
+import com.example.paycheck.domain.workrecord.dto.WorkRecordPaySummary;
 import com.example.paycheck.domain.workrecord.enums.WorkRecordStatus;
 import com.example.paycheck.domain.workrecord.repository.WorkRecordRepository;
 import com.example.paycheck.domain.workplace.entity.Workplace;
@@ -85,17 +85,14 @@ class PaymentDayReminderServiceTest {
         LocalDate today = LocalDate.of(2025, 3, 20);
         when(contract.getPaymentDay()).thenReturn(21);
 
-        WorkRecord workRecord = mock(WorkRecord.class);
-        when(workRecord.getTotalHours()).thenReturn(new BigDecimal("8.0"));
-
         when(workerContractRepository.findActiveContractsByExactPaymentDay(21))
                 .thenReturn(List.of(contract));
-        when(workRecordRepository.findByContractAndDateRangeAndStatus(
-                eq(1L),
+        when(workRecordRepository.sumPayByContractIdsAndDateRangeAndStatus(
+                eq(List.of(1L)),
                 eq(LocalDate.of(2025, 2, 21)),   // periodStart: 전달 21일
                 eq(LocalDate.of(2025, 3, 20)),   // periodEnd: 이달 20일
                 eq(List.of(WorkRecordStatus.COMPLETED))))
-                .thenReturn(List.of(workRecord));
+                .thenReturn(List.of(summary(1L, 1, "8.0")));
         when(objectMapper.writeValueAsString(any())).thenReturn("{\"contractId\":1,\"year\":2025,\"month\":3}");
 
         // when
@@ -125,8 +122,8 @@ class PaymentDayReminderServiceTest {
 
         when(workerContractRepository.findActiveContractsByPaymentDayOnLastDay(28))
                 .thenReturn(List.of(contract));
-        when(workRecordRepository.findByContractAndDateRangeAndStatus(
-                eq(1L), any(LocalDate.class), any(LocalDate.class),
+        when(workRecordRepository.sumPayByContractIdsAndDateRangeAndStatus(
+                eq(List.of(1L)), any(LocalDate.class), any(LocalDate.class),
                 eq(List.of(WorkRecordStatus.COMPLETED))))
                 .thenReturn(Collections.emptyList());
         when(objectMapper.writeValueAsString(any())).thenReturn("{}");
@@ -148,21 +145,17 @@ class PaymentDayReminderServiceTest {
         LocalDate today = LocalDate.of(2025, 2, 27);
         when(contract.getPaymentDay()).thenReturn(31);
 
-        WorkRecord workRecord1 = mock(WorkRecord.class);
-        when(workRecord1.getTotalHours()).thenReturn(new BigDecimal("8.0"));
-        WorkRecord workRecord2 = mock(WorkRecord.class);
-        when(workRecord2.getTotalHours()).thenReturn(new BigDecimal("6.5"));
-
         when(workerContractRepository.findActiveContractsByPaymentDayOnLastDay(28))
                 .thenReturn(List.of(contract));
         // periodStart: adjustDayOfMonth(2025-01-01, 31) = 2025-01-31
         // periodEnd: adjustDayOfMonth(2025-02-01, 31).minusDays(1) = 2025-02-28 - 1 = 2025-02-27
-        when(workRecordRepository.findByContractAndDateRangeAndStatus(
-                eq(1L),
+        // 근무 2건 (8.0시간 + 6.5시간) 집계 결과
+        when(workRecordRepository.sumPayByContractIdsAndDateRangeAndStatus(
+                eq(List.of(1L)),
                 eq(LocalDate.of(2025, 1, 31)),
                 eq(LocalDate.of(2025, 2, 27)),
                 eq(List.of(WorkRecordStatus.COMPLETED))))
-                .thenReturn(List.of(workRecord1, workRecord2));
+                .thenReturn(List.of(summary(1L, 2, "14.5")));
         when(objectMapper.writeValueAsString(any())).thenReturn("{}");
 
         // when
@@ -186,8 +179,8 @@ class PaymentDayReminderServiceTest {
 
         when(workerContractRepository.findActiveContractsByExactPaymentDay(21))
                 .thenReturn(List.of(contract));
-        when(workRecordRepository.findByContractAndDateRangeAndStatus(
-                eq(1L), any(LocalDate.class), any(LocalDate.class),
+        when(workRecordRepository.sumPayByContractIdsAndDateRangeAndStatus(
+                eq(List.of(1L)), any(LocalDate.class), any(LocalDate.class),
                 eq(List.of(WorkRecordStatus.COMPLETED))))
                 .thenReturn(Collections.emptyList());
         when(objectMapper.writeValueAsString(any())).thenReturn("{}");
@@ -218,8 +211,8 @@ class PaymentDayReminderServiceTest {
 
         // then
         verify(eventPublisher, never()).publishEvent(any());
-        verify(workRecordRepository, never()).findByContractAndDateRangeAndStatus(
-                anyLong(), any(), any(), any());
+        verify(workRecordRepository, never()).sumPayByContractIdsAndDateRangeAndStatus(
+                anyList(), any(), any(), any());
     }
 
     @Test
@@ -228,23 +221,21 @@ class PaymentDayReminderServiceTest {
         // given
         LocalDate today = LocalDate.of(2025, 3, 20);
 
-        // sendReminderForContract 실행 순서: getPaymentDay → getId → getWorkplace().getName() → getWorker().getUser()
+        // 근무 기록 집계는 대상 계약 전체를 한 번에 조회한 뒤,
+        // sendReminderForContract에서 getWorkplace().getName() → getWorker().getUser() 순으로 호출됨
         // getWorkplace()가 getWorker()보다 먼저 호출되므로 getWorkplace()에서 예외를 발생시킴
         WorkerContract failingContract = mock(WorkerContract.class);
         when(failingContract.getId()).thenReturn(2L);
         when(failingContract.getPaymentDay()).thenReturn(21);
         when(failingContract.getWorkplace()).thenThrow(new RuntimeException("의도적 예외"));
 
-        WorkRecord workRecord = mock(WorkRecord.class);
-        when(workRecord.getTotalHours()).thenReturn(new BigDecimal("8.0"));
-
         when(contract.getPaymentDay()).thenReturn(21);
         when(workerContractRepository.findActiveContractsByExactPaymentDay(21))
                 .thenReturn(List.of(failingContract, contract));
-        when(workRecordRepository.findByContractAndDateRangeAndStatus(
-                eq(1L), any(LocalDate.class), any(LocalDate.class),
+        when(workRecordRepository.sumPayByContractIdsAndDateRangeAndStatus(
+                eq(List.of(2L, 1L)), any(LocalDate.class), any(LocalDate.class),
                 eq(List.of(WorkRecordStatus.COMPLETED))))
-                .thenReturn(List.of(workRecord));
+                .thenReturn(List.of(summary(1L, 1, "8.0")));
         when(objectMapper.writeValueAsString(any())).thenReturn("{}");
 
         // when
@@ -264,8 +255,8 @@ class PaymentDayReminderServiceTest {
         String expectedActionData = "{\"contractId\":1,\"year\":2025,\"month\":3}";
         when(workerContractRepository.findActiveContractsByExactPaymentDay(21))
                 .thenReturn(List.of(contract));
-        when(workRecordRepository.findByContractAndDateRangeAndStatus(
-                eq(1L), any(LocalDate.class), any(LocalDate.class),
+        when(workRecordRepository.sumPayByContractIdsAndDateRangeAndStatus(
+                eq(List.of(1L)), any(LocalDate.class), any(LocalDate.class),
                 eq(List.of(WorkRecordStatus.COMPLETED))))
                 .thenReturn(Collections.emptyList());
         when(objectMapper.writeValueAsString(any())).thenReturn(expectedActionData);
@@ -279,4 +270,48 @@ class PaymentDayReminderServiceTest {
 
         assertThat(eventCaptor.getValue().getActionData()).isEqualTo(expectedActionData);
     }
+
+    @Test
+    @DisplayName("월말에는 paymentDay별 급여 기간으로 나누어 근무 기록을 집계한다")
+    void sendPaymentDayRemindersForDate_LastDayOfMonth_AggregatesPerPaymentDay() throws Exception {
+        // given
+        // 오늘: 2025-02-27, 내일: 2025-02-28 (2월 말일) → paymentDay 28, 31 계약이 함께 대상
+        LocalDate today = LocalDate.of(2025, 2, 27);
+        when(contract.getPaymentDay()).thenReturn(31);
+
+        WorkerContract contract28 = mock(WorkerContract.class);
+        when(contract28.getId()).thenReturn(2L);
+        when(contract28.getPaymentDay()).thenReturn(28);
+        when(contract28.getWorker()).thenReturn(worker);
+        when(contract28.getWorkplace()).thenReturn(workplace);
+
+        when(workerContractRepository.findActiveContractsByPaymentDayOnLastDay(28))
+                .thenReturn(List.of(contract, contract28));
+        when(workRecordRepository.sumPayByContractIdsAndDateRangeAndStatus(
+                eq(List.of(2L)), eq(LocalDate.of(2025, 1, 28)), eq(LocalDate.of(2025, 2, 27)),
+                eq(List.of(WorkRecordStatus.COMPLETED))))
+                .thenReturn(List.of(summary(2L, 3, "12.0")));
+        when(workRecordRepository.sumPayByContractIdsAndDateRangeAndStatus(
+                eq(List.of(1L)), eq(LocalDate.of(2025, 1, 31)), eq(LocalDate.of(2025, 2, 27)),
+                eq(List.of(WorkRecordStatus.COMPLETED))))
+                .thenReturn(List.of(summary(1L, 1, "4.0")));
+        when(objectMapper.writeValueAsString(any())).thenReturn("{}");
+
+        // when
+        paymentDayReminderService.sendPaymentDayRemindersForDate(today);
+
+        // then
+        ArgumentCaptor<NotificationEvent> eventCaptor = ArgumentCaptor.forClass(NotificationEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(eventCaptor.capture());
+
+        assertThat(eventCaptor.getAllValues().get(0).getTitle()).contains("근무 1일", "총 4.0시간");
+        assertThat(eventCaptor.getAllValues().get(1).getTitle()).contains("근무 3일", "총 12.0시간");
+        verify(workRecordRepository, times(2)).sumPayByContractIdsAndDateRangeAndStatus(
+                anyList(), any(), any(), any());
+    }
+
+    private WorkRecordPaySummary summary(Long contractId, long workDays, String totalHours) {
+        return new WorkRecordPaySummary(contractId, workDays, new BigDecimal(totalHours),
+                BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO);
+    }
 }
@@ -0,0 +1,241 @@
+package com.example.paycheck.domain.salary.service;
+
+import com.example.paycheck.domain.allowance.entity.WeeklyAllowance;
+import com.example.paycheck.domain.allowance.repository.WeeklyAllowanceRepository;
+import com.example.paycheck.domain.contract.entity.WorkerContract;
+import com.example.paycheck.domain.salary.dto.PayrollRunDto;
+import com.example.paycheck.domain.salary.dto.SalaryVersion;
+import com.example.paycheck.domain.salary.entity.Salary;
+import com.example.paycheck.domain.salary.repository.SalaryRepository;
+import com.example.paycheck.domain.salary.util.DeductionCalculator;
+import com.example.paycheck.domain.salary.util.MonthlySalaryCalculator;
+import com.example.paycheck.domain.salary.util.WorkRecordPayTotals;
+import com.example.paycheck.domain.user.entity.User;
+import com.example.paycheck.domain.worker.entity.Worker;
+import com.example.paycheck.domain.workrecord.dto.WorkRecordPaySummary;
+import com.example.paycheck.domain.workrecord.enums.WorkRecordStatus;
+import com.example.paycheck.domain.workrecord.repository.WorkRecordRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PayrollRunService 테스트")
+class PayrollRunServiceTest {
+
+    private static final Long WORKPLACE_ID = 1L;
+
+    @Mock
+    private WorkRecordRepository workRecordRepository;
+
+    @Mock
+    private WeeklyAllowanceRepository weeklyAllowanceRepository;
+
+    @Mock
+    private SalaryRepository salaryRepository;
+
+    @InjectMocks
+    private PayrollRunService payrollRunService;
+
+    @Test
+    @DisplayName("사업장 일괄 계산 - 근무 기록은 월급날별 합계만 집계하고, 급여는 계약별 UPSERT로 저장")
+    void runMonthlyPayroll_AggregatesByPaymentDayAndUpserts() {
+        // given
+        WorkerContract contract = contract(10L, 10, "홍길동");
+        WorkerContract idleContract = mock(WorkerContract.class);
+        when(idleContract.getId()).thenReturn(11L);
+
+        when(workRecordRepository.findContractsByWorkplaceId(WORKPLACE_ID)).thenReturn(List.of(contract, idleContract));
+        when(workRecordRepository.findPaymentDaysByWorkplaceId(WORKPLACE_ID)).thenReturn(List.of(10));
+        // 월급날 10일의 3월 급여 기간: 2/10 ~ 3/9
+        when(workRecordRepository.sumPayByWorkplaceAndPaymentDayAndDateRange(
+                WORKPLACE_ID, 10, LocalDate.of(2024, 2, 10), LocalDate.of(2024, 3, 9), WorkRecordStatus.DELETED))
+                .thenReturn(List.of(summary(10L, "80000")));
+        when(weeklyAllowanceRepository.findByWorkplaceIdAndCreatedAtRange(
+                WORKPLACE_ID, LocalDateTime.of(2024, 2, 1, 0, 0), LocalDateTime.of(2024, 4, 1, 0, 0)))
+                .thenReturn(List.of());
+        when(salaryRepository.upsertAll(anyList(), anyMap())).thenAnswer(invocation -> upsertedAll(invocation.getArgument(0), 0L));
+
+        // when
+        PayrollRunDto.Response response = payrollRunService.runMonthlyPayroll(WORKPLACE_ID, 2024, 3);
+
+        // then
+        assertThat(response.getCalculatedCount()).isEqualTo(1);
+        assertThat(response.getCreatedCount()).isEqualTo(1);
+        assertThat(response.getUpdatedCount()).isZero();
+        assertThat(response.getSkippedContractIds()).containsExactly(11L);
+        assertThat(response.getSalaries()).hasSize(1);
+        assertThat(response.getSalaries().get(0).getWorkerName()).isEqualTo("홍길동");
+        assertThat(response.getTotalGrossPay()).isEqualByComparingTo("80000");
+
+        MonthlySalaryCalculator.Result expected = MonthlySalaryCalculator.calculate(
+                contract, 2024, 3, WorkRecordPayTotals.from(summary(10L, "80000")), List.of(), List.of());
+        assertThat(response.getTotalNetPay()).isEqualByComparingTo(expected.netPay);
+
+        ArgumentCaptor<List<Salary>> captor = salariesCaptor();
+        verify(salaryRepository).upsertAll(captor.capture(), anyMap());
+        assertThat(captor.getValue()).singleElement()
+                .satisfies(salary -> assertThat(salary.getContract()).isSameAs(contract));
+        verify(salaryRepository, never()).upsert(any(), any());
+        verify(weeklyAllowanceRepository, times(1)).findByWorkplaceIdAndCreatedAtRange(any(), any(), any());
+        verify(workRecordRepository, never()).findContractsWithWorkerUserByIdIn(anyList());
+    }
+
+    @Test
+    @DisplayName("사업장 일괄 계산 - 기존 급여 갱신 및 전월 마지막 주차 수당 이월")
+    void runMonthlyPayroll_UpdatesExistingAndCarriesOverAllowance() {
+        // given
+        WorkerContract contract = contract(10L, 10, "홍길동");
+
+        // 전월(2월) 생성, 2월 월급날(2/10)이 포함된 주 → 3월 급여로 이월
+        WeeklyAllowance carriedOver = allowance(contract, LocalDateTime.of(2024, 2, 12, 9, 0),
+                LocalDate.of(2024, 2, 5), LocalDate.of(2024, 2, 11), "30000");
+        // 당월(3월) 생성, 3월 월급날(3/10)이 포함된 주 → 다음 달로 이월 (제외)
+        WeeklyAllowance lastWeek = allowance(contract, LocalDateTime.of(2024, 3, 11, 9, 0),
+                LocalDate.of(2024, 3, 4), LocalDate.of(2024, 3, 10), "40000");
+
+        when(workRecordRepository.findContractsByWorkplaceId(WORKPLACE_ID)).thenReturn(List.of(contract));
+        when(workRecordRepository.findPaymentDaysByWorkplaceId(WORKPLACE_ID)).thenReturn(List.of(10));
+        when(workRecordRepository.sumPayByWorkplaceAndPaymentDayAndDateRange(any(), any(), any(), any(), any()))
+                .thenReturn(List.of(summary(10L, "80000")));
+        when(weeklyAllowanceRepository.findByWorkplaceIdAndCreatedAtRange(any(), any(), any()))
+                .thenReturn(List.of(carriedOver, lastWeek));
+        when(salaryRepository.findVersionsByWorkplaceIdAndYearAndMonth(WORKPLACE_ID, 2024, 3))
+                .thenReturn(List.of(new SalaryVersion(10L, 2L)));
+        when(salaryRepository.upsertAll(anyList(), eq(Map.of(10L, 2L))))
+                .thenAnswer(invocation -> upsertedAll(invocation.getArgument(0), 3L));
+
+        // when
+        PayrollRunDto.Response response = payrollRunService.runMonthlyPayroll(WORKPLACE_ID, 2024, 3);
+
+        // then
+        assertThat(response.getUpdatedCount()).isEqualTo(1);
+        assertThat(response.getCreatedCount()).isZero();
+
+        ArgumentCaptor<List<Salary>> captor = salariesCaptor();
+        verify(salaryRepository).upsertAll(captor.capture(), eq(Map.of(10L, 2L)));
+        Salary salary = captor.getValue().get(0);
+        assertThat(salary.getWeeklyPaidLeaveAmount()).isEqualByComparingTo("30000");
+        assertThat(salary.getTotalGrossPay()).isEqualByComparingTo("110000");
+    }
+
+    @Test
+    @DisplayName("사업장 일괄 계산 - 기간 내 근무 기록이 있는 비활성 계약은 근로자 정보와 함께 한 번에 조회")
+    void runMonthlyPayroll_IncludesInactiveContractWithWorkRecords() {
+        // given
+        WorkerContract active = contract(10L, 10, "홍길동");
+        WorkerContract inactive = contract(12L, 25, "김철수");
+
+        when(workRecordRepository.findContractsByWorkplaceId(WORKPLACE_ID)).thenReturn(List.of(active));
+        when(workRecordRepository.findPaymentDaysByWorkplaceId(WORKPLACE_ID)).thenReturn(List.of(10, 25));
+        when(workRecordRepository.sumPayByWorkplaceAndPaymentDayAndDateRange(
+                eq(WORKPLACE_ID), eq(10), any(), any(), eq(WorkRecordStatus.DELETED)))
+                .thenReturn(List.of(summary(10L, "80000")));
+        // 월급날 25일의 3월 급여 기간: 2/25 ~ 3/24
+        when(workRecordRepository.sumPayByWorkplaceAndPaymentDayAndDateRange(
+                WORKPLACE_ID, 25, LocalDate.of(2024, 2, 25), LocalDate.of(2024, 3, 24), WorkRecordStatus.DELETED))
+                .thenReturn(List.of(summary(12L, "50000")));
+        when(workRecordRepository.findContractsWithWorkerUserByIdIn(List.of(12L))).thenReturn(List.of(inactive));
+        when(weeklyAllowanceRepository.findByWorkplaceIdAndCreatedAtRange(any(), any(), any())).thenReturn(List.of());
+        when(salaryRepository.upsertAll(anyList(), anyMap())).thenAnswer(invocation -> upsertedAll(invocation.getArgument(0), 0L));
+
+        // when
+        PayrollRunDto.Response response = payrollRunService.runMonthlyPayroll(WORKPLACE_ID, 2024, 3);
+
+        // then
+        assertThat(response.getCalculatedCount()).isEqualTo(2);
+        assertThat(response.getSkippedContractIds()).isEmpty();
+        assertThat(response.getSalaries())
+                .extracting(PayrollRunDto.Item::getWorkerName)
+                .containsExactly("홍길동", "김철수");
+        assertThat(response.getTotalGrossPay()).isEqualByComparingTo("130000");
+        // 두 계약의 급여를 배치 한 번으로 저장
+        verify(salaryRepository, times(1)).upsertAll(anyList(), anyMap());
+    }
+
+    private WorkerContract contract(Long id, int paymentDay, String workerName) {
+        User user = mock(User.class);
+        when(user.getName()).thenReturn(workerName);
+        Worker worker = mock(Worker.class);
+        when(worker.getUser()).thenReturn(user);
+
+        return WorkerContract.builder()
+                .id(id)
+                .worker(worker)
+                .hourlyWage(new BigDecimal("10000"))
+                .paymentDay(paymentDay)
+                .contractStartDate(LocalDate.of(2024, 1, 1))
+                .workSchedules("[]")
+                .payrollDeductionType(DeductionCalculator.PayrollDeductionType.PART_TIME_NONE)
+                .build();
+    }
+
+    private WorkRecordPaySummary summary(Long contractId, String baseSalary) {
+        return new WorkRecordPaySummary(contractId, 1L, new BigDecimal("8.00"), new BigDecimal(baseSalary),
+                BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ArgumentCaptor<List<Salary>> salariesCaptor() {
+        return ArgumentCaptor.forClass(List.class);
+    }
+
+    private Map<Long, Salary> upsertedAll(List<Salary> salaries, Long version) {
+        Map<Long, Salary> saved = new LinkedHashMap<>();
+        for (Salary salary : salaries) {
+            saved.put(salary.getContract().getId(), upserted(salary, version));
+        }
+        return saved;
+    }
+
+    private Salary upserted(Salary salary, Long version) {
+        return Salary.builder()
+                .id(100L + salary.getContract().getId())
+                .version(version)
+                .contract(salary.getContract())
+                .year(salary.getYear())
+                .month(salary.getMonth())
+                .totalWorkHours(salary.getTotalWorkHours())
+                .totalGrossPay(salary.getTotalGrossPay())
+                .totalDeduction(salary.getTotalDeduction())
+                .netPay(salary.getNetPay())
+                .paymentDueDate(salary.getPaymentDueDate())
+                .build();
+    }
+
+    private WeeklyAllowance allowance(WorkerContract contract, LocalDateTime createdAt,
+                                      LocalDate weekStart, LocalDate weekEnd, String paidLeave) {
+        WeeklyAllowance allowance = mock(WeeklyAllowance.class);
+        when(allowance.getContract()).thenReturn(contract);
+        when(allowance.getCreatedAt()).thenReturn(createdAt);
+        when(allowance.getWeekStartDate()).thenReturn(weekStart);
+        when(allowance.getWeekEndDate()).thenReturn(weekEnd);
+        // 이월되어 제외되는 주차는 금액을 읽지 않음
+        lenient().when(allowance.getWeeklyPaidLeaveAmount()).thenReturn(new BigDecimal(paidLeave));
+        lenient().when(allowance.getOvertimeAmount()).thenReturn(BigDecimal.ZERO);
+        return allowance;
+    }
+}
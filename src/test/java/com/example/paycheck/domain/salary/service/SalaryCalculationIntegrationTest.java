@@ -7,8 +7,10 @@ import com.example.paycheck.domain.contract.entity.WorkerContract;
 import com.example.paycheck.domain.contract.repository.WorkerContractRepository;
 import com.example.paycheck.domain.employer.entity.Employer;
 import com.example.paycheck.domain.employer.repository.EmployerRepository;
+import com.example.paycheck.domain.holiday.service.HolidayCalendar;
 import com.example.paycheck.domain.holiday.service.HolidayService;
 import com.example.paycheck.domain.salary.dto.SalaryDto;
+import com.example.paycheck.domain.salary.entity.Salary;
 import com.example.paycheck.domain.salary.repository.SalaryRepository;
 import com.example.paycheck.domain.salary.util.DeductionCalculator;
 import com.example.paycheck.domain.user.entity.User;
@@ -25,6 +27,8 @@ import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
 import java.time.DayOfWeek;
@@ -32,11 +36,15 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
-import java.util.Set;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.when;
 
 @SpringBootTest
@@ -59,6 +67,9 @@ class SalaryCalculationIntegrationTest {
     @MockitoBean
     private HolidayService holidayService;
 
+    @MockitoBean
+    private HolidayCalendar holidayCalendar;
+
     // createdAt 기준으로 WeeklyAllowance를 조회하므로 현재 년/월 사용
     private final int currentYear = LocalDate.now().getYear();
     private final int currentMonth = LocalDate.now().getMonthValue();
@@ -70,11 +81,10 @@ class SalaryCalculationIntegrationTest {
     @BeforeEach
     void setUpHolidayMock() {
         // 기본적으로 주말만 휴일, 평일은 비휴일
-        when(holidayService.isPublicHoliday(any(LocalDate.class))).thenAnswer(invocation -> {
+        when(holidayCalendar.isHoliday(any(LocalDate.class))).thenAnswer(invocation -> {
             LocalDate date = invocation.getArgument(0);
             return date.getDayOfWeek().getValue() >= 6; // 토/일만 휴일
         });
-        when(holidayService.getHolidayDates(anyInt())).thenReturn(Set.of());
     }
 
     @AfterEach
@@ -349,4 +359,134 @@ class SalaryCalculationIntegrationTest {
         assertThat(secondResponse.getBasePay()).isGreaterThan(firstBasePay);
         assertThat(secondResponse.getBasePay()).isEqualByComparingTo("160000"); // 8h × 10000 × 2일
     }
+
+    @Test
+    @DisplayName("동시 최초 계산 E2E - 같은 급여를 동시에 처음 계산해도 급여는 1건만 생성되고 합계가 정확하다")
+    void concurrentFirstCalculation_E2E() throws Exception {
+        // given
+        WorkerContract contract = setupBaseData(
+                new BigDecimal("10000"), 25, false,
+                DeductionCalculator.PayrollDeductionType.PART_TIME_NONE);
+
+        LocalDate weekStart = firstMonday;
+        WeeklyAllowance allowance = createWeeklyAllowance(contract, weekStart, weekStart.plusDays(6));
+
+        // 평일 8시간 × 3일
+        createAndCalculateWorkRecord(contract, weekStart,
+                LocalTime.of(9, 0), LocalTime.of(17, 0), false, false, allowance);
+        createAndCalculateWorkRecord(contract, weekStart.plusDays(1),
+                LocalTime.of(9, 0), LocalTime.of(17, 0), false, false, allowance);
+        createAndCalculateWorkRecord(contract, weekStart.plusDays(2),
+                LocalTime.of(9, 0), LocalTime.of(17, 0), false, false, allowance);
+
+        // when - 아직 없는 같은 급여를 여러 요청이 동시에 계산 (각 요청은 별도 트랜잭션)
+        int threads = 8;
+        List<SalaryDto.Response> responses = calculateConcurrently(contract, threads);
+
+        // then - 급여 1건, 모든 요청이 같은 급여를 같은 값으로 저장하고 갱신 횟수만큼 version 증가
+        List<Salary> salaries = salaryRepository.findByContractIdAndYearAndMonth(
+                contract.getId(), currentYear, currentMonth);
+        assertThat(salaries).hasSize(1);
+        Salary salary = salaries.get(0);
+        assertThat(salary.getBasePay()).isEqualByComparingTo("240000"); // 8h × 10000 × 3일
+        assertThat(salary.getNetPay()).isEqualByComparingTo(salary.getTotalGrossPay());
+        assertThat(salary.getVersion()).isEqualTo((long) (threads - 1));
+        assertThat(responses).hasSize(threads).allSatisfy(response -> {
+            assertThat(response.getId()).isEqualTo(salary.getId());
+            assertThat(response.getTotalGrossPay()).isEqualByComparingTo(salary.getTotalGrossPay());
+        });
+    }
+
+    @Test
+    @DisplayName("저장 방식 비교 - 잠금 후 갱신/INSERT 재시도 방식과 UPSERT 방식이 동시 최초 계산에서 같은 급여를 만든다")
+    void concurrentFirstCalculation_LegacyVsUpsert(TestReporter reporter) throws Exception {
+        // given - 평일 8시간 × 3일
+        WorkerContract contract = setupBaseData(
+                new BigDecimal("10000"), 25, false,
+                DeductionCalculator.PayrollDeductionType.PART_TIME_NONE);
+
+        LocalDate weekStart = firstMonday;
+        WeeklyAllowance allowance = createWeeklyAllowance(contract, weekStart, weekStart.plusDays(6));
+        for (int day = 0; day < 3; day++) {
+            createAndCalculateWorkRecord(contract, weekStart.plusDays(day),
+                    LocalTime.of(9, 0), LocalTime.of(17, 0), false, false, allowance);
+        }
+
+        int threads = 8;
+        int rounds = 5;
+        // 프록시가 아닌 대상 빈의 설정값을 바꿔 두 방식을 같은 데이터로 번갈아 실행
+        SalaryService target = AopTestUtils.getTargetObject(salaryService);
+        try {
+            // when
+            ReflectionTestUtils.setField(target, "nativeUpsertEnabled", false);
+            long legacyNanos = measureFirstCalculationRounds(contract, threads, rounds);
+            Salary legacy = salaryRepository.findByContractIdAndYearAndMonth(
+                    contract.getId(), currentYear, currentMonth).get(0);
+
+            ReflectionTestUtils.setField(target, "nativeUpsertEnabled", true);
+            long upsertNanos = measureFirstCalculationRounds(contract, threads, rounds);
+            Salary upsert = salaryRepository.findByContractIdAndYearAndMonth(
+                    contract.getId(), currentYear, currentMonth).get(0);
+
+            // then - 두 방식 모두 급여 1건, 같은 합계 (처리량은 테스트 리포트로 비교)
+            assertThat(upsert.getBasePay()).isEqualByComparingTo(legacy.getBasePay());
+            assertThat(upsert.getTotalGrossPay()).isEqualByComparingTo(legacy.getTotalGrossPay());
+            assertThat(upsert.getNetPay()).isEqualByComparingTo(legacy.getNetPay());
+            assertThat(upsert.getBasePay()).isEqualByComparingTo("240000");
+
+            int calculations = threads * rounds;
+            reporter.publishEntry("legacy.calculationsPerSecond",
+                    String.format("%.1f", calculations * 1e9 / legacyNanos));
+            reporter.publishEntry("upsert.calculationsPerSecond",
+                    String.format("%.1f", calculations * 1e9 / upsertNanos));
+        } finally {
+            ReflectionTestUtils.setField(target, "nativeUpsertEnabled", true);
+        }
+    }
+
+    /**
+     * 매 라운드 급여를 지운 뒤 같은 급여를 동시에 처음 계산하고, 라운드마다 급여가 1건인지 확인한다.
+     *
+     * @return 전체 라운드의 계산 소요 시간(ns, 급여 삭제 시간 제외)
+     */
+    private long measureFirstCalculationRounds(WorkerContract contract, int threads, int rounds) throws Exception {
+        long elapsed = 0;
+        for (int round = 0; round < rounds; round++) {
+            salaryRepository.deleteAll();
+            long started = System.nanoTime();
+            calculateConcurrently(contract, threads);
+            elapsed += System.nanoTime() - started;
+            assertThat(salaryRepository.findByContractIdAndYearAndMonth(
+                    contract.getId(), currentYear, currentMonth)).hasSize(1);
+        }
+        return elapsed;
+    }
+
+    /**
+     * 같은 급여를 threads개의 요청이 동시에 계산 (각 요청은 별도 트랜잭션)
+     */
+    private List<SalaryDto.Response> calculateConcurrently(WorkerContract contract, int threads) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<SalaryDto.Response> responses = new ArrayList<>();
+        try {
+            List<Future<SalaryDto.Response>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    return salaryService.calculateSalaryByWorkRecords(contract.getId(), currentYear, currentMonth);
+                }));
+            }
+            assertThat(ready.await(10, TimeUnit.SECONDS)).isTrue();
+            start.countDown();
+            for (Future<SalaryDto.Response> future : futures) {
+                responses.add(future.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return responses;
+    }
 }
@@ -0,0 +1,137 @@
+package com.example.paycheck.domain.salary.service;
+
+import com.example.paycheck.common.exception.ErrorCode;
+import com.example.paycheck.common.exception.NotFoundException;
+import com.example.paycheck.domain.salary.dto.SalaryRecalculationDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SalaryRecalculationQueue 테스트")
+class SalaryRecalculationQueueTest {
+
+    @Mock
+    private SalaryService salaryService;
+
+    private SalaryRecalculationQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        queue = new SalaryRecalculationQueue(salaryService, true, 100, 3000, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        queue.shutdown();
+    }
+
+    @Test
+    @DisplayName("병합 구간 내 같은 급여 요청은 1회만 재계산하고, 하나라도 생성 대상이면 생성 허용")
+    void coalescesRequestsForSameSalary() {
+        // when
+        queue.enqueue(1L, 2024, 3, false);
+        queue.enqueue(1L, 2024, 3, true);
+        queue.enqueue(1L, 2024, 3, false);
+
+        // then
+        assertThat(queue.getStatus(1L, 2024, 3).getStatus()).isEqualTo(SalaryRecalculationDto.Status.PENDING);
+        assertThat(queue.awaitPending(1L, 2024, 3)).isTrue();
+        verify(salaryService, times(1)).recalculateSalary(1L, 2024, 3, true);
+
+        SalaryRecalculationDto.StatusResponse status = queue.getStatus(1L, 2024, 3);
+        assertThat(status.getStatus()).isEqualTo(SalaryRecalculationDto.Status.COMPLETED);
+        assertThat(status.getRequestCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("계산 중 들어온 요청은 계산이 끝난 뒤 한 번 더 재계산")
+    void rerunsWhenRequestedWhileRunning() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            started.countDown();
+            release.await(3, TimeUnit.SECONDS);
+            return null;
+        }).doNothing().when(salaryService).recalculateSalary(anyLong(), anyInt(), anyInt(), anyBoolean());
+
+        // when
+        queue.enqueue(1L, 2024, 3, true);
+        assertThat(started.await(3, TimeUnit.SECONDS)).isTrue();
+        queue.enqueue(1L, 2024, 3, false);
+        release.countDown();
+
+        // then
+        assertThat(queue.awaitPending(1L, 2024, 3)).isTrue();
+        verify(salaryService).recalculateSalary(1L, 2024, 3, true);
+        verify(salaryService).recalculateSalary(1L, 2024, 3, false);
+    }
+
+    @Test
+    @DisplayName("근무 기록이 없어 급여를 만들지 않는 경우는 실패가 아님, 그 외 예외는 FAILED 상태로 기록")
+    void recordsFailureStatus() {
+        // given
+        doThrow(new NotFoundException(ErrorCode.WORK_RECORD_NOT_FOUND, "근무 기록 없음"))
+                .when(salaryService).recalculateSalary(1L, 2024, 3, true);
+        doThrow(new IllegalStateException("급여 데이터 동시성 오류"))
+                .when(salaryService).recalculateSalary(2L, 2024, 3, true);
+
+        // when
+        queue.enqueue(1L, 2024, 3, true);
+        queue.enqueue(2L, 2024, 3, true);
+        queue.awaitPending(1L, 2024, 3);
+        queue.awaitPending(2L, 2024, 3);
+
+        // then
+        assertThat(queue.getStatus(1L, 2024, 3).getStatus()).isEqualTo(SalaryRecalculationDto.Status.COMPLETED);
+        SalaryRecalculationDto.StatusResponse failed = queue.getStatus(2L, 2024, 3);
+        assertThat(failed.getStatus()).isEqualTo(SalaryRecalculationDto.Status.FAILED);
+        // 내부 예외 메시지는 노출하지 않고 고정 문구로 기록
+        assertThat(failed.getErrorMessage())
+                .isNotBlank()
+                .doesNotContain("급여 데이터 동시성 오류");
+    }
+
+    @Test
+    @DisplayName("종료 중이라 재계산을 등록하지 못하면 PENDING으로 남기지 않고 FAILED로 종료")
+    void failsWhenSchedulingRejected() {
+        // given
+        queue.shutdown();
+
+        // when
+        queue.enqueue(1L, 2024, 3, true);
+
+        // then
+        SalaryRecalculationDto.StatusResponse status = queue.getStatus(1L, 2024, 3);
+        assertThat(status.getStatus()).isEqualTo(SalaryRecalculationDto.Status.FAILED);
+        assertThat(status.getErrorMessage()).isNotBlank();
+        assertThat(status.getCompletedAt()).isNotNull();
+        assertThat(queue.awaitPending(1L, 2024, 3)).isFalse();
+        verify(salaryService, never()).recalculateSalary(anyLong(), anyInt(), anyInt(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("요청이 없는 급여는 IDLE, 대기 없이 반환")
+    void idleWhenNothingPending() {
+        assertThat(queue.getStatus(1L, 2024, 3).getStatus()).isEqualTo(SalaryRecalculationDto.Status.IDLE);
+        assertThat(queue.awaitPending(1L, 2024, 3)).isFalse();
+    }
+}
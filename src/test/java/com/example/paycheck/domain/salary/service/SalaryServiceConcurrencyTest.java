@@ -9,17 +9,20 @@ import com.example.paycheck.domain.salary.util.DeductionCalculator;
 import com.example.paycheck.domain.user.entity.User;
 import com.example.paycheck.domain.worker.entity.Worker;
 import com.example.paycheck.domain.workplace.entity.Workplace;
-import com.example.paycheck.domain.workrecord.entity.WorkRecord;
+import com.example.paycheck.domain.workrecord.dto.WorkRecordPaySummary;
 import com.example.paycheck.domain.workrecord.enums.WorkRecordStatus;
 import com.example.paycheck.domain.workrecord.repository.WorkRecordRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -53,7 +56,7 @@ class SalaryServiceConcurrencyTest {
     private SalaryService salaryService;
 
     private WorkerContract mockContract;
-    private WorkRecord mockWorkRecord;
+    private WorkRecordPaySummary workRecordSummary;
 
     @BeforeEach
     void setUp() {
@@ -77,13 +80,9 @@ class SalaryServiceConcurrencyTest {
         when(mockContract.getWorker()).thenReturn(worker);
         when(mockContract.getWorkplace()).thenReturn(workplace);
 
-        // Mock WorkRecord 설정
-        mockWorkRecord = mock(WorkRecord.class);
-        when(mockWorkRecord.getTotalHours()).thenReturn(new BigDecimal("8"));
-        when(mockWorkRecord.getBaseSalary()).thenReturn(new BigDecimal("100000"));
-        when(mockWorkRecord.getNightSalary()).thenReturn(BigDecimal.ZERO);
-        when(mockWorkRecord.getHolidaySalary()).thenReturn(BigDecimal.ZERO);
-        when(mockWorkRecord.getOvertimeSalary()).thenReturn(BigDecimal.ZERO);
+        // 근무 기록 집계 결과 설정 (8시간, 기본급 100,000원 1건)
+        workRecordSummary = new WorkRecordPaySummary(1L, 1L, new BigDecimal("8"), new BigDecimal("100000"),
+                BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO);
     }
 
     @Test
@@ -95,8 +94,8 @@ class SalaryServiceConcurrencyTest {
         Integer month = 5;
 
         when(workerContractRepository.findById(contractId)).thenReturn(Optional.of(mockContract));
-        when(workRecordRepository.findByContractAndDateRange(eq(contractId), any(LocalDate.class), any(LocalDate.class), any(WorkRecordStatus.class)))
-                .thenReturn(Collections.singletonList(mockWorkRecord));
+        when(workRecordRepository.sumPayByContractAndDateRange(eq(contractId), any(LocalDate.class), any(LocalDate.class), any(WorkRecordStatus.class)))
+                .thenReturn(Optional.of(workRecordSummary));
         when(weeklyAllowanceRepository.findByContractIdAndYearMonth(eq(contractId), anyInt(), anyInt()))
                 .thenReturn(Collections.emptyList());
 
@@ -143,8 +142,8 @@ class SalaryServiceConcurrencyTest {
         Integer month = 5;
 
         when(workerContractRepository.findById(contractId)).thenReturn(Optional.of(mockContract));
-        when(workRecordRepository.findByContractAndDateRange(eq(contractId), any(LocalDate.class), any(LocalDate.class), any(WorkRecordStatus.class)))
-                .thenReturn(Collections.singletonList(mockWorkRecord));
+        when(workRecordRepository.sumPayByContractAndDateRange(eq(contractId), any(LocalDate.class), any(LocalDate.class), any(WorkRecordStatus.class)))
+                .thenReturn(Optional.of(workRecordSummary));
         when(weeklyAllowanceRepository.findByContractIdAndYearMonth(eq(contractId), anyInt(), anyInt()))
                 .thenReturn(Collections.emptyList());
 
@@ -195,8 +194,8 @@ class SalaryServiceConcurrencyTest {
         Integer month = 5;
 
         when(workerContractRepository.findById(contractId)).thenReturn(Optional.of(mockContract));
-        when(workRecordRepository.findByContractAndDateRange(eq(contractId), any(LocalDate.class), any(LocalDate.class), any(WorkRecordStatus.class)))
-                .thenReturn(Collections.singletonList(mockWorkRecord));
+        when(workRecordRepository.sumPayByContractAndDateRange(eq(contractId), any(LocalDate.class), any(LocalDate.class), any(WorkRecordStatus.class)))
+                .thenReturn(Optional.of(workRecordSummary));
         when(weeklyAllowanceRepository.findByContractIdAndYearMonth(eq(contractId), anyInt(), anyInt()))
                 .thenReturn(Collections.emptyList());
 
@@ -247,8 +246,8 @@ class SalaryServiceConcurrencyTest {
         Integer month = 5;
 
         when(workerContractRepository.findById(contractId)).thenReturn(Optional.of(mockContract));
-        when(workRecordRepository.findByContractAndDateRange(eq(contractId), any(LocalDate.class), any(LocalDate.class), any(WorkRecordStatus.class)))
-                .thenReturn(Collections.singletonList(mockWorkRecord));
+        when(workRecordRepository.sumPayByContractAndDateRange(eq(contractId), any(LocalDate.class), any(LocalDate.class), any(WorkRecordStatus.class)))
+                .thenReturn(Optional.of(workRecordSummary));
         when(weeklyAllowanceRepository.findByContractIdAndYearMonth(eq(contractId), anyInt(), anyInt()))
                 .thenReturn(Collections.emptyList());
 
@@ -288,4 +287,64 @@ class SalaryServiceConcurrencyTest {
         assertThat(existingSalary.getTotalWorkHours()).isEqualByComparingTo("8");
         assertThat(existingSalary.getBasePay()).isEqualByComparingTo("100000");
     }
+
+    @Test
+    @DisplayName("UPSERT 경로는 존재 확인/잠금 조회/REQUIRES_NEW 저장 없이 단일 UPSERT로 저장한다")
+    void calculateSalaryByWorkRecords_NativeUpsert_SingleStatement() {
+        // given
+        ReflectionTestUtils.setField(salaryService, "nativeUpsertEnabled", true);
+        Long contractId = 1L;
+        Integer year = 2024;
+        Integer month = 5;
+
+        when(workerContractRepository.findById(contractId)).thenReturn(Optional.of(mockContract));
+        when(workRecordRepository.sumPayByContractAndDateRange(eq(contractId), any(LocalDate.class), any(LocalDate.class), any(WorkRecordStatus.class)))
+                .thenReturn(Optional.of(workRecordSummary));
+        when(weeklyAllowanceRepository.findByContractIdAndYearMonth(eq(contractId), anyInt(), anyInt()))
+                .thenReturn(Collections.emptyList());
+        when(salaryRepository.findVersionByContractIdAndYearAndMonth(contractId, year, month)).thenReturn(Optional.of(3L));
+        when(salaryRepository.upsert(any(Salary.class), eq(3L))).thenAnswer(invocation -> saved(invocation.getArgument(0)));
+
+        // when
+        var response = salaryService.calculateSalaryByWorkRecords(contractId, year, month);
+
+        // then - 합계 조회 전에 읽은 version을 UPSERT에 전달
+        InOrder inOrder = inOrder(salaryRepository, workRecordRepository);
+        inOrder.verify(salaryRepository).findVersionByContractIdAndYearAndMonth(contractId, year, month);
+        inOrder.verify(workRecordRepository).sumPayByContractAndDateRange(
+                eq(contractId), any(LocalDate.class), any(LocalDate.class), any(WorkRecordStatus.class));
+
+        ArgumentCaptor<Salary> captor = ArgumentCaptor.forClass(Salary.class);
+        verify(salaryRepository).upsert(captor.capture(), eq(3L));
+        assertThat(captor.getValue().getContract()).isSameAs(mockContract);
+        assertThat(captor.getValue().getBasePay()).isEqualByComparingTo("100000");
+        assertThat(captor.getValue().getIncrementallyUpdated()).isFalse();
+
+        verify(salaryRepository, never()).findByContractIdAndYearAndMonth(any(), any(), any());
+        verify(salaryRepository, never()).findByContractIdAndYearAndMonthForUpdate(any(), any(), any());
+        verify(salaryPersistenceService, never()).trySave(any(Salary.class));
+        assertThat(response.getId()).isEqualTo(10L);
+        assertThat(response.getMonth()).isEqualTo(month);
+    }
+
+    private Salary saved(Salary salary) {
+        return Salary.builder()
+                .id(10L)
+                .contract(salary.getContract())
+                .year(salary.getYear())
+                .month(salary.getMonth())
+                .totalWorkHours(salary.getTotalWorkHours())
+                .basePay(salary.getBasePay())
+                .overtimePay(salary.getOvertimePay())
+                .nightPay(salary.getNightPay())
+                .holidayPay(salary.getHolidayPay())
+                .totalGrossPay(salary.getTotalGrossPay())
+                .fourMajorInsurance(salary.getFourMajorInsurance())
+                .incomeTax(salary.getIncomeTax())
+                .localIncomeTax(salary.getLocalIncomeTax())
+                .totalDeduction(salary.getTotalDeduction())
+                .netPay(salary.getNetPay())
+                .paymentDueDate(salary.getPaymentDueDate())
+                .build();
+    }
 }
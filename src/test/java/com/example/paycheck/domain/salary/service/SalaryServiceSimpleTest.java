@@ -9,7 +9,9 @@ import com.example.paycheck.domain.salary.dto.SalaryDto;
 import com.example.paycheck.domain.salary.entity.Salary;
 import com.example.paycheck.domain.salary.repository.SalaryRepository;
 import com.example.paycheck.domain.salary.util.DeductionCalculator;
+import com.example.paycheck.domain.salary.util.WorkRecordPayTotals;
 import com.example.paycheck.domain.workplace.entity.Workplace;
+import com.example.paycheck.domain.workrecord.dto.WorkRecordPaySummary;
 import com.example.paycheck.domain.workrecord.entity.WorkRecord;
 import com.example.paycheck.domain.workrecord.enums.WorkRecordStatus;
 import com.example.paycheck.domain.workrecord.repository.WorkRecordRepository;
@@ -119,8 +121,8 @@ class SalaryServiceSimpleTest {
         Integer month = 12;
 
         when(workerContractRepository.findById(contractId)).thenReturn(Optional.of(testContract));
-        when(workRecordRepository.findByContractAndDateRange(eq(contractId), any(LocalDate.class), any(LocalDate.class), any(WorkRecordStatus.class)))
-                .thenReturn(Collections.emptyList());
+        when(workRecordRepository.sumPayByContractAndDateRange(eq(contractId), any(LocalDate.class), any(LocalDate.class), any(WorkRecordStatus.class)))
+                .thenReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> salaryService.calculateSalaryByWorkRecords(contractId, year, month))
@@ -128,7 +130,7 @@ class SalaryServiceSimpleTest {
                 .hasMessageContaining("해당 기간 내 근무 기록이 없습니다");
 
         verify(workerContractRepository).findById(contractId);
-        verify(workRecordRepository).findByContractAndDateRange(eq(contractId), any(LocalDate.class), any(LocalDate.class), any(WorkRecordStatus.class));
+        verify(workRecordRepository).sumPayByContractAndDateRange(eq(contractId), any(LocalDate.class), any(LocalDate.class), any(WorkRecordStatus.class));
     }
 
     @Test
@@ -170,8 +172,9 @@ class SalaryServiceSimpleTest {
         when(workRecord.getHolidaySalary()).thenReturn(BigDecimal.ZERO);
         when(workRecord.getOvertimeSalary()).thenReturn(BigDecimal.ZERO);
 
-        when(workRecordRepository.findByContractAndDateRange(eq(contractId), eq(febStart), eq(febEnd), any(WorkRecordStatus.class)))
-                .thenReturn(Collections.singletonList(workRecord));
+        Optional<WorkRecordPaySummary> workRecordSummary = summaryOf(contractId, Collections.singletonList(workRecord));
+        when(workRecordRepository.sumPayByContractAndDateRange(eq(contractId), eq(febStart), eq(febEnd), any(WorkRecordStatus.class)))
+                .thenReturn(workRecordSummary);
 
         when(weeklyAllowanceRepository.findByContractIdAndYearMonth(eq(contractId), anyInt(), anyInt()))
                 .thenReturn(Collections.emptyList());
@@ -183,7 +186,7 @@ class SalaryServiceSimpleTest {
         salaryService.calculateSalaryByWorkRecords(contractId, year, month);
 
         // then
-        verify(workRecordRepository).findByContractAndDateRange(eq(contractId), eq(febStart), eq(febEnd), any(WorkRecordStatus.class));
+        verify(workRecordRepository).sumPayByContractAndDateRange(eq(contractId), eq(febStart), eq(febEnd), any(WorkRecordStatus.class));
         verify(weeklyAllowanceRepository).findByContractIdAndYearMonth(eq(contractId), eq(2024), eq(2));
         verify(salaryPersistenceService).trySave(argThat(saved ->
                 saved.getPaymentDueDate().equals(LocalDate.of(2024, 2, 29))));
@@ -225,8 +228,9 @@ class SalaryServiceSimpleTest {
         when(workRecord.getHolidaySalary()).thenReturn(BigDecimal.ZERO);
         when(workRecord.getOvertimeSalary()).thenReturn(BigDecimal.ZERO);
 
-        when(workRecordRepository.findByContractAndDateRange(eq(contractId), any(LocalDate.class), any(LocalDate.class), any(WorkRecordStatus.class)))
-                .thenReturn(Collections.singletonList(workRecord));
+        Optional<WorkRecordPaySummary> workRecordSummary = summaryOf(contractId, Collections.singletonList(workRecord));
+        when(workRecordRepository.sumPayByContractAndDateRange(eq(contractId), any(LocalDate.class), any(LocalDate.class), any(WorkRecordStatus.class)))
+                .thenReturn(workRecordSummary);
         when(weeklyAllowanceRepository.findByContractIdAndYearMonth(eq(contractId), anyInt(), anyInt()))
                 .thenReturn(Collections.emptyList());
 
@@ -260,7 +264,7 @@ class SalaryServiceSimpleTest {
         // then
         verify(salaryRepository, never()).save(any(Salary.class));
         verify(salaryRepository).findByContractIdAndYearAndMonthForUpdate(contractId, year, month);
-        verify(workRecordRepository).findByContractAndDateRange(eq(contractId), any(LocalDate.class), any(LocalDate.class), any(WorkRecordStatus.class));
+        verify(workRecordRepository).sumPayByContractAndDateRange(eq(contractId), any(LocalDate.class), any(LocalDate.class), any(WorkRecordStatus.class));
 
         assertThat(existingSalary.getPaymentDueDate()).isEqualTo(LocalDate.of(2024, 5, 10));
         assertThat(existingSalary.getTotalWorkHours()).isEqualByComparingTo("8");
@@ -308,8 +312,9 @@ class SalaryServiceSimpleTest {
         when(workRecord.getHolidaySalary()).thenReturn(BigDecimal.ZERO);
         when(workRecord.getOvertimeSalary()).thenReturn(BigDecimal.ZERO);
 
-        when(workRecordRepository.findByContractAndDateRange(eq(contractId), eq(startDate), eq(endDate), any(WorkRecordStatus.class)))
-                .thenReturn(List.of(workRecord));
+        Optional<WorkRecordPaySummary> workRecordSummary = summaryOf(contractId, List.of(workRecord));
+        when(workRecordRepository.sumPayByContractAndDateRange(eq(contractId), eq(startDate), eq(endDate), any(WorkRecordStatus.class)))
+                .thenReturn(workRecordSummary);
 
         WeeklyAllowance includedCurrent = mock(WeeklyAllowance.class);
         when(includedCurrent.getWeekStartDate()).thenReturn(LocalDate.of(2024, 3, 4));
@@ -344,7 +349,7 @@ class SalaryServiceSimpleTest {
         assertThat(response.getOvertimePay()).isEqualByComparingTo(new BigDecimal("22000.00"));
         assertThat(response.getPaymentDueDate()).isEqualTo("2024-03-25");
 
-        verify(workRecordRepository).findByContractAndDateRange(eq(contractId), eq(startDate), eq(endDate), any(WorkRecordStatus.class));
+        verify(workRecordRepository).sumPayByContractAndDateRange(eq(contractId), eq(startDate), eq(endDate), any(WorkRecordStatus.class));
         verify(weeklyAllowanceRepository).findByContractIdAndYearMonth(contractId, year, month);
         verify(weeklyAllowanceRepository).findByContractIdAndYearMonth(contractId, 2024, 2);
     }
@@ -376,10 +381,22 @@ class SalaryServiceSimpleTest {
         return contract;
     }
 
+    // 근무 기록 목록을 DB 집계 쿼리 결과로 변환 (sumPayByContractAndDateRange 스텁용)
+    private Optional<WorkRecordPaySummary> summaryOf(Long contractId, List<WorkRecord> workRecords) {
+        WorkRecordPayTotals totals = WorkRecordPayTotals.zero();
+        for (WorkRecord workRecord : workRecords) {
+            totals = totals.add(WorkRecordPayTotals.of(workRecord));
+        }
+        return Optional.of(new WorkRecordPaySummary(contractId, (long) workRecords.size(),
+                totals.getTotalWorkHours(), totals.getTotalBasePay(), totals.getTotalNightPay(),
+                totals.getTotalHolidayPay(), totals.getTotalDailyOvertimePay()));
+    }
+
     private void setupCommonMocks(Long contractId, WorkerContract contract, List<WorkRecord> workRecords, List<WeeklyAllowance> currentAllowances, List<WeeklyAllowance> previousAllowances, Integer year, Integer month) {
         when(workerContractRepository.findById(contractId)).thenReturn(Optional.of(contract));
-        when(workRecordRepository.findByContractAndDateRange(eq(contractId), any(LocalDate.class), any(LocalDate.class), any(WorkRecordStatus.class)))
-                .thenReturn(workRecords);
+        Optional<WorkRecordPaySummary> workRecordSummary = summaryOf(contractId, workRecords);
+        when(workRecordRepository.sumPayByContractAndDateRange(eq(contractId), any(LocalDate.class), any(LocalDate.class), any(WorkRecordStatus.class)))
+                .thenReturn(workRecordSummary);
         // 당월 WeeklyAllowance
         when(weeklyAllowanceRepository.findByContractIdAndYearMonth(eq(contractId), eq(year), eq(month)))
                 .thenReturn(currentAllowances);
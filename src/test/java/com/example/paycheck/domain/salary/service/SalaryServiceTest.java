@@ -8,10 +8,11 @@ import com.example.paycheck.domain.contract.repository.WorkerContractRepository;
 import com.example.paycheck.domain.salary.entity.Salary;
 import com.example.paycheck.domain.salary.repository.SalaryRepository;
 import com.example.paycheck.domain.salary.util.DeductionCalculator;
+import com.example.paycheck.domain.salary.util.WorkRecordPayTotals;
 import com.example.paycheck.domain.user.entity.User;
 import com.example.paycheck.domain.worker.entity.Worker;
 import com.example.paycheck.domain.workplace.entity.Workplace;
-import com.example.paycheck.domain.workrecord.entity.WorkRecord;
+import com.example.paycheck.domain.workrecord.dto.WorkRecordPaySummary;
 import com.example.paycheck.domain.workrecord.enums.WorkRecordStatus;
 import com.example.paycheck.domain.workrecord.repository.WorkRecordRepository;
 import org.junit.jupiter.api.DisplayName;
@@ -146,14 +147,14 @@ class SalaryServiceTest {
         WorkerContract contract = mock(WorkerContract.class);
         when(contract.getPaymentDay()).thenReturn(25);
         when(workerContractRepository.findById(contractId)).thenReturn(Optional.of(contract));
-        when(workRecordRepository.findByContractAndDateRange(anyLong(), any(), any(), any(WorkRecordStatus.class)))
-                .thenReturn(Arrays.asList());
+        when(workRecordRepository.sumPayByContractAndDateRange(anyLong(), any(), any(), any(WorkRecordStatus.class)))
+                .thenReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> salaryService.calculateSalaryByWorkRecords(contractId, 2024, 1))
                 .isInstanceOf(NotFoundException.class)
                 .hasMessageContaining("해당 기간 내 근무 기록이 없습니다");
-        verify(workRecordRepository).findByContractAndDateRange(anyLong(), any(), any(), any(WorkRecordStatus.class));
+        verify(workRecordRepository).sumPayByContractAndDateRange(anyLong(), any(), any(), any(WorkRecordStatus.class));
     }
 
     @Test
@@ -164,8 +165,8 @@ class SalaryServiceTest {
         WorkerContract contract = mock(WorkerContract.class);
         when(contract.getPaymentDay()).thenReturn(25);
         when(workerContractRepository.findById(contractId)).thenReturn(Optional.of(contract));
-        when(workRecordRepository.findByContractAndDateRange(anyLong(), any(), any(), any(WorkRecordStatus.class)))
-                .thenReturn(Arrays.asList());
+        when(workRecordRepository.sumPayByContractAndDateRange(anyLong(), any(), any(), any(WorkRecordStatus.class)))
+                .thenReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> salaryService.recalculateSalaryAfterWorkRecordUpdate(contractId, 2024, 1))
@@ -189,18 +190,18 @@ class SalaryServiceTest {
         when(contract.getPaymentDay()).thenReturn(31);
         when(workerContractRepository.findById(contractId)).thenReturn(Optional.of(contract));
 
-        when(workRecordRepository.findByContractAndDateRange(
+        when(workRecordRepository.sumPayByContractAndDateRange(
                 eq(contractId),
                 eq(LocalDate.of(2024, 1, 31)),
                 eq(LocalDate.of(2024, 2, 28)),
                 eq(WorkRecordStatus.DELETED)))
-                .thenReturn(Arrays.asList());
+                .thenReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> salaryService.calculateSalaryByWorkRecords(contractId, 2024, 2))
                 .isInstanceOf(NotFoundException.class);
 
-        verify(workRecordRepository).findByContractAndDateRange(
+        verify(workRecordRepository).sumPayByContractAndDateRange(
                 eq(contractId),
                 eq(LocalDate.of(2024, 1, 31)),
                 eq(LocalDate.of(2024, 2, 28)),
@@ -219,18 +220,18 @@ class SalaryServiceTest {
         when(contract.getPaymentDay()).thenReturn(31);
         when(workerContractRepository.findById(contractId)).thenReturn(Optional.of(contract));
 
-        when(workRecordRepository.findByContractAndDateRange(
+        when(workRecordRepository.sumPayByContractAndDateRange(
                 eq(contractId),
                 eq(LocalDate.of(2023, 1, 31)),
                 eq(LocalDate.of(2023, 2, 27)),
                 eq(WorkRecordStatus.DELETED)))
-                .thenReturn(Arrays.asList());
+                .thenReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> salaryService.calculateSalaryByWorkRecords(contractId, 2023, 2))
                 .isInstanceOf(NotFoundException.class);
 
-        verify(workRecordRepository).findByContractAndDateRange(
+        verify(workRecordRepository).sumPayByContractAndDateRange(
                 eq(contractId),
                 eq(LocalDate.of(2023, 1, 31)),
                 eq(LocalDate.of(2023, 2, 27)),
@@ -249,18 +250,18 @@ class SalaryServiceTest {
         when(contract.getPaymentDay()).thenReturn(30);
         when(workerContractRepository.findById(contractId)).thenReturn(Optional.of(contract));
 
-        when(workRecordRepository.findByContractAndDateRange(
+        when(workRecordRepository.sumPayByContractAndDateRange(
                 eq(contractId),
                 eq(LocalDate.of(2024, 1, 30)),
                 eq(LocalDate.of(2024, 2, 28)),
                 eq(WorkRecordStatus.DELETED)))
-                .thenReturn(Arrays.asList());
+                .thenReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> salaryService.calculateSalaryByWorkRecords(contractId, 2024, 2))
                 .isInstanceOf(NotFoundException.class);
 
-        verify(workRecordRepository).findByContractAndDateRange(
+        verify(workRecordRepository).sumPayByContractAndDateRange(
                 eq(contractId),
                 eq(LocalDate.of(2024, 1, 30)),
                 eq(LocalDate.of(2024, 2, 28)),
@@ -293,17 +294,13 @@ class SalaryServiceTest {
 
         when(workerContractRepository.findById(contractId)).thenReturn(Optional.of(contract));
 
-        // 급여가 모두 0인 WorkRecord 생성
-        WorkRecord zeroRecord = mock(WorkRecord.class);
-        when(zeroRecord.getTotalHours()).thenReturn(BigDecimal.ZERO);
-        when(zeroRecord.getBaseSalary()).thenReturn(BigDecimal.ZERO);
-        when(zeroRecord.getNightSalary()).thenReturn(BigDecimal.ZERO);
-        when(zeroRecord.getHolidaySalary()).thenReturn(BigDecimal.ZERO);
-        when(zeroRecord.getOvertimeSalary()).thenReturn(BigDecimal.ZERO);
+        // 급여가 모두 0인 근무 기록 1건의 집계 결과
+        WorkRecordPaySummary zeroSummary = new WorkRecordPaySummary(contractId, 1L,
+                BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO);
 
-        when(workRecordRepository.findByContractAndDateRange(
+        when(workRecordRepository.sumPayByContractAndDateRange(
                 eq(contractId), any(LocalDate.class), any(LocalDate.class), eq(WorkRecordStatus.DELETED)))
-                .thenReturn(Arrays.asList(zeroRecord));
+                .thenReturn(Optional.of(zeroSummary));
 
         // WeeklyAllowance 빈 리스트 반환
         when(weeklyAllowanceRepository.findByContractIdAndYearMonth(anyLong(), anyInt(), anyInt()))
@@ -330,4 +327,127 @@ class SalaryServiceTest {
                     && salary.getNetPay().compareTo(BigDecimal.ZERO) == 0;
         }));
     }
+
+    @Test
+    @DisplayName("근무 기록 변경분 증분 반영 - 기간 합산 없이 저장된 합계에 변경분만 더하고 검증 대상으로 표시")
+    void applyWorkRecordDelta_AddsDeltaToStoredTotals() {
+        // given
+        Long contractId = 1L;
+        WorkerContract contract = deltaContract(contractId);
+        Salary salary = Salary.builder()
+                .id(100L)
+                .contract(contract)
+                .year(2024)
+                .month(2)
+                .totalWorkHours(new BigDecimal("8.00"))
+                .basePay(new BigDecimal("80000"))
+                .overtimePay(new BigDecimal("5000"))   // 일일 연장 가산분만 존재
+                .nightPay(BigDecimal.ZERO)
+                .holidayPay(BigDecimal.ZERO)
+                .weeklyPaidLeaveAmount(BigDecimal.ZERO)
+                .weeklyOvertimePay(BigDecimal.ZERO)
+                .build();
+
+        WorkRecordPayTotals delta = new WorkRecordPayTotals(
+                new BigDecimal("1.00"), new BigDecimal("10000"), BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO);
+
+        when(salaryRepository.findByContractIdAndYearAndMonth(contractId, 2024, 2)).thenReturn(List.of(salary));
+        when(salaryRepository.findByContractIdAndYearAndMonthForUpdate(contractId, 2024, 2)).thenReturn(Optional.of(salary));
+        when(weeklyAllowanceRepository.findByContractIdAndYearMonth(eq(contractId), anyInt(), anyInt())).thenReturn(List.of());
+
+        // when
+        salaryService.applyWorkRecordDelta(contractId, 2024, 2, delta, true);
+
+        // then
+        assertThat(salary.getTotalWorkHours()).isEqualByComparingTo("9.00");
+        assertThat(salary.getBasePay()).isEqualByComparingTo("90000");
+        assertThat(salary.getOvertimePay()).isEqualByComparingTo("5000");
+        assertThat(salary.getTotalGrossPay()).isEqualByComparingTo("95000");
+        assertThat(salary.getNetPay()).isEqualByComparingTo("95000");
+        assertThat(salary.getIncrementallyUpdated()).isTrue();
+        verify(workRecordRepository, never()).sumPayByContractAndDateRange(anyLong(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("근무 기록 변경분 증분 반영 - 급여가 없고 생성 대상이 아니면 아무것도 하지 않음")
+    void applyWorkRecordDelta_NoSalary_Skips() {
+        // given
+        when(salaryRepository.findByContractIdAndYearAndMonth(1L, 2024, 2)).thenReturn(List.of());
+
+        // when
+        salaryService.applyWorkRecordDelta(1L, 2024, 2, WorkRecordPayTotals.zero(), false);
+
+        // then
+        verify(salaryRepository, never()).findByContractIdAndYearAndMonthForUpdate(anyLong(), anyInt(), anyInt());
+        verifyNoInteractions(workerContractRepository, workRecordRepository, salaryPersistenceService);
+    }
+
+    @Test
+    @DisplayName("급여 정합성 검증 - 증분 반영 값이 재계산 값과 다르면 보정하고 불일치를 보고")
+    void reconcileSalary_DriftCorrected() {
+        // given
+        Long contractId = 1L;
+        WorkerContract contract = deltaContract(contractId);
+        Salary salary = Salary.builder()
+                .id(100L)
+                .contract(contract)
+                .year(2024)
+                .month(2)
+                .totalWorkHours(new BigDecimal("8.00"))
+                .basePay(new BigDecimal("70000"))
+                .overtimePay(BigDecimal.ZERO)
+                .nightPay(BigDecimal.ZERO)
+                .holidayPay(BigDecimal.ZERO)
+                .weeklyPaidLeaveAmount(BigDecimal.ZERO)
+                .weeklyOvertimePay(BigDecimal.ZERO)
+                .totalGrossPay(new BigDecimal("70000"))
+                .totalDeduction(BigDecimal.ZERO)
+                .netPay(new BigDecimal("70000"))
+                .incrementallyUpdated(true)
+                .build();
+
+        WorkRecordPaySummary summary = new WorkRecordPaySummary(contractId, 1L,
+                new BigDecimal("8.00"), new BigDecimal("80000"), BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO);
+
+        when(salaryRepository.findByIdForUpdate(100L)).thenReturn(Optional.of(salary));
+        when(workRecordRepository.sumPayByContractAndDateRange(
+                contractId, LocalDate.of(2024, 1, 25), LocalDate.of(2024, 2, 24), WorkRecordStatus.DELETED))
+                .thenReturn(Optional.of(summary));
+        when(weeklyAllowanceRepository.findByContractIdAndYearMonth(eq(contractId), anyInt(), anyInt())).thenReturn(List.of());
+
+        // when
+        boolean drifted = salaryService.reconcileSalary(100L);
+
+        // then
+        assertThat(drifted).isTrue();
+        assertThat(salary.getBasePay()).isEqualByComparingTo("80000");
+        assertThat(salary.getNetPay()).isEqualByComparingTo("80000");
+        assertThat(salary.getIncrementallyUpdated()).isFalse();
+    }
+
+    @Test
+    @DisplayName("급여 정합성 검증 - 이미 전체 재계산된 급여는 건너뜀")
+    void reconcileSalary_AlreadyReconciled_Skips() {
+        // given
+        Salary salary = Salary.builder().id(100L).contract(deltaContract(1L)).year(2024).month(2).build();
+        when(salaryRepository.findByIdForUpdate(100L)).thenReturn(Optional.of(salary));
+
+        // when
+        boolean drifted = salaryService.reconcileSalary(100L);
+
+        // then
+        assertThat(drifted).isFalse();
+        verifyNoInteractions(workRecordRepository, weeklyAllowanceRepository);
+    }
+
+    private WorkerContract deltaContract(Long contractId) {
+        return WorkerContract.builder()
+                .id(contractId)
+                .hourlyWage(new BigDecimal("10000"))
+                .paymentDay(25)
+                .contractStartDate(LocalDate.of(2024, 1, 1))
+                .workSchedules("[]")
+                .payrollDeductionType(DeductionCalculator.PayrollDeductionType.PART_TIME_NONE)
+                .build();
+    }
 }
@@ -1,16 +1,24 @@
 package com.example.paycheck.domain.salary.util;
 
 import com.example.paycheck.domain.salary.util.DeductionCalculator.PayrollDeductionType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
 
 @DisplayName("DeductionCalculator 테스트")
 class DeductionCalculatorTest {
 
+    private static final int TAX_YEAR = 2024;
+
     @Test
     @DisplayName("세금 계산 - 프리랜서")
     void calculate_Freelancer() {
@@ -18,7 +26,7 @@ class DeductionCalculatorTest {
         BigDecimal totalGrossPay = BigDecimal.valueOf(2000000);
 
         // when
-        DeductionCalculator.TaxResult result = DeductionCalculator.calculate(totalGrossPay, PayrollDeductionType.FREELANCER);
+        DeductionCalculator.TaxResult result = DeductionCalculator.calculate(totalGrossPay, PayrollDeductionType.FREELANCER, TAX_YEAR);
 
         // then
         assertThat(result).isNotNull();
@@ -36,7 +44,7 @@ class DeductionCalculatorTest {
         BigDecimal totalGrossPay = BigDecimal.valueOf(1000000);
 
         // when
-        DeductionCalculator.TaxResult result = DeductionCalculator.calculate(totalGrossPay, PayrollDeductionType.PART_TIME_NONE);
+        DeductionCalculator.TaxResult result = DeductionCalculator.calculate(totalGrossPay, PayrollDeductionType.PART_TIME_NONE, TAX_YEAR);
 
         // then
         assertThat(result).isNotNull();
@@ -54,7 +62,7 @@ class DeductionCalculatorTest {
         BigDecimal totalGrossPay = BigDecimal.valueOf(1500000);
 
         // when
-        DeductionCalculator.TaxResult result = DeductionCalculator.calculate(totalGrossPay, PayrollDeductionType.PART_TIME_TAX_ONLY);
+        DeductionCalculator.TaxResult result = DeductionCalculator.calculate(totalGrossPay, PayrollDeductionType.PART_TIME_TAX_ONLY, TAX_YEAR);
 
         // then
         assertThat(result).isNotNull();
@@ -72,7 +80,7 @@ class DeductionCalculatorTest {
         BigDecimal totalGrossPay = BigDecimal.valueOf(2500000);
 
         // when
-        DeductionCalculator.TaxResult result = DeductionCalculator.calculate(totalGrossPay, PayrollDeductionType.PART_TIME_TAX_AND_INSURANCE);
+        DeductionCalculator.TaxResult result = DeductionCalculator.calculate(totalGrossPay, PayrollDeductionType.PART_TIME_TAX_AND_INSURANCE, TAX_YEAR);
 
         // then
         assertThat(result).isNotNull();
@@ -94,7 +102,7 @@ class DeductionCalculatorTest {
         BigDecimal totalGrossPay = BigDecimal.valueOf(12000000);
 
         // when
-        DeductionCalculator.TaxResult result = DeductionCalculator.calculate(totalGrossPay, PayrollDeductionType.PART_TIME_TAX_ONLY);
+        DeductionCalculator.TaxResult result = DeductionCalculator.calculate(totalGrossPay, PayrollDeductionType.PART_TIME_TAX_ONLY, TAX_YEAR);
 
         // then
         assertThat(result).isNotNull();
@@ -103,4 +111,68 @@ class DeductionCalculatorTest {
         assertThat(result.totalTax).isEqualByComparingTo("2440240");
         assertThat(result.totalDeduction).isEqualByComparingTo("2440240");
     }
+
+    @Test
+    @DisplayName("간이세액표 조회 - 전 구간/부양가족 수에서 원본 표 순차 탐색 결과와 동일")
+    void incomeTaxTable_MatchesLinearScanOfResource() throws IOException {
+        // given
+        List<List<int[]>> rowsByFamily = readTaxTableRows();
+
+        for (int familyCount = 1; familyCount <= 11; familyCount++) {
+            List<int[]> rows = rowsByFamily.get(familyCount);
+            for (int salaryThousand = 760; salaryThousand <= 10000; salaryThousand++) {
+                // when
+                BigDecimal actual = DeductionCalculator.calculateIncomeTaxFromTable(
+                        BigDecimal.valueOf(salaryThousand * 1000L + 999), familyCount, TAX_YEAR);
+
+                // then
+                Integer expected = linearScan(rows, salaryThousand);
+                assertThat(actual)
+                        .as("salary=%d family=%d", salaryThousand, familyCount)
+                        .isEqualByComparingTo(expected != null ? BigDecimal.valueOf(expected) : BigDecimal.ZERO);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("간이세액표 조회 - 같은 세액은 캐시된 인스턴스 재사용")
+    void incomeTaxTable_ReturnsCachedInstance() {
+        BigDecimal first = DeductionCalculator.calculateIncomeTaxFromTable(BigDecimal.valueOf(1500000), 1, TAX_YEAR);
+        BigDecimal second = DeductionCalculator.calculateIncomeTaxFromTable(BigDecimal.valueOf(1500000), 1, TAX_YEAR);
+
+        assertThat(first).isEqualByComparingTo("8920");
+        assertThat(second).isSameAs(first);
+    }
+
+    // [부양가족 수] → {최소, 최대, 세액} 행 목록 (원본 행 순서 유지)
+    private List<List<int[]>> readTaxTableRows() throws IOException {
+        List<List<int[]>> rowsByFamily = new ArrayList<>();
+        for (int familyCount = 0; familyCount <= 11; familyCount++) {
+            rowsByFamily.add(new ArrayList<>());
+        }
+        // 원본 JSON은 테스트 클래스패스에만 컴파일된 표와 같은 위치(tax/)로 복사된다 (build.gradle processTestResources 참고)
+        try (InputStream input = getClass().getClassLoader().getResourceAsStream("tax/income_tax_table_2024.json")) {
+            assertThat(input).as("tax/income_tax_table_2024.json on the test classpath").isNotNull();
+            for (JsonNode row : new ObjectMapper().readTree(input).get("rows")) {
+                rowsByFamily.get(row.get("family_count").asInt()).add(new int[]{
+                        row.get("min_salary_thousand").asInt(),
+                        row.get("max_salary_thousand").asInt(),
+                        row.get("income_tax_won").asInt()
+                });
+            }
+        }
+        return rowsByFamily;
+    }
+
+    private Integer linearScan(List<int[]> rows, int salaryThousand) {
+        for (int[] row : rows) {
+            int min = row[0];
+            int max = row[1];
+            boolean matches = min == max ? salaryThousand == min : salaryThousand >= min && salaryThousand < max;
+            if (matches) {
+                return row[2];
+            }
+        }
+        return null;
+    }
 }
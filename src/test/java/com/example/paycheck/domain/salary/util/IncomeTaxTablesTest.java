@@ -0,0 +1,83 @@
+package com.example.paycheck.domain.salary.util;
+
+import com.example.paycheck.common.exception.BadRequestException;
+import com.example.paycheck.common.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("IncomeTaxTables 테스트")
+class IncomeTaxTablesTest {
+
+    @Test
+    @DisplayName("컴파일된 2024 간이세액표 - meta 기준 최저 금액/수식 구간 시작 금액 반영")
+    void forYear_LoadsCompiledTable() {
+        // when
+        IncomeTaxTable table = IncomeTaxTables.forYear(2024);
+
+        // then
+        assertThat(table.getYear()).isEqualTo(2024);
+        assertThat(table.getMinSalaryThousand()).isEqualTo(770);
+        assertThat(table.getFormulaBaseThousand()).isEqualTo(10000);
+        assertThat(table.lookup(1500, 1)).isEqualByComparingTo("8920");
+    }
+
+    @Test
+    @DisplayName("연도 선택 - meta의 적용 연도에 등록된 표만 사용")
+    void resolveYear() {
+        assertThat(IncomeTaxTables.resolveYear(2024)).isEqualTo(2024);
+        assertThat(IncomeTaxTables.resolveYear(2025)).isEqualTo(2024);
+        assertThat(IncomeTaxTables.resolveYear(2026)).isEqualTo(2024);
+    }
+
+    @Test
+    @DisplayName("연도 선택 - 등록되지 않은 연도는 다른 연도 표로 대신하지 않고 예외")
+    void resolveYear_UnknownYear() {
+        assertThatThrownBy(() -> IncomeTaxTables.resolveYear(2030))
+                .isInstanceOf(BadRequestException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INCOME_TAX_TABLE_NOT_FOUND);
+        assertThatThrownBy(() -> IncomeTaxTables.resolveYear(2000))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    @DisplayName("수식 구간 - meta의 구간 경계/기본 세액/세율 반영")
+    void forYear_FormulaRangesFromMeta() {
+        // given
+        IncomeTaxTable table = IncomeTaxTables.forYear(2024);
+        BigDecimal baseTax = BigDecimal.valueOf(1000);
+
+        // when & then - 14,000,000원 초과 28,000,000원 이하: 1,397,000원 + (초과분 × 98%) × 38%
+        assertThat(table.formulaRangeOf(BigDecimal.valueOf(15000000)).tax(BigDecimal.valueOf(15000000), baseTax))
+                .isEqualByComparingTo("1770400");
+        // 상한 금액은 해당 구간에 포함
+        assertThat(table.formulaRangeOf(BigDecimal.valueOf(14000000)).tax(BigDecimal.valueOf(14000000), baseTax))
+                .isEqualByComparingTo("1398000");
+        // 87,000,000원 초과: 31,034,600원 + 초과분 × 45%
+        assertThat(table.formulaRangeOf(BigDecimal.valueOf(88000000)).tax(BigDecimal.valueOf(88000000), baseTax))
+                .isEqualByComparingTo("31485600");
+        assertThat(table.formulaRangeOf(BigDecimal.valueOf(9000000))).isNull();
+    }
+
+    @Test
+    @DisplayName("같은 연도 표는 한 번만 로딩")
+    void forYear_ReturnsSameInstance() {
+        assertThat(IncomeTaxTables.forYear(2024)).isSameAs(IncomeTaxTables.forYear(2024));
+    }
+
+    @Test
+    @DisplayName("지급 연도 지정 계산 - 2024 표와 동일한 세액")
+    void calculate_WithPaymentYear() {
+        // when
+        DeductionCalculator.TaxResult result = DeductionCalculator.calculate(
+                BigDecimal.valueOf(1500000), DeductionCalculator.PayrollDeductionType.PART_TIME_TAX_ONLY, 2025);
+
+        // then
+        assertThat(result.incomeTax).isEqualByComparingTo("8920");
+        assertThat(result.localIncomeTax).isEqualByComparingTo("892");
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.paycheck.domain.salary.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PayPeriodCalendar 테스트")
+class PayPeriodCalendarTest {
+
+    @Test
+    @DisplayName("월급날 전 근무는 당월, 월급날부터는 다음 달 급여 (연도 넘김 포함)")
+    void periodOf_SplitsOnPaymentDay() {
+        assertThat(PayPeriodCalendar.periodOf(25, LocalDate.of(2024, 1, 24))).isEqualTo(PayPeriod.of(2024, 1));
+        assertThat(PayPeriodCalendar.periodOf(25, LocalDate.of(2024, 1, 25))).isEqualTo(PayPeriod.of(2024, 2));
+        assertThat(PayPeriodCalendar.periodOf(25, LocalDate.of(2024, 12, 25))).isEqualTo(PayPeriod.of(2025, 1));
+        assertThat(PayPeriodCalendar.periodOf(1, LocalDate.of(2024, 3, 1))).isEqualTo(PayPeriod.of(2024, 4));
+    }
+
+    @Test
+    @DisplayName("월의 일수를 넘는 월급날은 말일로 보정 - 기간 경계와 귀속 월이 일치")
+    void monthEndPaymentDay() {
+        PayPeriod february = PayPeriod.of(2024, 2);
+        PayPeriod march = PayPeriod.of(2024, 3);
+
+        assertThat(february.startDate(31)).isEqualTo(LocalDate.of(2024, 1, 31));
+        assertThat(february.endDate(31)).isEqualTo(LocalDate.of(2024, 2, 28));
+        assertThat(february.paymentDate(31)).isEqualTo(LocalDate.of(2024, 2, 29));
+        assertThat(march.startDate(31)).isEqualTo(LocalDate.of(2024, 2, 29));
+
+        // 2/29는 2월 월급날(말일 보정) 당일이므로 3월 급여
+        assertThat(PayPeriodCalendar.periodOf(31, LocalDate.of(2024, 2, 28))).isEqualTo(february);
+        assertThat(PayPeriodCalendar.periodOf(31, LocalDate.of(2024, 2, 29))).isEqualTo(march);
+        assertThat(PayPeriod.of(2023, 2).endDate(31)).isEqualTo(LocalDate.of(2023, 2, 27));
+    }
+
+    @Test
+    @DisplayName("모든 월급날/근무일에 대해 귀속 기간의 시작~종료일이 근무일을 포함")
+    void periodRangeContainsWorkDate() {
+        for (int paymentDay = 1; paymentDay <= 31; paymentDay++) {
+            for (LocalDate date = LocalDate.of(2023, 12, 1); date.isBefore(LocalDate.of(2025, 2, 1)); date = date.plusDays(1)) {
+                PayPeriod period = PayPeriodCalendar.periodOf(paymentDay, date);
+
+                assertThat(date).isBetween(period.startDate(paymentDay), period.endDate(paymentDay));
+                assertThat(period.paymentDate(paymentDay)).isEqualTo(
+                        YearMonth.of(period.year(), period.month()).atDay(
+                                Math.min(paymentDay, YearMonth.of(period.year(), period.month()).lengthOfMonth())));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("미리 계산된 범위 밖 연도도 같은 규칙으로 계산")
+    void outsidePrecomputedRange() {
+        PayPeriod period = PayPeriodCalendar.periodOf(31, LocalDate.of(1999, 12, 31));
+
+        assertThat(period).isEqualTo(PayPeriod.of(2000, 1));
+        assertThat(period.startDate(31)).isEqualTo(LocalDate.of(1999, 12, 31));
+        assertThat(PayPeriod.of(2101, 2).endDate(31)).isEqualTo(LocalDate.of(2101, 2, 27));
+    }
+
+    @Test
+    @DisplayName("급여 기간 키 - 연월 순서 보존, 이전 달은 key - 1")
+    void periodKey() {
+        PayPeriod january = PayPeriod.of(2025, 1);
+
+        assertThat(PayPeriod.fromKey(january.key())).isEqualTo(january);
+        assertThat(january.previous()).isEqualTo(PayPeriod.of(2024, 12));
+        assertThat(january.key() - 1).isEqualTo(PayPeriod.of(2024, 12).key());
+        assertThat(january).isGreaterThan(PayPeriod.of(2024, 12));
+    }
+}
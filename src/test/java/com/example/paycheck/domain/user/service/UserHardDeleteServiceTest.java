@@ -21,6 +21,7 @@ import com.example.paycheck.domain.worker.repository.WorkerRepository;
 import com.example.paycheck.domain.workplace.entity.Workplace;
 import com.example.paycheck.domain.workplace.repository.WorkplaceRepository;
 import com.example.paycheck.domain.workrecord.repository.WorkRecordRepository;
+import com.example.paycheck.global.security.UserSnapshotCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -56,6 +57,7 @@ class UserHardDeleteServiceTest {
     @Mock private FcmTokenRepository fcmTokenRepository;
     @Mock private UserSettingsRepository userSettingsRepository;
     @Mock private RefreshTokenRepository refreshTokenRepository;
+    @Mock private UserSnapshotCache userSnapshotCache;
 
     @InjectMocks
     private UserHardDeleteService userHardDeleteService;
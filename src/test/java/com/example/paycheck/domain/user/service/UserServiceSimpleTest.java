@@ -10,6 +10,7 @@ import com.example.paycheck.domain.user.repository.UserRepository;
 import com.example.paycheck.domain.worker.entity.Worker;
 import com.example.paycheck.domain.worker.repository.WorkerRepository;
 import com.example.paycheck.domain.worker.service.WorkerService;
+import com.example.paycheck.global.security.UserSnapshotCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -49,6 +50,9 @@ class UserServiceSimpleTest {
     @Mock
     private ProfileImageUrlResolver profileImageUrlResolver;
 
+    @Mock
+    private UserSnapshotCache userSnapshotCache;
+
     @InjectMocks
     private UserService userService;
 
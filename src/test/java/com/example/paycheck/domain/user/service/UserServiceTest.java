@@ -11,6 +11,7 @@ import com.example.paycheck.domain.user.repository.UserRepository;
 import com.example.paycheck.domain.worker.entity.Worker;
 import com.example.paycheck.domain.worker.repository.WorkerRepository;
 import com.example.paycheck.domain.worker.service.WorkerService;
+import com.example.paycheck.global.security.UserSnapshotCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -51,6 +52,9 @@ class UserServiceTest {
     @Mock
     private ProfileImageUrlResolver profileImageUrlResolver;
 
+    @Mock
+    private UserSnapshotCache userSnapshotCache;
+
     @InjectMocks
     private UserService userService;
 
@@ -21,6 +21,7 @@ import com.example.paycheck.domain.workplace.repository.WorkplaceRepository;
 import com.example.paycheck.domain.workrecord.enums.WorkRecordStatus;
 import com.example.paycheck.domain.workrecord.repository.WorkRecordRepository;
 import com.example.paycheck.domain.workrecord.service.WorkRecordCoordinatorService;
+import com.example.paycheck.domain.workrecord.service.WorkedDayIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -65,6 +66,8 @@ class UserWithdrawServiceTest {
     @Mock
     private WorkRecordCoordinatorService workRecordCoordinatorService;
     @Mock
+    private WorkedDayIndex workedDayIndex;
+    @Mock
     private UserRepository userRepository;
 
     @InjectMocks
@@ -131,6 +134,7 @@ class UserWithdrawServiceTest {
 
         verify(workRecordRepository).bulkUpdateStatusByContractIdAndStatus(
                 contract.getId(), WorkRecordStatus.SCHEDULED, WorkRecordStatus.DELETED);
+        verify(workedDayIndex).invalidate(contract.getId());
         verify(refreshTokenRepository).deleteByUserId(employer.getId());
         verify(fcmTokenRepository).deleteByUserId(employer.getId());
         verify(notificationRepository).deleteAllByUser(employer);
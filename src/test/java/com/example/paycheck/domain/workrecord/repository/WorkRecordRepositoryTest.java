@@ -1,11 +1,16 @@
 package com.example.paycheck.domain.workrecord.repository;
 
+import com.example.paycheck.common.dto.ResourceOwner;
+import com.example.paycheck.common.dto.ResourceVersion;
 import com.example.paycheck.domain.contract.entity.WorkerContract;
 import com.example.paycheck.domain.employer.entity.Employer;
 import com.example.paycheck.domain.user.entity.User;
 import com.example.paycheck.domain.user.enums.UserType;
 import com.example.paycheck.domain.worker.entity.Worker;
 import com.example.paycheck.domain.workplace.entity.Workplace;
+import com.example.paycheck.domain.workrecord.dto.WorkRecordCalendarRow;
+import com.example.paycheck.domain.workrecord.dto.WorkRecordPaySummary;
+import com.example.paycheck.domain.workrecord.dto.WorkShift;
 import com.example.paycheck.domain.workrecord.entity.WorkRecord;
 import com.example.paycheck.domain.workrecord.enums.WorkRecordStatus;
 import com.example.paycheck.global.config.EncryptionConfig;
@@ -18,11 +23,15 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -219,6 +228,192 @@ class WorkRecordRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("findShiftsByContractIdAndWorkDateBetween")
+    class FindShiftsByContractIdAndWorkDateBetween {
+
+        @Test
+        @DisplayName("기간 내 삭제되지 않은 근무 기록의 시간대를 반환한다")
+        void returnsShiftsExcludingDeleted() {
+            // given
+            WorkRecord overnight = WorkRecord.builder()
+                    .contract(contract)
+                    .workDate(LocalDate.of(2026, 3, 9))
+                    .startTime(LocalTime.of(22, 0))
+                    .endTime(LocalTime.of(6, 0))
+                    .status(WorkRecordStatus.SCHEDULED)
+                    .build();
+            entityManager.persist(overnight);
+            entityManager.persist(WorkRecord.builder()
+                    .contract(contract)
+                    .workDate(LocalDate.of(2026, 3, 10))
+                    .startTime(LocalTime.of(9, 0))
+                    .endTime(LocalTime.of(18, 0))
+                    .status(WorkRecordStatus.DELETED)
+                    .build());
+            entityManager.persist(WorkRecord.builder()
+                    .contract(contract)
+                    .workDate(LocalDate.of(2026, 3, 20)) // 기간 밖
+                    .startTime(LocalTime.of(9, 0))
+                    .endTime(LocalTime.of(18, 0))
+                    .status(WorkRecordStatus.SCHEDULED)
+                    .build());
+            entityManager.flush();
+            entityManager.clear();
+
+            // when
+            List<WorkShift> shifts = workRecordRepository.findShiftsByContractIdAndWorkDateBetween(
+                    contract.getId(), LocalDate.of(2026, 3, 8), LocalDate.of(2026, 3, 11), WorkRecordStatus.DELETED);
+
+            // then
+            assertThat(shifts).hasSize(1);
+            assertThat(shifts.get(0).getId()).isEqualTo(overnight.getId());
+            assertThat(shifts.get(0).getStartTime()).isEqualTo(LocalTime.of(22, 0));
+            assertThat(shifts.get(0).getEndTime()).isEqualTo(LocalTime.of(6, 0));
+            assertThat(shifts.get(0).endMinute() - shifts.get(0).startMinute()).isEqualTo(8 * 60);
+        }
+    }
+
+    @Nested
+    @DisplayName("findWorkDatesByContractAndDateRange")
+    class FindWorkDatesByContractAndDateRange {
+
+        @Test
+        @DisplayName("기간 내 근무 기록 날짜를 상태와 무관하게 반환한다")
+        void returnsDatesIncludingDeleted() {
+            // given
+            entityManager.persist(WorkRecord.builder()
+                    .contract(contract)
+                    .workDate(LocalDate.of(2026, 3, 9))
+                    .startTime(LocalTime.of(9, 0))
+                    .endTime(LocalTime.of(18, 0))
+                    .status(WorkRecordStatus.SCHEDULED)
+                    .build());
+            entityManager.persist(WorkRecord.builder()
+                    .contract(contract)
+                    .workDate(LocalDate.of(2026, 3, 11))
+                    .startTime(LocalTime.of(9, 0))
+                    .endTime(LocalTime.of(18, 0))
+                    .status(WorkRecordStatus.DELETED)
+                    .build());
+            entityManager.persist(WorkRecord.builder()
+                    .contract(contract)
+                    .workDate(LocalDate.of(2026, 4, 1)) // 기간 밖
+                    .startTime(LocalTime.of(9, 0))
+                    .endTime(LocalTime.of(18, 0))
+                    .status(WorkRecordStatus.SCHEDULED)
+                    .build());
+            entityManager.flush();
+            entityManager.clear();
+
+            // when
+            List<LocalDate> dates = workRecordRepository.findWorkDatesByContractAndDateRange(
+                    contract.getId(), LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 31));
+
+            // then
+            assertThat(dates).containsExactlyInAnyOrder(LocalDate.of(2026, 3, 9), LocalDate.of(2026, 3, 11));
+        }
+    }
+
+    @Nested
+    @DisplayName("bulkUpdateStatusByIdIn")
+    class BulkUpdateStatusByIdIn {
+
+        @Test
+        @DisplayName("지정한 근무 기록 중 현재 상태가 일치하는 것만 일괄 변경한다")
+        void updatesOnlyMatchingStatus() {
+            // given
+            WorkRecord scheduled = WorkRecord.builder()
+                    .contract(contract)
+                    .workDate(LocalDate.of(2026, 3, 9))
+                    .startTime(LocalTime.of(9, 0))
+                    .endTime(LocalTime.of(18, 0))
+                    .status(WorkRecordStatus.SCHEDULED)
+                    .build();
+            WorkRecord deleted = WorkRecord.builder()
+                    .contract(contract)
+                    .workDate(LocalDate.of(2026, 3, 10))
+                    .startTime(LocalTime.of(9, 0))
+                    .endTime(LocalTime.of(18, 0))
+                    .status(WorkRecordStatus.DELETED)
+                    .build();
+            entityManager.persist(scheduled);
+            entityManager.persist(deleted);
+            entityManager.flush();
+            List<Long> ids = List.of(scheduled.getId(), deleted.getId());
+
+            // when
+            int updated = workRecordRepository.bulkUpdateStatusByIdIn(
+                    ids, WorkRecordStatus.SCHEDULED, WorkRecordStatus.COMPLETED, LocalDateTime.now());
+
+            // then
+            assertThat(updated).isEqualTo(1);
+            List<WorkRecord> completed = workRecordRepository.findWithContractByIdInAndStatus(ids, WorkRecordStatus.COMPLETED);
+            assertThat(completed).extracting(WorkRecord::getId).containsExactly(scheduled.getId());
+            assertThat(workRecordRepository.findById(deleted.getId()).orElseThrow().getStatus())
+                    .isEqualTo(WorkRecordStatus.DELETED);
+        }
+    }
+
+    @Nested
+    @DisplayName("insertAll")
+    class InsertAll {
+
+        @Test
+        @DisplayName("근무 기록을 배치 INSERT로 저장한다")
+        void insertsAllRecords() {
+            // given
+            WorkRecord monday = WorkRecord.builder()
+                    .contract(contract)
+                    .workDate(LocalDate.of(2026, 3, 9))
+                    .startTime(LocalTime.of(9, 0))
+                    .endTime(LocalTime.of(18, 0))
+                    .breakMinutes(60)
+                    .totalWorkMinutes(480)
+                    .totalHours(new BigDecimal("8.00"))
+                    .baseSalary(new BigDecimal("80000.00"))
+                    .totalSalary(new BigDecimal("80000.00"))
+                    .status(WorkRecordStatus.SCHEDULED)
+                    .build();
+            WorkRecord wednesday = WorkRecord.builder()
+                    .contract(contract)
+                    .workDate(LocalDate.of(2026, 3, 11))
+                    .startTime(LocalTime.of(22, 0))
+                    .endTime(LocalTime.of(6, 0))
+                    .status(WorkRecordStatus.SCHEDULED)
+                    .build();
+
+            // when
+            int inserted = workRecordRepository.insertAll(List.of(monday, wednesday));
+            entityManager.clear();
+
+            // then
+            assertThat(inserted).isEqualTo(2);
+            List<WorkRecord> results = workRecordRepository.findByContractAndDateRange(
+                    contract.getId(), LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 31), WorkRecordStatus.DELETED);
+            assertThat(results).hasSize(2);
+
+            WorkRecord saved = results.get(0);
+            assertThat(saved.getId()).isNotNull();
+            assertThat(saved.getWorkDate()).isEqualTo(LocalDate.of(2026, 3, 9));
+            assertThat(saved.getStartTime()).isEqualTo(LocalTime.of(9, 0));
+            assertThat(saved.getBreakMinutes()).isEqualTo(60);
+            assertThat(saved.getTotalHours()).isEqualByComparingTo("8.00");
+            assertThat(saved.getTotalSalary()).isEqualByComparingTo("80000.00");
+            assertThat(saved.getStatus()).isEqualTo(WorkRecordStatus.SCHEDULED);
+            assertThat(saved.getIsModified()).isFalse();
+            assertThat(saved.getWeeklyAllowance()).isNull();
+            assertThat(saved.getCreatedAt()).isNotNull();
+            assertThat(results.get(1).getEndTime()).isEqualTo(LocalTime.of(6, 0));
+        }
+
+        @Test
+        @DisplayName("빈 목록이면 아무것도 저장하지 않는다")
+        void returnsZeroForEmptyList() {
+            assertThat(workRecordRepository.insertAll(List.of())).isZero();
+        }
+    }
+
     @Nested
     @DisplayName("findByWorkplaceAndDateRange")
     class FindByWorkplaceAndDateRange {
@@ -261,4 +456,224 @@ class WorkRecordRepositoryTest {
             assertThat(results.get(0).getWorkDate()).isBefore(results.get(1).getWorkDate());
         }
     }
+
+    @Nested
+    @DisplayName("sumPayByWorkplaceAndPaymentDayAndDateRange")
+    class SumPayByWorkplaceAndPaymentDayAndDateRange {
+
+        @Test
+        @DisplayName("월급날이 같은 계약별로 기간 내 DELETED가 아닌 근무 기록의 급여 칼럼을 합산한다")
+        void sumsPayPerContractForPaymentDay() {
+            // given
+            entityManager.persist(payRecord(LocalDate.of(2026, 3, 2), WorkRecordStatus.COMPLETED, "80000"));
+            entityManager.persist(payRecord(LocalDate.of(2026, 3, 3), WorkRecordStatus.SCHEDULED, "70000"));
+            entityManager.persist(payRecord(LocalDate.of(2026, 3, 4), WorkRecordStatus.DELETED, "60000"));
+            entityManager.persist(payRecord(LocalDate.of(2026, 3, 20), WorkRecordStatus.COMPLETED, "50000")); // 기간 밖
+            entityManager.flush();
+            entityManager.clear();
+
+            // when - 월급날 15일의 3월 급여 기간: 2/15 ~ 3/14
+            List<WorkRecordPaySummary> results = workRecordRepository.sumPayByWorkplaceAndPaymentDayAndDateRange(
+                    workplace.getId(), 15, LocalDate.of(2026, 2, 15), LocalDate.of(2026, 3, 14),
+                    WorkRecordStatus.DELETED);
+            List<WorkRecordPaySummary> otherPaymentDay = workRecordRepository.sumPayByWorkplaceAndPaymentDayAndDateRange(
+                    workplace.getId(), 25, LocalDate.of(2026, 2, 25), LocalDate.of(2026, 3, 24),
+                    WorkRecordStatus.DELETED);
+
+            // then
+            assertThat(results).hasSize(1);
+            assertThat(results.get(0).getContractId()).isEqualTo(contract.getId());
+            assertThat(results.get(0).getWorkDays()).isEqualTo(2L);
+            assertThat(results.get(0).getTotalHours()).isEqualByComparingTo("16");
+            assertThat(results.get(0).getBaseSalary()).isEqualByComparingTo("150000");
+            assertThat(otherPaymentDay).isEmpty();
+            assertThat(workRecordRepository.findPaymentDaysByWorkplaceId(workplace.getId())).containsExactly(15);
+        }
+
+        private WorkRecord payRecord(LocalDate workDate, WorkRecordStatus status, String baseSalary) {
+            return WorkRecord.builder()
+                    .contract(contract)
+                    .workDate(workDate)
+                    .startTime(LocalTime.of(9, 0))
+                    .endTime(LocalTime.of(17, 0))
+                    .status(status)
+                    .totalHours(new BigDecimal("8.00"))
+                    .baseSalary(new BigDecimal(baseSalary))
+                    .nightSalary(BigDecimal.ZERO)
+                    .holidaySalary(BigDecimal.ZERO)
+                    .overtimeSalary(BigDecimal.ZERO)
+                    .build();
+        }
+    }
+
+    @Nested
+    @DisplayName("streamCalendarRowsByWorkplaceAndDateRange")
+    class StreamCalendarRowsByWorkplaceAndDateRange {
+
+        private void persistRecord(LocalDate workDate, LocalTime startTime, LocalTime endTime, WorkRecordStatus status) {
+            entityManager.persist(WorkRecord.builder()
+                    .contract(contract)
+                    .workDate(workDate)
+                    .startTime(startTime)
+                    .endTime(endTime)
+                    .status(status)
+                    .build());
+        }
+
+        @Test
+        @DisplayName("삭제되지 않은 근무 기록을 근무일, 시작 시각 순의 캘린더 행으로 반환한다")
+        void returnsRowsOrderedByDateAndStartTime() {
+            // given
+            persistRecord(LocalDate.of(2026, 3, 10), LocalTime.of(14, 0), LocalTime.of(18, 0), WorkRecordStatus.SCHEDULED);
+            persistRecord(LocalDate.of(2026, 3, 10), LocalTime.of(9, 0), LocalTime.of(13, 0), WorkRecordStatus.COMPLETED);
+            persistRecord(LocalDate.of(2026, 3, 5), LocalTime.of(22, 0), LocalTime.of(2, 0), WorkRecordStatus.SCHEDULED);
+            persistRecord(LocalDate.of(2026, 3, 6), LocalTime.of(9, 0), LocalTime.of(18, 0), WorkRecordStatus.DELETED);
+            persistRecord(LocalDate.of(2026, 4, 1), LocalTime.of(9, 0), LocalTime.of(18, 0), WorkRecordStatus.SCHEDULED);
+            entityManager.flush();
+            entityManager.clear();
+
+            // when
+            List<WorkRecordCalendarRow> results;
+            try (Stream<WorkRecordCalendarRow> rows = workRecordRepository.streamCalendarRowsByWorkplaceAndDateRange(
+                    workplace.getId(), LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 31), WorkRecordStatus.DELETED)) {
+                results = rows.toList();
+            }
+
+            // then
+            assertThat(results).extracting(WorkRecordCalendarRow::getWorkDate)
+                    .containsExactly(LocalDate.of(2026, 3, 5), LocalDate.of(2026, 3, 10), LocalDate.of(2026, 3, 10));
+            assertThat(results).extracting(WorkRecordCalendarRow::getStartTime)
+                    .containsExactly(LocalTime.of(22, 0), LocalTime.of(9, 0), LocalTime.of(14, 0));
+            WorkRecordCalendarRow first = results.get(0);
+            assertThat(first.getContractId()).isEqualTo(contract.getId());
+            assertThat(first.getWorkerName()).isEqualTo("근로자");
+            assertThat(first.getWorkplaceName()).isEqualTo("테스트 사업장");
+            assertThat(first.getHourlyWage()).isEqualByComparingTo("10000");
+            assertThat(first.isOvernight()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("findCalendarVersionByWorkplaceAndDateRange")
+    class FindCalendarVersionByWorkplaceAndDateRange {
+
+        @Test
+        @DisplayName("삭제되지 않은 근무 기록 수와 최종 수정 시각을 반환한다")
+        void returnsCountAndLastModified() {
+            // given
+            WorkRecord scheduled = WorkRecord.builder()
+                    .contract(contract)
+                    .workDate(LocalDate.of(2026, 3, 10))
+                    .startTime(LocalTime.of(9, 0))
+                    .endTime(LocalTime.of(18, 0))
+                    .status(WorkRecordStatus.SCHEDULED)
+                    .build();
+            WorkRecord deleted = WorkRecord.builder()
+                    .contract(contract)
+                    .workDate(LocalDate.of(2026, 3, 11))
+                    .startTime(LocalTime.of(9, 0))
+                    .endTime(LocalTime.of(18, 0))
+                    .status(WorkRecordStatus.DELETED)
+                    .build();
+            entityManager.persist(scheduled);
+            entityManager.persist(deleted);
+            entityManager.flush();
+            entityManager.clear();
+
+            // when
+            ResourceVersion version = workRecordRepository.findCalendarVersionByWorkplaceAndDateRange(
+                    workplace.getId(), LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 31), WorkRecordStatus.DELETED);
+            ResourceVersion empty = workRecordRepository.findCalendarVersionByWorkplaceAndDateRange(
+                    workplace.getId(), LocalDate.of(2026, 4, 1), LocalDate.of(2026, 4, 30), WorkRecordStatus.DELETED);
+
+            // then - 근무 기록보다 나중에 수정된 계약/사업장/근로자가 없으므로 근무 기록의 수정 시각
+            assertThat(version.getCount()).isEqualTo(1);
+            assertThat(version.getLastModified()).isEqualTo(
+                    entityManager.find(WorkRecord.class, scheduled.getId()).getUpdatedAt());
+            assertThat(empty.getCount()).isZero();
+            assertThat(empty.getLastModified()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("findTimelineByWorkerId / findTimelineByWorkerIdBefore")
+    class FindTimelineByWorkerId {
+
+        private WorkRecord persistRecord(LocalDate workDate, LocalTime startTime, WorkRecordStatus status) {
+            WorkRecord record = WorkRecord.builder()
+                    .contract(contract)
+                    .workDate(workDate)
+                    .startTime(startTime)
+                    .endTime(startTime.plusHours(4))
+                    .status(status)
+                    .build();
+            entityManager.persist(record);
+            return record;
+        }
+
+        @Test
+        @DisplayName("근무일, 시작 시각, ID 역순으로 페이지 크기만큼 조회하고 커서 이후 페이지를 이어서 조회한다")
+        void returnsPagesInDescendingKeyOrder() {
+            // given
+            WorkRecord oldest = persistRecord(LocalDate.of(2026, 3, 1), LocalTime.of(9, 0), WorkRecordStatus.COMPLETED);
+            WorkRecord sameStartFirst = persistRecord(LocalDate.of(2026, 3, 2), LocalTime.of(9, 0), WorkRecordStatus.SCHEDULED);
+            WorkRecord sameStartSecond = persistRecord(LocalDate.of(2026, 3, 2), LocalTime.of(9, 0), WorkRecordStatus.SCHEDULED);
+            WorkRecord afternoon = persistRecord(LocalDate.of(2026, 3, 2), LocalTime.of(14, 0), WorkRecordStatus.SCHEDULED);
+            persistRecord(LocalDate.of(2026, 3, 3), LocalTime.of(9, 0), WorkRecordStatus.DELETED);
+            entityManager.flush();
+            entityManager.clear();
+            Long workerId = contract.getWorker().getId();
+
+            // when
+            List<WorkRecord> firstPage = workRecordRepository.findTimelineByWorkerId(
+                    workerId, WorkRecordStatus.DELETED, PageRequest.of(0, 2));
+            WorkRecord last = firstPage.get(firstPage.size() - 1);
+            List<WorkRecord> nextPage = workRecordRepository.findTimelineByWorkerIdBefore(
+                    workerId, WorkRecordStatus.DELETED, last.getWorkDate(), last.getStartTime(), last.getId(),
+                    PageRequest.of(0, 10));
+
+            // then - 삭제된 근무 기록은 제외
+            assertThat(firstPage).extracting(WorkRecord::getId)
+                    .containsExactly(afternoon.getId(), sameStartSecond.getId());
+            assertThat(nextPage).extracting(WorkRecord::getId)
+                    .containsExactly(sameStartFirst.getId(), oldest.getId());
+            assertThat(nextPage.get(0).getContract().getWorkplace().getName()).isEqualTo("테스트 사업장");
+            assertThat(nextPage.get(0).getContract().getWorker().getUser().getName()).isEqualTo("근로자");
+        }
+    }
+
+    @Nested
+    @DisplayName("findOwnerById")
+    class FindOwnerById {
+
+        @Test
+        @DisplayName("근무 기록 계약의 고용주와 근로자 사용자 ID를 조회한다")
+        void returnsEmployerAndWorkerUserIds() {
+            // given
+            WorkRecord record = WorkRecord.builder()
+                    .contract(contract)
+                    .workDate(LocalDate.of(2026, 3, 2))
+                    .startTime(LocalTime.of(9, 0))
+                    .endTime(LocalTime.of(18, 0))
+                    .status(WorkRecordStatus.SCHEDULED)
+                    .build();
+            entityManager.persist(record);
+            entityManager.flush();
+            entityManager.clear();
+
+            // when
+            Optional<ResourceOwner> owner = workRecordRepository.findOwnerById(record.getId());
+
+            // then
+            assertThat(owner).isPresent();
+            assertThat(owner.get().getEmployerUserId()).isEqualTo(workplace.getEmployer().getUser().getId());
+            assertThat(owner.get().getWorkerUserId()).isEqualTo(contract.getWorker().getUser().getId());
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 근무 기록이면 빈 값을 반환한다")
+        void returnsEmptyWhenNotFound() {
+            assertThat(workRecordRepository.findOwnerById(999_999L)).isEmpty();
+        }
+    }
 }
@@ -3,7 +3,9 @@ package com.example.paycheck.domain.workrecord.scheduler;
 import com.example.paycheck.domain.workrecord.enums.WorkRecordStatus;
 import com.example.paycheck.domain.workrecord.repository.WorkRecordRepository;
 import com.example.paycheck.domain.workrecord.service.WorkRecordCommandService;
-import com.example.paycheck.domain.workrecord.service.WorkRecordGenerationService;
+import com.example.paycheck.domain.workrecord.service.WorkRecordGenerationJobService;
+import com.example.paycheck.global.scheduling.SchedulerLock;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,11 +15,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.YearMonth;
 import java.util.Collections;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -30,14 +36,53 @@ class WorkRecordSchedulerTest {
     private WorkRecordRepository workRecordRepository;
 
     @Mock
-    private WorkRecordGenerationService workRecordGenerationService;
+    private WorkRecordGenerationJobService workRecordGenerationJobService;
 
     @Mock
     private WorkRecordCommandService workRecordCommandService;
 
+    @Mock
+    private SchedulerLock schedulerLock;
+
     @InjectMocks
     private WorkRecordScheduler workRecordScheduler;
 
+    @BeforeEach
+    void setUp() {
+        // 단일 인스턴스: 항상 리스를 획득한 것으로 간주하고 작업을 그대로 실행
+        lenient().when(schedulerLock.runExclusively(anyString(), any(Runnable.class))).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return true;
+        });
+    }
+
+    @Test
+    @DisplayName("2개월 뒤 WorkRecord 생성 - 2개월 뒤 월을 대상으로 생성 작업 실행")
+    void generateTwoMonthsLaterWorkRecords_RunsJobForTwoMonthsLater() {
+        // given
+        YearMonth targetMonth = YearMonth.now().plusMonths(2);
+        when(workRecordGenerationJobService.run(targetMonth)).thenReturn(List.of());
+
+        // when
+        workRecordScheduler.generateTwoMonthsLaterWorkRecords();
+
+        // then
+        verify(workRecordGenerationJobService).run(targetMonth);
+    }
+
+    @Test
+    @DisplayName("중단된 WorkRecord 생성 작업 재개 - 예외가 발생해도 스케줄러는 종료되지 않음")
+    void resumeUnfinishedWorkRecordGeneration_SwallowsException() {
+        // given
+        doThrow(new RuntimeException("DB 오류")).when(workRecordGenerationJobService).resumeUnfinished();
+
+        // when
+        workRecordScheduler.resumeUnfinishedWorkRecordGeneration();
+
+        // then
+        verify(workRecordGenerationJobService).resumeUnfinished();
+    }
+
     @Test
     @DisplayName("종료된 SCHEDULED 근무 자동 완료 성공")
     void autoCompletePastScheduledWorkRecords_Success() {
@@ -49,6 +94,44 @@ class WorkRecordSchedulerTest {
                 any(LocalDate.class)))
                 .thenReturn(List.of(1L, 2L));
 
+        when(workRecordCommandService.completeWorkRecords(List.of(1L, 2L))).thenReturn(2);
+
+        // when
+        workRecordScheduler.autoCompletePastScheduledWorkRecords();
+
+        // then - 건별 완료 없이 일괄 완료 1회
+        verify(workRecordCommandService).completeWorkRecords(List.of(1L, 2L));
+        verify(workRecordCommandService, never()).completeWorkRecord(any(Long.class));
+    }
+
+    @Test
+    @DisplayName("종료된 SCHEDULED 근무 자동 완료 - 다른 인스턴스가 리스를 보유 중이면 실행하지 않음")
+    void autoCompletePastScheduledWorkRecords_SkipsWhenLeaseHeldElsewhere() {
+        // given
+        when(schedulerLock.runExclusively(eq("work-record-auto-complete"), any(Runnable.class))).thenReturn(false);
+
+        // when
+        workRecordScheduler.autoCompletePastScheduledWorkRecords();
+
+        // then
+        verify(workRecordRepository, never()).findPastScheduledWorkRecordIds(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("종료된 SCHEDULED 근무 자동 완료 - 일괄 완료 실패 시 건별 완료로 전환")
+    void autoCompletePastScheduledWorkRecords_FallsBackToPerRecord() {
+        // given
+        when(workRecordRepository.findPastScheduledWorkRecordIds(
+                eq(WorkRecordStatus.SCHEDULED),
+                any(LocalDate.class),
+                any(LocalTime.class),
+                any(LocalDate.class)))
+                .thenReturn(List.of(1L, 2L));
+        when(workRecordCommandService.completeWorkRecords(List.of(1L, 2L)))
+                .thenThrow(new IllegalStateException("WorkRecord 급여 정합성 검증 실패"));
+        doThrow(new IllegalStateException("WorkRecord 급여 정합성 검증 실패"))
+                .when(workRecordCommandService).completeWorkRecord(2L);
+
         // when
         workRecordScheduler.autoCompletePastScheduledWorkRecords();
 
@@ -72,6 +155,7 @@ class WorkRecordSchedulerTest {
         workRecordScheduler.autoCompletePastScheduledWorkRecords();
 
         // then
+        verify(workRecordCommandService, never()).completeWorkRecords(any());
         verify(workRecordCommandService, never()).completeWorkRecord(any(Long.class));
     }
 }
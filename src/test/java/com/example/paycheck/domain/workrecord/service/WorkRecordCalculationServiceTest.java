@@ -1,7 +1,7 @@
 package com.example.paycheck.domain.workrecord.service;
 
 import com.example.paycheck.domain.contract.entity.WorkerContract;
-import com.example.paycheck.domain.holiday.service.HolidayService;
+import com.example.paycheck.domain.holiday.service.HolidayCalendar;
 import com.example.paycheck.domain.workplace.entity.Workplace;
 import com.example.paycheck.domain.workrecord.entity.WorkRecord;
 import com.example.paycheck.domain.workrecord.enums.WorkRecordStatus;
@@ -19,7 +19,6 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.Collections;
 import java.util.List;
-import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -30,7 +29,7 @@ import static org.mockito.Mockito.*;
 class WorkRecordCalculationServiceTest {
 
     @Mock
-    private HolidayService holidayService;
+    private HolidayCalendar holidayCalendar;
 
     @InjectMocks
     private WorkRecordCalculationService calculationService;
@@ -66,7 +65,7 @@ class WorkRecordCalculationServiceTest {
         void weekday_NormalWork_BaseSalaryOnly() {
             // given
             when(mockWorkplace.getIsLessThanFiveEmployees()).thenReturn(false);
-            when(holidayService.isPublicHoliday(LocalDate.of(2024, 1, 15))).thenReturn(false); // 월요일
+            when(holidayCalendar.isHoliday(LocalDate.of(2024, 1, 15))).thenReturn(false); // 월요일
 
             WorkRecord workRecord = buildWorkRecord(
                     LocalDate.of(2024, 1, 15),
@@ -77,7 +76,7 @@ class WorkRecordCalculationServiceTest {
             calculationService.calculateWorkRecordDetails(workRecord);
 
             // then
-            verify(holidayService).isPublicHoliday(LocalDate.of(2024, 1, 15));
+            verify(holidayCalendar).isHoliday(LocalDate.of(2024, 1, 15));
             assertThat(workRecord.getBaseSalary()).isEqualByComparingTo(new BigDecimal("80000")); // 8h × 10000
             assertThat(workRecord.getNightSalary()).isEqualByComparingTo(BigDecimal.ZERO);
             assertThat(workRecord.getHolidaySalary()).isEqualByComparingTo(BigDecimal.ZERO);
@@ -88,7 +87,7 @@ class WorkRecordCalculationServiceTest {
         void publicHoliday_Weekday_HolidaySalary() {
             // given
             when(mockWorkplace.getIsLessThanFiveEmployees()).thenReturn(false);
-            when(holidayService.isPublicHoliday(LocalDate.of(2024, 1, 1))).thenReturn(true); // 신정(월요일)
+            when(holidayCalendar.isHoliday(LocalDate.of(2024, 1, 1))).thenReturn(true); // 신정(월요일)
 
             WorkRecord workRecord = buildWorkRecord(
                     LocalDate.of(2024, 1, 1),
@@ -108,7 +107,7 @@ class WorkRecordCalculationServiceTest {
         void saturday_HolidaySalary() {
             // given
             when(mockWorkplace.getIsLessThanFiveEmployees()).thenReturn(false);
-            when(holidayService.isPublicHoliday(LocalDate.of(2024, 1, 13))).thenReturn(true); // 토요일
+            when(holidayCalendar.isHoliday(LocalDate.of(2024, 1, 13))).thenReturn(true); // 토요일
 
             WorkRecord workRecord = buildWorkRecord(
                     LocalDate.of(2024, 1, 13),
@@ -127,7 +126,7 @@ class WorkRecordCalculationServiceTest {
         void smallWorkplace_Holiday_NoSurcharge() {
             // given
             when(mockWorkplace.getIsLessThanFiveEmployees()).thenReturn(true);
-            when(holidayService.isPublicHoliday(LocalDate.of(2024, 1, 14))).thenReturn(true); // 일요일
+            when(holidayCalendar.isHoliday(LocalDate.of(2024, 1, 14))).thenReturn(true); // 일요일
 
             WorkRecord workRecord = buildWorkRecord(
                     LocalDate.of(2024, 1, 14),
@@ -148,7 +147,7 @@ class WorkRecordCalculationServiceTest {
         void verifyWorkplaceSizeCheck() {
             // given
             when(mockWorkplace.getIsLessThanFiveEmployees()).thenReturn(false);
-            when(holidayService.isPublicHoliday(any(LocalDate.class))).thenReturn(false);
+            when(holidayCalendar.isHoliday(any(LocalDate.class))).thenReturn(false);
 
             WorkRecord workRecord = buildWorkRecord(
                     LocalDate.of(2024, 1, 15),
@@ -168,46 +167,24 @@ class WorkRecordCalculationServiceTest {
     class CalculateWorkRecordDetailsBatch {
 
         @Test
-        @DisplayName("빈 리스트 입력 시 holidayService 미호출")
-        void emptyList_NoHolidayServiceCall() {
+        @DisplayName("빈 리스트 입력 시 휴일 달력 미호출")
+        void emptyList_NoHolidayCalendarCall() {
             // when
             calculationService.calculateWorkRecordDetailsBatch(Collections.emptyList());
 
             // then
-            verify(holidayService, never()).getHolidayDates(anyInt());
+            verifyNoInteractions(holidayCalendar);
         }
 
         @Test
-        @DisplayName("단일 연도 WorkRecord 3개 - getHolidayDates 1회만 호출 (N+1 방지)")
-        void singleYear_ThreeRecords_OneHolidayCall() {
+        @DisplayName("복수 연도(2023+2024) - 각 근무일을 단건 계산과 같은 휴일 달력으로 확인")
+        void multipleYears_EachWorkDateCheckedByCalendar() {
             // given
             when(mockWorkplace.getIsLessThanFiveEmployees()).thenReturn(false);
-            when(holidayService.getHolidayDates(2024)).thenReturn(Set.of());
-
-            List<WorkRecord> records = List.of(
-                    buildWorkRecord(LocalDate.of(2024, 1, 15), LocalTime.of(9, 0), LocalTime.of(17, 0)),
-                    buildWorkRecord(LocalDate.of(2024, 3, 11), LocalTime.of(9, 0), LocalTime.of(17, 0)),
-                    buildWorkRecord(LocalDate.of(2024, 6, 10), LocalTime.of(9, 0), LocalTime.of(17, 0))
-            );
-
-            // when
-            calculationService.calculateWorkRecordDetailsBatch(records);
-
-            // then
-            verify(holidayService, times(1)).getHolidayDates(2024);
-        }
-
-        @Test
-        @DisplayName("복수 연도(2023+2024) - 연도별 1회씩 호출")
-        void multipleYears_OneCallPerYear() {
-            // given
-            when(mockWorkplace.getIsLessThanFiveEmployees()).thenReturn(false);
-            when(holidayService.getHolidayDates(2023)).thenReturn(Set.of());
-            when(holidayService.getHolidayDates(2024)).thenReturn(Set.of());
+            when(holidayCalendar.isHoliday(any(LocalDate.class))).thenReturn(false);
 
             List<WorkRecord> records = List.of(
                     buildWorkRecord(LocalDate.of(2023, 12, 11), LocalTime.of(9, 0), LocalTime.of(17, 0)),
-                    buildWorkRecord(LocalDate.of(2023, 12, 18), LocalTime.of(9, 0), LocalTime.of(17, 0)),
                     buildWorkRecord(LocalDate.of(2024, 1, 15), LocalTime.of(9, 0), LocalTime.of(17, 0)),
                     buildWorkRecord(LocalDate.of(2024, 2, 12), LocalTime.of(9, 0), LocalTime.of(17, 0))
             );
@@ -216,16 +193,19 @@ class WorkRecordCalculationServiceTest {
             calculationService.calculateWorkRecordDetailsBatch(records);
 
             // then
-            verify(holidayService, times(1)).getHolidayDates(2023);
-            verify(holidayService, times(1)).getHolidayDates(2024);
+            verify(holidayCalendar).isHoliday(LocalDate.of(2023, 12, 11));
+            verify(holidayCalendar).isHoliday(LocalDate.of(2024, 1, 15));
+            verify(holidayCalendar).isHoliday(LocalDate.of(2024, 2, 12));
+            assertThat(records).allSatisfy(record ->
+                    assertThat(record.getHolidaySalary()).isEqualByComparingTo(BigDecimal.ZERO));
         }
 
         @Test
-        @DisplayName("토요일 WorkRecord - DB 공휴일 Set에 없어도 휴일 판정 (getDayOfWeek >= 6)")
-        void saturday_HolidayEvenIfNotInDb() {
+        @DisplayName("토요일 WorkRecord - 휴일 달력이 휴일로 판정하면 휴일수당 발생")
+        void saturday_HolidayByCalendar() {
             // given
             when(mockWorkplace.getIsLessThanFiveEmployees()).thenReturn(false);
-            when(holidayService.getHolidayDates(2024)).thenReturn(Set.of()); // 빈 공휴일 Set
+            when(holidayCalendar.isHoliday(LocalDate.of(2024, 1, 13))).thenReturn(true); // 토요일
 
             WorkRecord saturdayRecord = buildWorkRecord(
                     LocalDate.of(2024, 1, 13), // 토요일
@@ -240,12 +220,12 @@ class WorkRecordCalculationServiceTest {
         }
 
         @Test
-        @DisplayName("평일 공휴일 - holidayDates Set에 포함된 날짜는 휴일 판정")
+        @DisplayName("평일 공휴일 - 휴일 달력에서 휴일인 날짜는 휴일 판정")
         void weekdayHoliday_InHolidaySet_TreatedAsHoliday() {
             // given
             when(mockWorkplace.getIsLessThanFiveEmployees()).thenReturn(false);
             LocalDate newYear = LocalDate.of(2024, 1, 1); // 월요일 신정
-            when(holidayService.getHolidayDates(2024)).thenReturn(Set.of(newYear));
+            when(holidayCalendar.isHoliday(newYear)).thenReturn(true);
 
             WorkRecord holidayRecord = buildWorkRecord(
                     newYear,
@@ -270,7 +250,7 @@ class WorkRecordCalculationServiceTest {
         void validConsistency_NoException() {
             // given
             when(mockWorkplace.getIsLessThanFiveEmployees()).thenReturn(false);
-            when(holidayService.isPublicHoliday(any(LocalDate.class))).thenReturn(false);
+            when(holidayCalendar.isHoliday(any(LocalDate.class))).thenReturn(false);
 
             WorkRecord workRecord = buildWorkRecord(
                     LocalDate.of(2024, 1, 15),
@@ -351,7 +331,7 @@ class WorkRecordCalculationServiceTest {
         void midnightCrossing_23to07_NightAndDayMix() {
             // given
             when(mockWorkplace.getIsLessThanFiveEmployees()).thenReturn(false);
-            when(holidayService.isPublicHoliday(LocalDate.of(2024, 1, 15))).thenReturn(false); // 월요일
+            when(holidayCalendar.isHoliday(LocalDate.of(2024, 1, 15))).thenReturn(false); // 월요일
 
             WorkRecord workRecord = buildWorkRecord(
                     LocalDate.of(2024, 1, 15),
@@ -378,7 +358,7 @@ class WorkRecordCalculationServiceTest {
         void exactly8Hours_NoOvertime() {
             // given
             when(mockWorkplace.getIsLessThanFiveEmployees()).thenReturn(false);
-            when(holidayService.isPublicHoliday(LocalDate.of(2024, 1, 15))).thenReturn(false); // 월요일
+            when(holidayCalendar.isHoliday(LocalDate.of(2024, 1, 15))).thenReturn(false); // 월요일
 
             WorkRecord workRecord = buildWorkRecord(
                     LocalDate.of(2024, 1, 15),
@@ -403,7 +383,7 @@ class WorkRecordCalculationServiceTest {
         void justOver8Hours_OvertimeTriggered() {
             // given
             when(mockWorkplace.getIsLessThanFiveEmployees()).thenReturn(false);
-            when(holidayService.isPublicHoliday(LocalDate.of(2024, 1, 15))).thenReturn(false); // 월요일
+            when(holidayCalendar.isHoliday(LocalDate.of(2024, 1, 15))).thenReturn(false); // 월요일
 
             WorkRecord workRecord = buildWorkRecord(
                     LocalDate.of(2024, 1, 15),
@@ -431,7 +411,7 @@ class WorkRecordCalculationServiceTest {
         void fullNightShift_22to06() {
             // given
             when(mockWorkplace.getIsLessThanFiveEmployees()).thenReturn(false);
-            when(holidayService.isPublicHoliday(LocalDate.of(2024, 1, 15))).thenReturn(false); // 월요일
+            when(holidayCalendar.isHoliday(LocalDate.of(2024, 1, 15))).thenReturn(false); // 월요일
 
             WorkRecord workRecord = buildWorkRecord(
                     LocalDate.of(2024, 1, 15),
@@ -458,7 +438,7 @@ class WorkRecordCalculationServiceTest {
         void endsAtExactly22_NoNightHours() {
             // given
             when(mockWorkplace.getIsLessThanFiveEmployees()).thenReturn(false);
-            when(holidayService.isPublicHoliday(LocalDate.of(2024, 1, 15))).thenReturn(false); // 월요일
+            when(holidayCalendar.isHoliday(LocalDate.of(2024, 1, 15))).thenReturn(false); // 월요일
 
             WorkRecord workRecord = buildWorkRecord(
                     LocalDate.of(2024, 1, 15),
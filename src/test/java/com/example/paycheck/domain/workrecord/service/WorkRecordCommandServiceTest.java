@@ -5,9 +5,13 @@ import com.example.paycheck.common.exception.NotFoundException;
 import com.example.paycheck.domain.allowance.entity.WeeklyAllowance;
 import com.example.paycheck.domain.contract.entity.WorkerContract;
 import com.example.paycheck.domain.contract.repository.WorkerContractRepository;
+import com.example.paycheck.domain.salary.util.WorkRecordPayTotals;
 import com.example.paycheck.domain.user.entity.User;
+import com.example.paycheck.domain.workrecord.dto.ShiftConflict;
 import com.example.paycheck.domain.workrecord.dto.WorkRecordDto;
+import com.example.paycheck.domain.workrecord.dto.WorkShift;
 import com.example.paycheck.domain.workrecord.entity.WorkRecord;
+import com.example.paycheck.domain.workrecord.enums.ShiftConflictSource;
 import com.example.paycheck.domain.workrecord.enums.WorkRecordStatus;
 import com.example.paycheck.domain.workrecord.repository.WorkRecordRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -20,6 +24,7 @@ import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 
+import java.math.BigDecimal;
 import java.time.Clock;
 import java.time.DayOfWeek;
 import java.time.Instant;
@@ -65,6 +70,12 @@ class WorkRecordCommandServiceTest {
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
+    @Mock
+    private WorkedDayIndex workedDayIndex;
+
+    @Mock
+    private WorkShiftOverlapService workShiftOverlapService;
+
     private static final LocalDate FIXED_DATE = LocalDate.of(2026, 2, 21);
 
     @Spy
@@ -166,7 +177,53 @@ class WorkRecordCommandServiceTest {
         verify(testWorkRecord).complete();
         verify(calculationService).calculateWorkRecordDetails(testWorkRecord);
         verify(calculationService).validateWorkRecordConsistency(testWorkRecord);
-        verify(coordinatorService).handleWorkRecordCompletion(testWorkRecord);
+        verify(coordinatorService).handleWorkRecordCompletion(eq(testWorkRecord), any(WorkRecordPayTotals.class));
+    }
+
+    @Test
+    @DisplayName("근무 일괄 완료 - 상태는 집합 UPDATE 1회, 완료된 근무 기록만 일괄 재계산 후 협력 처리 1회")
+    void completeWorkRecords_BulkUpdateAndSingleCoordination() {
+        // given
+        List<Long> ids = List.of(1L, 2L, 3L);
+        WorkRecord first = WorkRecord.builder().id(1L).workDate(FIXED_DATE).status(WorkRecordStatus.COMPLETED)
+                .baseSalary(new BigDecimal("80000")).build();
+        WorkRecord second = WorkRecord.builder().id(2L).workDate(FIXED_DATE).status(WorkRecordStatus.COMPLETED)
+                .baseSalary(new BigDecimal("40000")).build();
+
+        // 3번은 그 사이 삭제되어 상태 변경 대상에서 제외됨
+        when(workRecordRepository.bulkUpdateStatusByIdIn(ids, WorkRecordStatus.SCHEDULED, WorkRecordStatus.COMPLETED,
+                FIXED_DATE.atStartOfDay())).thenReturn(2);
+        when(workRecordRepository.findWithContractByIdInAndStatus(ids, WorkRecordStatus.COMPLETED))
+                .thenReturn(List.of(first, second));
+
+        // when
+        int completed = workRecordCommandService.completeWorkRecords(ids);
+
+        // then
+        assertThat(completed).isEqualTo(2);
+        verify(calculationService).calculateWorkRecordDetailsBatch(List.of(first, second));
+        verify(calculationService).validateWorkRecordConsistency(first);
+        verify(calculationService).validateWorkRecordConsistency(second);
+        verify(coordinatorService).handleBulkWorkRecordCompletion(eq(List.of(first, second)), argThat(previous ->
+                previous.size() == 2
+                        && previous.get(1L).getTotalBasePay().compareTo(new BigDecimal("80000")) == 0));
+        verify(workRecordRepository, never()).findById(anyLong());
+        verify(coordinatorService, never()).handleWorkRecordCompletion(any(), any());
+    }
+
+    @Test
+    @DisplayName("근무 일괄 완료 - 상태가 바뀐 근무 기록이 없으면 재계산하지 않음")
+    void completeWorkRecords_NothingToComplete() {
+        // given
+        when(workRecordRepository.bulkUpdateStatusByIdIn(any(), any(), any(), any())).thenReturn(0);
+
+        // when
+        int completed = workRecordCommandService.completeWorkRecords(List.of(1L));
+
+        // then
+        assertThat(completed).isZero();
+        verify(workRecordRepository, never()).findWithContractByIdInAndStatus(any(), any());
+        verify(coordinatorService, never()).handleBulkWorkRecordCompletion(any(), any());
     }
 
     @Test
@@ -255,6 +312,7 @@ class WorkRecordCommandServiceTest {
                 contractId, expectedBoundary, WorkRecordStatus.SCHEDULED);
         verify(workRecordRepository).deleteByContractIdAndWorkDateAfterAndStatus(
                 contractId, expectedBoundary, WorkRecordStatus.SCHEDULED);
+        verify(workedDayIndex).invalidate(contractId);
     }
 
     @Test
@@ -323,4 +381,55 @@ class WorkRecordCommandServiceTest {
         verify(workRecordRepository, atLeastOnce()).saveAll(anyList());
         verify(workRecordRepository, never()).save(any(WorkRecord.class));
     }
+
+    @Test
+    @DisplayName("근무 일정 일괄 생성 - 근무 시간이 겹치는 날짜는 건너뛰고 겹친 날짜를 모두 반환")
+    void createWorkRecordsBatch_SkipsOverlappingShifts() {
+        // given
+        testContract = mock(WorkerContract.class);
+        User worker = mock(User.class);
+        com.example.paycheck.domain.worker.entity.Worker workerEntity = mock(com.example.paycheck.domain.worker.entity.Worker.class);
+
+        LocalDate date1 = LocalDate.now().plusDays(1);
+        LocalDate date2 = LocalDate.now().plusDays(2);
+
+        WorkRecordDto.BatchCreateRequest request = WorkRecordDto.BatchCreateRequest.builder()
+                .contractId(1L)
+                .workDates(Arrays.asList(date1, date2))
+                .startTime(LocalTime.of(1, 0))
+                .endTime(LocalTime.of(5, 0))
+                .build();
+
+        when(workerContractRepository.findById(anyLong())).thenReturn(Optional.of(testContract));
+        when(testContract.getId()).thenReturn(1L);
+        when(workRecordRepository.findExistingWorkDatesByContractAndWorkDates(anyLong(), any(), any(WorkRecordStatus.class)))
+                .thenReturn(Collections.emptyList());
+
+        // 첫 번째 날짜는 전날 자정을 넘는 근무 기록과 겹침
+        WorkShift overnightShift = new WorkShift(100L, date1.minusDays(1), LocalTime.of(22, 0), LocalTime.of(2, 0));
+        when(workShiftOverlapService.findConflicts(eq(1L), anyList()))
+                .thenAnswer(invocation -> {
+                    List<WorkShift> requestedShifts = invocation.getArgument(1);
+                    return List.of(new ShiftConflict(requestedShifts.get(0), overnightShift, ShiftConflictSource.WORK_RECORD));
+                });
+
+        Map<LocalDate, WeeklyAllowance> weeklyAllowanceMap = new HashMap<>();
+        weeklyAllowanceMap.put(date2.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)), testWeeklyAllowance);
+        when(coordinatorService.getOrCreateWeeklyAllowances(anyLong(), any()))
+                .thenReturn(weeklyAllowanceMap);
+        when(testWeeklyAllowance.getId()).thenReturn(1L);
+
+        when(workRecordRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(testContract.getWorker()).thenReturn(workerEntity);
+        when(workerEntity.getUser()).thenReturn(worker);
+
+        // when
+        WorkRecordDto.BatchCreateResponse result = workRecordCommandService.createWorkRecordsBatch(request);
+
+        // then
+        assertThat(result.getCreatedCount()).isEqualTo(1);
+        assertThat(result.getSkippedCount()).isEqualTo(1);
+        assertThat(result.getConflictDates()).containsExactly(date1);
+        verify(coordinatorService).getOrCreateWeeklyAllowances(1L, List.of(date2));
+    }
 }
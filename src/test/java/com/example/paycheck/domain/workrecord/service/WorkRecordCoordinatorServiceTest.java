@@ -5,7 +5,10 @@ import com.example.paycheck.domain.allowance.entity.WeeklyAllowance;
 import com.example.paycheck.domain.allowance.repository.WeeklyAllowanceRepository;
 import com.example.paycheck.domain.allowance.service.WeeklyAllowanceService;
 import com.example.paycheck.domain.contract.entity.WorkerContract;
+import com.example.paycheck.domain.salary.event.SalaryRecalculationEvent;
+import com.example.paycheck.domain.salary.service.SalaryRecalculationQueue;
 import com.example.paycheck.domain.salary.service.SalaryService;
+import com.example.paycheck.domain.salary.util.WorkRecordPayTotals;
 import com.example.paycheck.domain.workrecord.entity.WorkRecord;
 import com.example.paycheck.domain.workrecord.enums.WorkRecordStatus;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,15 +16,21 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -39,6 +48,15 @@ class WorkRecordCoordinatorServiceTest {
     @Mock
     private SalaryService salaryService;
 
+    @Mock
+    private SalaryRecalculationQueue salaryRecalculationQueue;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private WorkedDayIndex workedDayIndex;
+
     @InjectMocks
     private WorkRecordCoordinatorService coordinatorService;
 
@@ -53,6 +71,8 @@ class WorkRecordCoordinatorServiceTest {
         // recalculatePreviousWeekAllowance()에서 호출되는 repository mock 설정
         lenient().when(weeklyAllowanceRepository.findByContractAndWeek(anyLong(), any(LocalDate.class)))
                 .thenReturn(Optional.empty());
+        lenient().when(workedDayIndex.hasWorkedDayBetween(anyLong(), any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(true);
     }
 
     private WorkRecord createMockWorkRecord(WorkRecordStatus status, LocalDate workDate, WeeklyAllowance allowance) {
@@ -87,6 +107,25 @@ class WorkRecordCoordinatorServiceTest {
 
             // then
             verify(weeklyAllowanceService).recalculateAllowances(10L);
+            verify(workedDayIndex).markWorked(1L, LocalDate.of(2024, 1, 10));
+            verifyNoInteractions(salaryService);
+        }
+
+        @Test
+        @DisplayName("SCHEDULED 상태 생성 - 기존 급여에만 기여분 증분 반영")
+        void scheduledStatus_AppliesDeltaToExistingSalaryOnly() {
+            // given
+            WeeklyAllowance allowance = createMockAllowance(10L);
+            WorkRecord workRecord = createMockWorkRecord(WorkRecordStatus.SCHEDULED, LocalDate.of(2024, 1, 10), allowance);
+            withPay(workRecord, "8.00", "80000");
+
+            // when
+            coordinatorService.handleWorkRecordCreation(workRecord);
+
+            // then
+            ArgumentCaptor<WorkRecordPayTotals> captor = ArgumentCaptor.forClass(WorkRecordPayTotals.class);
+            verify(salaryService).applyWorkRecordDelta(eq(1L), eq(2024), eq(1), captor.capture(), eq(false));
+            assertThat(captor.getValue().getTotalBasePay()).isEqualByComparingTo("80000");
         }
 
         @Test
@@ -101,6 +140,23 @@ class WorkRecordCoordinatorServiceTest {
 
             // then
             verify(weeklyAllowanceService, never()).recalculateAllowances(anyLong());
+            verify(workedDayIndex, never()).markWorked(anyLong(), any(LocalDate.class));
+        }
+
+        @Test
+        @DisplayName("이전 주에 근무일이 없으면 이전 주 WeeklyAllowance를 조회하지 않는다")
+        void previousWeekWithoutWorkedDays_SkipsLookup() {
+            // given
+            WeeklyAllowance allowance = createMockAllowance(10L);
+            WorkRecord workRecord = createMockWorkRecord(WorkRecordStatus.SCHEDULED, LocalDate.of(2024, 1, 10), allowance);
+            when(workedDayIndex.hasWorkedDayBetween(1L, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 7)))
+                    .thenReturn(false);
+
+            // when
+            coordinatorService.handleWorkRecordCreation(workRecord);
+
+            // then
+            verify(weeklyAllowanceRepository, never()).findByContractAndWeek(anyLong(), any(LocalDate.class));
         }
     }
 
@@ -109,22 +165,24 @@ class WorkRecordCoordinatorServiceTest {
     class HandleWorkRecordUpdate {
 
         @Test
-        @DisplayName("같은 WeeklyAllowance + SCHEDULED - allowance 재계산 1회, salary 미호출")
+        @DisplayName("같은 WeeklyAllowance + SCHEDULED - allowance 재계산 1회, 기존 급여에만 증분 반영")
         void sameAllowance_Scheduled_OneRecalculation() {
             // given
             WeeklyAllowance allowance = createMockAllowance(10L);
             WorkRecord workRecord = createMockWorkRecord(WorkRecordStatus.SCHEDULED, LocalDate.of(2024, 1, 10), allowance);
 
             // when
-            coordinatorService.handleWorkRecordUpdate(workRecord, allowance, allowance);
+            coordinatorService.handleWorkRecordUpdate(
+                    workRecord, allowance, allowance, LocalDate.of(2024, 1, 10), WorkRecordPayTotals.zero());
 
             // then
             verify(weeklyAllowanceService, times(1)).recalculateAllowances(10L);
+            verify(salaryService).applyWorkRecordDelta(eq(1L), eq(2024), eq(1), any(WorkRecordPayTotals.class), eq(false));
             verify(salaryService, never()).recalculateSalaryAfterWorkRecordUpdate(anyLong(), anyInt(), anyInt());
         }
 
         @Test
-        @DisplayName("다른 WeeklyAllowance + COMPLETED - 양쪽 allowance 재계산 + salary 재계산")
+        @DisplayName("다른 WeeklyAllowance + COMPLETED - 양쪽 allowance 재계산 + 급여 증분 반영")
         void differentAllowance_Completed_BothRecalculated() {
             // given
             WeeklyAllowance oldAllowance = createMockAllowance(10L);
@@ -132,50 +190,65 @@ class WorkRecordCoordinatorServiceTest {
             WorkRecord workRecord = createMockWorkRecord(WorkRecordStatus.COMPLETED, LocalDate.of(2024, 1, 10), newAllowance);
 
             // when
-            coordinatorService.handleWorkRecordUpdate(workRecord, oldAllowance, newAllowance);
+            coordinatorService.handleWorkRecordUpdate(
+                    workRecord, oldAllowance, newAllowance, LocalDate.of(2024, 1, 10), WorkRecordPayTotals.zero());
 
             // then
             verify(weeklyAllowanceService).recalculateAllowances(10L);
             verify(weeklyAllowanceService).recalculateAllowances(20L);
-            verify(salaryService).recalculateSalaryAfterWorkRecordUpdate(eq(1L), anyInt(), anyInt());
+            verify(salaryService).applyWorkRecordDelta(eq(1L), anyInt(), anyInt(), any(WorkRecordPayTotals.class), eq(true));
         }
 
         @Test
-        @DisplayName("COMPLETED 상태 수정 - salary 재계산 트리거됨")
-        void completedStatus_SalaryRecalculated() {
+        @DisplayName("같은 급여 기간 내 COMPLETED 수정 - 수정 전후 기여분 차이만 반영")
+        void completedStatus_AppliesDifference() {
             // given
             WeeklyAllowance allowance = createMockAllowance(10L);
             WorkRecord workRecord = createMockWorkRecord(WorkRecordStatus.COMPLETED, LocalDate.of(2024, 1, 10), allowance);
+            withPay(workRecord, "9.00", "90000");
 
             // when
-            coordinatorService.handleWorkRecordUpdate(workRecord, allowance, allowance);
+            coordinatorService.handleWorkRecordUpdate(
+                    workRecord, allowance, allowance, LocalDate.of(2024, 1, 10), contribution("8.00", "80000"));
 
             // then
-            verify(salaryService).recalculateSalaryAfterWorkRecordUpdate(eq(1L), eq(2024), eq(1));
+            ArgumentCaptor<WorkRecordPayTotals> captor = ArgumentCaptor.forClass(WorkRecordPayTotals.class);
+            verify(salaryService).applyWorkRecordDelta(eq(1L), eq(2024), eq(1), captor.capture(), eq(true));
+            assertThat(captor.getValue().getTotalWorkHours()).isEqualByComparingTo("1.00");
+            assertThat(captor.getValue().getTotalBasePay()).isEqualByComparingTo("10000");
         }
 
         @Test
-        @DisplayName("근무일이 바뀐 COMPLETED 수정 - 이전/신규 급여 귀속월과 이전 주차를 모두 재계산한다")
-        void changedWorkDate_Completed_RecalculatesOldAndNewSalaryPeriods() {
+        @DisplayName("근무일이 바뀐 COMPLETED 수정 - 이전 귀속월에서 차감, 신규 귀속월에 가산하고 이전 주차를 모두 재계산한다")
+        void changedWorkDate_Completed_MovesContributionBetweenSalaryPeriods() {
             // given
             WeeklyAllowance oldAllowance = createMockAllowance(10L);
             WeeklyAllowance newAllowance = createMockAllowance(20L);
             WorkRecord workRecord = createMockWorkRecord(WorkRecordStatus.COMPLETED, LocalDate.of(2024, 2, 26), newAllowance);
+            withPay(workRecord, "8.00", "80000");
 
             // when
             coordinatorService.handleWorkRecordUpdate(
                     workRecord,
                     oldAllowance,
                     newAllowance,
-                    LocalDate.of(2024, 1, 24));
+                    LocalDate.of(2024, 1, 24),
+                    contribution("8.00", "80000"));
 
             // then
             verify(weeklyAllowanceService).recalculateAllowances(10L);
             verify(weeklyAllowanceService).recalculateAllowances(20L);
             verify(weeklyAllowanceRepository).findByContractAndWeek(1L, LocalDate.of(2024, 1, 15));
             verify(weeklyAllowanceRepository).findByContractAndWeek(1L, LocalDate.of(2024, 2, 19));
-            verify(salaryService).recalculateSalaryAfterWorkRecordUpdate(1L, 2024, 1);
-            verify(salaryService).recalculateSalaryAfterWorkRecordUpdate(1L, 2024, 3);
+            verify(workedDayIndex).markRemoved(1L, LocalDate.of(2024, 1, 24));
+            verify(workedDayIndex).markWorked(1L, LocalDate.of(2024, 2, 26));
+
+            ArgumentCaptor<WorkRecordPayTotals> oldPeriod = ArgumentCaptor.forClass(WorkRecordPayTotals.class);
+            ArgumentCaptor<WorkRecordPayTotals> newPeriod = ArgumentCaptor.forClass(WorkRecordPayTotals.class);
+            verify(salaryService).applyWorkRecordDelta(eq(1L), eq(2024), eq(1), oldPeriod.capture(), eq(false));
+            verify(salaryService).applyWorkRecordDelta(eq(1L), eq(2024), eq(3), newPeriod.capture(), eq(true));
+            assertThat(oldPeriod.getValue().getTotalBasePay()).isEqualByComparingTo("-80000");
+            assertThat(newPeriod.getValue().getTotalBasePay()).isEqualByComparingTo("80000");
         }
     }
 
@@ -184,7 +257,7 @@ class WorkRecordCoordinatorServiceTest {
     class HandleWorkRecordDeletion {
 
         @Test
-        @DisplayName("빈 WorkRecords → WeeklyAllowance 삭제 호출")
+        @DisplayName("빈 WorkRecords → WeeklyAllowance 삭제 호출, SCHEDULED 기여분은 기존 급여에서만 차감")
         void emptyWorkRecords_DeletesAllowance() {
             // given
             WeeklyAllowance allowance = createMockAllowance(10L);
@@ -196,23 +269,43 @@ class WorkRecordCoordinatorServiceTest {
 
             // then
             verify(weeklyAllowanceService).deleteWeeklyAllowance(10L);
+            verify(workedDayIndex).markRemoved(1L, LocalDate.of(2024, 1, 10));
+            verify(salaryService).applyWorkRecordDelta(eq(1L), eq(2024), eq(1), any(WorkRecordPayTotals.class), eq(false));
             verify(salaryService, never()).recalculateSalaryAfterWorkRecordUpdate(anyLong(), anyInt(), anyInt());
         }
 
         @Test
-        @DisplayName("WorkRecords 남아있음 + COMPLETED 삭제 - 재계산 + salary 재계산")
+        @DisplayName("WorkRecords 남아있음 + COMPLETED 삭제 - 재계산 + 급여에서 기여분 차감")
         void remainingWorkRecords_CompletedDeleted_Recalculate() {
             // given
             WeeklyAllowance allowance = createMockAllowance(10L);
             allowance.getWorkRecords().add(mock(WorkRecord.class)); // 1개 남아있음
-            WorkRecord workRecord = createMockWorkRecord(WorkRecordStatus.COMPLETED, LocalDate.of(2024, 1, 10), allowance);
+            WorkRecord workRecord = createMockWorkRecord(WorkRecordStatus.DELETED, LocalDate.of(2024, 1, 10), allowance);
+            withPay(workRecord, "8.00", "80000");
 
             // when
             coordinatorService.handleWorkRecordDeletion(allowance, workRecord, WorkRecordStatus.COMPLETED);
 
             // then
             verify(weeklyAllowanceService).recalculateAllowances(10L);
-            verify(salaryService).recalculateSalaryAfterWorkRecordUpdate(eq(1L), eq(2024), eq(1));
+            ArgumentCaptor<WorkRecordPayTotals> captor = ArgumentCaptor.forClass(WorkRecordPayTotals.class);
+            verify(salaryService).applyWorkRecordDelta(eq(1L), eq(2024), eq(1), captor.capture(), eq(true));
+            assertThat(captor.getValue().getTotalWorkHours()).isEqualByComparingTo("-8.00");
+            assertThat(captor.getValue().getTotalBasePay()).isEqualByComparingTo("-80000");
+        }
+
+        @Test
+        @DisplayName("이미 DELETED였던 근무 기록 - 급여 반영 없음")
+        void alreadyDeleted_NoSalaryChange() {
+            // given
+            WorkRecord workRecord = createMockWorkRecord(WorkRecordStatus.DELETED, LocalDate.of(2024, 1, 10), null);
+
+            // when
+            coordinatorService.handleWorkRecordDeletion(null, workRecord, WorkRecordStatus.DELETED);
+
+            // then
+            verifyNoInteractions(salaryService);
+            verify(workedDayIndex, never()).markRemoved(anyLong(), any(LocalDate.class));
         }
 
         @Test
@@ -240,10 +333,10 @@ class WorkRecordCoordinatorServiceTest {
             WorkRecord workRecord = createMockWorkRecord(WorkRecordStatus.COMPLETED, LocalDate.of(2024, 1, 24), allowance);
 
             // when
-            coordinatorService.handleWorkRecordCompletion(workRecord);
+            coordinatorService.handleWorkRecordCompletion(workRecord, WorkRecordPayTotals.zero());
 
             // then
-            verify(salaryService).recalculateSalaryAfterWorkRecordUpdate(1L, 2024, 1);
+            verify(salaryService).applyWorkRecordDelta(eq(1L), eq(2024), eq(1), any(WorkRecordPayTotals.class), eq(true));
         }
 
         @Test
@@ -254,10 +347,10 @@ class WorkRecordCoordinatorServiceTest {
             WorkRecord workRecord = createMockWorkRecord(WorkRecordStatus.COMPLETED, LocalDate.of(2024, 1, 25), allowance);
 
             // when
-            coordinatorService.handleWorkRecordCompletion(workRecord);
+            coordinatorService.handleWorkRecordCompletion(workRecord, WorkRecordPayTotals.zero());
 
             // then
-            verify(salaryService).recalculateSalaryAfterWorkRecordUpdate(1L, 2024, 2);
+            verify(salaryService).applyWorkRecordDelta(eq(1L), eq(2024), eq(2), any(WorkRecordPayTotals.class), eq(true));
         }
 
         @Test
@@ -268,10 +361,43 @@ class WorkRecordCoordinatorServiceTest {
             WorkRecord workRecord = createMockWorkRecord(WorkRecordStatus.COMPLETED, LocalDate.of(2024, 12, 25), allowance);
 
             // when
-            coordinatorService.handleWorkRecordCompletion(workRecord);
+            coordinatorService.handleWorkRecordCompletion(workRecord, WorkRecordPayTotals.zero());
+
+            // then
+            verify(salaryService).applyWorkRecordDelta(eq(1L), eq(2025), eq(1), any(WorkRecordPayTotals.class), eq(true));
+        }
+
+        @Test
+        @DisplayName("2월 29일, paymentDay 31 → 2월 월급날(말일 보정) 당일이므로 3월 급여에 귀속")
+        void monthEndPaymentDay_AdjustedToLastDay() {
+            // given
+            when(mockContract.getPaymentDay()).thenReturn(31);
+            WeeklyAllowance allowance = createMockAllowance(10L);
+            WorkRecord workRecord = createMockWorkRecord(WorkRecordStatus.COMPLETED, LocalDate.of(2024, 2, 29), allowance);
+
+            // when
+            coordinatorService.handleWorkRecordCompletion(workRecord, WorkRecordPayTotals.zero());
 
             // then
-            verify(salaryService).recalculateSalaryAfterWorkRecordUpdate(1L, 2025, 1);
+            verify(salaryService).applyWorkRecordDelta(eq(1L), eq(2024), eq(3), any(WorkRecordPayTotals.class), eq(true));
+        }
+
+        @Test
+        @DisplayName("완료 시 재계산된 급여와 완료 전 예상 급여의 차이만 반영")
+        void completion_AppliesDifferenceFromScheduledContribution() {
+            // given
+            WeeklyAllowance allowance = createMockAllowance(10L);
+            WorkRecord workRecord = createMockWorkRecord(WorkRecordStatus.COMPLETED, LocalDate.of(2024, 1, 10), allowance);
+            withPay(workRecord, "8.00", "100000");
+
+            // when
+            coordinatorService.handleWorkRecordCompletion(workRecord, contribution("8.00", "80000"));
+
+            // then
+            ArgumentCaptor<WorkRecordPayTotals> captor = ArgumentCaptor.forClass(WorkRecordPayTotals.class);
+            verify(salaryService).applyWorkRecordDelta(eq(1L), eq(2024), eq(1), captor.capture(), eq(true));
+            assertThat(captor.getValue().getTotalWorkHours()).isEqualByComparingTo("0");
+            assertThat(captor.getValue().getTotalBasePay()).isEqualByComparingTo("20000");
         }
     }
 
@@ -286,16 +412,38 @@ class WorkRecordCoordinatorServiceTest {
             WeeklyAllowance allowance = createMockAllowance(10L);
             WorkRecord workRecord = createMockWorkRecord(WorkRecordStatus.COMPLETED, LocalDate.of(2024, 1, 10), allowance);
             doThrow(new NotFoundException(null, "급여 미생성")).when(salaryService)
-                    .recalculateSalaryAfterWorkRecordUpdate(anyLong(), anyInt(), anyInt());
+                    .applyWorkRecordDelta(anyLong(), anyInt(), anyInt(), any(WorkRecordPayTotals.class), anyBoolean());
 
             // when & then
             assertThatCode(() ->
-                    coordinatorService.handleWorkRecordCompletion(workRecord)
+                    coordinatorService.handleWorkRecordCompletion(workRecord, WorkRecordPayTotals.zero())
             ).doesNotThrowAnyException();
         }
 
         @Test
-        @DisplayName("handleBatchWorkRecordCompletion - 같은 계약/년월 5개 → 1회만 재계산")
+        @DisplayName("비동기 재계산 사용 시 - 급여를 직접 갱신하지 않고 검증 대상 표시 후 재계산 이벤트 발행")
+        void asyncMode_PublishesRecalculationEvent() {
+            // given
+            when(salaryRecalculationQueue.isAsync()).thenReturn(true);
+            WeeklyAllowance allowance = createMockAllowance(10L);
+            WorkRecord workRecord = createMockWorkRecord(WorkRecordStatus.COMPLETED, LocalDate.of(2024, 1, 25), allowance);
+
+            // when
+            coordinatorService.handleWorkRecordCompletion(workRecord, WorkRecordPayTotals.zero());
+
+            // then
+            ArgumentCaptor<SalaryRecalculationEvent> captor = ArgumentCaptor.forClass(SalaryRecalculationEvent.class);
+            verify(eventPublisher).publishEvent(captor.capture());
+            assertThat(captor.getValue().getContractId()).isEqualTo(1L);
+            assertThat(captor.getValue().getYear()).isEqualTo(2024);
+            assertThat(captor.getValue().getMonth()).isEqualTo(2);
+            assertThat(captor.getValue().isCreateIfMissing()).isTrue();
+            verify(salaryService).markRecalculationPending(1L, 2024, 2);
+            verifyNoMoreInteractions(salaryService);
+        }
+
+        @Test
+        @DisplayName("handleBatchWorkRecordCompletion - 같은 계약/년월 5개 → 합산하여 1회만 반영")
         void batchCompletion_SameContractMonth_OneRecalculation() {
             // given
             List<WorkRecord> records = new ArrayList<>();
@@ -304,6 +452,7 @@ class WorkRecordCoordinatorServiceTest {
                         WorkRecordStatus.COMPLETED,
                         LocalDate.of(2024, 1, 10 + i), // 모두 1월 10~14일 (paymentDay=25 미만 → 당월)
                         createMockAllowance((long) (10 + i)));
+                withPay(wr, "8.00", "80000");
                 records.add(wr);
             }
 
@@ -311,7 +460,55 @@ class WorkRecordCoordinatorServiceTest {
             coordinatorService.handleBatchWorkRecordCompletion(records);
 
             // then - 같은 계약(1L), 같은 년월(2024/1)이므로 1회만 호출
-            verify(salaryService, times(1)).recalculateSalaryAfterWorkRecordUpdate(1L, 2024, 1);
+            ArgumentCaptor<WorkRecordPayTotals> captor = ArgumentCaptor.forClass(WorkRecordPayTotals.class);
+            verify(salaryService, times(1)).applyWorkRecordDelta(eq(1L), eq(2024), eq(1), captor.capture(), eq(true));
+            assertThat(captor.getValue().getTotalWorkHours()).isEqualByComparingTo("40.00");
+            assertThat(captor.getValue().getTotalBasePay()).isEqualByComparingTo("400000");
         }
+
+        @Test
+        @DisplayName("handleBulkWorkRecordCompletion - 주간 수당은 주당 1회, 급여는 완료 전후 차이를 합산하여 1회 반영")
+        void bulkCompletion_RecalculatesEachAllowanceAndSalaryOnce() {
+            // given
+            WeeklyAllowance firstWeek = createMockAllowance(10L);
+            WeeklyAllowance secondWeek = createMockAllowance(11L);
+            WorkRecord monday = createMockWorkRecord(WorkRecordStatus.COMPLETED, LocalDate.of(2024, 1, 8), firstWeek);
+            WorkRecord tuesday = createMockWorkRecord(WorkRecordStatus.COMPLETED, LocalDate.of(2024, 1, 9), firstWeek);
+            WorkRecord holiday = createMockWorkRecord(WorkRecordStatus.COMPLETED, LocalDate.of(2024, 1, 15), secondWeek);
+            lenient().when(monday.getId()).thenReturn(1L);
+            lenient().when(tuesday.getId()).thenReturn(2L);
+            lenient().when(holiday.getId()).thenReturn(3L);
+            withPay(monday, "8.00", "80000");
+            withPay(tuesday, "8.00", "80000");
+            withPay(holiday, "8.00", "80000");
+            lenient().when(holiday.getHolidaySalary()).thenReturn(new BigDecimal("40000")); // 완료 시 휴일 반영
+
+            Map<Long, WorkRecordPayTotals> previous = Map.of(
+                    1L, contribution("8.00", "80000"),
+                    2L, contribution("8.00", "80000"),
+                    3L, contribution("8.00", "80000"));
+
+            // when
+            coordinatorService.handleBulkWorkRecordCompletion(List.of(monday, tuesday, holiday), previous);
+
+            // then
+            verify(weeklyAllowanceService).recalculateAllowancesBatch(Set.of(10L, 11L));
+            verify(weeklyAllowanceService, never()).recalculateAllowances(anyLong());
+
+            ArgumentCaptor<WorkRecordPayTotals> captor = ArgumentCaptor.forClass(WorkRecordPayTotals.class);
+            verify(salaryService, times(1)).applyWorkRecordDelta(eq(1L), eq(2024), eq(1), captor.capture(), eq(true));
+            assertThat(captor.getValue().getTotalBasePay()).isEqualByComparingTo("0");
+            assertThat(captor.getValue().getTotalHolidayPay()).isEqualByComparingTo("40000");
+        }
+    }
+
+    private void withPay(WorkRecord workRecord, String totalHours, String baseSalary) {
+        lenient().when(workRecord.getTotalHours()).thenReturn(new BigDecimal(totalHours));
+        lenient().when(workRecord.getBaseSalary()).thenReturn(new BigDecimal(baseSalary));
+    }
+
+    private WorkRecordPayTotals contribution(String totalHours, String basePay) {
+        return new WorkRecordPayTotals(
+                new BigDecimal(totalHours), new BigDecimal(basePay), BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO);
     }
 }
@@ -0,0 +1,304 @@
+package com.example.paycheck.domain.workrecord.service;
+
+import com.example.paycheck.domain.contract.repository.WorkerContractRepository;
+import com.example.paycheck.domain.workrecord.entity.WorkRecordGenerationRun;
+import com.example.paycheck.domain.workrecord.enums.WorkRecordGenerationRunStatus;
+import com.example.paycheck.domain.workrecord.repository.WorkRecordGenerationRunRepository;
+import com.example.paycheck.global.scheduling.SchedulerLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WorkRecordGenerationJobService 테스트")
+class WorkRecordGenerationJobServiceTest {
+
+    private static final YearMonth TARGET_MONTH = YearMonth.of(2026, 12);
+    private static final LocalDate START = LocalDate.of(2026, 12, 1);
+    private static final LocalDate END = LocalDate.of(2026, 12, 31);
+    private static final PageRequest CHUNK = PageRequest.of(0, 2);
+    private static final long PARTITION_SIZE = 10;
+
+    @Mock
+    private WorkerContractRepository workerContractRepository;
+
+    @Mock
+    private WorkRecordGenerationRunRepository runRepository;
+
+    @Mock
+    private WorkRecordGenerationChunkService chunkService;
+
+    @Mock
+    private SchedulerLock schedulerLock;
+
+    private WorkRecordGenerationJobService jobService;
+
+    @BeforeEach
+    void setUp() {
+        // 청크 크기 2, 동시 처리 청크 2개, 파티션당 계약 ID 10개
+        jobService = new WorkRecordGenerationJobService(
+                workerContractRepository, runRepository, chunkService, schedulerLock, 2, 2, PARTITION_SIZE);
+        // 단일 노드: 모든 파티션 lease를 획득한 것으로 간주
+        lenient().when(schedulerLock.runPartitioned(anyString(), anyInt(), any(Duration.class), any(IntConsumer.class)))
+                .thenAnswer(invocation -> {
+                    int partitionCount = invocation.getArgument(1);
+                    IntConsumer task = invocation.getArgument(3);
+                    for (int partition = 0; partition < partitionCount; partition++) {
+                        task.accept(partition);
+                    }
+                    return partitionCount;
+                });
+        lenient().when(runRepository.save(any(WorkRecordGenerationRun.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    @DisplayName("활성 계약을 키셋 청크로 나누어 처리하고 체크포인트와 지표를 기록한다")
+    void run_ProcessesAllChunksAndCompletes() {
+        // given
+        when(workerContractRepository.findMaxActiveId()).thenReturn(5L);
+        when(runRepository.findByTargetYearAndTargetMonthAndPartitionIndex(2026, 12, 0)).thenReturn(Optional.empty());
+        when(workerContractRepository.findActiveIdsInRange(0L, 10L, CHUNK)).thenReturn(List.of(1L, 2L));
+        when(workerContractRepository.findActiveIdsInRange(2L, 10L, CHUNK)).thenReturn(List.of(3L, 4L));
+        when(workerContractRepository.findActiveIdsInRange(4L, 10L, CHUNK)).thenReturn(List.of(5L));
+        when(workerContractRepository.findActiveIdsInRange(5L, 10L, CHUNK)).thenReturn(List.of());
+        when(chunkService.generateChunk(List.of(1L, 2L), START, END)).thenReturn(16);
+        when(chunkService.generateChunk(List.of(3L, 4L), START, END)).thenReturn(18);
+        when(chunkService.generateChunk(List.of(5L), START, END)).thenReturn(9);
+
+        // when
+        WorkRecordGenerationRun run = jobService.run(TARGET_MONTH).get(0);
+
+        // then
+        assertThat(run.getStatus()).isEqualTo(WorkRecordGenerationRunStatus.COMPLETED);
+        assertThat(run.getLastContractId()).isEqualTo(5L);
+        assertThat(run.getProcessedContracts()).isEqualTo(5);
+        assertThat(run.getCreatedRecords()).isEqualTo(43);
+        assertThat(run.getFailedContracts()).isZero();
+        assertThat(run.getAttempts()).isEqualTo(1);
+        assertThat(run.getFinishedAt()).isNotNull();
+        verify(chunkService, never()).generateForContract(anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("중단된 실행은 체크포인트 이후 계약부터 이어서 처리한다")
+    void run_ResumesFromCheckpoint() {
+        // given
+        when(workerContractRepository.findMaxActiveId()).thenReturn(5L);
+        WorkRecordGenerationRun interrupted = WorkRecordGenerationRun.builder()
+                .id(1L)
+                .targetYear(2026)
+                .targetMonth(12)
+                .partitionIndex(0)
+                .rangeStart(1L)
+                .rangeEnd(10L)
+                .status(WorkRecordGenerationRunStatus.RUNNING)
+                .lastContractId(4L)
+                .processedContracts(4)
+                .createdRecords(34)
+                .attempts(1)
+                .build();
+        when(runRepository.findByTargetYearAndTargetMonthAndPartitionIndex(2026, 12, 0)).thenReturn(Optional.of(interrupted));
+        when(workerContractRepository.findActiveIdsInRange(4L, 10L, CHUNK)).thenReturn(List.of(5L));
+        when(workerContractRepository.findActiveIdsInRange(5L, 10L, CHUNK)).thenReturn(List.of());
+        when(chunkService.generateChunk(List.of(5L), START, END)).thenReturn(9);
+
+        // when
+        WorkRecordGenerationRun run = jobService.run(TARGET_MONTH).get(0);
+
+        // then
+        assertThat(run.getStatus()).isEqualTo(WorkRecordGenerationRunStatus.COMPLETED);
+        assertThat(run.getProcessedContracts()).isEqualTo(5);
+        assertThat(run.getCreatedRecords()).isEqualTo(43);
+        assertThat(run.getAttempts()).isEqualTo(2);
+        verify(workerContractRepository, never()).findActiveIdsInRange(eq(0L), any(), any());
+    }
+
+    @Test
+    @DisplayName("이미 완료된 파티션은 다시 처리하지 않는다")
+    void run_SkipsCompletedRun() {
+        // given
+        when(workerContractRepository.findMaxActiveId()).thenReturn(5L);
+        WorkRecordGenerationRun completed = WorkRecordGenerationRun.builder()
+                .id(1L)
+                .targetYear(2026)
+                .targetMonth(12)
+                .partitionIndex(0)
+                .rangeStart(1L)
+                .rangeEnd(10L)
+                .lastContractId(10L)
+                .status(WorkRecordGenerationRunStatus.COMPLETED)
+                .build();
+        when(runRepository.findByTargetYearAndTargetMonthAndPartitionIndex(2026, 12, 0)).thenReturn(Optional.of(completed));
+
+        // when
+        List<WorkRecordGenerationRun> runs = jobService.run(TARGET_MONTH);
+
+        // then
+        assertThat(runs).isEmpty();
+        verify(workerContractRepository, never()).findActiveIdsInRange(any(), any(), any());
+        verify(runRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("청크 트랜잭션이 실패하면 계약별로 다시 처리하고, 실패한 계약은 기록한 뒤 PARTIAL로 끝낸다")
+    void run_FallsBackToPerContractOnChunkFailure() {
+        // given
+        when(workerContractRepository.findMaxActiveId()).thenReturn(5L);
+        when(runRepository.findByTargetYearAndTargetMonthAndPartitionIndex(2026, 12, 0)).thenReturn(Optional.empty());
+        when(workerContractRepository.findActiveIdsInRange(0L, 10L, CHUNK)).thenReturn(List.of(1L, 2L));
+        when(workerContractRepository.findActiveIdsInRange(2L, 10L, CHUNK)).thenReturn(List.of());
+        when(chunkService.generateChunk(List.of(1L, 2L), START, END)).thenThrow(new RuntimeException("스케줄 파싱 오류"));
+        when(chunkService.generateForContract(1L, START, END)).thenReturn(8);
+        when(chunkService.generateForContract(2L, START, END)).thenThrow(new RuntimeException("스케줄 파싱 오류"));
+
+        // when
+        WorkRecordGenerationRun run = jobService.run(TARGET_MONTH).get(0);
+
+        // then
+        assertThat(run.getStatus()).isEqualTo(WorkRecordGenerationRunStatus.PARTIAL);
+        assertThat(run.getLastContractId()).isEqualTo(2L);
+        assertThat(run.getProcessedContracts()).isEqualTo(1);
+        assertThat(run.getCreatedRecords()).isEqualTo(8);
+        assertThat(run.getFailedContracts()).isEqualTo(1);
+        assertThat(run.getFailedContractIdList()).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("일부 계약이 실패한 파티션은 재실행 시 실패한 계약을 다시 처리하고 모두 성공하면 완료한다")
+    void run_RetriesFailedContracts() {
+        // given - 체크포인트는 끝까지 전진했고 계약 2, 4가 실패한 상태
+        when(workerContractRepository.findMaxActiveId()).thenReturn(5L);
+        WorkRecordGenerationRun partial = WorkRecordGenerationRun.builder()
+                .id(1L)
+                .targetYear(2026)
+                .targetMonth(12)
+                .partitionIndex(0)
+                .rangeStart(1L)
+                .rangeEnd(10L)
+                .status(WorkRecordGenerationRunStatus.PARTIAL)
+                .lastContractId(5L)
+                .processedContracts(3)
+                .createdRecords(27)
+                .failedContracts(2)
+                .failedContractIds("2,4")
+                .attempts(1)
+                .build();
+        when(runRepository.findByTargetYearAndTargetMonthAndPartitionIndex(2026, 12, 0)).thenReturn(Optional.of(partial));
+        when(chunkService.generateForContract(2L, START, END)).thenReturn(8);
+        when(chunkService.generateForContract(4L, START, END)).thenReturn(9);
+        when(workerContractRepository.findActiveIdsInRange(5L, 10L, CHUNK)).thenReturn(List.of());
+
+        // when
+        WorkRecordGenerationRun run = jobService.run(TARGET_MONTH).get(0);
+
+        // then
+        assertThat(run.getStatus()).isEqualTo(WorkRecordGenerationRunStatus.COMPLETED);
+        assertThat(run.getProcessedContracts()).isEqualTo(5);
+        assertThat(run.getCreatedRecords()).isEqualTo(44);
+        assertThat(run.getFailedContracts()).isZero();
+        assertThat(run.getFailedContractIdList()).isEmpty();
+        verify(chunkService, never()).generateChunk(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("계약 조회 중 오류가 발생하면 체크포인트를 유지한 채 실패로 기록한다")
+    void run_MarksFailedAndKeepsCheckpoint() {
+        // given
+        when(workerContractRepository.findMaxActiveId()).thenReturn(5L);
+        when(runRepository.findByTargetYearAndTargetMonthAndPartitionIndex(2026, 12, 0)).thenReturn(Optional.empty());
+        when(workerContractRepository.findActiveIdsInRange(0L, 10L, CHUNK)).thenReturn(List.of(1L, 2L));
+        when(workerContractRepository.findActiveIdsInRange(2L, 10L, CHUNK)).thenReturn(List.of(3L, 4L));
+        when(workerContractRepository.findActiveIdsInRange(4L, 10L, CHUNK)).thenThrow(new RuntimeException("DB 연결 끊김"));
+        when(chunkService.generateChunk(any(), eq(START), eq(END))).thenReturn(2);
+
+        // when
+        WorkRecordGenerationRun run = jobService.run(TARGET_MONTH).get(0);
+
+        // then
+        assertThat(run.getStatus()).isEqualTo(WorkRecordGenerationRunStatus.FAILED);
+        assertThat(run.getLastContractId()).isEqualTo(4L);
+        assertThat(run.getProcessedContracts()).isEqualTo(4);
+        assertThat(run.getLastError()).isEqualTo("DB 연결 끊김");
+    }
+
+    @Test
+    @DisplayName("파티션 lease를 잃으면 다음 청크를 처리하지 않고 상태를 기록하지 않은 채 멈춘다")
+    void run_StopsWhenLeaseLost() {
+        // given - 첫 청크 처리 후 lease 상실
+        when(workerContractRepository.findMaxActiveId()).thenReturn(5L);
+        when(runRepository.findByTargetYearAndTargetMonthAndPartitionIndex(2026, 12, 0)).thenReturn(Optional.empty());
+        when(schedulerLock.isLeaseLost()).thenReturn(false, true);
+        when(workerContractRepository.findActiveIdsInRange(0L, 10L, CHUNK)).thenReturn(List.of(1L, 2L));
+        when(workerContractRepository.findActiveIdsInRange(2L, 10L, CHUNK)).thenReturn(List.of(3L, 4L));
+        when(chunkService.generateChunk(any(), eq(START), eq(END))).thenReturn(2);
+
+        // when
+        WorkRecordGenerationRun run = jobService.run(TARGET_MONTH).get(0);
+
+        // then
+        assertThat(run.getStatus()).isEqualTo(WorkRecordGenerationRunStatus.RUNNING);
+        assertThat(run.getLastContractId()).isEqualTo(4L);
+        verify(workerContractRepository, never()).findActiveIdsInRange(eq(4L), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("계약 ID 구간을 파티션으로 나누어 파티션별 실행 이력을 기록한다")
+    void run_SplitsIntoContractIdPartitions() {
+        // given - 최대 계약 ID 15 → 파티션 [1, 10], [11, 20]
+        when(workerContractRepository.findMaxActiveId()).thenReturn(15L);
+        when(runRepository.findByTargetYearAndTargetMonthAndPartitionIndex(eq(2026), eq(12), anyInt())).thenReturn(Optional.empty());
+        when(workerContractRepository.findActiveIdsInRange(0L, 10L, CHUNK)).thenReturn(List.of(3L));
+        when(workerContractRepository.findActiveIdsInRange(3L, 10L, CHUNK)).thenReturn(List.of());
+        when(workerContractRepository.findActiveIdsInRange(10L, 20L, CHUNK)).thenReturn(List.of(12L, 15L));
+        when(workerContractRepository.findActiveIdsInRange(15L, 20L, CHUNK)).thenReturn(List.of());
+        when(chunkService.generateChunk(List.of(3L), START, END)).thenReturn(8);
+        when(chunkService.generateChunk(List.of(12L, 15L), START, END)).thenReturn(16);
+
+        // when
+        List<WorkRecordGenerationRun> runs = jobService.run(TARGET_MONTH);
+
+        // then
+        assertThat(runs).hasSize(2);
+        assertThat(runs).extracting(WorkRecordGenerationRun::getPartitionIndex).containsExactly(0, 1);
+        assertThat(runs).extracting(WorkRecordGenerationRun::getRangeStart).containsExactly(1L, 11L);
+        assertThat(runs).extracting(WorkRecordGenerationRun::getCreatedRecords).containsExactly(8, 16);
+        assertThat(runs).allMatch(WorkRecordGenerationRun::isCompleted);
+    }
+
+    @Test
+    @DisplayName("활성 계약이 없으면 파티션을 만들지 않는다")
+    void run_NoActiveContracts() {
+        // given
+        when(workerContractRepository.findMaxActiveId()).thenReturn(null);
+
+        // when
+        List<WorkRecordGenerationRun> runs = jobService.run(TARGET_MONTH);
+
+        // then
+        assertThat(runs).isEmpty();
+        verify(schedulerLock, never()).runPartitioned(anyString(), anyInt(), any(), any());
+    }
+}
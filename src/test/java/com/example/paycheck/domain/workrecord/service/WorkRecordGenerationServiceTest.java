@@ -35,6 +35,9 @@ class WorkRecordGenerationServiceTest {
     @Mock
     private WorkRecordCalculationService calculationService;
 
+    @Mock
+    private WorkedDayIndex workedDayIndex;
+
     @Spy
     private ObjectMapper objectMapper = new ObjectMapper();
 
@@ -75,20 +78,21 @@ class WorkRecordGenerationServiceTest {
             LocalDate startDate = LocalDate.of(2026, 3, 2); // 월요일
             LocalDate endDate = LocalDate.of(2026, 3, 8);   // 일요일
 
-            when(workRecordRepository.existsByContractAndWorkDate(eq(contract), any(LocalDate.class)))
-                    .thenReturn(false);
+            when(workRecordRepository.findWorkDatesByContractAndDateRange(eq(contract.getId()), any(LocalDate.class), any(LocalDate.class)))
+                    .thenReturn(List.of());
 
             // when
             workRecordGenerationService.generateWorkRecordsForPeriod(contract, startDate, endDate);
 
             // then
-            verify(workRecordRepository).saveAll(workRecordsCaptor.capture());
+            verify(workRecordRepository).insertAll(workRecordsCaptor.capture());
             List<WorkRecord> savedRecords = workRecordsCaptor.getValue();
 
             // 월요일(3/2)과 수요일(3/4) = 2개
             assertThat(savedRecords).hasSize(2);
             assertThat(savedRecords.get(0).getWorkDate()).isEqualTo(LocalDate.of(2026, 3, 2));
             assertThat(savedRecords.get(1).getWorkDate()).isEqualTo(LocalDate.of(2026, 3, 4));
+            verify(workedDayIndex).markWorked(1L, List.of(LocalDate.of(2026, 3, 2), LocalDate.of(2026, 3, 4)));
         }
 
         @Test
@@ -98,23 +102,21 @@ class WorkRecordGenerationServiceTest {
             LocalDate startDate = LocalDate.of(2026, 3, 2);
             LocalDate endDate = LocalDate.of(2026, 3, 8);
 
-            // 월요일(3/2)에는 이미 레코드가 존재
-            when(workRecordRepository.existsByContractAndWorkDate(contract, LocalDate.of(2026, 3, 2)))
-                    .thenReturn(true);
-            // 수요일(3/4)에는 레코드가 없음
-            when(workRecordRepository.existsByContractAndWorkDate(contract, LocalDate.of(2026, 3, 4)))
-                    .thenReturn(false);
+            // 월요일(3/2)에는 이미 레코드가 존재, 수요일(3/4)에는 레코드가 없음
+            when(workRecordRepository.findWorkDatesByContractAndDateRange(1L, startDate, endDate))
+                    .thenReturn(List.of(LocalDate.of(2026, 3, 2)));
 
             // when
             workRecordGenerationService.generateWorkRecordsForPeriod(contract, startDate, endDate);
 
             // then
-            verify(workRecordRepository).saveAll(workRecordsCaptor.capture());
+            verify(workRecordRepository).insertAll(workRecordsCaptor.capture());
             List<WorkRecord> savedRecords = workRecordsCaptor.getValue();
 
-            // 수요일(3/4)만 생성
+            // 수요일(3/4)만 생성, 날짜별 존재 여부 조회 없음
             assertThat(savedRecords).hasSize(1);
             assertThat(savedRecords.get(0).getWorkDate()).isEqualTo(LocalDate.of(2026, 3, 4));
+            verify(workRecordRepository, never()).existsByContractAndWorkDate(any(), any());
         }
 
         @Test
@@ -133,35 +135,38 @@ class WorkRecordGenerationServiceTest {
             LocalDate startDate = LocalDate.of(2026, 3, 2);
             LocalDate endDate = LocalDate.of(2026, 3, 8);
 
-            when(workRecordRepository.existsByContractAndWorkDate(eq(contractWithEndDate), any(LocalDate.class)))
-                    .thenReturn(false);
+            when(workRecordRepository.findWorkDatesByContractAndDateRange(eq(contractWithEndDate.getId()), any(LocalDate.class), any(LocalDate.class)))
+                    .thenReturn(List.of());
 
             // when
             workRecordGenerationService.generateWorkRecordsForPeriod(contractWithEndDate, startDate, endDate);
 
             // then
-            verify(workRecordRepository).saveAll(workRecordsCaptor.capture());
+            verify(workRecordRepository).insertAll(workRecordsCaptor.capture());
             List<WorkRecord> savedRecords = workRecordsCaptor.getValue();
 
             // 월요일(3/2)만 생성 (수요일 3/4는 종료일 3/3 이후이므로 제외)
             assertThat(savedRecords).hasSize(1);
             assertThat(savedRecords.get(0).getWorkDate()).isEqualTo(LocalDate.of(2026, 3, 2));
+            // 기존 날짜 조회 범위도 종료일까지로 제한
+            verify(workRecordRepository).findWorkDatesByContractAndDateRange(2L, startDate, LocalDate.of(2026, 3, 3));
         }
 
         @Test
-        @DisplayName("모든 날짜에 이미 레코드가 존재하면 saveAll을 호출하지 않는다")
+        @DisplayName("모든 날짜에 이미 레코드가 존재하면 저장하지 않는다")
         void doesNotSaveWhenAllExist() {
             // given
             LocalDate startDate = LocalDate.of(2026, 3, 2);
             LocalDate endDate = LocalDate.of(2026, 3, 8);
 
-            when(workRecordRepository.existsByContractAndWorkDate(eq(contract), any(LocalDate.class)))
-                    .thenReturn(true);
+            when(workRecordRepository.findWorkDatesByContractAndDateRange(1L, startDate, endDate))
+                    .thenReturn(List.of(LocalDate.of(2026, 3, 2), LocalDate.of(2026, 3, 4)));
 
             // when
             workRecordGenerationService.generateWorkRecordsForPeriod(contract, startDate, endDate);
 
             // then
+            verify(workRecordRepository, never()).insertAll(any());
             verify(workRecordRepository, never()).saveAll(any());
         }
 
@@ -172,14 +177,14 @@ class WorkRecordGenerationServiceTest {
             LocalDate startDate = LocalDate.of(2026, 3, 2); // 월요일
             LocalDate endDate = LocalDate.of(2026, 3, 2);   // 월요일만
 
-            when(workRecordRepository.existsByContractAndWorkDate(eq(contract), any(LocalDate.class)))
-                    .thenReturn(false);
+            when(workRecordRepository.findWorkDatesByContractAndDateRange(eq(contract.getId()), any(LocalDate.class), any(LocalDate.class)))
+                    .thenReturn(List.of());
 
             // when
             workRecordGenerationService.generateWorkRecordsForPeriod(contract, startDate, endDate);
 
             // then
-            verify(workRecordRepository).saveAll(workRecordsCaptor.capture());
+            verify(workRecordRepository).insertAll(workRecordsCaptor.capture());
             WorkRecord record = workRecordsCaptor.getValue().get(0);
 
             assertThat(record.getStartTime()).hasToString("09:00");
@@ -197,14 +202,14 @@ class WorkRecordGenerationServiceTest {
         @DisplayName("계약 시작일부터 2개월치 WorkRecord를 생성한다")
         void generatesTwoMonthsFromStartDate() {
             // given
-            when(workRecordRepository.existsByContractAndWorkDate(eq(contract), any(LocalDate.class)))
-                    .thenReturn(false);
+            when(workRecordRepository.findWorkDatesByContractAndDateRange(eq(contract.getId()), any(LocalDate.class), any(LocalDate.class)))
+                    .thenReturn(List.of());
 
             // when
             workRecordGenerationService.generateInitialWorkRecords(contract);
 
             // then
-            verify(workRecordRepository).saveAll(workRecordsCaptor.capture());
+            verify(workRecordRepository).insertAll(workRecordsCaptor.capture());
             List<WorkRecord> savedRecords = workRecordsCaptor.getValue();
 
             // 2개월간 월/수 근무이므로 약 16~18개 정도 생성
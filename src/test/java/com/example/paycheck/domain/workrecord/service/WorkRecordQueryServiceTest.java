@@ -1,16 +1,19 @@
 package com.example.paycheck.domain.workrecord.service;
 
+import com.example.paycheck.common.exception.BadRequestException;
 import com.example.paycheck.common.exception.NotFoundException;
 import com.example.paycheck.domain.correction.repository.CorrectionRequestRepository;
 import com.example.paycheck.domain.contract.entity.WorkerContract;
 import com.example.paycheck.domain.user.entity.User;
 import com.example.paycheck.domain.worker.entity.Worker;
 import com.example.paycheck.domain.worker.repository.WorkerRepository;
+import com.example.paycheck.domain.workrecord.dto.WorkRecordCalendarRow;
 import com.example.paycheck.domain.workrecord.dto.WorkRecordDto;
 import com.example.paycheck.domain.workrecord.entity.WorkRecord;
 import com.example.paycheck.domain.workrecord.enums.WorkRecordCurrentStatus;
 import com.example.paycheck.domain.workrecord.enums.WorkRecordStatus;
 import com.example.paycheck.domain.workrecord.repository.WorkRecordRepository;
+import com.example.paycheck.domain.workrecord.util.TimelineCursor;
 import com.example.paycheck.domain.workplace.entity.Workplace;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,15 +23,19 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
+import java.math.BigDecimal;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -90,76 +97,64 @@ class WorkRecordQueryServiceTest {
 
     @Test
     @DisplayName("사업장 및 날짜 범위로 근무 기록 조회 성공")
-    void getWorkRecordsByWorkplaceAndDateRange_Success() {
+    void forEachWorkRecordByWorkplaceAndDateRange_Success() {
         // given
         Long workplaceId = 1L;
         LocalDate startDate = LocalDate.of(2024, 1, 1);
         LocalDate endDate = LocalDate.of(2024, 1, 31);
-        when(workRecordRepository.findByWorkplaceAndDateRange(workplaceId, startDate.minusDays(1), endDate, WorkRecordStatus.DELETED))
-                .thenReturn(Arrays.asList());
+        when(workRecordRepository.streamCalendarRowsByWorkplaceAndDateRange(workplaceId, startDate.minusDays(1), endDate, WorkRecordStatus.DELETED))
+                .thenReturn(Stream.empty());
 
         // when
-        List<WorkRecordDto.CalendarResponse> result = workRecordQueryService
-                .getWorkRecordsByWorkplaceAndDateRange(workplaceId, startDate, endDate);
+        List<WorkRecordDto.CalendarResponse> result = getCalendar(workplaceId, startDate, endDate);
 
         // then
-        assertThat(result).isNotNull();
-        verify(workRecordRepository).findByWorkplaceAndDateRange(workplaceId, startDate.minusDays(1), endDate, WorkRecordStatus.DELETED);
+        assertThat(result).isEmpty();
+        verify(workRecordRepository).streamCalendarRowsByWorkplaceAndDateRange(workplaceId, startDate.minusDays(1), endDate, WorkRecordStatus.DELETED);
     }
 
     @Test
     @DisplayName("익일 근무는 종료일만 조회해도 타임라인에 표시된다")
-    void getWorkRecordsByWorkplaceAndDateRange_IncludesOvernightRecordOnEndDate() {
+    void forEachWorkRecordByWorkplaceAndDateRange_IncludesOvernightRecordOnEndDate() {
         // given
         Long workplaceId = 1L;
         LocalDate startDate = LocalDate.of(2026, 3, 6);
         LocalDate endDate = LocalDate.of(2026, 3, 6);
-        WorkRecord overnightRecord = createWorkRecord(
-                1L,
-                LocalDate.of(2026, 3, 5),
-                LocalTime.of(23, 0),
-                LocalTime.of(2, 0),
-                WorkRecordStatus.SCHEDULED
-        );
-
-        when(workRecordRepository.findByWorkplaceAndDateRange(
+        WorkRecordCalendarRow overnightRow = createCalendarRow(
+                1L, LocalDate.of(2026, 3, 5), LocalTime.of(23, 0), LocalTime.of(2, 0));
+
+        when(workRecordRepository.streamCalendarRowsByWorkplaceAndDateRange(
                 workplaceId, startDate.minusDays(1), endDate, WorkRecordStatus.DELETED))
-                .thenReturn(List.of(overnightRecord));
+                .thenReturn(Stream.of(overnightRow));
 
         // when
-        List<WorkRecordDto.CalendarResponse> result = workRecordQueryService
-                .getWorkRecordsByWorkplaceAndDateRange(workplaceId, startDate, endDate);
+        List<WorkRecordDto.CalendarResponse> result = getCalendar(workplaceId, startDate, endDate);
 
         // then
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getId()).isEqualTo(1L);
         assertThat(result.get(0).getWorkDate()).isEqualTo(LocalDate.of(2026, 3, 6));
-        verify(workRecordRepository).findByWorkplaceAndDateRange(
+        assertThat(result.get(0).getWorkerName()).isEqualTo("홍길동");
+        verify(workRecordRepository).streamCalendarRowsByWorkplaceAndDateRange(
                 workplaceId, startDate.minusDays(1), endDate, WorkRecordStatus.DELETED);
     }
 
     @Test
     @DisplayName("익일 근무는 시작일과 종료일 모두 타임라인에 매핑된다")
-    void getWorkRecordsByWorkplaceAndDateRange_MapsOvernightRecordToBothDays() {
+    void forEachWorkRecordByWorkplaceAndDateRange_MapsOvernightRecordToBothDays() {
         // given
         Long workplaceId = 1L;
         LocalDate startDate = LocalDate.of(2026, 3, 5);
         LocalDate endDate = LocalDate.of(2026, 3, 6);
-        WorkRecord overnightRecord = createWorkRecord(
-                1L,
-                LocalDate.of(2026, 3, 5),
-                LocalTime.of(23, 0),
-                LocalTime.of(2, 0),
-                WorkRecordStatus.SCHEDULED
-        );
-
-        when(workRecordRepository.findByWorkplaceAndDateRange(
+        WorkRecordCalendarRow overnightRow = createCalendarRow(
+                1L, LocalDate.of(2026, 3, 5), LocalTime.of(23, 0), LocalTime.of(2, 0));
+
+        when(workRecordRepository.streamCalendarRowsByWorkplaceAndDateRange(
                 workplaceId, startDate.minusDays(1), endDate, WorkRecordStatus.DELETED))
-                .thenReturn(List.of(overnightRecord));
+                .thenReturn(Stream.of(overnightRow));
 
         // when
-        List<WorkRecordDto.CalendarResponse> result = workRecordQueryService
-                .getWorkRecordsByWorkplaceAndDateRange(workplaceId, startDate, endDate);
+        List<WorkRecordDto.CalendarResponse> result = getCalendar(workplaceId, startDate, endDate);
 
         // then
         assertThat(result).hasSize(2);
@@ -169,6 +164,36 @@ class WorkRecordQueryServiceTest {
                 .containsExactly(1L, 1L);
     }
 
+    @Test
+    @DisplayName("전날 야간 근무는 다음 날 근무와 시작 시각 순으로 병합된다")
+    void forEachWorkRecordByWorkplaceAndDateRange_MergesOvernightRecordsByStartTime() {
+        // given - DB 정렬 순서(근무일, 시작 시각, ID)로 반환
+        Long workplaceId = 1L;
+        LocalDate startDate = LocalDate.of(2026, 3, 5);
+        LocalDate endDate = LocalDate.of(2026, 3, 8);
+        Stream<WorkRecordCalendarRow> rows = Stream.of(
+                createCalendarRow(1L, LocalDate.of(2026, 3, 4), LocalTime.of(22, 0), LocalTime.of(6, 0)),
+                createCalendarRow(2L, LocalDate.of(2026, 3, 5), LocalTime.of(0, 0), LocalTime.of(4, 0)),
+                createCalendarRow(3L, LocalDate.of(2026, 3, 5), LocalTime.of(9, 0), LocalTime.of(13, 0)),
+                createCalendarRow(4L, LocalDate.of(2026, 3, 5), LocalTime.of(21, 0), LocalTime.of(1, 0)),
+                createCalendarRow(5L, LocalDate.of(2026, 3, 8), LocalTime.of(20, 0), LocalTime.of(20, 0)));
+
+        when(workRecordRepository.streamCalendarRowsByWorkplaceAndDateRange(
+                workplaceId, startDate.minusDays(1), endDate, WorkRecordStatus.DELETED))
+                .thenReturn(rows);
+
+        // when
+        List<WorkRecordDto.CalendarResponse> result = getCalendar(workplaceId, startDate, endDate);
+
+        // then - 3/6은 근무 기록이 없어도 3/5 야간 근무가 표시되고, 조회 기간 밖(3/9) 표시는 제외
+        assertThat(result).extracting(WorkRecordDto.CalendarResponse::getWorkDate)
+                .containsExactly(
+                        LocalDate.of(2026, 3, 5), LocalDate.of(2026, 3, 5), LocalDate.of(2026, 3, 5),
+                        LocalDate.of(2026, 3, 5), LocalDate.of(2026, 3, 6), LocalDate.of(2026, 3, 8));
+        assertThat(result).extracting(WorkRecordDto.CalendarResponse::getId)
+                .containsExactly(2L, 3L, 4L, 1L, 4L, 5L);
+    }
+
     @Test
     @DisplayName("근로자 및 날짜 범위로 근무 기록 조회 실패 - 근로자 없음")
     void getWorkRecordsByWorkerAndDateRange_WorkerNotFound() {
@@ -254,6 +279,105 @@ class WorkRecordQueryServiceTest {
         assertThat(result.get(0).getStatus()).isEqualTo(WorkRecordStatus.COMPLETED);
     }
 
+    @Test
+    @DisplayName("타임라인 첫 페이지는 한 건 더 조회하여 다음 페이지 커서를 만든다")
+    void getWorkRecordTimeline_FirstPage() {
+        // given
+        Worker worker = mock(Worker.class);
+        when(worker.getId()).thenReturn(1L);
+        when(workerRepository.findByUserId(10L)).thenReturn(Optional.of(worker));
+
+        WorkRecord upcomingRecord = createWorkRecord(3L, LocalDate.of(2026, 2, 21), LocalTime.of(3, 0), LocalTime.of(7, 0), WorkRecordStatus.SCHEDULED);
+        WorkRecord inProgressRecord = createWorkRecord(1L, LocalDate.of(2026, 2, 20), LocalTime.of(22, 0), LocalTime.of(2, 0), WorkRecordStatus.SCHEDULED);
+        WorkRecord completedRecord = createWorkRecord(2L, LocalDate.of(2026, 2, 20), LocalTime.of(20, 0), LocalTime.of(23, 0), WorkRecordStatus.SCHEDULED);
+        WorkRecord nextPageRecord = mock(WorkRecord.class);
+
+        when(workRecordRepository.findTimelineByWorkerId(1L, WorkRecordStatus.DELETED, PageRequest.of(0, 4)))
+                .thenReturn(List.of(upcomingRecord, inProgressRecord, completedRecord, nextPageRecord));
+
+        // when
+        WorkRecordDto.TimelineResponse result = workRecordQueryService.getWorkRecordTimeline(10L, null, 3);
+
+        // then
+        assertThat(result.getRecords()).extracting(WorkRecordDto.DetailedResponse::getId)
+                .containsExactly(3L, 1L, 2L);
+        assertThat(result.getRecords()).extracting(WorkRecordDto.DetailedResponse::getCurrentStatus)
+                .containsExactly(
+                        WorkRecordCurrentStatus.UPCOMING,
+                        WorkRecordCurrentStatus.IN_PROGRESS,
+                        WorkRecordCurrentStatus.COMPLETED
+                );
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(TimelineCursor.decode(result.getNextCursor()))
+                .isEqualTo(new TimelineCursor(LocalDate.of(2026, 2, 20), LocalTime.of(20, 0), 2L));
+    }
+
+    @Test
+    @DisplayName("타임라인 다음 페이지는 커서 이전 근무 기록을 조회하고, 마지막 페이지면 커서를 반환하지 않는다")
+    void getWorkRecordTimeline_NextPage() {
+        // given
+        Worker worker = mock(Worker.class);
+        when(worker.getId()).thenReturn(1L);
+        when(workerRepository.findByUserId(10L)).thenReturn(Optional.of(worker));
+
+        TimelineCursor cursor = new TimelineCursor(LocalDate.of(2026, 2, 20), LocalTime.of(20, 0), 2L);
+        WorkRecord olderRecord = createWorkRecord(5L, LocalDate.of(2026, 2, 20), LocalTime.of(18, 0), LocalTime.of(20, 0), WorkRecordStatus.COMPLETED);
+
+        when(workRecordRepository.findTimelineByWorkerIdBefore(
+                1L, WorkRecordStatus.DELETED, cursor.workDate(), cursor.startTime(), cursor.id(), PageRequest.of(0, 4)))
+                .thenReturn(List.of(olderRecord));
+
+        // when
+        WorkRecordDto.TimelineResponse result = workRecordQueryService.getWorkRecordTimeline(10L, cursor.encode(), 3);
+
+        // then
+        assertThat(result.getRecords()).extracting(WorkRecordDto.DetailedResponse::getId).containsExactly(5L);
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("타임라인 페이지 크기는 최대 100건으로 제한한다")
+    void getWorkRecordTimeline_LimitsPageSize() {
+        // given
+        Worker worker = mock(Worker.class);
+        when(worker.getId()).thenReturn(1L);
+        when(workerRepository.findByUserId(10L)).thenReturn(Optional.of(worker));
+        when(workRecordRepository.findTimelineByWorkerId(1L, WorkRecordStatus.DELETED, PageRequest.of(0, 101)))
+                .thenReturn(List.of());
+
+        // when
+        WorkRecordDto.TimelineResponse result = workRecordQueryService.getWorkRecordTimeline(10L, null, 10_000);
+
+        // then
+        assertThat(result.getRecords()).isEmpty();
+        assertThat(result.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("타임라인 조회 실패 - 유효하지 않은 커서")
+    void getWorkRecordTimeline_InvalidCursor() {
+        // given
+        Worker worker = mock(Worker.class);
+        when(workerRepository.findByUserId(10L)).thenReturn(Optional.of(worker));
+
+        // when & then
+        assertThatThrownBy(() -> workRecordQueryService.getWorkRecordTimeline(10L, "not-a-cursor", 20))
+                .isInstanceOf(BadRequestException.class);
+        verifyNoInteractions(workRecordRepository);
+    }
+
+    @Test
+    @DisplayName("타임라인 조회 실패 - 근로자 없음")
+    void getWorkRecordTimeline_WorkerNotFound() {
+        // given
+        when(workerRepository.findByUserId(anyLong())).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> workRecordQueryService.getWorkRecordTimeline(1L, null, 20))
+                .isInstanceOf(NotFoundException.class);
+    }
+
     private WorkRecord createWorkRecord(Long id, LocalDate workDate, LocalTime startTime, LocalTime endTime, WorkRecordStatus status) {
         User user = mock(User.class);
         when(user.getName()).thenReturn("근로자");
@@ -282,4 +406,14 @@ class WorkRecordQueryServiceTest {
                 .build();
     }
 
+    private List<WorkRecordDto.CalendarResponse> getCalendar(Long workplaceId, LocalDate startDate, LocalDate endDate) {
+        List<WorkRecordDto.CalendarResponse> result = new ArrayList<>();
+        workRecordQueryService.forEachWorkRecordByWorkplaceAndDateRange(workplaceId, startDate, endDate, result::add);
+        return result;
+    }
+
+    private WorkRecordCalendarRow createCalendarRow(Long id, LocalDate workDate, LocalTime startTime, LocalTime endTime) {
+        return new WorkRecordCalendarRow(id, 1L, "홍길동", "테스트 사업장", workDate, startTime, endTime,
+                60, BigDecimal.valueOf(10000), WorkRecordStatus.SCHEDULED);
+    }
 }
@@ -0,0 +1,126 @@
+package com.example.paycheck.domain.workrecord.service;
+
+import com.example.paycheck.domain.correction.enums.CorrectionStatus;
+import com.example.paycheck.domain.correction.enums.RequestType;
+import com.example.paycheck.domain.correction.repository.CorrectionRequestRepository;
+import com.example.paycheck.domain.workrecord.dto.ShiftConflict;
+import com.example.paycheck.domain.workrecord.dto.WorkShift;
+import com.example.paycheck.domain.workrecord.enums.ShiftConflictSource;
+import com.example.paycheck.domain.workrecord.enums.WorkRecordStatus;
+import com.example.paycheck.domain.workrecord.repository.WorkRecordRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WorkShiftOverlapService 테스트")
+class WorkShiftOverlapServiceTest {
+
+    private static final Long CONTRACT_ID = 1L;
+    private static final LocalDate MONDAY = LocalDate.of(2026, 3, 2);
+
+    @Mock
+    private WorkRecordRepository workRecordRepository;
+
+    @Mock
+    private CorrectionRequestRepository correctionRequestRepository;
+
+    @InjectMocks
+    private WorkShiftOverlapService workShiftOverlapService;
+
+    private void givenExisting(LocalDate startDate, LocalDate endDate, List<WorkShift> workRecords, List<WorkShift> pendingRequests) {
+        when(workRecordRepository.findShiftsByContractIdAndWorkDateBetween(
+                CONTRACT_ID, startDate, endDate, WorkRecordStatus.DELETED))
+                .thenReturn(workRecords);
+        when(correctionRequestRepository.findRequestedShiftsByContractIdAndWorkDateBetween(
+                CONTRACT_ID, startDate, endDate, RequestType.CREATE, CorrectionStatus.PENDING))
+                .thenReturn(pendingRequests);
+    }
+
+    @Test
+    @DisplayName("요청 기간 앞뒤 하루를 한 번씩 조회하여 모든 충돌을 반환한다")
+    void findsAllConflictsWithSingleRangeQueries() {
+        // given
+        WorkShift overnightRecord = new WorkShift(10L, MONDAY.minusDays(1), LocalTime.of(22, 0), LocalTime.of(2, 0));
+        WorkShift dayRecord = new WorkShift(11L, MONDAY.plusDays(2), LocalTime.of(9, 0), LocalTime.of(13, 0));
+        WorkShift pendingRequest = new WorkShift(20L, MONDAY.plusDays(4), LocalTime.of(12, 0), LocalTime.of(15, 0));
+        givenExisting(MONDAY.minusDays(1), MONDAY.plusDays(5),
+                List.of(overnightRecord, dayRecord), List.of(pendingRequest));
+
+        WorkShift monday = WorkShift.of(MONDAY, LocalTime.of(1, 0), LocalTime.of(5, 0));
+        WorkShift wednesday = WorkShift.of(MONDAY.plusDays(2), LocalTime.of(1, 0), LocalTime.of(5, 0));
+        WorkShift friday = WorkShift.of(MONDAY.plusDays(4), LocalTime.of(10, 0), LocalTime.of(14, 0));
+
+        // when
+        List<ShiftConflict> conflicts = workShiftOverlapService.findConflicts(
+                CONTRACT_ID, List.of(monday, wednesday, friday));
+
+        // then - 수요일 새벽 근무는 오전 근무 기록과 겹치지 않음
+        assertThat(conflicts).hasSize(2);
+        assertThat(conflicts.get(0).getRequested()).isSameAs(monday);
+        assertThat(conflicts.get(0).getExisting()).isSameAs(overnightRecord);
+        assertThat(conflicts.get(0).getSource()).isEqualTo(ShiftConflictSource.WORK_RECORD);
+        assertThat(conflicts.get(1).getRequested()).isSameAs(friday);
+        assertThat(conflicts.get(1).getExisting()).isSameAs(pendingRequest);
+        assertThat(conflicts.get(1).getSource()).isEqualTo(ShiftConflictSource.PENDING_CREATE_REQUEST);
+    }
+
+    @Test
+    @DisplayName("자정을 넘는 요청은 다음 날 새벽 근무 기록과 겹친다")
+    void overnightRequestOverlapsNextMorning() {
+        // given
+        WorkShift nextMorning = new WorkShift(10L, MONDAY.plusDays(1), LocalTime.of(5, 0), LocalTime.of(9, 0));
+        givenExisting(MONDAY.minusDays(1), MONDAY.plusDays(1), List.of(nextMorning), List.of());
+
+        WorkShift overnight = WorkShift.of(MONDAY, LocalTime.of(22, 0), LocalTime.of(6, 0));
+
+        // when
+        List<ShiftConflict> conflicts = workShiftOverlapService.findConflicts(CONTRACT_ID, List.of(overnight));
+
+        // then
+        assertThat(conflicts).extracting(ShiftConflict::getExisting).containsExactly(nextMorning);
+    }
+
+    @Test
+    @DisplayName("요청된 근무 시간대끼리 겹치면 나중에 시작하는 근무를 충돌로 반환한다")
+    void requestedShiftsOverlappingEachOther() {
+        // given
+        givenExisting(MONDAY.minusDays(1), MONDAY.plusDays(2), List.of(), List.of());
+
+        WorkShift overnight = WorkShift.of(MONDAY, LocalTime.of(20, 0), LocalTime.of(4, 0));
+        WorkShift earlyMorning = WorkShift.of(MONDAY.plusDays(1), LocalTime.of(3, 0), LocalTime.of(7, 0));
+        WorkShift evening = WorkShift.of(MONDAY.plusDays(1), LocalTime.of(20, 0), LocalTime.of(23, 0));
+
+        // when
+        List<ShiftConflict> conflicts = workShiftOverlapService.findConflicts(
+                CONTRACT_ID, List.of(evening, earlyMorning, overnight));
+
+        // then
+        assertThat(conflicts).hasSize(1);
+        assertThat(conflicts.get(0).getRequested()).isSameAs(earlyMorning);
+        assertThat(conflicts.get(0).getExisting()).isSameAs(overnight);
+        assertThat(conflicts.get(0).getSource()).isEqualTo(ShiftConflictSource.REQUESTED);
+    }
+
+    @Test
+    @DisplayName("요청이 없으면 조회하지 않는다")
+    void emptyRequest() {
+        // when
+        List<ShiftConflict> conflicts = workShiftOverlapService.findConflicts(CONTRACT_ID, List.of());
+
+        // then
+        assertThat(conflicts).isEmpty();
+        verifyNoInteractions(workRecordRepository, correctionRequestRepository);
+    }
+}
@@ -0,0 +1,276 @@
+package com.example.paycheck.domain.workrecord.service;
+
+import com.example.paycheck.domain.workrecord.enums.WorkRecordStatus;
+import com.example.paycheck.domain.workrecord.repository.WorkRecordRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WorkedDayIndex 테스트")
+class WorkedDayIndexTest {
+
+    private static final Long CONTRACT_ID = 1L;
+
+    @Mock
+    private WorkRecordRepository workRecordRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private Clock clock;
+
+    private WorkedDayIndex workedDayIndex;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(clock.millis()).thenReturn(0L);
+        workedDayIndex = new WorkedDayIndex(workRecordRepository, transactionManager, clock, 2, 60);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(workedDayIndex);
+    }
+
+    private void givenWorkDates(Long contractId, LocalDate... workDates) {
+        when(workRecordRepository.findDistinctWorkDatesByContractIdAndStatusNot(contractId, WorkRecordStatus.DELETED))
+                .thenReturn(List.of(workDates));
+    }
+
+    private void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization ->
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+
+    @Nested
+    @DisplayName("hasWorkedDayBetween - 근무일 조회")
+    class HasWorkedDayBetween {
+
+        @Test
+        @DisplayName("처음 조회할 때만 근무일을 적재하고 이후에는 메모리에서 판단한다")
+        void loadsOnceAndCaches() {
+            // given
+            givenWorkDates(CONTRACT_ID, LocalDate.of(2026, 3, 4));
+
+            // when
+            boolean first = workedDayIndex.hasWorkedDayBetween(CONTRACT_ID, LocalDate.of(2026, 3, 2), LocalDate.of(2026, 3, 8));
+            boolean second = workedDayIndex.hasWorkedDayBetween(CONTRACT_ID, LocalDate.of(2026, 3, 9), LocalDate.of(2026, 3, 15));
+
+            // then
+            assertThat(first).isTrue();
+            assertThat(second).isFalse();
+            verify(workRecordRepository, times(1))
+                    .findDistinctWorkDatesByContractIdAndStatusNot(CONTRACT_ID, WorkRecordStatus.DELETED);
+        }
+
+        @Test
+        @DisplayName("기간 시작일과 종료일을 포함하여 판단한다 (64일 경계를 걸치는 기간 포함)")
+        void inclusiveBoundariesAcrossWords() {
+            // given - epoch day 20479(2026-01-26)는 64일 단위 word의 마지막 비트
+            LocalDate lastBitOfWord = LocalDate.ofEpochDay(20479);
+            givenWorkDates(CONTRACT_ID, lastBitOfWord);
+
+            // when & then
+            assertThat(workedDayIndex.hasWorkedDayBetween(CONTRACT_ID, lastBitOfWord, lastBitOfWord.plusDays(6))).isTrue();
+            assertThat(workedDayIndex.hasWorkedDayBetween(CONTRACT_ID, lastBitOfWord.minusDays(6), lastBitOfWord)).isTrue();
+            assertThat(workedDayIndex.hasWorkedDayBetween(CONTRACT_ID, lastBitOfWord.minusDays(3), lastBitOfWord.plusDays(3))).isTrue();
+            assertThat(workedDayIndex.hasWorkedDayBetween(CONTRACT_ID, lastBitOfWord.plusDays(1), lastBitOfWord.plusDays(7))).isFalse();
+            assertThat(workedDayIndex.hasWorkedDayBetween(CONTRACT_ID, lastBitOfWord.minusDays(7), lastBitOfWord.minusDays(1))).isFalse();
+        }
+
+        @Test
+        @DisplayName("근무 기록이 없는 계약은 항상 false")
+        void noWorkRecords() {
+            // given
+            givenWorkDates(CONTRACT_ID);
+
+            // when & then
+            assertThat(workedDayIndex.hasWorkedDayBetween(CONTRACT_ID, LocalDate.of(2026, 3, 2), LocalDate.of(2026, 3, 8))).isFalse();
+        }
+
+        @Test
+        @DisplayName("최대 계약 수를 넘으면 가장 오래 조회하지 않은 계약부터 제거한다")
+        void evictsLeastRecentlyUsed() {
+            // given
+            LocalDate monday = LocalDate.of(2026, 3, 2);
+            givenWorkDates(1L, monday);
+            givenWorkDates(2L, monday);
+            givenWorkDates(3L, monday);
+
+            // when - 1, 2 적재 후 1 재조회, 3 적재 시 2가 제거됨
+            workedDayIndex.hasWorkedDayBetween(1L, monday, monday);
+            workedDayIndex.hasWorkedDayBetween(2L, monday, monday);
+            workedDayIndex.hasWorkedDayBetween(1L, monday, monday);
+            workedDayIndex.hasWorkedDayBetween(3L, monday, monday);
+            workedDayIndex.hasWorkedDayBetween(1L, monday, monday);
+            workedDayIndex.hasWorkedDayBetween(2L, monday, monday);
+
+            // then
+            verify(workRecordRepository, times(1)).findDistinctWorkDatesByContractIdAndStatusNot(1L, WorkRecordStatus.DELETED);
+            verify(workRecordRepository, times(2)).findDistinctWorkDatesByContractIdAndStatusNot(2L, WorkRecordStatus.DELETED);
+        }
+
+        @Test
+        @DisplayName("TTL이 지나면 다른 인스턴스에서 변경한 근무일을 DB에서 다시 적재한다")
+        void reloadsAfterTtl() {
+            // given - 다른 인스턴스가 다음 주 근무 기록을 추가
+            LocalDate monday = LocalDate.of(2026, 3, 2);
+            when(workRecordRepository.findDistinctWorkDatesByContractIdAndStatusNot(CONTRACT_ID, WorkRecordStatus.DELETED))
+                    .thenReturn(List.of())
+                    .thenReturn(List.of(monday));
+            assertThat(workedDayIndex.hasWorkedDayBetween(CONTRACT_ID, monday, monday.plusDays(6))).isFalse();
+
+            // when & then - TTL 안에서는 적재한 결과 사용
+            when(clock.millis()).thenReturn(59_999L);
+            assertThat(workedDayIndex.hasWorkedDayBetween(CONTRACT_ID, monday, monday.plusDays(6))).isFalse();
+
+            // when & then - TTL이 지나면 다시 적재
+            when(clock.millis()).thenReturn(60_000L);
+            assertThat(workedDayIndex.hasWorkedDayBetween(CONTRACT_ID, monday, monday.plusDays(6))).isTrue();
+            verify(workRecordRepository, times(2))
+                    .findDistinctWorkDatesByContractIdAndStatusNot(CONTRACT_ID, WorkRecordStatus.DELETED);
+        }
+    }
+
+    @Nested
+    @DisplayName("트랜잭션 밖 변경 - 즉시 반영")
+    class WithoutTransaction {
+
+        @Test
+        @DisplayName("markWorked는 적재된 비트맵에 근무일을 추가한다")
+        void markWorkedUpdatesLoadedEntry() {
+            // given
+            givenWorkDates(CONTRACT_ID, LocalDate.of(2026, 3, 2));
+            workedDayIndex.hasWorkedDayBetween(CONTRACT_ID, LocalDate.of(2026, 3, 2), LocalDate.of(2026, 3, 8));
+
+            // when
+            workedDayIndex.markWorked(CONTRACT_ID, LocalDate.of(2026, 3, 10));
+
+            // then
+            assertThat(workedDayIndex.hasWorkedDayBetween(CONTRACT_ID, LocalDate.of(2026, 3, 9), LocalDate.of(2026, 3, 15))).isTrue();
+            verify(workRecordRepository, times(1))
+                    .findDistinctWorkDatesByContractIdAndStatusNot(CONTRACT_ID, WorkRecordStatus.DELETED);
+        }
+
+        @Test
+        @DisplayName("markRemoved는 비트맵을 제거하여 다음 조회 시 다시 적재한다")
+        void markRemovedReloads() {
+            // given
+            when(workRecordRepository.findDistinctWorkDatesByContractIdAndStatusNot(CONTRACT_ID, WorkRecordStatus.DELETED))
+                    .thenReturn(List.of(LocalDate.of(2026, 3, 2)), List.of());
+            workedDayIndex.hasWorkedDayBetween(CONTRACT_ID, LocalDate.of(2026, 3, 2), LocalDate.of(2026, 3, 8));
+
+            // when
+            workedDayIndex.markRemoved(CONTRACT_ID, LocalDate.of(2026, 3, 2));
+
+            // then
+            assertThat(workedDayIndex.hasWorkedDayBetween(CONTRACT_ID, LocalDate.of(2026, 3, 2), LocalDate.of(2026, 3, 8))).isFalse();
+            verify(workRecordRepository, times(2))
+                    .findDistinctWorkDatesByContractIdAndStatusNot(CONTRACT_ID, WorkRecordStatus.DELETED);
+        }
+    }
+
+    @Nested
+    @DisplayName("트랜잭션 안 변경 - 커밋 후 반영")
+    class WithinTransaction {
+
+        @Test
+        @DisplayName("추가된 근무일은 커밋 전에도 같은 트랜잭션에서 근무일로 판단한다")
+        void pendingAddVisibleInTransaction() {
+            // given
+            TransactionSynchronizationManager.initSynchronization();
+
+            // when
+            workedDayIndex.markWorked(CONTRACT_ID, LocalDate.of(2026, 3, 10));
+            boolean result = workedDayIndex.hasWorkedDayBetween(CONTRACT_ID, LocalDate.of(2026, 3, 9), LocalDate.of(2026, 3, 15));
+
+            // then - 비트맵 적재 없이 판단
+            assertThat(result).isTrue();
+            verify(workRecordRepository, never()).findDistinctWorkDatesByContractIdAndStatusNot(anyLong(), any());
+        }
+
+        @Test
+        @DisplayName("트랜잭션 안에서 제거된 근무일이 포함된 기간은 DB에서 확인한다")
+        void pendingRemovalFallsBackToDatabase() {
+            // given
+            givenWorkDates(CONTRACT_ID, LocalDate.of(2026, 3, 2));
+            workedDayIndex.hasWorkedDayBetween(CONTRACT_ID, LocalDate.of(2026, 3, 2), LocalDate.of(2026, 3, 8));
+            TransactionSynchronizationManager.initSynchronization();
+            when(workRecordRepository.existsByContractIdAndWorkDateBetweenAndStatusNot(
+                    CONTRACT_ID, LocalDate.of(2026, 3, 2), LocalDate.of(2026, 3, 8), WorkRecordStatus.DELETED))
+                    .thenReturn(false);
+
+            // when
+            workedDayIndex.markRemoved(CONTRACT_ID, LocalDate.of(2026, 3, 2));
+            boolean result = workedDayIndex.hasWorkedDayBetween(CONTRACT_ID, LocalDate.of(2026, 3, 2), LocalDate.of(2026, 3, 8));
+
+            // then
+            assertThat(result).isFalse();
+        }
+
+        @Test
+        @DisplayName("커밋되면 변경분을 비트맵에 반영한다")
+        void appliesOnCommit() {
+            // given
+            givenWorkDates(CONTRACT_ID, LocalDate.of(2026, 3, 2));
+            workedDayIndex.hasWorkedDayBetween(CONTRACT_ID, LocalDate.of(2026, 3, 2), LocalDate.of(2026, 3, 8));
+            TransactionSynchronizationManager.initSynchronization();
+            workedDayIndex.markWorked(CONTRACT_ID, List.of(LocalDate.of(2026, 3, 10)));
+
+            // when
+            commit();
+
+            // then
+            assertThat(workedDayIndex.hasWorkedDayBetween(CONTRACT_ID, LocalDate.of(2026, 3, 9), LocalDate.of(2026, 3, 15))).isTrue();
+            verify(workRecordRepository, times(1))
+                    .findDistinctWorkDatesByContractIdAndStatusNot(CONTRACT_ID, WorkRecordStatus.DELETED);
+        }
+
+        @Test
+        @DisplayName("롤백되면 변경분을 반영하지 않는다")
+        void discardsOnRollback() {
+            // given
+            givenWorkDates(CONTRACT_ID, LocalDate.of(2026, 3, 2));
+            workedDayIndex.hasWorkedDayBetween(CONTRACT_ID, LocalDate.of(2026, 3, 2), LocalDate.of(2026, 3, 8));
+            TransactionSynchronizationManager.initSynchronization();
+            workedDayIndex.markWorked(CONTRACT_ID, LocalDate.of(2026, 3, 10));
+
+            // when
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            TransactionSynchronizationManager.clearSynchronization();
+            synchronizations.forEach(synchronization ->
+                    synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            // then
+            assertThat(workedDayIndex.hasWorkedDayBetween(CONTRACT_ID, LocalDate.of(2026, 3, 9), LocalDate.of(2026, 3, 15))).isFalse();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.paycheck.domain.workrecord.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ShiftIntervalTree 테스트")
+class ShiftIntervalTreeTest {
+
+    private static ShiftIntervalTree<long[]> treeOf(List<long[]> intervals) {
+        return ShiftIntervalTree.of(intervals, interval -> interval[0], interval -> interval[1]);
+    }
+
+    @Test
+    @DisplayName("끝과 시작이 맞닿은 구간은 겹치지 않는다")
+    void touchingIntervalsDoNotOverlap() {
+        ShiftIntervalTree<long[]> tree = treeOf(List.of(new long[]{540, 1080}));
+
+        assertThat(tree.findOverlapping(1080, 1200)).isEmpty();
+        assertThat(tree.findOverlapping(300, 540)).isEmpty();
+        assertThat(tree.findOverlapping(1079, 1200)).hasSize(1);
+        assertThat(tree.findOverlapping(300, 541)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("다른 구간을 포함하거나 포함되는 구간도 겹치는 것으로 판단한다")
+    void containedIntervalsOverlap() {
+        long[] longShift = {0, 2000};
+        long[] shortShift = {600, 700};
+        ShiftIntervalTree<long[]> tree = treeOf(List.of(shortShift, longShift));
+
+        assertThat(tree.findOverlapping(650, 660)).containsExactly(longShift, shortShift);
+        assertThat(tree.findOverlapping(1500, 1600)).containsExactly(longShift);
+    }
+
+    @Test
+    @DisplayName("빈 트리와 길이가 0인 조회 구간은 겹치는 구간이 없다")
+    void emptyTreeAndEmptyQuery() {
+        assertThat(treeOf(List.of()).findOverlapping(0, 100)).isEmpty();
+        assertThat(treeOf(List.of(new long[]{0, 100})).findOverlapping(50, 50)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("무작위 구간에서 전수 비교 결과와 동일")
+    void matchesBruteForce() {
+        Random random = new Random(42);
+        List<String> mismatches = new ArrayList<>();
+
+        for (int round = 0; round < 200; round++) {
+            List<long[]> intervals = new ArrayList<>();
+            int size = random.nextInt(50);
+            for (int i = 0; i < size; i++) {
+                long start = random.nextInt(10_000);
+                intervals.add(new long[]{start, start + random.nextInt(1_500)});
+            }
+            ShiftIntervalTree<long[]> tree = treeOf(intervals);
+
+            for (int query = 0; query < 50; query++) {
+                long start = random.nextInt(11_000) - 500;
+                long end = start + random.nextInt(1_500);
+
+                long expected = intervals.stream()
+                        .filter(interval -> interval[0] < interval[1] && interval[0] < end && interval[1] > start)
+                        .count();
+                List<long[]> actual = tree.findOverlapping(start, end);
+                if (actual.size() != expected) {
+                    mismatches.add(String.format("round=%d [%d, %d) expected=%d actual=%d",
+                            round, start, end, expected, actual.size()));
+                }
+            }
+        }
+
+        assertThat(mismatches).isEmpty();
+    }
+}
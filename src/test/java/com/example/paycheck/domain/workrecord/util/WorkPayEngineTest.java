@@ -0,0 +1,199 @@
+package com.example.paycheck.domain.workrecord.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("WorkPayEngine 테스트")
+class WorkPayEngineTest {
+
+    private static final int[] BREAK_MINUTES = {0, 1, 15, 30, 45, 60, 90, 600};
+    private static final String[] HOURLY_WAGES = {"9860", "10000", "10003", "12345.67"};
+
+    @Test
+    @DisplayName("정수 계산 결과가 기존 BigDecimal 계산과 동일 (15분 간격 전 구간)")
+    void classifyAndPay_MatchesLegacyBigDecimal() {
+        WorkPayEngine.PayResult result = new WorkPayEngine.PayResult();
+        List<String> mismatches = new ArrayList<>();
+
+        for (int start = 0; start < 24 * 60; start += 15) {
+            for (int end = 0; end < 24 * 60; end += 15) {
+                LocalTime startTime = LocalTime.of(start / 60, start % 60);
+                LocalTime endTime = LocalTime.of(end / 60, end % 60);
+
+                for (int breakMinutes : BREAK_MINUTES) {
+                    for (boolean isHoliday : new boolean[]{false, true}) {
+                        for (boolean isSmallWorkplace : new boolean[]{false, true}) {
+                            for (String wage : HOURLY_WAGES) {
+                                String mismatch = findMismatch(startTime, endTime, breakMinutes, isHoliday,
+                                        isSmallWorkplace, new BigDecimal(wage), result);
+                                if (mismatch != null) {
+                                    mismatches.add(mismatch);
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        assertThat(mismatches).isEmpty();
+    }
+
+    @Test
+    @DisplayName("초 단위가 포함된 시각도 Duration.toMinutes와 동일하게 절삭")
+    void classifyHours_SecondsTruncatedLikeDuration() {
+        WorkPayEngine.PayResult result = new WorkPayEngine.PayResult();
+
+        assertThat(findMismatch(LocalTime.of(9, 0, 30), LocalTime.of(17, 0), 0, false, false,
+                new BigDecimal("10000"), result)).isNull();
+        assertThat(findMismatch(LocalTime.of(22, 0, 30), LocalTime.of(6, 0), 30, false, false,
+                new BigDecimal("10000"), result)).isNull();
+        assertThat(findMismatch(LocalTime.of(21, 59, 59), LocalTime.of(5, 59, 1), 0, true, false,
+                new BigDecimal("10000"), result)).isNull();
+    }
+
+    @Test
+    @DisplayName("단건 계산용 버퍼는 스레드마다 하나를 재사용한다")
+    void threadBuffer_ReusedPerThread() throws Exception {
+        WorkPayEngine.PayResult buffer = WorkPayEngine.threadBuffer();
+        AtomicReference<WorkPayEngine.PayResult> otherThreadBuffer = new AtomicReference<>();
+        Thread other = new Thread(() -> otherThreadBuffer.set(WorkPayEngine.threadBuffer()));
+        other.start();
+        other.join();
+
+        assertThat(WorkPayEngine.threadBuffer()).isSameAs(buffer);
+        assertThat(otherThreadBuffer.get()).isNotNull().isNotSameAs(buffer);
+    }
+
+    @Test
+    @DisplayName("HALF_UP 정수 나눗셈 - 음수는 0에서 멀어지는 방향으로 반올림")
+    void divideHalfUp() {
+        assertThat(WorkPayEngine.divideHalfUp(5, 2)).isEqualTo(3);
+        assertThat(WorkPayEngine.divideHalfUp(4, 3)).isEqualTo(1);
+        assertThat(WorkPayEngine.divideHalfUp(-5, 2)).isEqualTo(-3);
+        assertThat(WorkPayEngine.divideHalfUp(-4, 3)).isEqualTo(-1);
+        assertThat(WorkPayEngine.divideHalfUp(0, 7)).isZero();
+    }
+
+    private String findMismatch(LocalTime startTime, LocalTime endTime, int breakMinutes,
+                                boolean isHoliday, boolean isSmallWorkplace, BigDecimal hourlyWage,
+                                WorkPayEngine.PayResult result) {
+        LegacyResult expected = LegacyResult.calculate(startTime, endTime, breakMinutes, isHoliday, isSmallWorkplace, hourlyWage);
+
+        WorkPayEngine.classifyHours(startTime.toNanoOfDay(), endTime.toNanoOfDay(), breakMinutes, isHoliday, result);
+        WorkPayEngine.calculatePay(WorkPayEngine.toCentiWon(hourlyWage), isSmallWorkplace, result);
+
+        boolean matches = result.totalWorkMinutes == expected.totalWorkMinutes
+                && hours(result.totalCentiHours).compareTo(expected.totalHours) == 0
+                && hours(result.overtimeCentiHours).compareTo(expected.overtimeHours) == 0
+                && hours(result.nightCentiHours).compareTo(expected.nightHours) == 0
+                && hours(result.regularCentiHours).compareTo(expected.regularHours) == 0
+                && hours(result.holidayCentiHours).compareTo(expected.holidayHours) == 0
+                && BigDecimal.valueOf(result.basePay, WorkPayEngine.BASE_PAY_SCALE).compareTo(expected.baseSalary) == 0
+                && BigDecimal.valueOf(result.overtimePay, WorkPayEngine.PREMIUM_PAY_SCALE).compareTo(expected.overtimeSalary) == 0
+                && BigDecimal.valueOf(result.nightPay, WorkPayEngine.PREMIUM_PAY_SCALE).compareTo(expected.nightSalary) == 0
+                && BigDecimal.valueOf(result.holidayPay, WorkPayEngine.PREMIUM_PAY_SCALE).compareTo(expected.holidaySalary) == 0
+                && BigDecimal.valueOf(result.totalPay, WorkPayEngine.PREMIUM_PAY_SCALE).compareTo(expected.totalSalary) == 0;
+
+        return matches ? null : startTime + "-" + endTime + " break=" + breakMinutes
+                + " holiday=" + isHoliday + " small=" + isSmallWorkplace + " wage=" + hourlyWage;
+    }
+
+    private BigDecimal hours(long centiHours) {
+        return BigDecimal.valueOf(centiHours, WorkPayEngine.HOURS_SCALE);
+    }
+
+    /**
+     * WorkPayEngine 도입 이전 WorkRecord의 BigDecimal 계산 로직 (비교 기준)
+     */
+    private static class LegacyResult {
+        int totalWorkMinutes;
+        BigDecimal totalHours;
+        BigDecimal overtimeHours;
+        BigDecimal nightHours;
+        BigDecimal regularHours;
+        BigDecimal holidayHours;
+        BigDecimal baseSalary;
+        BigDecimal overtimeSalary;
+        BigDecimal nightSalary;
+        BigDecimal holidaySalary;
+        BigDecimal totalSalary;
+
+        static LegacyResult calculate(LocalTime startTime, LocalTime endTime, int breakMinutes,
+                                      boolean isHoliday, boolean isSmallWorkplace, BigDecimal hourlyWage) {
+            LegacyResult r = new LegacyResult();
+            LocalTime nightStart = LocalTime.of(22, 0);
+            LocalTime nightEnd = LocalTime.of(6, 0);
+
+            long minutes = Duration.between(startTime, endTime).toMinutes();
+            if (endTime.isBefore(startTime)) {
+                minutes += 24 * 60;
+            }
+            r.totalHours = BigDecimal.valueOf(minutes).subtract(BigDecimal.valueOf(breakMinutes))
+                    .divide(BigDecimal.valueOf(60), 2, RoundingMode.HALF_UP);
+            r.totalWorkMinutes = (int) (minutes - breakMinutes);
+            r.overtimeHours = r.totalHours.compareTo(BigDecimal.valueOf(8)) > 0
+                    ? r.totalHours.subtract(BigDecimal.valueOf(8))
+                    : BigDecimal.ZERO;
+
+            BigDecimal night = BigDecimal.ZERO;
+            if (endTime.isBefore(startTime)) {
+                LocalTime from = !startTime.isBefore(nightStart) ? startTime : nightStart;
+                night = night.add(toHours(Duration.between(from, LocalTime.MAX).toMinutes() + 1));
+                LocalTime to = (endTime.isBefore(nightEnd) || endTime.equals(LocalTime.MIN)) ? endTime : nightEnd;
+                night = night.add(toHours(Duration.between(LocalTime.MIN, to).toMinutes()));
+            } else {
+                if (startTime.isBefore(nightEnd)) {
+                    LocalTime actualEnd = endTime.isBefore(nightEnd) ? endTime : nightEnd;
+                    night = toHours(Duration.between(startTime, actualEnd).toMinutes());
+                }
+                if (endTime.isAfter(nightStart)) {
+                    LocalTime actualStart = startTime.isAfter(nightStart) ? startTime : nightStart;
+                    night = night.add(toHours(Duration.between(actualStart, endTime).toMinutes()));
+                }
+            }
+            if (breakMinutes > 0 && r.totalHours.compareTo(BigDecimal.ZERO) > 0) {
+                BigDecimal breakHours = toHours(breakMinutes);
+                BigDecimal ratio = night.divide(r.totalHours.add(breakHours), 4, RoundingMode.HALF_UP);
+                night = night.subtract(breakHours.multiply(ratio)).setScale(2, RoundingMode.HALF_UP);
+            }
+            r.nightHours = night.max(BigDecimal.ZERO);
+
+            if (isHoliday) {
+                r.holidayHours = r.totalHours;
+                r.regularHours = BigDecimal.ZERO;
+            } else {
+                r.regularHours = r.totalHours.subtract(r.nightHours).max(BigDecimal.ZERO);
+                r.holidayHours = BigDecimal.ZERO;
+            }
+
+            BigDecimal premiumRate = BigDecimal.valueOf(0.5);
+            r.baseSalary = r.totalHours.multiply(hourlyWage);
+            if (isSmallWorkplace) {
+                r.overtimeSalary = BigDecimal.ZERO;
+                r.nightSalary = BigDecimal.ZERO;
+                r.holidaySalary = BigDecimal.ZERO;
+            } else {
+                r.overtimeSalary = r.overtimeHours.multiply(hourlyWage).multiply(premiumRate);
+                r.nightSalary = r.nightHours.multiply(hourlyWage).multiply(premiumRate);
+                r.holidaySalary = r.holidayHours.multiply(hourlyWage).multiply(premiumRate);
+            }
+            r.totalSalary = r.baseSalary.add(r.overtimeSalary).add(r.nightSalary).add(r.holidaySalary);
+            return r;
+        }
+
+        private static BigDecimal toHours(long minutes) {
+            return BigDecimal.valueOf(minutes).divide(BigDecimal.valueOf(60), 2, RoundingMode.HALF_UP);
+        }
+    }
+}
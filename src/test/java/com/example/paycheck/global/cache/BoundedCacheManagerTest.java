@@ -0,0 +1,56 @@
+package com.example.paycheck.global.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Clock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BoundedCacheManager 테스트")
+class BoundedCacheManagerTest {
+
+    private BoundedCacheManager cacheManager(MockEnvironment environment) {
+        BoundedCacheManager cacheManager = new BoundedCacheManager(environment, Clock.systemDefaultZone());
+        cacheManager.afterPropertiesSet();
+        return cacheManager;
+    }
+
+    @Test
+    @DisplayName("캐시별 설정을 적용하고, 지정하지 않은 항목은 기본 설정을 사용한다")
+    void appliesPerCacheSpecOverDefaults() {
+        // given
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("cache.names", "holiday-check, holidays-by-year")
+                .withProperty("cache.default.max-size", "100")
+                .withProperty("cache.default.ttl-seconds", "60")
+                .withProperty("cache.default.eviction", "FIFO")
+                .withProperty("cache.specs.holiday-check.max-size", "5")
+                .withProperty("cache.specs.holiday-check.eviction", "LRU");
+
+        // when
+        BoundedCacheManager cacheManager = cacheManager(environment);
+
+        // then
+        assertThat(cacheManager.getCacheNames()).containsExactlyInAnyOrder("holiday-check", "holidays-by-year");
+        assertThat(((BoundedCache) cacheManager.getCache("holiday-check")).getSpec())
+                .isEqualTo(new CacheSpec(5, 60_000, CacheSpec.EvictionPolicy.LRU));
+        assertThat(((BoundedCache) cacheManager.getCache("holidays-by-year")).getSpec())
+                .isEqualTo(new CacheSpec(100, 60_000, CacheSpec.EvictionPolicy.FIFO));
+    }
+
+    @Test
+    @DisplayName("설정에 없는 캐시도 처음 사용할 때 기본 제한으로 생성한다")
+    void createsMissingCacheWithDefaults() {
+        // given
+        BoundedCacheManager cacheManager = cacheManager(new MockEnvironment());
+
+        // when
+        BoundedCache cache = (BoundedCache) cacheManager.getCache("new-cache");
+
+        // then
+        assertThat(cache.getSpec()).isEqualTo(new CacheSpec(1000, 3_600_000, CacheSpec.EvictionPolicy.LRU));
+        assertThat(cacheManager.getBoundedCaches()).extracting(BoundedCache::getName).containsExactly("new-cache");
+    }
+}
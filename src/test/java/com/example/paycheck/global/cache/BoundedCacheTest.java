@@ -0,0 +1,186 @@
+package com.example.paycheck.global.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BoundedCache 테스트")
+class BoundedCacheTest {
+
+    @Mock
+    private Clock clock;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(clock.millis()).thenReturn(0L);
+    }
+
+    private BoundedCache cache(int maxSize, long ttlMillis, CacheSpec.EvictionPolicy eviction) {
+        return new BoundedCache("test", new CacheSpec(maxSize, ttlMillis, eviction), clock);
+    }
+
+    @Test
+    @DisplayName("LRU - 최대 크기를 넘으면 가장 오래 사용하지 않은 항목을 제거한다")
+    void lruEvictsLeastRecentlyUsed() {
+        // given
+        BoundedCache cache = cache(2, 0, CacheSpec.EvictionPolicy.LRU);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+
+        // when
+        cache.put("c", 3);
+
+        // then
+        assertThat(cache.get("a")).isNotNull();
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("c")).isNotNull();
+        assertThat(cache.getStats().evictions()).isEqualTo(1);
+        assertThat(cache.getStats().size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 조회/저장해도 저장이 끝나면 최대 크기 이하로 유지한다")
+    void staysBoundedUnderConcurrentAccess() throws Exception {
+        // given
+        BoundedCache cache = cache(100, 0, CacheSpec.EvictionPolicy.LRU);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int t = 0; t < threads; t++) {
+            int offset = t * 10_000;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 2_000; i++) {
+                    cache.put(offset + i, i);
+                    cache.get(offset + i / 2);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        CacheStats stats = cache.getStats();
+        assertThat(stats.size()).isLessThanOrEqualTo(100);
+        assertThat(stats.evictions()).isGreaterThanOrEqualTo(threads * 2_000 - 100);
+    }
+
+    @Test
+    @DisplayName("FIFO - 최대 크기를 넘으면 조회 여부와 관계없이 가장 먼저 저장한 항목을 제거한다")
+    void fifoEvictsOldestInserted() {
+        // given
+        BoundedCache cache = cache(2, 0, CacheSpec.EvictionPolicy.FIFO);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+
+        // when
+        cache.put("c", 3);
+
+        // then
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.get("b")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 항목은 조회 시 만료로 제거한다")
+    void expiresAfterTtl() {
+        // given
+        BoundedCache cache = cache(10, 1_000, CacheSpec.EvictionPolicy.LRU);
+        cache.put("a", 1);
+
+        // when
+        when(clock.millis()).thenReturn(999L);
+        Object beforeExpiry = cache.get("a", Integer.class);
+        when(clock.millis()).thenReturn(1_000L);
+        Object afterExpiry = cache.get("a", Integer.class);
+
+        // then
+        assertThat(beforeExpiry).isEqualTo(1);
+        assertThat(afterExpiry).isNull();
+        CacheStats stats = cache.getStats();
+        assertThat(stats.hits()).isEqualTo(1);
+        assertThat(stats.misses()).isEqualTo(1);
+        assertThat(stats.expirations()).isEqualTo(1);
+        assertThat(stats.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("값을 불러와 저장하고, 이후에는 저장된 값을 반환한다 (null 값 포함)")
+    void loadsAndCachesValue() {
+        // given
+        BoundedCache cache = cache(10, 0, CacheSpec.EvictionPolicy.LRU);
+
+        // when
+        String first = cache.get("a", () -> "value");
+        String second = cache.get("a", () -> "other");
+        String nullFirst = cache.get("b", () -> null);
+        String nullSecond = cache.get("b", () -> "other");
+
+        // then
+        assertThat(first).isEqualTo("value");
+        assertThat(second).isEqualTo("value");
+        assertThat(nullFirst).isNull();
+        assertThat(nullSecond).isNull();
+        assertThat(cache.getStats().hitRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("최대 크기가 0이면 저장하지 않는다")
+    void zeroMaxSizeStoresNothing() {
+        // given
+        BoundedCache cache = cache(0, 0, CacheSpec.EvictionPolicy.LRU);
+
+        // when
+        cache.put("a", 1);
+
+        // then
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.getStats().size()).isZero();
+        assertThat(cache.getStats().evictions()).isZero();
+    }
+
+    @Test
+    @DisplayName("evict/clear로 항목을 제거한다")
+    void evictAndClear() {
+        // given
+        BoundedCache cache = cache(10, 0, CacheSpec.EvictionPolicy.LRU);
+        cache.put("a", 1);
+        cache.put("b", 2);
+
+        // when
+        cache.evict("a");
+
+        // then
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.getStats().size()).isEqualTo(1);
+
+        cache.clear();
+        assertThat(cache.getStats().size()).isZero();
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.paycheck.global.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InvalidationTracker 테스트")
+class InvalidationTrackerTest {
+
+    private final List<Long> removed = new ArrayList<>();
+    private final InvalidationTracker<Long> tracker = new InvalidationTracker<>(removed::add);
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 한 번 제거하고 무효화 순번을 올린다")
+    void removesOnceOutsideTransaction() {
+        // given
+        long sequence = tracker.sequence();
+
+        // when
+        tracker.invalidate(1L);
+
+        // then
+        assertThat(removed).containsExactly(1L);
+        assertThat(tracker.isUnchangedSince(sequence)).isFalse();
+        assertThat(tracker.isUnchangedSince(tracker.sequence())).isTrue();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 즉시 제거하고 트랜잭션 종료 후 한 번 더 제거한다 (롤백 포함)")
+    void removesAgainAfterTransactionCompletion() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            tracker.invalidate(1L);
+            assertThat(removed).containsExactly(1L);
+            long sequenceBeforeCompletion = tracker.sequence();
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            // then
+            assertThat(removed).containsExactly(1L, 1L);
+            assertThat(tracker.isUnchangedSince(sequenceBeforeCompletion)).isFalse();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
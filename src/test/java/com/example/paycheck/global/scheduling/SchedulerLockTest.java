@@ -0,0 +1,164 @@
+package com.example.paycheck.global.scheduling;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SchedulerLock 테스트")
+class SchedulerLockTest {
+
+    private static final String NODE_ID = "node-1";
+    private static final Duration LEASE = Duration.ofMinutes(1);
+
+    @Mock
+    private SchedulerLeaseService schedulerLeaseService;
+
+    private SchedulerLock schedulerLock;
+
+    @BeforeEach
+    void setUp() {
+        schedulerLock = new SchedulerLock(schedulerLeaseService, NODE_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        schedulerLock.shutdown();
+    }
+
+    @Test
+    @DisplayName("lease를 획득하면 작업을 실행하고 반납한다")
+    void runExclusively_AcquiredRunsAndReleases() {
+        // given
+        when(schedulerLeaseService.tryAcquire("job", NODE_ID, LEASE)).thenReturn(true);
+        AtomicBoolean executed = new AtomicBoolean();
+
+        // when
+        boolean result = schedulerLock.runExclusively("job", LEASE, () -> executed.set(true));
+
+        // then
+        assertThat(result).isTrue();
+        assertThat(executed).isTrue();
+        verify(schedulerLeaseService).release("job", NODE_ID, Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("기본 설정으로 실행하면 최소 보유 기간을 두고 반납한다")
+    void runExclusively_DefaultReleasesWithMinHold() {
+        // given
+        when(schedulerLeaseService.tryAcquire("job", NODE_ID, SchedulerLock.DEFAULT_LEASE_DURATION)).thenReturn(true);
+
+        // when
+        schedulerLock.runExclusively("job", () -> { });
+
+        // then
+        verify(schedulerLeaseService).release("job", NODE_ID, SchedulerLock.DEFAULT_MIN_HOLD);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 lease를 보유 중이면 작업을 건너뛴다")
+    void runExclusively_NotAcquiredSkips() {
+        // given
+        when(schedulerLeaseService.tryAcquire("job", NODE_ID, LEASE)).thenReturn(false);
+        AtomicBoolean executed = new AtomicBoolean();
+
+        // when
+        boolean result = schedulerLock.runExclusively("job", LEASE, () -> executed.set(true));
+
+        // then
+        assertThat(result).isFalse();
+        assertThat(executed).isFalse();
+        verify(schedulerLeaseService, never()).release(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("lease 획득 중 예외(동시 생성 충돌 등)가 발생하면 작업을 건너뛴다")
+    void runExclusively_AcquireFailureSkips() {
+        // given
+        when(schedulerLeaseService.tryAcquire("job", NODE_ID, LEASE)).thenThrow(new RuntimeException("duplicate"));
+        AtomicBoolean executed = new AtomicBoolean();
+
+        // when
+        boolean result = schedulerLock.runExclusively("job", LEASE, () -> executed.set(true));
+
+        // then
+        assertThat(result).isFalse();
+        assertThat(executed).isFalse();
+    }
+
+    @Test
+    @DisplayName("작업이 실패해도 lease를 반납한다")
+    void runExclusively_ReleasesOnFailure() {
+        // given
+        when(schedulerLeaseService.tryAcquire("job", NODE_ID, LEASE)).thenReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> schedulerLock.runExclusively("job", LEASE, () -> {
+            throw new IllegalStateException("작업 실패");
+        })).isInstanceOf(IllegalStateException.class);
+        verify(schedulerLeaseService).release("job", NODE_ID, Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("heartbeat에서 lease를 잃으면 작업 스레드를 인터럽트하고, 종료 후 인터럽트 상태를 해제한다")
+    void runExclusively_LeaseLostInterruptsTask() {
+        // given
+        Duration shortLease = Duration.ofMillis(30);
+        when(schedulerLeaseService.tryAcquire("job", NODE_ID, shortLease)).thenReturn(true);
+        when(schedulerLeaseService.extend("job", NODE_ID, shortLease)).thenReturn(false);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        AtomicBoolean leaseLost = new AtomicBoolean();
+
+        // when
+        schedulerLock.runExclusively("job", shortLease, () -> {
+            try {
+                Thread.sleep(5000);
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+                leaseLost.set(schedulerLock.isLeaseLost());
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        // then
+        assertThat(interrupted).isTrue();
+        assertThat(leaseLost).isTrue();
+        assertThat(Thread.currentThread().isInterrupted()).isFalse();
+        assertThat(schedulerLock.isLeaseLost()).isFalse();
+    }
+
+    @Test
+    @DisplayName("파티션 작업은 lease를 획득한 파티션만 실행한다")
+    void runPartitioned_RunsOnlyAcquiredPartitions() {
+        // given - 파티션 1은 다른 노드가 보유
+        when(schedulerLeaseService.tryAcquire(anyString(), eq(NODE_ID), any(Duration.class))).thenReturn(true);
+        when(schedulerLeaseService.tryAcquire("job#1", NODE_ID, LEASE)).thenReturn(false);
+        List<Integer> executed = new ArrayList<>();
+
+        // when
+        int count = schedulerLock.runPartitioned("job", 3, LEASE, executed::add);
+
+        // then
+        assertThat(count).isEqualTo(2);
+        assertThat(executed).containsExactlyInAnyOrder(0, 2);
+        verify(schedulerLeaseService, never()).release("job#1", NODE_ID, Duration.ZERO);
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.paycheck.global.scheduling;
+
+import com.example.paycheck.global.config.EncryptionConfig;
+import com.example.paycheck.global.encryption.AccountNumberEncryptor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 DB lease 테이블을 공유하는 두 노드의 SchedulerLock 동작 검증
+ * lease 획득/반납은 REQUIRES_NEW로 즉시 커밋되므로 테스트 트랜잭션 없이 실행한다.
+ */
+@DataJpaTest
+@Import({SchedulerLeaseService.class, EncryptionConfig.class, AccountNumberEncryptor.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("SchedulerLock 2노드 테스트")
+class SchedulerLockTwoNodeTest {
+
+    private static final Duration LEASE = Duration.ofMinutes(1);
+
+    @Autowired
+    private SchedulerLeaseService schedulerLeaseService;
+
+    @Autowired
+    private SchedulerLeaseRepository schedulerLeaseRepository;
+
+    private SchedulerLock nodeA;
+    private SchedulerLock nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = new SchedulerLock(schedulerLeaseService, "node-a");
+        nodeB = new SchedulerLock(schedulerLeaseService, "node-b");
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.shutdown();
+        nodeB.shutdown();
+        schedulerLeaseRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("작업이 빨리 끝나도 같은 실행 시각에 늦게 깨어난 노드는 작업을 다시 실행하지 않는다")
+    void lateNodeSkipsSameFireTimeWithinMinHold() {
+        // given
+        AtomicInteger executions = new AtomicInteger();
+
+        // when - 노드 A가 실행 후 반납, 노드 B가 같은 실행 시각에 늦게 실행 시도
+        boolean ranOnA = nodeA.runExclusively("payment-day-reminder", LEASE, Duration.ofMinutes(5),
+                executions::incrementAndGet);
+        boolean ranOnB = nodeB.runExclusively("payment-day-reminder", LEASE, Duration.ofMinutes(5),
+                executions::incrementAndGet);
+
+        // then
+        assertThat(ranOnA).isTrue();
+        assertThat(ranOnB).isFalse();
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("최소 보유 기간이 지나면 다른 노드가 다음 실행을 가져간다")
+    void otherNodeAcquiresAfterMinHold() throws InterruptedException {
+        // given
+        Duration minHold = Duration.ofMillis(200);
+        AtomicInteger executions = new AtomicInteger();
+        nodeA.runExclusively("job", LEASE, minHold, executions::incrementAndGet);
+
+        // when
+        Thread.sleep(minHold.toMillis() + 100);
+        boolean ranOnB = nodeB.runExclusively("job", LEASE, minHold, executions::incrementAndGet);
+
+        // then
+        assertThat(ranOnB).isTrue();
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("최소 보유 기간 없이 반납하면 다른 노드가 바로 획득한다")
+    void releaseWithoutMinHoldExpiresImmediately() {
+        // given
+        AtomicInteger executions = new AtomicInteger();
+        nodeA.runExclusively("job#0", LEASE, executions::incrementAndGet);
+
+        // when
+        boolean ranOnB = nodeB.runExclusively("job#0", LEASE, executions::incrementAndGet);
+
+        // then
+        assertThat(ranOnB).isTrue();
+        assertThat(executions).hasValue(2);
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.paycheck.global.security;
+
+import com.example.paycheck.domain.user.enums.UserType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("AccessTokenRevocationList 테스트")
+class AccessTokenRevocationListTest {
+
+    private static final long REVOKED_AT = Instant.parse("2026-03-02T09:00:00Z").getEpochSecond();
+
+    private AccessTokenRevocationList revocationListAt(long epochSecond) {
+        return new AccessTokenRevocationList(
+                Clock.fixed(Instant.ofEpochSecond(epochSecond), ZoneId.of("UTC")), 1800000);
+    }
+
+    private AccessTokenClaims claims(Long userId, long issuedAt) {
+        return new AccessTokenClaims(userId, UserType.WORKER, 0L, issuedAt);
+    }
+
+    @Test
+    @DisplayName("무효화 시각 이전(같은 초 포함)에 발급된 토큰만 거부한다")
+    void revokesTokensIssuedBeforeRevocation() {
+        // given
+        AccessTokenRevocationList revocationList = revocationListAt(REVOKED_AT);
+
+        // when
+        revocationList.revokeAll(1L);
+
+        // then
+        assertThat(revocationList.isRevoked(claims(1L, REVOKED_AT - 60))).isTrue();
+        assertThat(revocationList.isRevoked(claims(1L, REVOKED_AT))).isTrue();
+        assertThat(revocationList.isRevoked(claims(1L, REVOKED_AT + 1))).isFalse();
+        assertThat(revocationList.isRevoked(claims(2L, REVOKED_AT - 60))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Access Token 유효 기간이 지난 무효화 기록은 정리한다")
+    void purgesExpiredRevocations() {
+        // given
+        Clock clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(Instant.ofEpochSecond(REVOKED_AT));
+        AccessTokenRevocationList revocationList = new AccessTokenRevocationList(clock, 1800000);
+        revocationList.revokeAll(1L);
+        when(clock.instant()).thenReturn(Instant.ofEpochSecond(REVOKED_AT + 1000));
+        revocationList.revokeAll(2L);
+
+        // when
+        when(clock.instant()).thenReturn(Instant.ofEpochSecond(REVOKED_AT + 1801));
+        revocationList.purgeExpired();
+
+        // then - 유효 기간 안의 기록은 유지
+        assertThat(revocationList.size()).isEqualTo(1);
+        assertThat(revocationList.isRevoked(claims(2L, REVOKED_AT))).isTrue();
+        assertThat(revocationList.isRevoked(claims(1L, REVOKED_AT))).isFalse();
+    }
+}
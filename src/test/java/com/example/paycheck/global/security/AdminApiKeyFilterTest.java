@@ -0,0 +1,99 @@
+package com.example.paycheck.global.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AdminApiKeyFilter 테스트")
+class AdminApiKeyFilterTest {
+
+    private static final String ADMIN_KEY = "admin-secret";
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private MockHttpServletRequest request(String uri, String adminKey) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        if (adminKey != null) {
+            request.addHeader(AdminApiKeyFilter.ADMIN_KEY_HEADER, adminKey);
+        }
+        return request;
+    }
+
+    @Test
+    @DisplayName("관리자 키가 일치하면 ROLE_ADMIN 인증을 설정하고 다음 필터로 넘긴다")
+    void authenticatesMatchingKey() throws Exception {
+        // given
+        AdminApiKeyFilter filter = new AdminApiKeyFilter(ADMIN_KEY, new ObjectMapper());
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(request("/api/admin/caches", ADMIN_KEY), new MockHttpServletResponse(), chain);
+
+        // then
+        assertThat(chain.getRequest()).isNotNull();
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_ADMIN");
+    }
+
+    @Test
+    @DisplayName("관리자 키가 없거나 다르면 401로 거부한다")
+    void rejectsMissingOrWrongKey() throws Exception {
+        // given
+        AdminApiKeyFilter filter = new AdminApiKeyFilter(ADMIN_KEY, new ObjectMapper());
+
+        for (String adminKey : new String[]{null, "wrong"}) {
+            MockFilterChain chain = new MockFilterChain();
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // when
+            filter.doFilter(request("/api/admin/caches", adminKey), response, chain);
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(401);
+            assertThat(chain.getRequest()).isNull();
+            assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("관리자 키 설정이 비어 있으면 빈 헤더도 거부한다")
+    void rejectsWhenKeyNotConfigured() throws Exception {
+        // given
+        AdminApiKeyFilter filter = new AdminApiKeyFilter("", new ObjectMapper());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request("/api/admin/caches", ""), response, new MockFilterChain());
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(401);
+    }
+
+    @Test
+    @DisplayName("관리자 API가 아닌 요청은 확인하지 않는다")
+    void skipsNonAdminPaths() throws Exception {
+        // given
+        AdminApiKeyFilter filter = new AdminApiKeyFilter(ADMIN_KEY, new ObjectMapper());
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(request("/api/administrators", null), new MockHttpServletResponse(), chain);
+
+        // then
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.paycheck.global.security;
+
+import com.example.paycheck.domain.user.entity.User;
+import com.example.paycheck.domain.user.enums.UserType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JwtTokenProvider 테스트")
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "7K3mJ9pL2xR8vN4qT6wY1sF5hB0gD3aZ8cM7nE2kX9tV4rU6iO5jP1lW3yH8qA2";
+    private static final String OTHER_SECRET = "Q2wE3rT4yU5iO6pA7sD8fG9hJ0kL1zX2cV3bN4mQ5wE6rT7yU8iO9pA0sD1fG2h";
+
+    private final JwtTokenProvider tokenProvider = new JwtTokenProvider(SECRET, 1800000, 1209600000);
+
+    @Test
+    @DisplayName("Access Token 한 번의 파싱으로 사용자 ID, 유형, 버전을 추출한다")
+    void parseAccessToken() {
+        // given
+        String token = tokenProvider.generateToken(1L, UserType.EMPLOYER, 3L);
+
+        // when
+        AccessTokenClaims claims = tokenProvider.parseAccessToken(token);
+
+        // then
+        assertThat(claims).isNotNull();
+        assertThat(claims.userId()).isEqualTo(1L);
+        assertThat(claims.userType()).isEqualTo(UserType.EMPLOYER);
+        assertThat(claims.userVersion()).isEqualTo(3L);
+        assertThat(claims.issuedAtEpochSecond()).isPositive();
+        assertThat(claims.hasUserDetails()).isTrue();
+
+        User principal = claims.toPrincipal();
+        assertThat(principal.getId()).isEqualTo(1L);
+        assertThat(principal.getUserType()).isEqualTo(UserType.EMPLOYER);
+        assertThat(principal.getVersion()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("토큰의 사용자 버전이 현재 버전보다 낮을 때만 변경된 토큰으로 판단한다")
+    void detectsOutdatedUserVersion() {
+        // given
+        AccessTokenClaims claims = tokenProvider.parseAccessToken(tokenProvider.generateToken(1L, UserType.WORKER, 3L));
+        AccessTokenClaims legacyClaims = tokenProvider.parseAccessToken(tokenProvider.generateRefreshToken(1L));
+
+        // then
+        assertThat(claims.isOutdated(4L)).isTrue();
+        assertThat(claims.isOutdated(3L)).isFalse();
+        assertThat(claims.isOutdated(null)).isFalse();
+        assertThat(legacyClaims.isOutdated(4L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("사용자 유형 클레임이 없는 이전 형식 토큰도 사용자 ID를 추출한다")
+    void parseTokenWithoutUserDetails() {
+        // given
+        String token = tokenProvider.generateRefreshToken(1L);
+
+        // when
+        AccessTokenClaims claims = tokenProvider.parseAccessToken(token);
+
+        // then
+        assertThat(claims).isNotNull();
+        assertThat(claims.userId()).isEqualTo(1L);
+        assertThat(claims.userType()).isNull();
+        assertThat(claims.hasUserDetails()).isFalse();
+    }
+
+    @Test
+    @DisplayName("서명이 다르거나 형식이 잘못되었거나 만료된 토큰은 null을 반환한다")
+    void rejectsInvalidTokens() {
+        JwtTokenProvider otherProvider = new JwtTokenProvider(OTHER_SECRET, 1800000, 1209600000);
+        JwtTokenProvider expiredProvider = new JwtTokenProvider(SECRET, -1000, 1209600000);
+
+        assertThat(tokenProvider.parseAccessToken(otherProvider.generateToken(1L, UserType.WORKER, 0L))).isNull();
+        assertThat(tokenProvider.parseAccessToken(expiredProvider.generateToken(1L, UserType.WORKER, 0L))).isNull();
+        assertThat(tokenProvider.parseAccessToken("not-a-jwt")).isNull();
+        assertThat(tokenProvider.parseAccessToken("")).isNull();
+    }
+}
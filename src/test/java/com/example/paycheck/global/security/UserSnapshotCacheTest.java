@@ -0,0 +1,161 @@
+package com.example.paycheck.global.security;
+
+import com.example.paycheck.domain.user.entity.User;
+import com.example.paycheck.domain.user.enums.UserType;
+import com.example.paycheck.domain.user.repository.UserRepository;
+import com.example.paycheck.global.cache.BoundedCacheManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Clock;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserSnapshotCache 테스트")
+class UserSnapshotCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private Clock clock;
+
+    private UserSnapshotCache userSnapshotCache;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(clock.millis()).thenReturn(0L);
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("cache.specs.user-snapshots.max-size", "2")
+                .withProperty("cache.specs.user-snapshots.ttl-seconds", "30");
+        userSnapshotCache = new UserSnapshotCache(userRepository, new BoundedCacheManager(environment, clock));
+    }
+
+    private User givenUser(Long id) {
+        User user = User.builder()
+                .id(id)
+                .kakaoId("kakao-" + id)
+                .name("사용자" + id)
+                .userType(UserType.WORKER)
+                .version(3L)
+                .build();
+        when(userRepository.findById(id)).thenReturn(Optional.of(user));
+        return user;
+    }
+
+    @Test
+    @DisplayName("TTL 안에서는 DB를 다시 조회하지 않고 스냅샷을 반환한다")
+    void returnsCachedSnapshotWithinTtl() {
+        // given
+        givenUser(1L);
+
+        // when
+        UserSnapshot first = userSnapshotCache.get(1L).orElseThrow();
+        when(clock.millis()).thenReturn(29_999L);
+        UserSnapshot second = userSnapshotCache.get(1L).orElseThrow();
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(first).isEqualTo(new UserSnapshot(1L, UserType.WORKER, false, 3L));
+        verify(userRepository, times(1)).findById(1L);
+        assertThat(userSnapshotCache.getStats().hits()).isEqualTo(1);
+        assertThat(userSnapshotCache.getStats().misses()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("TTL이 지나면 DB에서 다시 조회한다")
+    void reloadsAfterTtl() {
+        // given
+        givenUser(1L);
+        userSnapshotCache.get(1L);
+
+        // when
+        when(clock.millis()).thenReturn(30_000L);
+        userSnapshotCache.get(1L);
+
+        // then
+        verify(userRepository, times(2)).findById(1L);
+        assertThat(userSnapshotCache.getStats().expirations()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 사용자를 제거한다")
+    void evictsLeastRecentlyUsed() {
+        // given
+        givenUser(1L);
+        givenUser(2L);
+        givenUser(3L);
+        userSnapshotCache.get(1L);
+        userSnapshotCache.get(2L);
+        userSnapshotCache.get(1L);
+
+        // when
+        userSnapshotCache.get(3L);
+        userSnapshotCache.get(1L);
+        userSnapshotCache.get(2L);
+
+        // then
+        verify(userRepository, times(1)).findById(1L);
+        verify(userRepository, times(2)).findById(2L);
+        assertThat(userSnapshotCache.getStats().evictions()).isEqualTo(2);
+        assertThat(userSnapshotCache.getStats().size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("무효화하면 다음 조회에서 변경된 사용자 상태를 반영한다")
+    void reloadsAfterInvalidate() {
+        // given
+        User user = givenUser(1L);
+        userSnapshotCache.get(1L);
+        user.withdraw();
+
+        // when
+        userSnapshotCache.invalidate(1L);
+        UserSnapshot snapshot = userSnapshotCache.get(1L).orElseThrow();
+
+        // then
+        assertThat(snapshot.deleted()).isTrue();
+        verify(userRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 사용자는 캐시하지 않는다")
+    void doesNotCacheMissingUser() {
+        // given
+        when(userRepository.findById(1L)).thenReturn(Optional.empty());
+
+        // when
+        Optional<UserSnapshot> first = userSnapshotCache.get(1L);
+        Optional<UserSnapshot> second = userSnapshotCache.get(1L);
+
+        // then
+        assertThat(first).isEmpty();
+        assertThat(second).isEmpty();
+        verify(userRepository, times(2)).findById(1L);
+        assertThat(userSnapshotCache.getStats().size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Principal용 User는 스냅샷의 ID, 유형, 버전을 가진다")
+    void toPrincipal() {
+        // when
+        User principal = new UserSnapshot(1L, UserType.EMPLOYER, false, 5L).toPrincipal();
+
+        // then
+        assertThat(principal.getId()).isEqualTo(1L);
+        assertThat(principal.getUserType()).isEqualTo(UserType.EMPLOYER);
+        assertThat(principal.getVersion()).isEqualTo(5L);
+        assertThat(principal.isDeleted()).isFalse();
+    }
+}
@@ -1,20 +1,16 @@
 package com.example.paycheck.global.security.permission;
 
-import com.example.paycheck.domain.contract.entity.WorkerContract;
+import com.example.paycheck.common.dto.ResourceOwner;
 import com.example.paycheck.domain.contract.repository.WorkerContractRepository;
 import com.example.paycheck.domain.correction.repository.CorrectionRequestRepository;
-import com.example.paycheck.domain.employer.entity.Employer;
+import com.example.paycheck.domain.notice.repository.NoticeRepository;
 import com.example.paycheck.domain.payment.repository.PaymentRepository;
 import com.example.paycheck.domain.salary.repository.SalaryRepository;
 import com.example.paycheck.domain.user.entity.User;
 import com.example.paycheck.domain.user.enums.UserType;
-import com.example.paycheck.domain.worker.entity.Worker;
 import com.example.paycheck.domain.worker.repository.WorkerRepository;
-import com.example.paycheck.domain.workplace.entity.Workplace;
 import com.example.paycheck.domain.workplace.repository.WorkplaceRepository;
-import com.example.paycheck.domain.workrecord.entity.WorkRecord;
 import com.example.paycheck.domain.workrecord.repository.WorkRecordRepository;
-import com.example.paycheck.domain.salary.entity.Salary;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -24,12 +20,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -50,6 +51,8 @@ class CustomPermissionEvaluatorTest {
     private CorrectionRequestRepository correctionRequestRepository;
     @Mock
     private WorkerRepository workerRepository;
+    @Mock
+    private NoticeRepository noticeRepository;
 
     @InjectMocks
     private CustomPermissionEvaluator permissionEvaluator;
@@ -77,6 +80,7 @@ class CustomPermissionEvaluatorTest {
     @AfterEach
     void tearDown() {
         SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
     }
 
     private void setSecurityContext(User user) {
@@ -152,10 +156,7 @@ class CustomPermissionEvaluatorTest {
         @DisplayName("사업장 소유자가 접근하면 true 반환")
         void canAccessWorkplace_Owner_ReturnsTrue() {
             setSecurityContext(employerUser);
-            Employer employer = Employer.builder().id(1L).user(employerUser).build();
-            Workplace workplace = Workplace.builder().id(1L).employer(employer).build();
-
-            when(workplaceRepository.findById(1L)).thenReturn(Optional.of(workplace));
+            when(workplaceRepository.findEmployerUserIdById(1L)).thenReturn(Optional.of(1L));
 
             assertThat(permissionEvaluator.canAccessWorkplace(1L)).isTrue();
         }
@@ -164,11 +165,7 @@ class CustomPermissionEvaluatorTest {
         @DisplayName("사업장 비소유자가 접근하면 false 반환")
         void canAccessWorkplace_NotOwner_ReturnsFalse() {
             setSecurityContext(employerUser);
-            User otherUser = User.builder().id(999L).build();
-            Employer employer = Employer.builder().id(1L).user(otherUser).build();
-            Workplace workplace = Workplace.builder().id(1L).employer(employer).build();
-
-            when(workplaceRepository.findById(1L)).thenReturn(Optional.of(workplace));
+            when(workplaceRepository.findEmployerUserIdById(1L)).thenReturn(Optional.of(999L));
 
             assertThat(permissionEvaluator.canAccessWorkplace(1L)).isFalse();
         }
@@ -177,10 +174,28 @@ class CustomPermissionEvaluatorTest {
         @DisplayName("존재하지 않는 사업장에 접근하면 false 반환")
         void canAccessWorkplace_NotFound_ReturnsFalse() {
             setSecurityContext(employerUser);
-            when(workplaceRepository.findById(999L)).thenReturn(Optional.empty());
+            when(workplaceRepository.findEmployerUserIdById(999L)).thenReturn(Optional.empty());
 
             assertThat(permissionEvaluator.canAccessWorkplace(999L)).isFalse();
         }
+
+        @Test
+        @DisplayName("활성 계약이 있는 근로자가 사업장 구성원으로 접근하면 true 반환")
+        void canAccessWorkplaceAsMember_ActiveWorker_ReturnsTrue() {
+            setSecurityContext(workerUser);
+            when(contractRepository.existsActiveByWorkerUserIdAndWorkplaceId(2L, 1L)).thenReturn(true);
+
+            assertThat(permissionEvaluator.canAccessWorkplaceAsMember(1L)).isTrue();
+        }
+
+        @Test
+        @DisplayName("활성 계약이 없는 근로자가 사업장 구성원으로 접근하면 false 반환")
+        void canAccessWorkplaceAsMember_NoActiveContract_ReturnsFalse() {
+            setSecurityContext(workerUser);
+            when(contractRepository.existsActiveByWorkerUserIdAndWorkplaceId(2L, 1L)).thenReturn(false);
+
+            assertThat(permissionEvaluator.canAccessWorkplaceAsMember(1L)).isFalse();
+        }
     }
 
     @Nested
@@ -191,11 +206,7 @@ class CustomPermissionEvaluatorTest {
         @DisplayName("고용주가 자신의 계약에 접근하면 true 반환")
         void canAccessContractAsEmployer_Owner_ReturnsTrue() {
             setSecurityContext(employerUser);
-            Employer employer = Employer.builder().id(1L).user(employerUser).build();
-            Workplace workplace = Workplace.builder().id(1L).employer(employer).build();
-            WorkerContract contract = WorkerContract.builder().id(1L).workplace(workplace).build();
-
-            when(contractRepository.findById(1L)).thenReturn(Optional.of(contract));
+            when(contractRepository.findOwnerById(1L)).thenReturn(Optional.of(new ResourceOwner(1L, 2L)));
 
             assertThat(permissionEvaluator.canAccessContractAsEmployer(1L)).isTrue();
         }
@@ -204,15 +215,19 @@ class CustomPermissionEvaluatorTest {
         @DisplayName("근로자가 자신의 계약에 접근하면 true 반환")
         void canAccessContractAsWorker_Owner_ReturnsTrue() {
             setSecurityContext(workerUser);
-            Worker worker = Worker.builder().id(1L).user(workerUser).build();
-            Employer employer = Employer.builder().id(1L).user(employerUser).build();
-            Workplace workplace = Workplace.builder().id(1L).employer(employer).build();
-            WorkerContract contract = WorkerContract.builder().id(1L).workplace(workplace).worker(worker).build();
-
-            when(contractRepository.findById(1L)).thenReturn(Optional.of(contract));
+            when(contractRepository.findOwnerById(1L)).thenReturn(Optional.of(new ResourceOwner(1L, 2L)));
 
             assertThat(permissionEvaluator.canAccessContractAsWorker(1L)).isTrue();
         }
+
+        @Test
+        @DisplayName("고용주는 근로자 권한으로 계약에 접근할 수 없다")
+        void canAccessContractAsWorker_Employer_ReturnsFalse() {
+            setSecurityContext(employerUser);
+            when(contractRepository.findOwnerById(1L)).thenReturn(Optional.of(new ResourceOwner(1L, 2L)));
+
+            assertThat(permissionEvaluator.canAccessContractAsWorker(1L)).isFalse();
+        }
     }
 
     @Nested
@@ -223,12 +238,7 @@ class CustomPermissionEvaluatorTest {
         @DisplayName("고용주가 자신의 근무기록에 접근하면 true 반환")
         void canAccessWorkRecordAsEmployer_Owner_ReturnsTrue() {
             setSecurityContext(employerUser);
-            Employer employer = Employer.builder().id(1L).user(employerUser).build();
-            Workplace workplace = Workplace.builder().id(1L).employer(employer).build();
-            WorkerContract contract = WorkerContract.builder().id(1L).workplace(workplace).build();
-            WorkRecord workRecord = WorkRecord.builder().id(1L).contract(contract).build();
-
-            when(workRecordRepository.findById(1L)).thenReturn(Optional.of(workRecord));
+            when(workRecordRepository.findOwnerById(1L)).thenReturn(Optional.of(new ResourceOwner(1L, 2L)));
 
             assertThat(permissionEvaluator.canAccessWorkRecordAsEmployer(1L)).isTrue();
         }
@@ -237,13 +247,7 @@ class CustomPermissionEvaluatorTest {
         @DisplayName("근로자가 자신의 근무기록에 접근하면 true 반환")
         void canAccessWorkRecordAsWorker_Owner_ReturnsTrue() {
             setSecurityContext(workerUser);
-            Worker worker = Worker.builder().id(1L).user(workerUser).build();
-            Employer employer = Employer.builder().id(1L).user(employerUser).build();
-            Workplace workplace = Workplace.builder().id(1L).employer(employer).build();
-            WorkerContract contract = WorkerContract.builder().id(1L).workplace(workplace).worker(worker).build();
-            WorkRecord workRecord = WorkRecord.builder().id(1L).contract(contract).build();
-
-            when(workRecordRepository.findById(1L)).thenReturn(Optional.of(workRecord));
+            when(workRecordRepository.findOwnerById(1L)).thenReturn(Optional.of(new ResourceOwner(1L, 2L)));
 
             assertThat(permissionEvaluator.canAccessWorkRecordAsWorker(1L)).isTrue();
         }
@@ -257,9 +261,7 @@ class CustomPermissionEvaluatorTest {
         @DisplayName("본인 근로자 정보에 접근하면 true 반환")
         void canAccessWorker_Owner_ReturnsTrue() {
             setSecurityContext(workerUser);
-            Worker worker = Worker.builder().id(1L).user(workerUser).build();
-
-            when(workerRepository.findById(1L)).thenReturn(Optional.of(worker));
+            when(workerRepository.findUserIdById(1L)).thenReturn(Optional.of(2L));
 
             assertThat(permissionEvaluator.canAccessWorker(1L)).isTrue();
         }
@@ -268,10 +270,7 @@ class CustomPermissionEvaluatorTest {
         @DisplayName("타인 근로자 정보에 접근하면 false 반환")
         void canAccessWorker_NotOwner_ReturnsFalse() {
             setSecurityContext(workerUser);
-            User otherUser = User.builder().id(999L).build();
-            Worker worker = Worker.builder().id(1L).user(otherUser).build();
-
-            when(workerRepository.findById(1L)).thenReturn(Optional.of(worker));
+            when(workerRepository.findUserIdById(1L)).thenReturn(Optional.of(999L));
 
             assertThat(permissionEvaluator.canAccessWorker(1L)).isFalse();
         }
@@ -285,12 +284,7 @@ class CustomPermissionEvaluatorTest {
         @DisplayName("고용주가 자신의 사업장 급여에 접근하면 true 반환")
         void canAccessSalary_Employer_ReturnsTrue() {
             setSecurityContext(employerUser);
-            Employer employer = Employer.builder().id(1L).user(employerUser).build();
-            Workplace workplace = Workplace.builder().id(1L).employer(employer).build();
-            WorkerContract contract = WorkerContract.builder().id(1L).workplace(workplace).build();
-            Salary salary = Salary.builder().id(1L).contract(contract).build();
-
-            when(salaryRepository.findById(1L)).thenReturn(Optional.of(salary));
+            when(salaryRepository.findOwnerById(1L)).thenReturn(Optional.of(new ResourceOwner(1L, 2L)));
 
             assertThat(permissionEvaluator.canAccessSalary(1L)).isTrue();
         }
@@ -299,13 +293,7 @@ class CustomPermissionEvaluatorTest {
         @DisplayName("근로자가 자신의 급여에 접근하면 true 반환")
         void canAccessSalaryAsWorker_Worker_ReturnsTrue() {
             setSecurityContext(workerUser);
-            Worker worker = Worker.builder().id(1L).user(workerUser).build();
-            Employer employer = Employer.builder().id(1L).user(employerUser).build();
-            Workplace workplace = Workplace.builder().id(1L).employer(employer).build();
-            WorkerContract contract = WorkerContract.builder().id(1L).workplace(workplace).worker(worker).build();
-            Salary salary = Salary.builder().id(1L).contract(contract).build();
-
-            when(salaryRepository.findById(1L)).thenReturn(Optional.of(salary));
+            when(salaryRepository.findOwnerById(1L)).thenReturn(Optional.of(new ResourceOwner(1L, 2L)));
 
             assertThat(permissionEvaluator.canAccessSalaryAsWorker(1L)).isTrue();
         }
@@ -314,14 +302,19 @@ class CustomPermissionEvaluatorTest {
         @DisplayName("계약에 대한 급여 계산 권한 - 고용주 true")
         void canCalculateSalaryForContract_Employer_ReturnsTrue() {
             setSecurityContext(employerUser);
-            Employer employer = Employer.builder().id(1L).user(employerUser).build();
-            Workplace workplace = Workplace.builder().id(1L).employer(employer).build();
-            WorkerContract contract = WorkerContract.builder().id(1L).workplace(workplace).build();
-
-            when(contractRepository.findById(1L)).thenReturn(Optional.of(contract));
+            when(contractRepository.findOwnerById(1L)).thenReturn(Optional.of(new ResourceOwner(1L, 2L)));
 
             assertThat(permissionEvaluator.canCalculateSalaryForContract(1L)).isTrue();
         }
+
+        @Test
+        @DisplayName("계약에 대한 급여 계산 권한 - 계약 당사자가 아니면 false")
+        void canCalculateSalaryForContract_NotParty_ReturnsFalse() {
+            setSecurityContext(workerUser);
+            when(contractRepository.findOwnerById(1L)).thenReturn(Optional.of(new ResourceOwner(1L, 999L)));
+
+            assertThat(permissionEvaluator.canCalculateSalaryForContract(1L)).isFalse();
+        }
     }
 
     @Nested
@@ -332,15 +325,7 @@ class CustomPermissionEvaluatorTest {
         @DisplayName("고용주가 자신의 송금 내역에 접근하면 true 반환")
         void canAccessPayment_Employer_ReturnsTrue() {
             setSecurityContext(employerUser);
-            Employer employer = Employer.builder().id(1L).user(employerUser).build();
-            Workplace workplace = Workplace.builder().id(1L).employer(employer).build();
-            WorkerContract contract = WorkerContract.builder().id(1L).workplace(workplace).build();
-            Salary salary = Salary.builder().id(1L).contract(contract).build();
-            com.example.paycheck.domain.payment.entity.Payment payment = com.example.paycheck.domain.payment.entity.Payment
-                    .builder()
-                    .id(1L).salary(salary).build();
-
-            when(paymentRepository.findById(1L)).thenReturn(Optional.of(payment));
+            when(paymentRepository.findOwnerById(1L)).thenReturn(Optional.of(new ResourceOwner(1L, 2L)));
 
             assertThat(permissionEvaluator.canAccessPayment(1L)).isTrue();
         }
@@ -349,16 +334,7 @@ class CustomPermissionEvaluatorTest {
         @DisplayName("비소유자가 송금 내역에 접근하면 false 반환")
         void canAccessPayment_NotOwner_ReturnsFalse() {
             setSecurityContext(employerUser);
-            User otherUser = User.builder().id(999L).build();
-            Employer employer = Employer.builder().id(1L).user(otherUser).build();
-            Workplace workplace = Workplace.builder().id(1L).employer(employer).build();
-            WorkerContract contract = WorkerContract.builder().id(1L).workplace(workplace).build();
-            Salary salary = Salary.builder().id(1L).contract(contract).build();
-            com.example.paycheck.domain.payment.entity.Payment payment = com.example.paycheck.domain.payment.entity.Payment
-                    .builder()
-                    .id(1L).salary(salary).build();
-
-            when(paymentRepository.findById(1L)).thenReturn(Optional.of(payment));
+            when(paymentRepository.findOwnerById(1L)).thenReturn(Optional.of(new ResourceOwner(999L, 2L)));
 
             assertThat(permissionEvaluator.canAccessPayment(1L)).isFalse();
         }
@@ -367,7 +343,7 @@ class CustomPermissionEvaluatorTest {
         @DisplayName("존재하지 않는 송금 내역에 접근하면 false 반환")
         void canAccessPayment_NotFound_ReturnsFalse() {
             setSecurityContext(employerUser);
-            when(paymentRepository.findById(999L)).thenReturn(Optional.empty());
+            when(paymentRepository.findOwnerById(999L)).thenReturn(Optional.empty());
 
             assertThat(permissionEvaluator.canAccessPayment(999L)).isFalse();
         }
@@ -376,10 +352,7 @@ class CustomPermissionEvaluatorTest {
         @DisplayName("사업장 소유자가 사업장 송금 내역에 접근하면 true 반환")
         void canAccessWorkplacePayments_Owner_ReturnsTrue() {
             setSecurityContext(employerUser);
-            Employer employer = Employer.builder().id(1L).user(employerUser).build();
-            Workplace workplace = Workplace.builder().id(1L).employer(employer).build();
-
-            when(workplaceRepository.findById(1L)).thenReturn(Optional.of(workplace));
+            when(workplaceRepository.findEmployerUserIdById(1L)).thenReturn(Optional.of(1L));
 
             assertThat(permissionEvaluator.canAccessWorkplacePayments(1L)).isTrue();
         }
@@ -388,11 +361,7 @@ class CustomPermissionEvaluatorTest {
         @DisplayName("비소유자가 사업장 송금 내역에 접근하면 false 반환")
         void canAccessWorkplacePayments_NotOwner_ReturnsFalse() {
             setSecurityContext(employerUser);
-            User otherUser = User.builder().id(999L).build();
-            Employer employer = Employer.builder().id(1L).user(otherUser).build();
-            Workplace workplace = Workplace.builder().id(1L).employer(employer).build();
-
-            when(workplaceRepository.findById(1L)).thenReturn(Optional.of(workplace));
+            when(workplaceRepository.findEmployerUserIdById(1L)).thenReturn(Optional.of(999L));
 
             assertThat(permissionEvaluator.canAccessWorkplacePayments(1L)).isFalse();
         }
@@ -401,7 +370,7 @@ class CustomPermissionEvaluatorTest {
         @DisplayName("존재하지 않는 사업장의 송금 내역에 접근하면 false 반환")
         void canAccessWorkplacePayments_NotFound_ReturnsFalse() {
             setSecurityContext(employerUser);
-            when(workplaceRepository.findById(999L)).thenReturn(Optional.empty());
+            when(workplaceRepository.findEmployerUserIdById(999L)).thenReturn(Optional.empty());
 
             assertThat(permissionEvaluator.canAccessWorkplacePayments(999L)).isFalse();
         }
@@ -415,15 +384,7 @@ class CustomPermissionEvaluatorTest {
         @DisplayName("고용주가 자신의 사업장 정정요청에 접근하면 true 반환")
         void canAccessCorrectionRequestAsEmployer_Employer_ReturnsTrue() {
             setSecurityContext(employerUser);
-            Employer employer = Employer.builder().id(1L).user(employerUser).build();
-            Workplace workplace = Workplace.builder().id(1L).employer(employer).build();
-            WorkerContract contract = WorkerContract.builder().id(1L).workplace(workplace).build();
-            WorkRecord workRecord = WorkRecord.builder().id(1L).contract(contract).build();
-            com.example.paycheck.domain.correction.entity.CorrectionRequest request = com.example.paycheck.domain.correction.entity.CorrectionRequest
-                    .builder()
-                    .id(1L).workRecord(workRecord).build();
-
-            when(correctionRequestRepository.findById(1L)).thenReturn(Optional.of(request));
+            when(correctionRequestRepository.findOwnerById(1L)).thenReturn(Optional.of(new ResourceOwner(1L, 2L)));
 
             assertThat(permissionEvaluator.canAccessCorrectionRequestAsEmployer(1L)).isTrue();
         }
@@ -432,14 +393,64 @@ class CustomPermissionEvaluatorTest {
         @DisplayName("근로자가 자신의 정정요청에 접근하면 true 반환")
         void canAccessCorrectionRequestAsWorker_Worker_ReturnsTrue() {
             setSecurityContext(workerUser);
+            when(correctionRequestRepository.findOwnerById(1L)).thenReturn(Optional.of(new ResourceOwner(1L, 2L)));
 
-            com.example.paycheck.domain.correction.entity.CorrectionRequest request = com.example.paycheck.domain.correction.entity.CorrectionRequest
-                    .builder()
-                    .id(1L).requester(workerUser).build();
+            assertThat(permissionEvaluator.canAccessCorrectionRequestAsWorker(1L)).isTrue();
+        }
+    }
 
-            when(correctionRequestRepository.findById(1L)).thenReturn(Optional.of(request));
+    @Nested
+    @DisplayName("NOTICE 권한 검증")
+    class NoticePermissionTest {
 
-            assertThat(permissionEvaluator.canAccessCorrectionRequestAsWorker(1L)).isTrue();
+        @Test
+        @DisplayName("사업장 구성원이 공지에 접근하면 true 반환")
+        void canAccessNotice_Member_ReturnsTrue() {
+            setSecurityContext(workerUser);
+            when(noticeRepository.findWorkplaceIdByIdAndIsDeletedFalse(1L)).thenReturn(Optional.of(1L));
+            when(contractRepository.existsActiveByWorkerUserIdAndWorkplaceId(2L, 1L)).thenReturn(true);
+
+            assertThat(permissionEvaluator.canAccessNotice(1L)).isTrue();
+        }
+
+        @Test
+        @DisplayName("삭제되었거나 존재하지 않는 공지에 접근하면 false 반환")
+        void canAccessNotice_NotFound_ReturnsFalse() {
+            setSecurityContext(workerUser);
+            when(noticeRepository.findWorkplaceIdByIdAndIsDeletedFalse(999L)).thenReturn(Optional.empty());
+
+            assertThat(permissionEvaluator.canAccessNotice(999L)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("요청 단위 조회 결과 기억")
+    class RequestMemoTest {
+
+        @Test
+        @DisplayName("같은 요청 안에서는 같은 리소스의 소유자를 한 번만 조회한다")
+        void sameRequest_QueriesOnce() {
+            setSecurityContext(employerUser);
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+            when(workRecordRepository.findOwnerById(1L)).thenReturn(Optional.of(new ResourceOwner(1L, 2L)));
+
+            assertThat(permissionEvaluator.canAccessWorkRecordAsEmployer(1L)).isTrue();
+            assertThat(permissionEvaluator.canAccessWorkRecordAsWorker(1L)).isFalse();
+            assertThat(permissionEvaluator.canAccessWorkRecordAsEmployer(1L)).isTrue();
+
+            verify(workRecordRepository, times(1)).findOwnerById(1L);
+        }
+
+        @Test
+        @DisplayName("요청 범위 밖에서는 매번 조회한다")
+        void noRequest_QueriesEveryTime() {
+            setSecurityContext(employerUser);
+            when(workplaceRepository.findEmployerUserIdById(1L)).thenReturn(Optional.of(1L));
+
+            assertThat(permissionEvaluator.canAccessWorkplace(1L)).isTrue();
+            assertThat(permissionEvaluator.canAccessWorkplace(1L)).isTrue();
+
+            verify(workplaceRepository, times(2)).findEmployerUserIdById(1L);
         }
     }
 }
@@ -0,0 +1,166 @@
+package com.example.paycheck.global.web;
+
+import com.example.paycheck.common.dto.ResourceVersion;
+import com.example.paycheck.global.cache.CacheStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ConditionalGetHandler 테스트")
+class ConditionalGetHandlerTest {
+
+    private static final String ENDPOINT = "GET /api/workplaces/{workplaceId}/notices";
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2026, 3, 10, 9, 30, 15);
+
+    private ConditionalGetHandler handler;
+    private AtomicInteger bodyCalls;
+
+    @BeforeEach
+    void setUp() {
+        handler = new ConditionalGetHandler();
+        bodyCalls = new AtomicInteger();
+    }
+
+    private MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/workplaces/1/notices");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/workplaces/{workplaceId}/notices");
+        return request;
+    }
+
+    private ResponseEntity<String> handle(MockHttpServletRequest request, ResourceVersion version) {
+        return handler.handle(request, () -> version, () -> {
+            bodyCalls.incrementAndGet();
+            return "body";
+        });
+    }
+
+    private static long epochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    @Test
+    @DisplayName("조건 헤더가 없으면 본문과 ETag, Last-Modified를 반환한다")
+    void returnsBodyWithValidators() {
+        // when
+        ResponseEntity<String> response = handle(request(), new ResourceVersion(UPDATED_AT, 3L));
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo("body");
+        assertThat(response.getHeaders().getETag()).startsWith("W/\"3-");
+        assertThat(response.getHeaders().getLastModified()).isEqualTo(epochMilli(UPDATED_AT) / 1000 * 1000);
+        assertThat(response.getHeaders().getCacheControl()).contains("no-cache").contains("private");
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 현재 ETag와 같으면 본문을 만들지 않고 304를 반환한다")
+    void ifNoneMatchHit() {
+        // given
+        ResourceVersion version = new ResourceVersion(UPDATED_AT, 3L);
+        String eTag = handle(request(), version).getHeaders().getETag();
+        MockHttpServletRequest request = request();
+        request.addHeader("If-None-Match", "\"other\", " + eTag);
+
+        // when
+        ResponseEntity<String> response = handle(request, version);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getBody()).isNull();
+        assertThat(response.getHeaders().getETag()).isEqualTo(eTag);
+        assertThat(bodyCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("행이 삭제되어 개수가 바뀌면 최종 수정 시각이 같아도 본문을 다시 반환한다")
+    void countChangeIsModified() {
+        // given
+        String eTag = handle(request(), new ResourceVersion(UPDATED_AT, 3L)).getHeaders().getETag();
+        MockHttpServletRequest request = request();
+        request.addHeader("If-None-Match", eTag);
+
+        // when
+        ResponseEntity<String> response = handle(request, new ResourceVersion(UPDATED_AT, 2L));
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(bodyCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 있으면 If-Modified-Since는 무시한다")
+    void ifNoneMatchTakesPrecedence() {
+        // given
+        MockHttpServletRequest request = request();
+        request.addHeader("If-None-Match", "W/\"3-0\"");
+        request.addHeader("If-Modified-Since", epochMilli(UPDATED_AT.plusDays(1)));
+
+        // when
+        ResponseEntity<String> response = handle(request, new ResourceVersion(UPDATED_AT, 3L));
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    @DisplayName("If-Modified-Since는 초 단위로 비교한다")
+    void ifModifiedSinceComparesSeconds() {
+        // given
+        LocalDateTime updatedAt = UPDATED_AT.withNano(700_000_000);
+        MockHttpServletRequest notModified = request();
+        notModified.addHeader("If-Modified-Since", epochMilli(UPDATED_AT));
+        MockHttpServletRequest modified = request();
+        modified.addHeader("If-Modified-Since", epochMilli(UPDATED_AT.minusSeconds(1)));
+
+        // when & then
+        assertThat(handle(notModified, new ResourceVersion(updatedAt, 3L)).getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(handle(modified, new ResourceVersion(updatedAt, 3L)).getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    @DisplayName("빈 범위는 Last-Modified 없이 ETag만으로 비교한다")
+    void emptyScope() {
+        // given
+        MockHttpServletRequest request = request();
+        request.addHeader("If-Modified-Since", epochMilli(UPDATED_AT));
+
+        // when
+        ResponseEntity<String> response = handle(request, ResourceVersion.ofCount(0));
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo("W/\"0-0\"");
+        assertThat(response.getHeaders().getLastModified()).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("엔드포인트 매핑 패턴별로 hit/miss 횟수를 집계한다")
+    void countsHitsAndMissesPerEndpoint() {
+        // given
+        ResourceVersion version = new ResourceVersion(UPDATED_AT, 3L);
+        String eTag = handle(request(), version).getHeaders().getETag();
+        MockHttpServletRequest conditional = request();
+        conditional.addHeader("If-None-Match", eTag);
+        handle(conditional, version);
+        handle(conditional, version);
+
+        // when
+        CacheStats stats = handler.getStats().get(ENDPOINT);
+
+        // then
+        assertThat(handler.getStats()).containsOnlyKeys(ENDPOINT);
+        assertThat(stats.hits()).isEqualTo(2);
+        assertThat(stats.misses()).isEqualTo(1);
+        assertThat(stats.hitRatio()).isEqualTo(2.0 / 3);
+    }
+}